@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+/**
+ * Difference of a single documented element between two API versions as
+ * reported by {@link ApiDiff}.
+ */
+public final class ApiChange {
+
+	/**
+	 * Type of the change.
+	 */
+	public enum Type {
+
+		/** Element only exists in the new version */
+		ADDED,
+
+		/** Element only exists in the old version */
+		REMOVED,
+
+		/**
+		 * Element exists in both versions but its module, return type, field
+		 * type, modifiers or vararg property has changed
+		 */
+		CHANGED
+	}
+
+	private final Type type;
+	private final ElementLink oldLink;
+	private final ElementLink newLink;
+
+	ApiChange(Type type, ElementLink oldLink, ElementLink newLink) {
+		this.type = type;
+		this.oldLink = oldLink;
+		this.newLink = newLink;
+	}
+
+	/**
+	 * @return type of the change
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return element with the link for the old layout or <code>null</code> for
+	 *         {@link Type#ADDED}
+	 */
+	public ElementLink getOld() {
+		return oldLink;
+	}
+
+	/**
+	 * @return element with the link for the new layout or <code>null</code> for
+	 *         {@link Type#REMOVED}
+	 */
+	public ElementLink getNew() {
+		return newLink;
+	}
+
+	@Override
+	public String toString() {
+		switch (type) {
+		case ADDED:
+			return "added " + newLink;
+		case REMOVED:
+			return "removed " + oldLink;
+		default:
+			return "changed " + oldLink + " => " + newLink;
+		}
+	}
+
+}
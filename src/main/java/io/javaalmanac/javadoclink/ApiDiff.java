@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.ZipFile;
+
+/**
+ * Compares the documented elements of two versions of an API and reports
+ * added, removed and changed elements with links for the respective layout.
+ * Inputs can be
+ * <ul>
+ * <li>class file directories,</li>
+ * <li>JAR files,</li>
+ * <li>directories with one sub-directory per module like the
+ * <code>/modules</code> directory of a <code>jrt:/</code> file system, see
+ * {@link #jrtModules(Path)}.</li>
+ * </ul>
+ * If a module descriptor is present, only the unqualified exported packages
+ * are considered. Elements are matched by name and parameter types, so an
+ * element moved to another module or with a different return type is reported
+ * as changed.
+ * <p>
+ * Both inputs are read into compact tables which are joined in a single pass
+ * over their sorted element fingerprints. Changes are therefore reported in
+ * fingerprint order, not in alphabetical order.
+ */
+public final class ApiDiff {
+
+	private static final String CLASS_SUFFIX = ".class";
+	private static final String MODULE_INFO = "module-info.class";
+
+	private final JavaDocLink oldJdl;
+	private final JavaDocLink newJdl;
+
+	/**
+	 * Creates a new diff for the given layouts.
+	 *
+	 * @param oldJdl instance to create links for the old version with
+	 * @param newJdl instance to create links for the new version with
+	 */
+	public ApiDiff(JavaDocLink oldJdl, JavaDocLink newJdl) {
+		this.oldJdl = oldJdl;
+		this.newJdl = newJdl;
+	}
+
+	/**
+	 * Returns the <code>/modules</code> directory of the <code>jrt:/</code> file
+	 * system of the given JDK installation. For other installations than the
+	 * current runtime a new file system is opened which stays open for the
+	 * lifetime of the JVM.
+	 *
+	 * @param javaHome installation directory of a JDK 9 or later
+	 * @return directory with one sub-directory per module
+	 * @throws IOException if the file system can't be opened
+	 */
+	public static Path jrtModules(Path javaHome) throws IOException {
+		FileSystem fs;
+		if (javaHome.toRealPath().equals(Path.of(System.getProperty("java.home")).toRealPath())) {
+			fs = FileSystems.getFileSystem(URI.create("jrt:/"));
+		} else {
+			fs = FileSystems.newFileSystem(URI.create("jrt:/"), Map.of("java.home", javaHome.toString()));
+		}
+		return fs.getPath("/modules");
+	}
+
+	/**
+	 * Compares the given inputs and passes all differences to the consumer.
+	 *
+	 * @param oldInput input for the old version
+	 * @param newInput input for the new version
+	 * @param consumer receives all changes
+	 * @throws IOException if an input can't be read
+	 */
+	public void compare(Path oldInput, Path newInput, Consumer<ApiChange> consumer) throws IOException {
+		var oldTable = read(oldInput);
+		var newTable = read(newInput);
+		var oldKeys = oldTable.sortedKeys();
+		var newKeys = newTable.sortedKeys();
+		var i = 0;
+		var j = 0;
+		while (i < oldKeys.length || j < newKeys.length) {
+			if (j == newKeys.length || (i < oldKeys.length && oldKeys[i] < newKeys[j])) {
+				var row = oldTable.row(oldKeys[i++]);
+				consumer.accept(new ApiChange(ApiChange.Type.REMOVED, link(oldTable, row, oldJdl), null));
+			} else if (i == oldKeys.length || newKeys[j] < oldKeys[i]) {
+				var row = newTable.row(newKeys[j++]);
+				consumer.accept(new ApiChange(ApiChange.Type.ADDED, null, link(newTable, row, newJdl)));
+			} else {
+				var oldRow = oldTable.row(oldKeys[i++]);
+				var newRow = newTable.row(newKeys[j++]);
+				if (oldTable.differs(oldRow, newTable, newRow)) {
+					consumer.accept(new ApiChange(ApiChange.Type.CHANGED, link(oldTable, oldRow, oldJdl),
+							link(newTable, newRow, newJdl)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compares the given inputs and returns all differences.
+	 *
+	 * @param oldInput input for the old version
+	 * @param newInput input for the new version
+	 * @return list of all changes
+	 * @throws IOException if an input can't be read
+	 */
+	public List<ApiChange> compare(Path oldInput, Path newInput) throws IOException {
+		var changes = new ArrayList<ApiChange>();
+		compare(oldInput, newInput, changes::add);
+		return changes;
+	}
+
+	/**
+	 * Creates the link of the given row. Modules have no link in layouts before
+	 * Java 9, in this case the link is empty.
+	 */
+	private static ElementLink link(ElementTable table, int row, JavaDocLink jdl) {
+		var element = table.element(row);
+		try {
+			return new ElementLink(element, element.link(jdl));
+		} catch (UnsupportedOperationException e) {
+			return new ElementLink(element, "");
+		}
+	}
+
+	static ElementTable read(Path input) throws IOException {
+		var table = new ElementTable();
+		if (Files.isDirectory(input)) {
+			if (Files.isRegularFile(input.resolve(MODULE_INFO))) {
+				readDirectory(input, table);
+			} else {
+				var modules = moduleDirectories(input);
+				if (modules.isEmpty()) {
+					readDirectory(input, table);
+				}
+				for (var module : modules) {
+					readDirectory(module, table);
+				}
+			}
+		} else {
+			readJar(input, table);
+		}
+		return table;
+	}
+
+	private static List<Path> moduleDirectories(Path dir) throws IOException {
+		try (var list = Files.list(dir)) {
+			return list.filter(p -> Files.isRegularFile(p.resolve(MODULE_INFO))).sorted()
+					.collect(Collectors.toList());
+		}
+	}
+
+	private static void readDirectory(Path dir, ElementTable table) throws IOException {
+		var moduleinfo = dir.resolve(MODULE_INFO);
+		var descriptor = Files.isRegularFile(moduleinfo) ? new ClassFileReader(Files.readAllBytes(moduleinfo)) : null;
+		var filter = new ModuleFilter(descriptor, table);
+		List<Path> files;
+		try (var walk = Files.walk(dir)) {
+			files = walk.filter(ApiDiff::isClassFile).sorted().collect(Collectors.toList());
+		}
+		for (var file : files) {
+			var relative = dir.relativize(file).toString().replace('\\', '/');
+			if (filter.includes(relative)) {
+				table.addClass(filter.modulename, new ClassFileReader(Files.readAllBytes(file)));
+			}
+		}
+	}
+
+	private static void readJar(Path jar, ElementTable table) throws IOException {
+		try (var zip = new ZipFile(jar.toFile())) {
+			var entry = zip.getEntry(MODULE_INFO);
+			ClassFileReader descriptor = null;
+			if (entry != null) {
+				try (var in = zip.getInputStream(entry)) {
+					descriptor = new ClassFileReader(in.readAllBytes());
+				}
+			}
+			var filter = new ModuleFilter(descriptor, table);
+			for (var entries = zip.entries(); entries.hasMoreElements();) {
+				entry = entries.nextElement();
+				var name = entry.getName();
+				if (name.endsWith(CLASS_SUFFIX) && !name.equals(MODULE_INFO) && !name.startsWith("META-INF/")
+						&& filter.includes(name)) {
+					try (var in = zip.getInputStream(entry)) {
+						table.addClass(filter.modulename, new ClassFileReader(in.readAllBytes()));
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean isClassFile(Path path) {
+		var name = path.getFileName().toString();
+		return name.endsWith(CLASS_SUFFIX) && !name.equals(MODULE_INFO) && Files.isRegularFile(path);
+	}
+
+	/**
+	 * Restricts class files to the exported packages of a module.
+	 */
+	private static class ModuleFilter {
+
+		final String modulename;
+		final HashSet<String> exports;
+
+		ModuleFilter(ClassFileReader descriptor, ElementTable table) {
+			if (descriptor == null) {
+				modulename = null;
+				exports = null;
+			} else {
+				modulename = descriptor.getModuleName();
+				exports = new HashSet<>(descriptor.getExports());
+				table.addModule(modulename);
+			}
+		}
+
+		boolean includes(String path) {
+			if (exports == null) {
+				return true;
+			}
+			var sep = path.lastIndexOf('/');
+			return exports.contains(sep == -1 ? "" : path.substring(0, sep));
+		}
+	}
+
+}
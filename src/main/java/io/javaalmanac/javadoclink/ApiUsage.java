@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+/**
+ * A Java platform API element referenced by application code together with
+ * the number of call sites, as reported by {@link ApiUsageScanner}.
+ */
+public final class ApiUsage {
+
+	private final ElementLink link;
+	private final long count;
+
+	ApiUsage(ElementLink link, long count) {
+		this.link = link;
+		this.count = count;
+	}
+
+	/**
+	 * @return the referenced element with its link
+	 */
+	public ElementLink getLink() {
+		return link;
+	}
+
+	/**
+	 * @return number of references in the scanned code
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	@Override
+	public String toString() {
+		return link + " (" + count + ")";
+	}
+
+}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reports which elements of the Java platform API are referenced by
+ * application code, with a link for every element. The method bodies of all
+ * class files are scanned for method invocations, field accesses and object
+ * creations. Class files are read from directories and JAR files, including
+ * JARs nested in JARs like in executable fat JARs.
+ * <p>
+ * Class files are parsed in parallel while at most a few class files per
+ * thread are held in memory. Each thread counts references in primitive hash
+ * tables keyed by element fingerprints. Only at the end distinct references
+ * are resolved to the documenting type with the Java runtime, e.g. a call of
+ * <code>ArrayList.toString()</code> to
+ * <code>AbstractCollection.toString()</code>, and rendered once.
+ */
+public final class ApiUsageScanner {
+
+	private static final String CLASS_SUFFIX = ".class";
+	private static final String JAR_SUFFIX = ".jar";
+	private static final String MODULE_INFO = "module-info.class";
+
+	/** Marks references to types outside of the platform API */
+	private static final long IGNORED = -1;
+
+	/**
+	 * Counts the references found by a single thread.
+	 */
+	private static class Counter implements ClassFileReader.ReferenceVisitor {
+
+		final LongHashTable counts = new LongHashTable(1 << 10);
+		final LongHashTable rows = new LongHashTable(1 << 10);
+		final List<String[]> refs = new ArrayList<>();
+
+		@Override
+		public void visit(int opcode, String owner, String name, String desc) {
+			if (owner.charAt(0) == '[') {
+				// methods of arrays like clone()
+				return;
+			}
+			long key;
+			JavaDocElement.Kind kind;
+			switch (opcode) {
+			case ClassFileReader.NEW:
+				key = ElementFingerprint.ofClass(null, owner);
+				kind = JavaDocElement.Kind.CLASS;
+				break;
+			case ClassFileReader.GETSTATIC:
+			case ClassFileReader.PUTSTATIC:
+			case ClassFileReader.GETFIELD:
+			case ClassFileReader.PUTFIELD:
+				key = ElementFingerprint.ofField(null, owner, name);
+				kind = JavaDocElement.Kind.FIELD;
+				break;
+			default:
+				key = ElementFingerprint.ofMethod(null, owner, name, desc);
+				kind = JavaDocElement.Kind.METHOD;
+			}
+			key = LongHashTable.nonZero(key);
+			var row = rows.get(key, 0);
+			if (row == 0) {
+				var sep = owner.lastIndexOf('/');
+				if (PlatformIndex.get().moduleOf(sep == -1 ? "" : owner.substring(0, sep)) == null) {
+					row = IGNORED;
+				} else {
+					refs.add(new String[] { kind.name(), owner, name, desc });
+					row = refs.size();
+				}
+				rows.put(key, row);
+			}
+			if (row != IGNORED) {
+				counts.add(key, 1);
+			}
+		}
+	}
+
+	private final JavaDocLink jdl;
+	private final int parallelism;
+
+	/**
+	 * Creates a new scanner.
+	 *
+	 * @param jdl         instance to create links with
+	 * @param parallelism number of threads which parse class files
+	 */
+	public ApiUsageScanner(JavaDocLink jdl, int parallelism) {
+		this.jdl = jdl;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Scans the given directories and JAR files.
+	 *
+	 * @param inputs class file directories or JAR files
+	 * @return all referenced platform API elements ordered by descending count
+	 * @throws IOException if an input can't be read
+	 */
+	public List<ApiUsage> scan(List<Path> inputs) throws IOException {
+		var counters = new ArrayList<Counter>();
+		var local = ThreadLocal.withInitial(() -> {
+			var counter = new Counter();
+			synchronized (counters) {
+				counters.add(counter);
+			}
+			return counter;
+		});
+		var executor = Executors.newFixedThreadPool(parallelism);
+		var permits = new Semaphore(parallelism * 4);
+		try {
+			ClassHandler handler = bytes -> {
+				permits.acquire();
+				executor.execute(() -> {
+					try {
+						new ClassFileReader(bytes).accept(local.get());
+					} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+						// not a valid class file
+					} finally {
+						permits.release();
+					}
+				});
+			};
+			for (var input : inputs) {
+				if (Files.isDirectory(input)) {
+					readDirectory(input, handler);
+				} else {
+					try (var zip = new ZipFile(input.toFile())) {
+						readJar(zip, handler);
+					}
+				}
+			}
+			executor.shutdown();
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} finally {
+			executor.shutdownNow();
+		}
+		return merge(counters);
+	}
+
+	private interface ClassHandler {
+		void accept(byte[] bytes) throws InterruptedException;
+	}
+
+	private static void readDirectory(Path dir, ClassHandler handler) throws IOException, InterruptedException {
+		try (var walk = Files.walk(dir)) {
+			for (var file : (Iterable<Path>) walk::iterator) {
+				var name = file.getFileName().toString();
+				if (name.endsWith(CLASS_SUFFIX) && !name.equals(MODULE_INFO) && Files.isRegularFile(file)) {
+					handler.accept(Files.readAllBytes(file));
+				}
+			}
+		}
+	}
+
+	private static void readJar(ZipFile zip, ClassHandler handler) throws IOException, InterruptedException {
+		for (var entries = zip.entries(); entries.hasMoreElements();) {
+			var entry = entries.nextElement();
+			var name = entry.getName();
+			if (isClassFile(name) || name.endsWith(JAR_SUFFIX)) {
+				try (var in = zip.getInputStream(entry)) {
+					read(name, in, handler);
+				}
+			}
+		}
+	}
+
+	private static void readNestedJar(InputStream in, ClassHandler handler) throws IOException, InterruptedException {
+		var zip = new ZipInputStream(in);
+		for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+			read(entry.getName(), zip, handler);
+		}
+	}
+
+	private static void read(String name, InputStream in, ClassHandler handler)
+			throws IOException, InterruptedException {
+		if (isClassFile(name)) {
+			handler.accept(in.readAllBytes());
+		} else if (name.endsWith(JAR_SUFFIX)) {
+			readNestedJar(in, handler);
+		}
+	}
+
+	private static boolean isClassFile(String name) {
+		return name.endsWith(CLASS_SUFFIX) && !name.endsWith(MODULE_INFO);
+	}
+
+	/**
+	 * Resolves the references of all threads to their documented elements and
+	 * sums up the counts.
+	 */
+	private List<ApiUsage> merge(List<Counter> counters) {
+		// raw reference key -> resolved element key
+		var resolved = new LongHashTable(1 << 10);
+		// resolved element key -> total count
+		var totals = new LongHashTable(1 << 10);
+		var elements = new ArrayList<JavaDocElement>();
+		for (var counter : counters) {
+			counter.counts.forEach((key, count) -> {
+				var elementKey = resolved.get(key, 0);
+				if (elementKey == 0) {
+					var element = resolve(counter.refs.get((int) counter.rows.get(key, 0) - 1));
+					elementKey = LongHashTable.nonZero(ElementFingerprint.of(element));
+					if (totals.get(elementKey, 0) == 0) {
+						elements.add(element);
+					}
+					resolved.put(key, elementKey);
+				}
+				totals.add(elementKey, count);
+			});
+		}
+		var usages = new ArrayList<ApiUsage>(elements.size());
+		for (var element : elements) {
+			var count = totals.get(LongHashTable.nonZero(ElementFingerprint.of(element)), 0);
+			usages.add(new ApiUsage(new ElementLink(element, element.link(jdl)), count));
+		}
+		usages.sort(Comparator.comparingLong(ApiUsage::getCount).reversed()
+				.thenComparing(u -> u.getLink().getLink()));
+		return usages;
+	}
+
+	/**
+	 * Resolves a reference to the type which documents the element. References
+	 * which can't be resolved with the current runtime are taken as they are.
+	 */
+	private static JavaDocElement resolve(String[] ref) {
+		var kind = JavaDocElement.Kind.valueOf(ref[0]);
+		var owner = ref[1];
+		Class<?> type;
+		try {
+			type = Class.forName(owner.replace('/', '.'), false, ClassLoader.getPlatformClassLoader());
+		} catch (ClassNotFoundException | LinkageError e) {
+			type = null;
+		}
+		switch (kind) {
+		case CLASS:
+			return JavaDocElement.ofClass(moduleOf(owner), owner);
+		case FIELD:
+			var field = type == null ? null : MemberResolver.field(type, ref[2]);
+			if (field == null) {
+				return JavaDocElement.ofField(moduleOf(owner), owner, ref[2]);
+			}
+			return JavaDocElement.ofField(field.owner.getModule().getName(), internalName(field.owner), ref[2]);
+		default:
+			var method = type == null ? null : MemberResolver.method(type, ref[2], ref[3]);
+			if (method == null) {
+				return JavaDocElement.ofMethod(moduleOf(owner), owner, ref[2], ref[3], false);
+			}
+			return JavaDocElement.ofMethod(method.owner.getModule().getName(), internalName(method.owner), ref[2],
+					ref[3], method.vararg);
+		}
+	}
+
+	private static String moduleOf(String owner) {
+		var sep = owner.lastIndexOf('/');
+		return PlatformIndex.get().moduleOf(sep == -1 ? "" : owner.substring(0, sep));
+	}
+
+	private static String internalName(Class<?> type) {
+		return type.getName().replace('.', '/');
+	}
+
+}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.TreeSet;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a {@link LinkCatalogue} file. Rows are buffered until a block is
+ * complete, so memory usage is bounded by the block size and not by the size
+ * of the catalogue. The file is only valid after {@link #close()}.
+ */
+public final class CatalogueWriter implements Closeable {
+
+	private final FileChannel channel;
+	private final int blockSize;
+	private final String[][] strings = new String[LinkCatalogue.DICTIONARY_COLUMNS][];
+	private final byte[] kinds;
+	private final String[] links;
+	private final Deflater deflater = new Deflater();
+	private final ByteArrayOutputStream index = new ByteArrayOutputStream();
+
+	private int rows;
+	private int blocks;
+	private long position;
+	private boolean closed;
+
+	CatalogueWriter(Path file, int blockSize) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		this.blockSize = blockSize;
+		for (var i = 0; i < strings.length; i++) {
+			strings[i] = new String[blockSize];
+		}
+		this.kinds = new byte[blockSize];
+		this.links = new String[blockSize];
+		var header = ByteBuffer.allocate(LinkCatalogue.HEADER_SIZE);
+		header.putInt(LinkCatalogue.MAGIC).putInt(LinkCatalogue.FORMAT).flip();
+		write(header);
+	}
+
+	/**
+	 * Creates a new catalogue file. An existing file is overwritten.
+	 *
+	 * @param file catalogue file
+	 * @return writer for the file
+	 * @throws IOException if the file can't be created
+	 */
+	public static CatalogueWriter create(Path file) throws IOException {
+		return new CatalogueWriter(file, LinkCatalogue.DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Appends a row to the catalogue.
+	 *
+	 * @param version Javadoc version the link was created for
+	 * @param link    element and its link
+	 * @throws IOException if a completed block can't be written
+	 */
+	public void add(String version, ElementLink link) throws IOException {
+		var element = link.getElement();
+		var kind = element.getKind();
+		String packagename = null;
+		String classname = null;
+		if (kind == JavaDocElement.Kind.PACKAGE) {
+			packagename = element.getPackageName();
+		} else if (kind != JavaDocElement.Kind.MODULE) {
+			packagename = element.getPackageName();
+			classname = element.getClassName().substring(packagename.isEmpty() ? 0 : packagename.length() + 1);
+		}
+		strings[LinkCatalogue.VERSION][rows] = version;
+		strings[LinkCatalogue.MODULE][rows] = element.getModuleName();
+		strings[LinkCatalogue.PACKAGE][rows] = packagename;
+		strings[LinkCatalogue.CLASS][rows] = classname;
+		strings[LinkCatalogue.MEMBER][rows] = element.getMemberName();
+		strings[LinkCatalogue.DESCRIPTOR][rows] = element.getDescriptor();
+		kinds[rows] = (byte) (kind.ordinal() | (element.isVararg() ? LinkCatalogue.VARARG : 0));
+		links[rows] = link.getLink();
+		if (++rows == blockSize) {
+			flushBlock();
+		}
+	}
+
+	private void flushBlock() throws IOException {
+		var columns = new byte[LinkCatalogue.COLUMNS][];
+		for (var i = 0; i < LinkCatalogue.DICTIONARY_COLUMNS; i++) {
+			columns[i] = dictionaryColumn(strings[i]);
+		}
+		columns[LinkCatalogue.KIND] = Arrays.copyOf(kinds, rows);
+		columns[LinkCatalogue.LINK] = linkColumn();
+
+		var compressed = new byte[LinkCatalogue.COLUMNS][];
+		var length = 4 + LinkCatalogue.COLUMNS * 8;
+		for (var i = 0; i < LinkCatalogue.COLUMNS; i++) {
+			compressed[i] = deflate(columns[i]);
+			length += compressed[i].length;
+		}
+		var block = ByteBuffer.allocate(length);
+		block.putInt(rows);
+		for (var i = 0; i < LinkCatalogue.COLUMNS; i++) {
+			block.putInt(columns[i].length).putInt(compressed[i].length);
+		}
+		for (var column : compressed) {
+			block.put(column);
+		}
+		block.flip();
+
+		var entry = ByteBuffer.allocate(LinkCatalogue.INDEX_ENTRY_SIZE);
+		entry.putLong(position).putInt(length).putInt(rows);
+		index.write(entry.array(), 0, entry.capacity());
+		write(block);
+		Arrays.fill(links, 0, rows, null);
+		for (var column : strings) {
+			Arrays.fill(column, 0, rows, null);
+		}
+		blocks++;
+		rows = 0;
+	}
+
+	/**
+	 * Sorted distinct values in front coding, followed by the index of every
+	 * row's value (0 for <code>null</code>).
+	 */
+	private byte[] dictionaryColumn(String[] values) {
+		var distinct = new TreeSet<String>();
+		for (var i = 0; i < rows; i++) {
+			if (values[i] != null) {
+				distinct.add(values[i]);
+			}
+		}
+		var out = new ByteArrayOutputStream();
+		var ids = new HashMap<String, Integer>();
+		LinkCatalogue.writeVarint(out, distinct.size());
+		var previous = new byte[0];
+		for (var value : distinct) {
+			var bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeDelta(out, previous, bytes);
+			ids.put(value, ids.size() + 1);
+			previous = bytes;
+		}
+		for (var i = 0; i < rows; i++) {
+			LinkCatalogue.writeVarint(out, values[i] == null ? 0 : ids.get(values[i]));
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Every link in front coding relative to the link of the previous row.
+	 */
+	private byte[] linkColumn() {
+		var out = new ByteArrayOutputStream();
+		var previous = new byte[0];
+		for (var i = 0; i < rows; i++) {
+			var bytes = links[i].getBytes(StandardCharsets.UTF_8);
+			writeDelta(out, previous, bytes);
+			previous = bytes;
+		}
+		return out.toByteArray();
+	}
+
+	private static void writeDelta(ByteArrayOutputStream out, byte[] previous, byte[] bytes) {
+		var shared = Arrays.mismatch(previous, bytes);
+		if (shared == -1) {
+			shared = bytes.length;
+		}
+		LinkCatalogue.writeVarint(out, shared);
+		LinkCatalogue.writeVarint(out, bytes.length - shared);
+		out.write(bytes, shared, bytes.length - shared);
+	}
+
+	private byte[] deflate(byte[] raw) {
+		deflater.reset();
+		deflater.setInput(raw);
+		deflater.finish();
+		var out = new ByteArrayOutputStream(raw.length / 4 + 16);
+		var buffer = new byte[1 << 14];
+		while (!deflater.finished()) {
+			var n = deflater.deflate(buffer);
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+
+	private void write(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Writes the pending rows and the block index and closes the file. Has no
+	 * effect if the writer is already closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			if (rows > 0) {
+				flushBlock();
+			}
+			var indexOffset = position;
+			write(ByteBuffer.wrap(index.toByteArray()));
+			var trailer = ByteBuffer.allocate(LinkCatalogue.TRAILER_SIZE).order(ByteOrder.BIG_ENDIAN);
+			trailer.putLong(indexOffset).putInt(blocks).putInt(LinkCatalogue.MAGIC).flip();
+			write(trailer);
+		} finally {
+			deflater.end();
+			channel.close();
+		}
+	}
+
+}
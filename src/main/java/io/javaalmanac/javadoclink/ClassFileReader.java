@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal reader for the parts of class files which are relevant for Javadoc:
+ * class name, access flags and the fields and methods with their descriptors.
+ * Additionally the member and type references of the method bodies can be
+ * visited.
+ */
+final class ClassFileReader {
+
+	static final int ACC_PUBLIC = 0x0001;
+	static final int ACC_PROTECTED = 0x0004;
+	static final int ACC_BRIDGE = 0x0040;
+	static final int ACC_VARARGS = 0x0080;
+	static final int ACC_SYNTHETIC = 0x1000;
+
+	static final int GETSTATIC = 0xB2;
+	static final int PUTSTATIC = 0xB3;
+	static final int GETFIELD = 0xB4;
+	static final int PUTFIELD = 0xB5;
+	static final int INVOKEVIRTUAL = 0xB6;
+	static final int INVOKESPECIAL = 0xB7;
+	static final int INVOKESTATIC = 0xB8;
+	static final int INVOKEINTERFACE = 0xB9;
+	static final int NEW = 0xBB;
+
+	/**
+	 * Receives references from method bodies.
+	 */
+	interface ReferenceVisitor {
+
+		/**
+		 * Called for every field access, method invocation and object creation.
+		 *
+		 * @param opcode one of the opcode constants of {@link ClassFileReader}
+		 * @param owner  internal name of the referenced class
+		 * @param name   member name or <code>null</code> for {@link #NEW}
+		 * @param desc   member descriptor or <code>null</code> for {@link #NEW}
+		 */
+		void visit(int opcode, String owner, String name, String desc);
+	}
+
+	/**
+	 * Length of instructions by opcode, 0 for instructions with variable length.
+	 */
+	private static final byte[] INSTRUCTION_LENGTH = new byte[256];
+
+	static {
+		Arrays.fill(INSTRUCTION_LENGTH, (byte) 1);
+		INSTRUCTION_LENGTH[0x10] = 2; // bipush
+		INSTRUCTION_LENGTH[0x11] = 3; // sipush
+		INSTRUCTION_LENGTH[0x12] = 2; // ldc
+		INSTRUCTION_LENGTH[0x13] = 3; // ldc_w
+		INSTRUCTION_LENGTH[0x14] = 3; // ldc2_w
+		for (var op = 0x15; op <= 0x19; op++) {
+			INSTRUCTION_LENGTH[op] = 2; // xload
+		}
+		for (var op = 0x36; op <= 0x3A; op++) {
+			INSTRUCTION_LENGTH[op] = 2; // xstore
+		}
+		INSTRUCTION_LENGTH[0x84] = 3; // iinc
+		for (var op = 0x99; op <= 0xA8; op++) {
+			INSTRUCTION_LENGTH[op] = 3; // if, goto, jsr
+		}
+		INSTRUCTION_LENGTH[0xA9] = 2; // ret
+		INSTRUCTION_LENGTH[0xAA] = 0; // tableswitch
+		INSTRUCTION_LENGTH[0xAB] = 0; // lookupswitch
+		for (var op = 0xB2; op <= 0xB8; op++) {
+			INSTRUCTION_LENGTH[op] = 3; // field and method instructions
+		}
+		INSTRUCTION_LENGTH[0xB9] = 5; // invokeinterface
+		INSTRUCTION_LENGTH[0xBA] = 5; // invokedynamic
+		INSTRUCTION_LENGTH[0xBB] = 3; // new
+		INSTRUCTION_LENGTH[0xBC] = 2; // newarray
+		INSTRUCTION_LENGTH[0xBD] = 3; // anewarray
+		INSTRUCTION_LENGTH[0xC0] = 3; // checkcast
+		INSTRUCTION_LENGTH[0xC1] = 3; // instanceof
+		INSTRUCTION_LENGTH[0xC4] = 0; // wide
+		INSTRUCTION_LENGTH[0xC5] = 4; // multianewarray
+		INSTRUCTION_LENGTH[0xC6] = 3; // ifnull
+		INSTRUCTION_LENGTH[0xC7] = 3; // ifnonnull
+		INSTRUCTION_LENGTH[0xC8] = 5; // goto_w
+		INSTRUCTION_LENGTH[0xC9] = 5; // jsr_w
+	}
+
+	/**
+	 * Field or method of a class file.
+	 */
+	static final class Member {
+
+		final int access;
+		final String name;
+		final String desc;
+		/** Position of the Code attribute content or -1 */
+		final int code;
+
+		Member(int access, String name, String desc, int code) {
+			this.access = access;
+			this.name = name;
+			this.desc = desc;
+			this.code = code;
+		}
+
+		boolean isDocumented() {
+			return (access & (ACC_PUBLIC | ACC_PROTECTED)) != 0 && (access & (ACC_SYNTHETIC | ACC_BRIDGE)) == 0;
+		}
+	}
+
+	private final byte[] b;
+	private final int[] cpOffsets;
+	private final String[] cpStrings;
+
+	private int access;
+	private final String name;
+	private final String superName;
+	private final String[] interfaces;
+	private final List<Member> fields;
+	private final List<Member> methods;
+	private String moduleName;
+	private List<String> exports;
+
+	ClassFileReader(byte[] b) {
+		this.b = b;
+		if (u4(0) != 0xCAFEBABE) {
+			throw new IllegalArgumentException("Invalid class file");
+		}
+		var count = u2(8);
+		cpOffsets = new int[count];
+		cpStrings = new String[count];
+		var pos = 10;
+		for (var i = 1; i < count; i++) {
+			cpOffsets[i] = pos + 1;
+			switch (b[pos]) {
+			case 1:
+				pos += 3 + u2(pos + 1);
+				break;
+			case 3:
+			case 4:
+			case 9:
+			case 10:
+			case 11:
+			case 12:
+			case 17:
+			case 18:
+				pos += 5;
+				break;
+			case 5:
+			case 6:
+				pos += 9;
+				i++;
+				break;
+			case 7:
+			case 8:
+			case 16:
+			case 19:
+			case 20:
+				pos += 3;
+				break;
+			case 15:
+				pos += 4;
+				break;
+			default:
+				throw new IllegalArgumentException("Invalid constant pool tag " + b[pos]);
+			}
+		}
+		access = u2(pos);
+		name = classRef(pos + 2);
+		superName = classRef(pos + 4);
+		var icount = u2(pos + 6);
+		interfaces = new String[icount];
+		pos += 8;
+		for (var i = 0; i < icount; i++, pos += 2) {
+			interfaces[i] = classRef(pos);
+		}
+		fields = new ArrayList<>();
+		pos = readMembers(pos, fields);
+		methods = new ArrayList<>();
+		pos = readMembers(pos, methods);
+		readClassAttributes(pos);
+	}
+
+	private int readMembers(int pos, List<Member> members) {
+		var count = u2(pos);
+		pos += 2;
+		for (var i = 0; i < count; i++) {
+			var maccess = u2(pos);
+			var mname = utf8(u2(pos + 2));
+			var mdesc = utf8(u2(pos + 4));
+			var acount = u2(pos + 6);
+			var code = -1;
+			pos += 8;
+			for (var j = 0; j < acount; j++) {
+				if ("Code".equals(utf8(u2(pos)))) {
+					code = pos + 6;
+				}
+				pos += 6 + u4(pos + 2);
+			}
+			members.add(new Member(maccess, mname, mdesc, code));
+		}
+		return pos;
+	}
+
+	private void readClassAttributes(int pos) {
+		var count = u2(pos);
+		pos += 2;
+		for (var i = 0; i < count; i++) {
+			switch (utf8(u2(pos))) {
+			case "InnerClasses":
+				readInnerClasses(pos + 6);
+				break;
+			case "Module":
+				readModule(pos + 6);
+				break;
+			}
+			pos += 6 + u4(pos + 2);
+		}
+	}
+
+	private void readModule(int pos) {
+		moduleName = classRef(pos);
+		pos += 6;
+		pos += 2 + u2(pos) * 6; // requires
+		var count = u2(pos);
+		pos += 2;
+		exports = new ArrayList<>();
+		for (var i = 0; i < count; i++) {
+			var tocount = u2(pos + 4);
+			if (tocount == 0) {
+				exports.add(classRef(pos));
+			}
+			pos += 6 + tocount * 2;
+		}
+	}
+
+	private void readInnerClasses(int pos) {
+		var count = u2(pos);
+		pos += 2;
+		for (var i = 0; i < count; i++, pos += 8) {
+			if (name.equals(classRef(pos))) {
+				// the actual access flags of nested classes are only stored here:
+				access = u2(pos + 6);
+				if (u2(pos + 4) == 0) {
+					// anonymous classes are never documented
+					access &= ~(ACC_PUBLIC | ACC_PROTECTED);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return access flags of the class, for nested classes as declared in source
+	 */
+	int getAccess() {
+		return access;
+	}
+
+	/**
+	 * @return internal class name
+	 */
+	String getName() {
+		return name;
+	}
+
+	/**
+	 * @return internal name of the super class or <code>null</code> for
+	 *         <code>java.lang.Object</code> and <code>module-info</code>
+	 */
+	String getSuperName() {
+		return superName;
+	}
+
+	/**
+	 * @return internal names of the directly implemented interfaces
+	 */
+	String[] getInterfaces() {
+		return interfaces;
+	}
+
+	/**
+	 * @return fields in declaration order
+	 */
+	List<Member> getFields() {
+		return fields;
+	}
+
+	/**
+	 * @return methods and constructors in declaration order
+	 */
+	List<Member> getMethods() {
+		return methods;
+	}
+
+	/**
+	 * @return name of the module declared by a <code>module-info</code> class
+	 *         file, otherwise <code>null</code>
+	 */
+	String getModuleName() {
+		return moduleName;
+	}
+
+	/**
+	 * @return packages in JVM internal notation which are exported without
+	 *         restriction by a <code>module-info</code> class file, otherwise
+	 *         <code>null</code>
+	 */
+	List<String> getExports() {
+		return exports;
+	}
+
+	/**
+	 * @return <code>true</code> if the class itself appears in Javadoc
+	 */
+	boolean isDocumented() {
+		return moduleName == null && (access & (ACC_PUBLIC | ACC_PROTECTED)) != 0 && (access & ACC_SYNTHETIC) == 0
+				&& !name.endsWith("/package-info");
+	}
+
+	/**
+	 * Returns all documented elements of this class file, i.e. the class itself
+	 * and its public or protected fields, constructors and methods. The result is
+	 * empty if the class itself is not documented.
+	 *
+	 * @param modulename module name for the elements
+	 * @return documented elements
+	 */
+	List<JavaDocElement> getElements(String modulename) {
+		var elements = new ArrayList<JavaDocElement>();
+		if (isDocumented()) {
+			elements.add(JavaDocElement.ofClass(modulename, name));
+			for (var f : fields) {
+				if (f.isDocumented()) {
+					elements.add(JavaDocElement.ofField(modulename, name, f.name));
+				}
+			}
+			for (var m : methods) {
+				if (m.isDocumented() && !"<clinit>".equals(m.name)) {
+					elements.add(JavaDocElement.ofMethod(modulename, name, m.name, m.desc,
+							(m.access & ACC_VARARGS) != 0));
+				}
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Visits all field accesses, method invocations and object creations in the
+	 * method bodies of this class.
+	 *
+	 * @param visitor receives the references
+	 */
+	void accept(ReferenceVisitor visitor) {
+		for (var m : methods) {
+			if (m.code != -1) {
+				visitCode(m.code, visitor);
+			}
+		}
+	}
+
+	private void visitCode(int pos, ReferenceVisitor visitor) {
+		var start = pos + 8;
+		var end = start + u4(pos + 4);
+		for (var pc = start; pc < end;) {
+			var opcode = b[pc] & 0xFF;
+			switch (opcode) {
+			case GETSTATIC:
+			case PUTSTATIC:
+			case GETFIELD:
+			case PUTFIELD:
+			case INVOKEVIRTUAL:
+			case INVOKESPECIAL:
+			case INVOKESTATIC:
+			case INVOKEINTERFACE:
+				var ref = cpOffsets[u2(pc + 1)];
+				var nameAndType = cpOffsets[u2(ref + 2)];
+				visitor.visit(opcode, classRef(ref), utf8(u2(nameAndType)), utf8(u2(nameAndType + 2)));
+				break;
+			case NEW:
+				visitor.visit(opcode, classRef(pc + 1), null, null);
+				break;
+			}
+			var length = INSTRUCTION_LENGTH[opcode];
+			if (length != 0) {
+				pc += length;
+			} else if (opcode == 0xC4) {
+				// wide iinc has two wide operands
+				pc += (b[pc + 1] & 0xFF) == 0x84 ? 6 : 4;
+			} else {
+				// switch operands are 4 byte aligned relative to the code start
+				var operands = start + ((pc - start + 4) & ~3);
+				if (opcode == 0xAA) {
+					pc = operands + 12 + (u4(operands + 8) - u4(operands + 4) + 1) * 4;
+				} else {
+					pc = operands + 8 + u4(operands + 4) * 8;
+				}
+			}
+		}
+	}
+
+	private int u2(int pos) {
+		return ((b[pos] & 0xFF) << 8) | (b[pos + 1] & 0xFF);
+	}
+
+	private int u4(int pos) {
+		return (u2(pos) << 16) | u2(pos + 2);
+	}
+
+	/**
+	 * @param pos position of a constant pool index pointing to a class, module
+	 *            or package entry
+	 * @return internal name or <code>null</code> for index 0
+	 */
+	private String classRef(int pos) {
+		var index = u2(pos);
+		return index == 0 ? null : utf8(u2(cpOffsets[index]));
+	}
+
+	/**
+	 * @param index constant pool index of a UTF8 entry
+	 * @return decoded string
+	 */
+	private String utf8(int index) {
+		var s = cpStrings[index];
+		if (s == null) {
+			s = cpStrings[index] = decode(cpOffsets[index] + 2, u2(cpOffsets[index]));
+		}
+		return s;
+	}
+
+	private String decode(int pos, int len) {
+		var chars = new char[len];
+		var count = 0;
+		var end = pos + len;
+		while (pos < end) {
+			var c = b[pos++] & 0xFF;
+			if (c < 0x80) {
+				chars[count++] = (char) c;
+			} else if ((c & 0xE0) == 0xC0) {
+				chars[count++] = (char) (((c & 0x1F) << 6) | (b[pos++] & 0x3F));
+			} else {
+				chars[count++] = (char) (((c & 0x0F) << 12) | ((b[pos++] & 0x3F) << 6) | (b[pos++] & 0x3F));
+			}
+		}
+		return new String(chars, 0, count);
+	}
+
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+
+/**
+ * Utilities to create JVM descriptors from reflection types.
+ */
+final class Descriptors {
+
+	private Descriptors() {
+	}
+
+	static String of(Executable executable) {
+		var sb = new StringBuilder().append('(');
+		for (var param : executable.getParameterTypes()) {
+			append(sb, param);
+		}
+		sb.append(')');
+		if (executable instanceof Method) {
+			append(sb, ((Method) executable).getReturnType());
+		} else {
+			sb.append('V');
+		}
+		return sb.toString();
+	}
+
+	static StringBuilder append(StringBuilder sb, Class<?> type) {
+		while (type.isArray()) {
+			sb.append('[');
+			type = type.getComponentType();
+		}
+		if (type.isPrimitive()) {
+			return sb.append(primitive(type.getName()));
+		}
+		var name = type.getName();
+		sb.append('L');
+		for (var i = 0; i < name.length(); i++) {
+			var c = name.charAt(i);
+			sb.append(c == '.' ? '/' : c);
+		}
+		return sb.append(';');
+	}
+
+	/**
+	 * Returns the descriptor character for the given primitive type name.
+	 *
+	 * @param name Java keyword of the primitive type
+	 * @return descriptor character or <code>0</code> if no primitive type
+	 */
+	static char primitive(String name) {
+		switch (name) {
+		case "boolean":
+			return 'Z';
+		case "char":
+			return 'C';
+		case "byte":
+			return 'B';
+		case "short":
+			return 'S';
+		case "int":
+			return 'I';
+		case "float":
+			return 'F';
+		case "long":
+			return 'J';
+		case "double":
+			return 'D';
+		case "void":
+			return 'V';
+		default:
+			return 0;
+		}
+	}
+
+}
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+
+/**
+ * Stable 64-bit fingerprints for Java language elements. The fingerprint is
+ * calculated from the module name, the class name, the member name and the
+ * parameter types in source notation, e.g. <code>java.util.Map.Entry</code>.
+ * Therefore the values are identical for internal names and reflection types
+ * and do not depend on the Javadoc version. Return types and the vararg
+ * property are not part of the fingerprint, as they do not identify a method
+ * in Javadoc.
+ * <p>
+ * The fingerprint is a 64-bit FNV-1a hash over the UTF-16 characters of the
+ * normalized element description followed by the MurmurHash3 finalizer. No
+ * intermediate strings are created. The algorithm will not change in future
+ * versions of this library.
+ */
+public final class ElementFingerprint {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private static final char SEPARATOR = 0;
+
+	private ElementFingerprint() {
+	}
+
+	/**
+	 * Fingerprint of a module.
+	 *
+	 * @param modulename name in dot notation
+	 * @return fingerprint
+	 */
+	public static long ofModule(String modulename) {
+		return finish(start(JavaDocElement.Kind.MODULE, modulename));
+	}
+
+	/**
+	 * Fingerprint of a module.
+	 *
+	 * @param module module instance
+	 * @return fingerprint
+	 */
+	public static long ofModule(Module module) {
+		return ofModule(module.getName());
+	}
+
+	/**
+	 * Fingerprint of a package.
+	 *
+	 * @param modulename  name in dot notation
+	 * @param packagename name in JVM internal notation
+	 * @return fingerprint
+	 */
+	public static long ofPackage(String modulename, String packagename) {
+		return finish(name(start(JavaDocElement.Kind.PACKAGE, modulename), packagename));
+	}
+
+	/**
+	 * Fingerprint of a package.
+	 *
+	 * @param module module instance
+	 * @param pkg    package instance
+	 * @return fingerprint
+	 */
+	public static long ofPackage(Module module, Package pkg) {
+		return ofPackage(module.getName(), pkg.getName());
+	}
+
+	/**
+	 * Fingerprint of a class.
+	 *
+	 * @param modulename name in dot notation
+	 * @param classname  name in JVM internal notation
+	 * @return fingerprint
+	 */
+	public static long ofClass(String modulename, String classname) {
+		return finish(name(start(JavaDocElement.Kind.CLASS, modulename), classname));
+	}
+
+	/**
+	 * Fingerprint of a class.
+	 *
+	 * @param cls class instance
+	 * @return fingerprint
+	 */
+	public static long ofClass(Class<?> cls) {
+		return ofClass(cls.getModule().getName(), cls.getName());
+	}
+
+	/**
+	 * Fingerprint of a method or constructor.
+	 *
+	 * @param modulename name in dot notation
+	 * @param classname  name in JVM internal notation
+	 * @param methodname name of the method or <code>&lt;init&gt;</code> for
+	 *                   constructors
+	 * @param desc       JVM internal signature descriptor
+	 * @return fingerprint
+	 */
+	public static long ofMethod(String modulename, String classname, String methodname, String desc) {
+		var h = hash(member(JavaDocElement.Kind.METHOD, modulename, classname, methodname), SEPARATOR);
+		var first = true;
+		for (var pos = 1; desc.charAt(pos) != ')'; pos++) {
+			if (!first) {
+				h = hash(h, ',');
+			}
+			first = false;
+			var dims = 0;
+			while (desc.charAt(pos) == '[') {
+				dims++;
+				pos++;
+			}
+			var c = desc.charAt(pos);
+			if (c == 'L') {
+				var end = desc.indexOf(';', pos);
+				h = name(h, desc, pos + 1, end);
+				pos = end;
+			} else {
+				h = hash(h, primitive(c, desc));
+			}
+			h = dimensions(h, dims);
+		}
+		return finish(h);
+	}
+
+	/**
+	 * Fingerprint of a method or constructor.
+	 *
+	 * @param executable method or constructor instance
+	 * @return fingerprint
+	 */
+	public static long ofMethod(Executable executable) {
+		var owner = executable.getDeclaringClass();
+		var name = executable instanceof Constructor ? "<init>" : executable.getName();
+		var h = hash(member(JavaDocElement.Kind.METHOD, owner.getModule().getName(), owner.getName(), name),
+				SEPARATOR);
+		var first = true;
+		for (var param : executable.getParameterTypes()) {
+			if (!first) {
+				h = hash(h, ',');
+			}
+			first = false;
+			var dims = 0;
+			while (param.isArray()) {
+				dims++;
+				param = param.getComponentType();
+			}
+			h = dimensions(name(h, param.getName()), dims);
+		}
+		return finish(h);
+	}
+
+	/**
+	 * Fingerprint of a field.
+	 *
+	 * @param modulename name in dot notation
+	 * @param classname  name in JVM internal notation
+	 * @param fieldname  field name
+	 * @return fingerprint
+	 */
+	public static long ofField(String modulename, String classname, String fieldname) {
+		return finish(member(JavaDocElement.Kind.FIELD, modulename, classname, fieldname));
+	}
+
+	/**
+	 * Fingerprint of a field.
+	 *
+	 * @param field field instance
+	 * @return fingerprint
+	 */
+	public static long ofField(Field field) {
+		var owner = field.getDeclaringClass();
+		return ofField(owner.getModule().getName(), owner.getName(), field.getName());
+	}
+
+	/**
+	 * Fingerprint of the given element.
+	 *
+	 * @param element language element
+	 * @return fingerprint
+	 */
+	public static long of(JavaDocElement element) {
+		switch (element.getKind()) {
+		case MODULE:
+			return ofModule(element.getModuleName());
+		case PACKAGE:
+			return ofPackage(element.getModuleName(), element.getPackageName());
+		case CLASS:
+			return ofClass(element.getModuleName(), element.getClassName());
+		case METHOD:
+			return ofMethod(element.getModuleName(), element.getClassName(), element.getMemberName(),
+					element.getDescriptor());
+		case FIELD:
+			return ofField(element.getModuleName(), element.getClassName(), element.getMemberName());
+		default:
+			throw new AssertionError(element.getKind());
+		}
+	}
+
+	private static long start(JavaDocElement.Kind kind, String modulename) {
+		var h = hash(FNV_OFFSET, (char) kind.ordinal());
+		if (modulename != null) {
+			h = hash(h, modulename, 0, modulename.length());
+		}
+		return hash(h, SEPARATOR);
+	}
+
+	private static long member(JavaDocElement.Kind kind, String modulename, String classname, String membername) {
+		var h = name(start(kind, modulename), classname);
+		return hash(hash(h, SEPARATOR), membername, 0, membername.length());
+	}
+
+	private static long name(long h, String name) {
+		return name(h, name, 0, name.length());
+	}
+
+	/**
+	 * Hashes a name in internal, binary or source notation in its normalized
+	 * source form.
+	 */
+	private static long name(long h, String name, int start, int end) {
+		for (var i = start; i < end; i++) {
+			var c = name.charAt(i);
+			h = hash(h, c == '/' || c == '$' ? '.' : c);
+		}
+		return h;
+	}
+
+	private static long dimensions(long h, int dims) {
+		for (var i = 0; i < dims; i++) {
+			h = hash(hash(h, '['), ']');
+		}
+		return h;
+	}
+
+	private static String primitive(char c, String desc) {
+		switch (c) {
+		case 'Z':
+			return "boolean";
+		case 'C':
+			return "char";
+		case 'B':
+			return "byte";
+		case 'S':
+			return "short";
+		case 'I':
+			return "int";
+		case 'F':
+			return "float";
+		case 'J':
+			return "long";
+		case 'D':
+			return "double";
+		default:
+			throw new IllegalArgumentException("Invalid method descriptor: " + desc);
+		}
+	}
+
+	private static long hash(long h, String s) {
+		return hash(h, s, 0, s.length());
+	}
+
+	private static long hash(long h, String s, int start, int end) {
+		for (var i = start; i < end; i++) {
+			h = hash(h, s.charAt(i));
+		}
+		return h;
+	}
+
+	private static long hash(long h, char c) {
+		return (h ^ c) * FNV_PRIME;
+	}
+
+	private static long finish(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+}
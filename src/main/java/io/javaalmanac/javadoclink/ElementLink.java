@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.util.Objects;
+
+/**
+ * A {@link JavaDocElement} together with its rendered link.
+ */
+public final class ElementLink {
+
+	private final JavaDocElement element;
+	private final String link;
+
+	/**
+	 * Creates a new element link.
+	 * 
+	 * @param element language element
+	 * @param link    link for the element
+	 */
+	public ElementLink(JavaDocElement element, String link) {
+		this.element = element;
+		this.link = link;
+	}
+
+	/**
+	 * @return the language element
+	 */
+	public JavaDocElement getElement() {
+		return element;
+	}
+
+	/**
+	 * @return the link to the element
+	 */
+	public String getLink() {
+		return link;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ElementLink)) {
+			return false;
+		}
+		var other = (ElementLink) obj;
+		return element.equals(other.element) && link.equals(other.link);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(element, link);
+	}
+
+	@Override
+	public String toString() {
+		return element + " -> " + link;
+	}
+
+}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact table of the documented elements of an API. Every element is stored
+ * in a row of parallel primitive arrays, strings are shared between rows.
+ * Elements are identified by their {@link ElementFingerprint} without module
+ * name, so elements moved to another module are still matched. The sorted
+ * fingerprints allow merge joins of two tables in a single linear pass.
+ * Instances are not thread-safe.
+ */
+final class ElementTable {
+
+	/** Access flags relevant for API compatibility */
+	private static final int ACCESS_MASK = 0x0001 // public
+			| 0x0004 // protected
+			| 0x0008 // static
+			| 0x0010 // final
+			| 0x0200 // interface
+			| 0x0400 // abstract
+			| 0x2000 // annotation
+			| 0x4000; // enum
+
+	private static final int VARARG = 1 << 16;
+	private static final int KIND_SHIFT = 24;
+
+	private static final JavaDocElement.Kind[] KINDS = JavaDocElement.Kind.values();
+
+	private final LongHashTable rows = new LongHashTable(1 << 12);
+	private final Map<String, String> strings = new HashMap<>();
+	private final List<String> moduleNames = new ArrayList<>();
+	private final Map<String, Integer> moduleIndex = new HashMap<>();
+	private final Set<String> packages = new HashSet<>();
+
+	private int size;
+	private long[] keys = new long[1 << 12];
+	private int[] flags = new int[1 << 12];
+	private int[] modules = new int[1 << 12];
+	private String[] names = new String[1 << 12];
+	private String[] members = new String[1 << 12];
+	private String[] descs = new String[1 << 12];
+
+	private long[] sorted;
+
+	/**
+	 * Adds a module.
+	 *
+	 * @param modulename module name in dot notation
+	 */
+	void addModule(String modulename) {
+		add(ElementFingerprint.ofModule(modulename), JavaDocElement.Kind.MODULE, 0, modulename, modulename, null,
+				null);
+	}
+
+	/**
+	 * Adds the documented elements of the given class file and its package.
+	 *
+	 * @param modulename module name or <code>null</code>
+	 * @param reader     class file
+	 */
+	void addClass(String modulename, ClassFileReader reader) {
+		if (!reader.isDocumented()) {
+			return;
+		}
+		var classname = intern(reader.getName());
+		var sep = classname.lastIndexOf('/');
+		var pkg = sep == -1 ? "" : classname.substring(0, sep);
+		if (packages.add(pkg)) {
+			add(ElementFingerprint.ofPackage(null, pkg), JavaDocElement.Kind.PACKAGE, 0, modulename, pkg, null, null);
+		}
+		add(ElementFingerprint.ofClass(null, classname), JavaDocElement.Kind.CLASS, reader.getAccess(), modulename,
+				classname, null, null);
+		for (var f : reader.getFields()) {
+			if (f.isDocumented()) {
+				add(ElementFingerprint.ofField(null, classname, f.name), JavaDocElement.Kind.FIELD, f.access,
+						modulename, classname, f.name, f.desc);
+			}
+		}
+		for (var m : reader.getMethods()) {
+			if (m.isDocumented() && !"<clinit>".equals(m.name)) {
+				var access = m.access & ~ClassFileReader.ACC_VARARGS;
+				if ((m.access & ClassFileReader.ACC_VARARGS) != 0) {
+					access |= VARARG;
+				}
+				add(ElementFingerprint.ofMethod(null, classname, m.name, m.desc), JavaDocElement.Kind.METHOD, access,
+						modulename, classname, m.name, m.desc);
+			}
+		}
+	}
+
+	private void add(long fingerprint, JavaDocElement.Kind kind, int access, String modulename, String name,
+			String member, String desc) {
+		var key = LongHashTable.nonZero(fingerprint);
+		if (rows.get(key, -1) != -1) {
+			// first occurrence wins, like on the class path
+			return;
+		}
+		if (size == keys.length) {
+			grow();
+		}
+		rows.put(key, size);
+		keys[size] = key;
+		flags[size] = (kind.ordinal() << KIND_SHIFT) | (access & (ACCESS_MASK | VARARG));
+		modules[size] = module(modulename);
+		names[size] = intern(name);
+		members[size] = intern(member);
+		descs[size] = intern(desc);
+		size++;
+		sorted = null;
+	}
+
+	private void grow() {
+		var capacity = keys.length * 2;
+		keys = Arrays.copyOf(keys, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+		modules = Arrays.copyOf(modules, capacity);
+		names = Arrays.copyOf(names, capacity);
+		members = Arrays.copyOf(members, capacity);
+		descs = Arrays.copyOf(descs, capacity);
+	}
+
+	private int module(String modulename) {
+		if (modulename == null) {
+			return -1;
+		}
+		var index = moduleIndex.get(modulename);
+		if (index == null) {
+			index = Integer.valueOf(moduleNames.size());
+			moduleNames.add(modulename);
+			moduleIndex.put(modulename, index);
+		}
+		return index.intValue();
+	}
+
+	private String intern(String s) {
+		if (s == null) {
+			return null;
+		}
+		var existing = strings.putIfAbsent(s, s);
+		return existing == null ? s : existing;
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return fingerprints of all elements in ascending order
+	 */
+	long[] sortedKeys() {
+		if (sorted == null) {
+			sorted = Arrays.copyOf(keys, size);
+			Arrays.sort(sorted);
+		}
+		return sorted;
+	}
+
+	/**
+	 * @param key fingerprint
+	 * @return row of the element with the given fingerprint
+	 */
+	int row(long key) {
+		return (int) rows.get(key, -1);
+	}
+
+	/**
+	 * Checks whether the elements in the given rows of this and the other table
+	 * differ in module, descriptor, modifiers or vararg property.
+	 */
+	boolean differs(int row, ElementTable other, int otherRow) {
+		return flags[row] != other.flags[otherRow] || !equals(descs[row], other.descs[otherRow])
+				|| !equals(moduleName(row), other.moduleName(otherRow));
+	}
+
+	private static boolean equals(String a, String b) {
+		return a == null ? b == null : a.equals(b);
+	}
+
+	private String moduleName(int row) {
+		var index = modules[row];
+		return index == -1 ? null : moduleNames.get(index);
+	}
+
+	/**
+	 * Creates the element of the given row.
+	 */
+	JavaDocElement element(int row) {
+		var modulename = moduleName(row);
+		switch (KINDS[flags[row] >>> KIND_SHIFT]) {
+		case MODULE:
+			return JavaDocElement.ofModule(modulename);
+		case PACKAGE:
+			return JavaDocElement.ofPackage(modulename, names[row]);
+		case CLASS:
+			return JavaDocElement.ofClass(modulename, names[row]);
+		case FIELD:
+			return JavaDocElement.ofField(modulename, names[row], members[row]);
+		default:
+			return JavaDocElement.ofMethod(modulename, names[row], members[row], descs[row],
+					(flags[row] & VARARG) != 0);
+		}
+	}
+
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Javadoc tree in a ZIP file like the <code>jdk-NN_doc-all.zip</code> bundles,
+ * accessed without unpacking. The ZIP is opened with the zip file system and
+ * all pages are indexed once by their path relative to the Javadoc root,
+ * which is detected from the location of the <code>element-list</code> or
+ * <code>package-list</code> file. Links created by {@link JavaDocLink} without
+ * base URL can be used to access pages directly. Instances are thread-safe.
+ */
+public final class JavaDocArchive implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/** Number of pages for which the parsed anchors are kept */
+	private static final int ANCHOR_PAGES = 1024;
+
+	private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal
+			.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+	private static class Entry {
+		final Path path;
+		final long size;
+
+		Entry(Path path, long size) {
+			this.path = path;
+			this.size = size;
+		}
+	}
+
+	private final FileSystem zipfs;
+	private final Map<String, Entry> index;
+	private final Map<String, Set<String>> anchors = Collections
+			.synchronizedMap(new LinkedHashMap<String, Set<String>>(64, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+					return size() > ANCHOR_PAGES;
+				}
+			});
+
+	private JavaDocArchive(FileSystem zipfs, Map<String, Entry> index) {
+		this.zipfs = zipfs;
+		this.index = index;
+	}
+
+	/**
+	 * Opens the given ZIP file and indexes its pages.
+	 *
+	 * @param zip ZIP file containing a Javadoc tree
+	 * @return archive instance which has to be closed
+	 * @throws IOException if the file can't be read or contains no Javadoc
+	 */
+	public static JavaDocArchive open(Path zip) throws IOException {
+		var zipfs = FileSystems.newFileSystem(zip, (ClassLoader) null);
+		try {
+			var files = new ArrayList<Path>();
+			for (var dir : zipfs.getRootDirectories()) {
+				try (var walk = Files.walk(dir)) {
+					walk.filter(Files::isRegularFile).forEach(files::add);
+				}
+			}
+			var root = root(files);
+			if (root == null) {
+				throw new IOException("No Javadoc tree in " + zip);
+			}
+			var index = new HashMap<String, Entry>();
+			for (var file : files) {
+				if (file.startsWith(root)) {
+					index.put(root.relativize(file).toString(), new Entry(file, Files.size(file)));
+				}
+			}
+			return new JavaDocArchive(zipfs, index);
+		} catch (IOException | RuntimeException e) {
+			zipfs.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * The shallowest directory with an element list, which is the root of the
+	 * Javadoc tree.
+	 */
+	private static Path root(List<Path> files) {
+		Path root = null;
+		for (var file : files) {
+			var name = String.valueOf(file.getFileName());
+			if ((name.equals("element-list") || name.equals("package-list"))
+					&& (root == null || file.getNameCount() <= root.getNameCount())) {
+				root = file.getParent();
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * @return number of files in the Javadoc tree
+	 */
+	public int size() {
+		return index.size();
+	}
+
+	/**
+	 * Returns the size of the page for the given link.
+	 *
+	 * @param link link relative to the Javadoc root, an anchor is ignored
+	 * @return size in bytes or -1 if there is no such page
+	 */
+	public long size(String link) {
+		var entry = index.get(path(link));
+		return entry == null ? -1 : entry.size;
+	}
+
+	/**
+	 * Checks whether the page for the given link exists and, if the link has
+	 * an anchor, contains this anchor. The anchors of the most recently used
+	 * pages are kept, so they are parsed only once. Pages are decoded as
+	 * ISO-8859-1, which accepts any content and keeps the ASCII anchors of all
+	 * Javadoc versions intact regardless of the page encoding.
+	 *
+	 * @param link link relative to the Javadoc root
+	 * @return <code>true</code> if the link target exists
+	 * @throws IOException if the page can't be read
+	 */
+	public boolean exists(String link) throws IOException {
+		var path = path(link);
+		var entry = index.get(path);
+		if (entry == null) {
+			return false;
+		}
+		var sep = link.indexOf('#');
+		if (sep == -1) {
+			return true;
+		}
+		var pageAnchors = anchors.get(path);
+		if (pageAnchors == null) {
+			pageAnchors = LinkChecker.anchors(new String(Files.readAllBytes(entry.path), StandardCharsets.ISO_8859_1));
+			anchors.put(path, pageAnchors);
+		}
+		return pageAnchors.contains(URLDecoder.decode(link.substring(sep + 1), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes the page for the given link to the channel. The content is
+	 * transferred between channels, directly into the target if it is a file
+	 * channel, otherwise through a reused direct buffer of the current thread.
+	 *
+	 * @param link link relative to the Javadoc root, an anchor is ignored
+	 * @param out  target channel
+	 * @return number of bytes written or -1 if there is no such page
+	 * @throws IOException if the page can't be read or written
+	 */
+	public long transferTo(String link, WritableByteChannel out) throws IOException {
+		var entry = index.get(path(link));
+		if (entry == null) {
+			return -1;
+		}
+		try (var in = Files.newByteChannel(entry.path)) {
+			if (out instanceof FileChannel) {
+				var target = (FileChannel) out;
+				var position = target.position();
+				var count = 0L;
+				while (count < entry.size) {
+					var n = target.transferFrom(in, position + count, entry.size - count);
+					if (n <= 0) {
+						break;
+					}
+					count += n;
+				}
+				target.position(position + count);
+				return count;
+			}
+			var buffer = BUFFERS.get();
+			var count = 0L;
+			buffer.clear();
+			while (in.read(buffer) != -1) {
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					count += out.write(buffer);
+				}
+				buffer.clear();
+			}
+			return count;
+		}
+	}
+
+	private static String path(String link) {
+		var end = link.length();
+		var sep = link.indexOf('#');
+		if (sep != -1) {
+			end = sep;
+		}
+		sep = link.indexOf('?');
+		if (sep != -1 && sep < end) {
+			end = sep;
+		}
+		var start = link.startsWith("/") ? 1 : 0;
+		return link.substring(start, end);
+	}
+
+	@Override
+	public void close() throws IOException {
+		zipfs.close();
+	}
+
+}
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.util.Objects;
+
+/**
+ * Immutable description of a Java language element in the same notation the
+ * {@link JavaDocLink} API expects: module names in dot notation, package and
+ * class names in JVM internal notation and methods with JVM descriptors.
+ */
+public final class JavaDocElement {
+
+	/**
+	 * Kind of the language element.
+	 */
+	public enum Kind {
+		/** Module */
+		MODULE,
+		/** Package */
+		PACKAGE,
+		/** Class, interface, enum, record or annotation */
+		CLASS,
+		/** Method or constructor */
+		METHOD,
+		/** Field */
+		FIELD
+	}
+
+	private final Kind kind;
+	private final String modulename;
+	private final String name;
+	private final String membername;
+	private final String desc;
+	private final boolean vararg;
+
+	private JavaDocElement(Kind kind, String modulename, String name, String membername, String desc,
+			boolean vararg) {
+		this.kind = kind;
+		this.modulename = modulename;
+		this.name = name;
+		this.membername = membername;
+		this.desc = desc;
+		this.vararg = vararg;
+	}
+
+	/**
+	 * Creates a module element.
+	 *
+	 * @param modulename name in dot notation
+	 * @return module element
+	 */
+	public static JavaDocElement ofModule(String modulename) {
+		return new JavaDocElement(Kind.MODULE, modulename, null, null, null, false);
+	}
+
+	/**
+	 * Creates a package element.
+	 *
+	 * @param modulename  name in dot notation
+	 * @param packagename name in JVM internal notation
+	 * @return package element
+	 */
+	public static JavaDocElement ofPackage(String modulename, String packagename) {
+		return new JavaDocElement(Kind.PACKAGE, modulename, packagename, null, null, false);
+	}
+
+	/**
+	 * Creates a class element.
+	 *
+	 * @param modulename name in dot notation
+	 * @param classname  name in JVM internal notation
+	 * @return class element
+	 */
+	public static JavaDocElement ofClass(String modulename, String classname) {
+		return new JavaDocElement(Kind.CLASS, modulename, classname, null, null, false);
+	}
+
+	/**
+	 * Creates a method or constructor element.
+	 *
+	 * @param modulename name in dot notation
+	 * @param classname  name in JVM internal notation
+	 * @param methodname name of the method or <code>&lt;init&gt;</code> for
+	 *                   constructors
+	 * @param desc       JVM internal signature descriptor
+	 * @param vararg     <code>true</code>, if the last array parameter is used as
+	 *                   vararg parameter
+	 * @return method element
+	 */
+	public static JavaDocElement ofMethod(String modulename, String classname, String methodname, String desc,
+			boolean vararg) {
+		return new JavaDocElement(Kind.METHOD, modulename, classname, methodname, desc, vararg);
+	}
+
+	/**
+	 * Creates a field element.
+	 *
+	 * @param modulename name in dot notation
+	 * @param classname  name in JVM internal notation
+	 * @param fieldname  field name
+	 * @return field element
+	 */
+	public static JavaDocElement ofField(String modulename, String classname, String fieldname) {
+		return new JavaDocElement(Kind.FIELD, modulename, classname, fieldname, null, false);
+	}
+
+	/**
+	 * Parses a reference in the notation used by the Javadoc <code>@link</code>
+	 * and <code>@see</code> tags, e.g. <code>java.util.Map.Entry#getKey()</code>,
+	 * <code>String#indexOf(int, int)</code> or
+	 * <code>java.base/java.util.List#toArray(T[])</code>. Simple type names are
+	 * resolved against the packages of the Java runtime with preference for
+	 * <code>java.lang</code>.
+	 *
+	 * @param reference Javadoc reference
+	 * @return corresponding element
+	 * @throws IllegalArgumentException if the reference can't be resolved
+	 */
+	public static JavaDocElement parse(String reference) {
+		return ReferenceParser.parse(reference);
+	}
+
+	/**
+	 * Creates the link for this element with the given {@link JavaDocLink}
+	 * instance.
+	 *
+	 * @param jdl instance to create the link with
+	 * @return link to this element
+	 */
+	public String link(JavaDocLink jdl) {
+		switch (kind) {
+		case MODULE:
+			return jdl.moduleLink(modulename);
+		case PACKAGE:
+			return jdl.packageLink(modulename, name);
+		case CLASS:
+			return jdl.classLink(modulename, name);
+		case METHOD:
+			return jdl.methodLink(modulename, name, membername, desc, vararg);
+		case FIELD:
+			return jdl.fieldLink(modulename, name, membername);
+		default:
+			throw new AssertionError(kind);
+		}
+	}
+
+	/**
+	 * @return kind of this element
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return module name in dot notation
+	 */
+	public String getModuleName() {
+		return modulename;
+	}
+
+	/**
+	 * @return package name in JVM internal notation, for all kinds except
+	 *         {@link Kind#MODULE}
+	 */
+	public String getPackageName() {
+		switch (kind) {
+		case MODULE:
+			return null;
+		case PACKAGE:
+			return name;
+		default:
+			var sep = name.lastIndexOf('/');
+			return sep == -1 ? "" : name.substring(0, sep);
+		}
+	}
+
+	/**
+	 * @return class name in JVM internal notation for {@link Kind#CLASS},
+	 *         {@link Kind#METHOD} and {@link Kind#FIELD}
+	 */
+	public String getClassName() {
+		return kind == Kind.MODULE || kind == Kind.PACKAGE ? null : name;
+	}
+
+	/**
+	 * @return name of the method or field for {@link Kind#METHOD} and
+	 *         {@link Kind#FIELD}
+	 */
+	public String getMemberName() {
+		return membername;
+	}
+
+	/**
+	 * @return JVM internal signature descriptor for {@link Kind#METHOD}
+	 */
+	public String getDescriptor() {
+		return desc;
+	}
+
+	/**
+	 * @return <code>true</code>, if the last array parameter of a method is used
+	 *         as vararg parameter
+	 */
+	public boolean isVararg() {
+		return vararg;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof JavaDocElement)) {
+			return false;
+		}
+		var other = (JavaDocElement) obj;
+		return kind == other.kind && vararg == other.vararg && Objects.equals(modulename, other.modulename)
+				&& Objects.equals(name, other.name) && Objects.equals(membername, other.membername)
+				&& Objects.equals(desc, other.desc);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(kind, modulename, name, membername, desc, Boolean.valueOf(vararg));
+	}
+
+	@Override
+	public String toString() {
+		var sb = new StringBuilder(kind.name()).append(' ').append(modulename);
+		if (name != null) {
+			sb.append('/').append(name);
+		}
+		if (membername != null) {
+			sb.append('#').append(membername);
+		}
+		if (desc != null) {
+			sb.append(desc);
+		}
+		if (vararg) {
+			sb.append(" vararg");
+		}
+		return sb.toString();
+	}
+
+}
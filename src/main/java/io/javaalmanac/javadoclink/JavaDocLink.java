@@ -18,6 +18,8 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * API to create Javadoc deep links for various Java language elements. Use
@@ -31,7 +33,7 @@ public interface JavaDocLink {
 	 * @return currently supported Java versions
 	 */
 	public static List<String> supportedVersions() {
-		return List.copyOf(JavaDocLinkImpl.VERSIONS.keySet());
+		return JavaDocLinkImpl.SUPPORTED_VERSIONS;
 	}
 
 	/**
@@ -55,6 +57,27 @@ public interface JavaDocLink {
 	 */
 	JavaDocLink withBaseUrl(String baseurl);
 
+	/**
+	 * Creates links relative to the given page, e.g.
+	 * <code>../util/List.html</code> from the page
+	 * <code>java/lang/String.html</code>. The page path is relative to the same
+	 * root as the base URL of this instance, by default the root of the Javadoc
+	 * tree. This allows links from pages outside the Javadoc tree if the base
+	 * URL is a relative path like <code>api/17/</code>. Links which can't be
+	 * expressed relatively, e.g. to another host, remain unchanged.
+	 * <p>
+	 * The page is analyzed once, a single instance should be used for all links
+	 * on the same page. The default implementation converts every link created
+	 * by this instance.
+	 *
+	 * @param pagepath path of the page the links are used on
+	 * @return new {@link JavaDocLink} instance creating links for the given
+	 *         page
+	 */
+	default JavaDocLink relativeTo(String pagepath) {
+		return new RelativeLink(this, new PagePath(pagepath));
+	}
+
 	/**
 	 * Creates a link to the module overview page for a module name (e.g.
 	 * <code>java.base</code>). This operation is only supported since Java 9.
@@ -133,6 +156,25 @@ public interface JavaDocLink {
 	 */
 	String methodLink(Executable executable);
 
+	/**
+	 * Creates a link to a method declared in or inherited by the given type. The
+	 * link points to the class page where the method is documented, e.g.
+	 * <code>AbstractCollection</code> for <code>ArrayList.isEmpty()</code>. This
+	 * is the typical situation for owners of method references in bytecode.
+	 * 
+	 * @param cls        type used to reference the method
+	 * @param methodname name of the method or <code>&lt;init&gt;</code> for
+	 *                   constructors
+	 * @param desc       JVM internal signature descriptor
+	 * @return link to the method within the class page of the documenting type
+	 */
+	default String methodLink(Class<?> cls, String methodname, String desc) {
+		var resolved = MemberResolver.method(cls, methodname, desc);
+		var owner = resolved == null ? cls : resolved.owner;
+		var vararg = resolved != null && resolved.vararg;
+		return methodLink(owner.getModule().getName(), owner.getName().replace('.', '/'), methodname, desc, vararg);
+	}
+
 	/**
 	 * Creates a link to a field within a class page the given module, class and
 	 * field name.
@@ -153,4 +195,55 @@ public interface JavaDocLink {
 	 */
 	String fieldLink(Field field);
 
+	/**
+	 * Creates a link to a field declared in or inherited by the given type. The
+	 * link points to the class page where the field is documented.
+	 * 
+	 * @param cls       type used to reference the field
+	 * @param fieldname field name
+	 * @return link to the field within the class page of the documenting type
+	 */
+	default String fieldLink(Class<?> cls, String fieldname) {
+		var resolved = MemberResolver.field(cls, fieldname);
+		var owner = resolved == null ? cls : resolved.owner;
+		return fieldLink(owner.getModule().getName(), owner.getName().replace('.', '/'), fieldname);
+	}
+
+	/**
+	 * Creates links for the given type and all fields, constructors and methods
+	 * documented on its class page. Synthetic and bridge members are skipped. The
+	 * returned stream can be processed in parallel.
+	 * 
+	 * @param cls class instance
+	 * @return links of the class and its members
+	 */
+	default Stream<ElementLink> links(Class<?> cls) {
+		return StreamSupport.stream(LinkSpliterator.ofClass(this, cls), false);
+	}
+
+	/**
+	 * Creates links for the given package and all public and protected types in
+	 * the package with their members, see {@link #links(Class)}. The package must
+	 * belong to a named module. The returned stream can be processed in parallel.
+	 * 
+	 * @param module named module instance
+	 * @param pkg    package instance
+	 * @return links of the package, its types and their members
+	 */
+	default Stream<ElementLink> links(Module module, Package pkg) {
+		return StreamSupport.stream(LinkSpliterator.ofPackage(this, module, pkg.getName().replace('.', '/')), false);
+	}
+
+	/**
+	 * Creates links for the given module and all packages exported by the module,
+	 * see {@link #links(Module, Package)}. The link for the module itself is only
+	 * included since Java 9. The returned stream can be processed in parallel.
+	 * 
+	 * @param module named module instance
+	 * @return links of the module, its exported packages, their types and members
+	 */
+	default Stream<ElementLink> links(Module module) {
+		return StreamSupport.stream(LinkSpliterator.ofModule(this, module), false);
+	}
+
 }
@@ -16,81 +16,78 @@ package io.javaalmanac.javadoclink;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 final class JavaDocLinkImpl implements JavaDocLink {
 
-	static final Map<String, JavaDocLinkImpl> VERSIONS = new LinkedHashMap<>();
+	/**
+	 * All supported versions in ascending order. The table is created from
+	 * constants only and does not depend on system properties or the
+	 * environment. Every layout is created eagerly, so a single training run
+	 * resolves all strategy call sites and a class data sharing archive created
+	 * with <code>-XX:ArchiveClassesAtExit</code> contains all lambda classes.
+	 */
+	static final Map<String, JavaDocLinkImpl> VERSIONS = createVersions();
 
-	static {
-		VERSIONS.put("1.1", new JavaDocLinkImpl("", //
+	static final List<String> SUPPORTED_VERSIONS = List.copyOf(VERSIONS.keySet());
+
+	private static Map<String, JavaDocLinkImpl> createVersions() {
+		var versions = new LinkedHashMap<String, JavaDocLinkImpl>();
+
+		versions.put("1.1", new JavaDocLinkImpl("", //
 				new MethodParameterStrategy("(", ", ", ")", "%5B%5D"), //
 				JavaDocLinkImpl::moduleLinkStrategy1_1, //
 				JavaDocLinkImpl::packageLinkStrategy1_1, //
 				JavaDocLinkImpl::classLinkStrategy1_1, //
 				JavaDocLinkImpl::constructorNameStrategy1_1));
 
-		VERSIONS.put("1.2", new JavaDocLinkImpl("", //
+		var layout1_2 = new JavaDocLinkImpl("", //
 				new MethodParameterStrategy("(", ", ", ")", "%5B%5D"), //
 				JavaDocLinkImpl::moduleLinkStrategy1_1, //
 				JavaDocLinkImpl::packageLinkStrategy1_2, //
 				JavaDocLinkImpl::classLinkStrategy1_2, //
-				JavaDocLinkImpl::constructorNameStrategy1_1));
-
-		VERSIONS.put("1.3", VERSIONS.get("1.2"));
-		VERSIONS.put("1.4", VERSIONS.get("1.2"));
-		VERSIONS.put("5", VERSIONS.get("1.2"));
-		VERSIONS.put("6", VERSIONS.get("1.2"));
-		VERSIONS.put("7", VERSIONS.get("1.2"));
+				JavaDocLinkImpl::constructorNameStrategy1_1);
+		for (var version : new String[] { "1.2", "1.3", "1.4", "5", "6", "7" }) {
+			versions.put(version, layout1_2);
+		}
 
-		VERSIONS.put("8", new JavaDocLinkImpl("", //
+		versions.put("8", new JavaDocLinkImpl("", //
 				new MethodParameterStrategy("-", "-", "-", ":A"), //
 				JavaDocLinkImpl::moduleLinkStrategy1_1, //
 				JavaDocLinkImpl::packageLinkStrategy1_2, //
 				JavaDocLinkImpl::classLinkStrategy1_2, //
 				JavaDocLinkImpl::constructorNameStrategy8));
 
-		VERSIONS.put("9", new JavaDocLinkImpl("", //
+		versions.put("9", new JavaDocLinkImpl("", //
 				new MethodParameterStrategy("-", "-", "-", ":A"), //
 				JavaDocLinkImpl::moduleLinkStrategy9, //
 				JavaDocLinkImpl::packageLinkStrategy1_2, //
 				JavaDocLinkImpl::classLinkStrategy1_2, //
 				JavaDocLinkImpl::constructorNameStrategy8));
 
-		VERSIONS.put("10", new JavaDocLinkImpl("", //
+		versions.put("10", new JavaDocLinkImpl("", //
 				new MethodParameterStrategy("(", ",", ")", "%5B%5D"), //
 				JavaDocLinkImpl::moduleLinkStrategy9, //
 				JavaDocLinkImpl::packageLinkStrategy1_2, //
 				JavaDocLinkImpl::classLinkStrategy1_2, //
 				JavaDocLinkImpl::constructorNameStrategy10));
 
-		VERSIONS.put("11", new JavaDocLinkImpl("", //
+		var layout11 = new JavaDocLinkImpl("", //
 				new MethodParameterStrategy("(", ",", ")", "%5B%5D"), //
 				JavaDocLinkImpl::moduleLinkStrategy11, //
 				JavaDocLinkImpl::packageLinkStrategy11, //
 				JavaDocLinkImpl::classLinkStrategy11, //
-				JavaDocLinkImpl::constructorNameStrategy10));
+				JavaDocLinkImpl::constructorNameStrategy10);
+		for (var version = 11; version <= 28; version++) {
+			versions.put(String.valueOf(version), layout11);
+		}
 
-		VERSIONS.put("12", VERSIONS.get("11"));
-		VERSIONS.put("13", VERSIONS.get("11"));
-		VERSIONS.put("14", VERSIONS.get("11"));
-		VERSIONS.put("15", VERSIONS.get("11"));
-		VERSIONS.put("16", VERSIONS.get("11"));
-		VERSIONS.put("17", VERSIONS.get("11"));
-		VERSIONS.put("18", VERSIONS.get("11"));
-		VERSIONS.put("19", VERSIONS.get("11"));
-		VERSIONS.put("20", VERSIONS.get("11"));
-		VERSIONS.put("21", VERSIONS.get("11"));
-		VERSIONS.put("22", VERSIONS.get("11"));
-		VERSIONS.put("23", VERSIONS.get("11"));
-		VERSIONS.put("24", VERSIONS.get("11"));
-		VERSIONS.put("25", VERSIONS.get("11"));
-		VERSIONS.put("26", VERSIONS.get("11"));
-		VERSIONS.put("27", VERSIONS.get("11"));
-		VERSIONS.put("28", VERSIONS.get("11"));
+		return Collections.unmodifiableMap(versions);
 	}
 
 	private final String base;
@@ -99,10 +96,19 @@ final class JavaDocLinkImpl implements JavaDocLink {
 	private final BiFunction<String, String, String> packageLinkStrategy;
 	private final BiFunction<String, String, String> classLinkStrategy;
 	private final Function<String, String> constructorNameStrategy;
+	private final PagePath page;
 
 	private JavaDocLinkImpl(String base, MethodParameterStrategy parameters,
 			Function<String, String> moduleLinkStrategy, BiFunction<String, String, String> packageLinkStrategy,
 			BiFunction<String, String, String> classLinkStrategy, Function<String, String> constructorNameStrategy) {
+		this(base, parameters, moduleLinkStrategy, packageLinkStrategy, classLinkStrategy, constructorNameStrategy,
+				null);
+	}
+
+	private JavaDocLinkImpl(String base, MethodParameterStrategy parameters,
+			Function<String, String> moduleLinkStrategy, BiFunction<String, String, String> packageLinkStrategy,
+			BiFunction<String, String, String> classLinkStrategy, Function<String, String> constructorNameStrategy,
+			PagePath page) {
 		if (!base.isEmpty() && !base.endsWith("/")) {
 			this.base = base + "/";
 		} else {
@@ -113,17 +119,105 @@ final class JavaDocLinkImpl implements JavaDocLink {
 		this.packageLinkStrategy = packageLinkStrategy;
 		this.classLinkStrategy = classLinkStrategy;
 		this.constructorNameStrategy = constructorNameStrategy;
+		this.page = page;
+	}
+
+	/**
+	 * Returns the given instance as built-in implementation for the APIs
+	 * which depend on its layout details.
+	 *
+	 * @throws IllegalArgumentException for other implementations, e.g.
+	 *                                  decorators
+	 */
+	static JavaDocLinkImpl of(JavaDocLink jdl) {
+		if (jdl instanceof JavaDocLinkImpl) {
+			return (JavaDocLinkImpl) jdl;
+		}
+		throw new IllegalArgumentException("Instance not created by JavaDocLink.forVersion(): " + jdl);
+	}
+
+	String getBase() {
+		return base;
+	}
+
+	MethodParameterStrategy getParameterStrategy() {
+		return parameterStrategy;
+	}
+
+	String constructorName(String classname) {
+		return constructorNameStrategy.apply(classname);
+	}
+
+	/**
+	 * Identifies the layout by the first version which uses it, e.g. "11" for
+	 * all later versions. Instances created with {@link #withBaseUrl(String)}
+	 * keep the layout of their origin.
+	 */
+	String getLayout() {
+		for (var entry : VERSIONS.entrySet()) {
+			if (entry.getValue().parameterStrategy == parameterStrategy) {
+				return entry.getKey();
+			}
+		}
+		throw new IllegalStateException("Unknown layout");
 	}
 
 	@Override
 	public JavaDocLink withBaseUrl(String baseurl) {
 		return new JavaDocLinkImpl(baseurl, parameterStrategy, moduleLinkStrategy, packageLinkStrategy,
+				classLinkStrategy, constructorNameStrategy, page);
+	}
+
+	@Override
+	public JavaDocLink relativeTo(String pagepath) {
+		return new JavaDocLinkImpl(base, parameterStrategy, moduleLinkStrategy, packageLinkStrategy,
+				classLinkStrategy, constructorNameStrategy, new PagePath(pagepath));
+	}
+
+	/**
+	 * @return instance with the same layout and base URL creating links
+	 *         relative to the base URL
+	 */
+	JavaDocLinkImpl withoutPage() {
+		if (page == null) {
+			return this;
+		}
+		return new JavaDocLinkImpl(base, parameterStrategy, moduleLinkStrategy, packageLinkStrategy,
 				classLinkStrategy, constructorNameStrategy);
 	}
 
+	/**
+	 * @return <code>true</code> for instances created with
+	 *         {@link #relativeTo(String)}
+	 */
+	boolean isPageRelative() {
+		return page != null;
+	}
+
+	/**
+	 * @return directory of the page links are relative to or
+	 *         <code>null</code> for links relative to the base URL
+	 */
+	String getPageDirectory() {
+		return page == null ? null : page.getDirectory();
+	}
+
+	/**
+	 * Converts a link created relative to the base URL to a link relative to
+	 * the page of this instance.
+	 */
+	String relativize(String link) {
+		return page == null ? link : page.relativize(link);
+	}
+
+	private String link(String path) {
+		var link = base.concat(path);
+		return page == null ? link : page.relativize(link);
+	}
+
 	@Override
 	public String moduleLink(String modulename) {
-		return base + moduleLinkStrategy.apply(modulename);
+		return link(moduleLinkStrategy.apply(modulename));
 	}
 
 	@Override
@@ -133,7 +227,7 @@ final class JavaDocLinkImpl implements JavaDocLink {
 
 	@Override
 	public String packageLink(String modulename, String packagename) {
-		return base + packageLinkStrategy.apply(modulename, packagename);
+		return link(packageLinkStrategy.apply(modulename, packagename));
 	}
 
 	@Override
@@ -143,7 +237,7 @@ final class JavaDocLinkImpl implements JavaDocLink {
 
 	@Override
 	public String classLink(String modulename, String classname) {
-		return base + classLinkStrategy.apply(modulename, classname);
+		return link(classLinkStrategy.apply(modulename, classname));
 	}
 
 	@Override
@@ -151,9 +245,33 @@ final class JavaDocLinkImpl implements JavaDocLink {
 		return classLink(cls.getModule().getName(), internalName(cls));
 	}
 
-	private String methodLink0(String modulename, String classname, String methodname, String params) {
+	/**
+	 * Creates a method link with a parameter list which has already been rendered
+	 * with the {@link #getParameterStrategy() parameter strategy} of this layout.
+	 */
+	String methodLink0(String modulename, String classname, String methodname, String params) {
+		return classLink(modulename, classname) + "#" + methodAnchor(classname, methodname, params);
+	}
+
+	private String methodAnchor(String classname, String methodname, String params) {
 		var name = "<init>".equals(methodname) ? constructorNameStrategy.apply(classname) : methodname;
-		return classLink(modulename, classname) + "#" + name + params;
+		return name + params;
+	}
+
+	/**
+	 * Creates the link for a class element or a member element with a class page
+	 * link which has already been rendered for its class.
+	 */
+	String memberLink(String classlink, JavaDocElement element) {
+		switch (element.getKind()) {
+		case METHOD:
+			return classlink + "#" + methodAnchor(element.getClassName(), element.getMemberName(),
+					parameterStrategy.fromDesc(element.getDescriptor(), element.isVararg()));
+		case FIELD:
+			return classlink + "#" + element.getMemberName();
+		default:
+			return classlink;
+		}
 	}
 
 	@Override
@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.ZipFile;
+
+/**
+ * Detects the layout of an existing Javadoc tree in a local directory or ZIP
+ * file. The detection only looks at the <code>element-list</code> or
+ * <code>package-list</code> file, the names of a few files and the anchors of
+ * a single class page. Files in directories are memory-mapped and only read
+ * until the first method anchor is found. All methods are thread-safe, so many
+ * trees can be classified in parallel.
+ * <p>
+ * As several Java versions produce the same layout the detected version is the
+ * latest version with the respective layout which can be identified reliably,
+ * e.g. <code>7</code> for trees generated by Java 1.2 to 7.
+ */
+public final class LayoutDetector {
+
+	private static final int LIST_HEAD = 1 << 16;
+	private static final int ZIP_CHUNK = 1 << 13;
+	private static final int ZIP_LIMIT = 1 << 20;
+
+	private enum AnchorStyle {
+		NONE, PARENTHESES, HYPHENS
+	}
+
+	private LayoutDetector() {
+	}
+
+	/**
+	 * Detects the Java version of the layout of the given Javadoc tree.
+	 *
+	 * @param tree directory or ZIP file containing a Javadoc tree
+	 * @return version as listed in {@link JavaDocLink#supportedVersions()} or
+	 *         <code>null</code> if the layout is unknown
+	 * @throws IOException if the tree can't be read
+	 */
+	public static String detectVersion(Path tree) throws IOException {
+		if (Files.isDirectory(tree)) {
+			return detectVersion(new DirectoryTree(tree));
+		}
+		try (var zip = new ZipTree(tree)) {
+			return detectVersion(zip);
+		}
+	}
+
+	/**
+	 * Returns a {@link JavaDocLink} instance matching the layout of the given
+	 * Javadoc tree.
+	 *
+	 * @param tree directory or ZIP file containing a Javadoc tree
+	 * @return corresponding {@link JavaDocLink} instance or <code>null</code> if
+	 *         the layout is unknown
+	 * @throws IOException if the tree can't be read
+	 */
+	public static JavaDocLink detect(Path tree) throws IOException {
+		var version = detectVersion(tree);
+		return version == null ? null : JavaDocLink.forVersion(version);
+	}
+
+	private static String detectVersion(Tree tree) throws IOException {
+		var elementlist = tree.head("element-list", LIST_HEAD);
+		if (elementlist != null) {
+			var lines = lines(elementlist);
+			var module = firstModule(lines);
+			var pkg = firstPackage(lines);
+			if (module == null) {
+				return anchorStyle(tree, pkg) == AnchorStyle.HYPHENS ? "8" : "10";
+			}
+			if (tree.exists(module + "/module-summary.html")) {
+				return "11";
+			}
+			return anchorStyle(tree, pkg) == AnchorStyle.HYPHENS ? "9" : "10";
+		}
+		var packagelist = tree.head("package-list", LIST_HEAD);
+		if (packagelist != null) {
+			var pkg = firstPackage(lines(packagelist));
+			var style = anchorStyle(tree, pkg);
+			if (style == AnchorStyle.HYPHENS) {
+				return hasModuleSummary(tree) ? "9" : "8";
+			}
+			return "7";
+		}
+		if (tree.exists("packages.html")) {
+			return "1.1";
+		}
+		return null;
+	}
+
+	private static List<String> lines(byte[] content) {
+		var lines = new ArrayList<String>();
+		for (var line : new String(content, StandardCharsets.UTF_8).split("\\R")) {
+			line = line.trim();
+			if (!line.isEmpty()) {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+
+	private static String firstModule(List<String> lines) {
+		for (var line : lines) {
+			if (line.startsWith("module:")) {
+				return line.substring("module:".length());
+			}
+		}
+		return null;
+	}
+
+	private static String firstPackage(List<String> lines) {
+		for (var line : lines) {
+			if (!line.startsWith("module:")) {
+				return line;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Java 9 creates module summary pages like
+	 * <code>java.base-summary.html</code> in the root directory.
+	 */
+	private static boolean hasModuleSummary(Tree tree) throws IOException {
+		for (var name : tree.list("")) {
+			if (name.endsWith("-summary.html") && !name.equals("overview-summary.html")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static AnchorStyle anchorStyle(Tree tree, String pkg) throws IOException {
+		if (pkg == null) {
+			return AnchorStyle.NONE;
+		}
+		var dir = pkg.replace('.', '/') + "/";
+		for (var name : tree.list(dir)) {
+			// class pages start with an upper case letter by convention
+			if (name.endsWith(".html") && Character.isUpperCase(name.charAt(0))) {
+				var style = tree.anchorStyle(dir + name);
+				if (style != AnchorStyle.NONE) {
+					return style;
+				}
+			}
+		}
+		return AnchorStyle.NONE;
+	}
+
+	/**
+	 * Incremental scanner for the first method anchor like <code>#name(</code> or
+	 * <code>#name-int-</code>. Anchors containing hyphens are only considered as
+	 * method anchors if they end with a hyphen, as navigation anchors like
+	 * <code>#skip-navbar_top</code> also contain hyphens.
+	 */
+	private static final class AnchorScanner {
+
+		private static final int OUTSIDE = 0;
+		private static final int IDENTIFIER = 1;
+		private static final int HYPHEN = 2;
+
+		private int state = OUTSIDE;
+		private boolean identifier;
+		private byte last;
+
+		AnchorStyle scan(ByteBuffer buffer) {
+			while (buffer.hasRemaining()) {
+				var b = buffer.get();
+				switch (state) {
+				case OUTSIDE:
+					if (b == '#') {
+						state = IDENTIFIER;
+						identifier = false;
+					}
+					break;
+				case IDENTIFIER:
+					if (Character.isJavaIdentifierPart(b) && b != 0) {
+						identifier = true;
+					} else if (b == '(' && identifier) {
+						return AnchorStyle.PARENTHESES;
+					} else if (b == '-' && identifier) {
+						state = HYPHEN;
+					} else {
+						state = b == '#' ? IDENTIFIER : OUTSIDE;
+						identifier = false;
+					}
+					break;
+				case HYPHEN:
+					if (b == '"' || b == '\'') {
+						if (last == '-') {
+							return AnchorStyle.HYPHENS;
+						}
+						state = OUTSIDE;
+					} else if (b == '<' || b == '>' || b == ' ' || b == '\n') {
+						state = OUTSIDE;
+					}
+					break;
+				}
+				last = b;
+			}
+			return AnchorStyle.NONE;
+		}
+	}
+
+	/**
+	 * Read access to a Javadoc tree with paths relative to its root.
+	 */
+	private interface Tree {
+
+		boolean exists(String path) throws IOException;
+
+		byte[] head(String path, int limit) throws IOException;
+
+		List<String> list(String dir) throws IOException;
+
+		AnchorStyle anchorStyle(String page) throws IOException;
+
+	}
+
+	private static final class DirectoryTree implements Tree {
+
+		private final Path root;
+
+		DirectoryTree(Path root) {
+			this.root = root;
+		}
+
+		@Override
+		public boolean exists(String path) {
+			return Files.isRegularFile(root.resolve(path));
+		}
+
+		@Override
+		public byte[] head(String path, int limit) throws IOException {
+			var file = root.resolve(path);
+			if (!Files.isRegularFile(file)) {
+				return null;
+			}
+			try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(limit, channel.size()));
+				var bytes = new byte[buffer.remaining()];
+				buffer.get(bytes);
+				return bytes;
+			}
+		}
+
+		@Override
+		public List<String> list(String dir) throws IOException {
+			var names = new ArrayList<String>();
+			var path = root.resolve(dir);
+			if (Files.isDirectory(path)) {
+				try (var files = Files.list(path)) {
+					files.map(p -> p.getFileName().toString()).sorted().forEach(names::add);
+				}
+			}
+			return names;
+		}
+
+		@Override
+		public AnchorStyle anchorStyle(String page) throws IOException {
+			try (var channel = FileChannel.open(root.resolve(page), StandardOpenOption.READ)) {
+				// Only the pages touched by the scanner are actually read.
+				return new AnchorScanner().scan(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+			}
+		}
+
+	}
+
+	private static final class ZipTree implements Tree, AutoCloseable {
+
+		private final ZipFile zip;
+		private final String prefix;
+
+		ZipTree(Path file) throws IOException {
+			zip = new ZipFile(file.toFile());
+			prefix = findPrefix(zip);
+		}
+
+		/**
+		 * Javadoc ZIP files typically contain the tree in a sub-directory like
+		 * <code>docs/api/</code>.
+		 */
+		private static String findPrefix(ZipFile zip) {
+			String prefix = null;
+			for (var entries = zip.entries(); entries.hasMoreElements();) {
+				var name = entries.nextElement().getName();
+				var sep = name.lastIndexOf('/') + 1;
+				var file = name.substring(sep);
+				if (file.equals("element-list") || file.equals("package-list") || file.equals("packages.html")) {
+					if (prefix == null || sep < prefix.length()) {
+						prefix = name.substring(0, sep);
+					}
+				}
+			}
+			return prefix == null ? "" : prefix;
+		}
+
+		@Override
+		public boolean exists(String path) {
+			return zip.getEntry(prefix + path) != null;
+		}
+
+		@Override
+		public byte[] head(String path, int limit) throws IOException {
+			var entry = zip.getEntry(prefix + path);
+			if (entry == null) {
+				return null;
+			}
+			try (var in = zip.getInputStream(entry)) {
+				return in.readNBytes(limit);
+			}
+		}
+
+		@Override
+		public List<String> list(String dir) {
+			var names = new TreeSet<String>();
+			var start = prefix + dir;
+			for (var entries = zip.entries(); entries.hasMoreElements();) {
+				var name = entries.nextElement().getName();
+				if (name.length() > start.length() && name.startsWith(start)) {
+					var end = name.indexOf('/', start.length());
+					var child = name.substring(start.length(), end == -1 ? name.length() : end);
+					names.add(child);
+				}
+			}
+			return new ArrayList<>(names);
+		}
+
+		@Override
+		public AnchorStyle anchorStyle(String page) throws IOException {
+			var scanner = new AnchorScanner();
+			try (var in = zip.getInputStream(zip.getEntry(prefix + page))) {
+				var chunk = new byte[ZIP_CHUNK];
+				for (int total = 0, n; total < ZIP_LIMIT && (n = in.read(chunk)) != -1; total += n) {
+					var style = scanner.scan(ByteBuffer.wrap(chunk, 0, n));
+					if (style != AnchorStyle.NONE) {
+						return style;
+					}
+				}
+			}
+			return AnchorStyle.NONE;
+		}
+
+		@Override
+		public void close() throws IOException {
+			zip.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,490 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipFile;
+
+/**
+ * Persistent store for the links of class file directories and JAR files.
+ * Entries are identified by the SHA-256 hash of the artifact content, the
+ * layout and the base URL of the {@link JavaDocLink} instance and the module
+ * name. For an unchanged artifact a lookup costs one hash computation and a
+ * read from memory-mapped files instead of reading all class files.
+ * <p>
+ * The cache directory contains append-only segment files. Every record is
+ * protected by a CRC32 checksum, so incomplete records written by a crashed
+ * process are ignored and overwritten by the next writer. Opening a cache
+ * does not read any records. The keys are indexed with the first lookup
+ * which misses the index, this only touches the record headers. Checksums are
+ * verified when a record is read, records with an invalid checksum are
+ * replaced. Records are
+ * appended while holding an exclusive lock on a lock file, therefore several
+ * JVMs can share the same directory. Readers don't need a lock as existing
+ * records never change. Instances are thread-safe.
+ */
+public final class LinkCache implements Closeable {
+
+	private static final int MAGIC = 0x4A444C43;
+	private static final int FORMAT = 1;
+	private static final int SEGMENT_HEADER_SIZE = 8;
+	private static final int RECORD_HEADER_SIZE = 8;
+	private static final int NULL_STRING = 0xFFFF;
+	private static final String SEGMENT_PREFIX = "links-";
+	private static final String SEGMENT_SUFFIX = ".seg";
+	private static final String LOCK_FILE = "cache.lock";
+	private static final String CLASS_SUFFIX = ".class";
+
+	/** FileChannel locks are held per JVM, so writers within a JVM queue here */
+	private static final Map<Path, Object> WRITERS = new ConcurrentHashMap<>();
+
+	private static class Segment {
+		final Path path;
+		final FileChannel channel;
+		MappedByteBuffer buffer;
+		/** End of the last valid record */
+		long end = SEGMENT_HEADER_SIZE;
+
+		Segment(Path path) throws IOException {
+			this.path = path;
+			this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		}
+	}
+
+	private static class Location {
+		final Segment segment;
+		final int offset;
+		final int length;
+
+		Location(Segment segment, int offset, int length) {
+			this.segment = segment;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		boolean isValid() {
+			return crc(segment.buffer, offset, length) == segment.buffer.getInt(offset - RECORD_HEADER_SIZE + 4);
+		}
+	}
+
+	private final Path directory;
+	private final int segmentLimit;
+	private final Object writer;
+	private final FileChannel lock;
+
+	private final List<Segment> segments = new ArrayList<>();
+	private final Map<String, Location> index = new HashMap<>();
+
+	LinkCache(Path directory, int segmentLimit) throws IOException {
+		this.directory = directory.toAbsolutePath().normalize();
+		this.segmentLimit = segmentLimit;
+		this.writer = WRITERS.computeIfAbsent(this.directory, d -> new Object());
+		Files.createDirectories(this.directory);
+		this.lock = FileChannel.open(this.directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE);
+	}
+
+	/**
+	 * Opens the cache in the given directory. The directory is created if it
+	 * does not exist.
+	 *
+	 * @param directory cache directory
+	 * @return cache instance
+	 * @throws IOException if the directory can't be created or read
+	 */
+	public static LinkCache open(Path directory) throws IOException {
+		return new LinkCache(directory, 1 << 26);
+	}
+
+	/**
+	 * Returns the links of all documented elements in the given class file
+	 * directory or JAR file. If there is no entry for the current content of
+	 * the artifact yet, the links are created and added to the cache.
+	 *
+	 * @param artifact   class file directory or JAR file
+	 * @param modulename name of the module for all elements, if <code>null</code>
+	 *                   the name is taken from <code>module-info.class</code> if
+	 *                   present
+	 * @param jdl        layout and base URL to create links with
+	 * @return list of links for the artifact
+	 * @throws IOException              if the artifact or the cache can't be
+	 *                                  read or written
+	 * @throws IllegalArgumentException if the instance has not been created
+	 *                                  by {@link JavaDocLink#forVersion(String)}
+	 *                                  or derived from such an instance
+	 */
+	public List<ElementLink> getLinks(Path artifact, String modulename, JavaDocLink jdl) throws IOException {
+		var impl = JavaDocLinkImpl.of(jdl);
+		if (impl.isPageRelative()) {
+			// stored with links relative to the base URL only
+			var links = getLinks(artifact, modulename, impl.withoutPage());
+			var relative = new ArrayList<ElementLink>(links.size());
+			for (var link : links) {
+				relative.add(new ElementLink(link.getElement(), impl.relativize(link.getLink())));
+			}
+			return relative;
+		}
+		var key = String.join("\n", sha256(artifact), impl.getLayout(), impl.getBase(),
+				modulename == null ? "" : modulename);
+		synchronized (this) {
+			var location = index.get(key);
+			if (location == null) {
+				refresh();
+				location = index.get(key);
+			}
+			if (location != null && location.isValid()) {
+				return decode(location, impl.getBase());
+			}
+		}
+		var links = scan(artifact, modulename, jdl);
+		append(key, encode(key, impl.getBase(), links));
+		return links;
+	}
+
+	/**
+	 * Number of entries currently stored in the cache.
+	 */
+	synchronized int size() throws IOException {
+		refresh();
+		return index.size();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		for (var segment : segments) {
+			segment.channel.close();
+		}
+		segments.clear();
+		index.clear();
+		lock.close();
+	}
+
+	/**
+	 * Indexes new segments and records which have been written by other
+	 * instances since the last call. Only the record headers and keys are read.
+	 */
+	private void refresh() throws IOException {
+		for (var i = segments.size();; i++) {
+			var path = segmentPath(i);
+			if (!Files.isRegularFile(path)) {
+				break;
+			}
+			segments.add(new Segment(path));
+		}
+		for (var segment : segments) {
+			scanRecords(segment);
+		}
+	}
+
+	private void scanRecords(Segment segment) throws IOException {
+		var size = segment.channel.size();
+		if (size < SEGMENT_HEADER_SIZE || size <= segment.end) {
+			return;
+		}
+		var buffer = segment.channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		buffer.order(ByteOrder.BIG_ENDIAN);
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+			throw new IOException("Invalid cache segment " + segment.path);
+		}
+		segment.buffer = buffer;
+		var pos = segment.end;
+		while (pos + RECORD_HEADER_SIZE <= size) {
+			var length = buffer.getInt((int) pos);
+			var offset = pos + RECORD_HEADER_SIZE;
+			if (length < 2 || offset + length > size
+					|| 2 + (buffer.getShort((int) offset) & 0xFFFF) > length) {
+				// incomplete record from a crashed or concurrent writer
+				break;
+			}
+			var location = new Location(segment, (int) offset, length);
+			// later records replace records with invalid checksums:
+			index.put(readString(buffer.duplicate().position((int) offset)), location);
+			pos = offset + length;
+		}
+		segment.end = pos;
+	}
+
+	private void append(String key, byte[] record) throws IOException {
+		synchronized (writer) {
+			var filelock = lock.lock();
+			try {
+				synchronized (this) {
+					refresh();
+					var existing = index.get(key);
+					if (existing != null && existing.isValid()) {
+						// added by another writer in the meantime
+						return;
+					}
+					var segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+					if (segment == null || segment.end + RECORD_HEADER_SIZE + record.length > segmentLimit) {
+						segment = createSegment(segments.size());
+					}
+					var header = ByteBuffer.allocate(RECORD_HEADER_SIZE).putInt(0, record.length).putInt(4,
+							crc(ByteBuffer.wrap(record), 0, record.length));
+					if (segment.channel.size() < SEGMENT_HEADER_SIZE) {
+						// segment creation has been interrupted
+						writeSegmentHeader(segment.channel);
+					} else if (segment.channel.size() > segment.end) {
+						// drop incomplete records from crashed writers
+						segment.channel.truncate(segment.end);
+					}
+					write(segment.channel, header, segment.end);
+					write(segment.channel, ByteBuffer.wrap(record), segment.end + RECORD_HEADER_SIZE);
+					segment.channel.force(false);
+					scanRecords(segment);
+				}
+			} finally {
+				filelock.release();
+			}
+		}
+	}
+
+	private Segment createSegment(int number) throws IOException {
+		var path = segmentPath(number);
+		try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			if (channel.size() < SEGMENT_HEADER_SIZE) {
+				writeSegmentHeader(channel);
+			}
+		}
+		var segment = new Segment(path);
+		segments.add(segment);
+		return segment;
+	}
+
+	private static void writeSegmentHeader(FileChannel channel) throws IOException {
+		write(channel, ByteBuffer.allocate(SEGMENT_HEADER_SIZE).putInt(0, MAGIC).putInt(4, FORMAT), 0);
+	}
+
+	private Path segmentPath(int number) {
+		return directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, Integer.valueOf(number), SEGMENT_SUFFIX));
+	}
+
+	private static void write(FileChannel channel, ByteBuffer buffer, long pos) throws IOException {
+		while (buffer.hasRemaining()) {
+			pos += channel.write(buffer, pos);
+		}
+	}
+
+	private static int crc(ByteBuffer buffer, int offset, int length) {
+		var crc = new CRC32();
+		crc.update(buffer.duplicate().limit(offset + length).position(offset));
+		return (int) crc.getValue();
+	}
+
+	// Record encoding
+
+	/**
+	 * Records contain the key, the number of links and the links. Strings are
+	 * stored as UTF-8 with an unsigned 16 bit length, links without the base
+	 * URL.
+	 */
+	private static byte[] encode(String key, String base, List<ElementLink> links) {
+		var out = new ByteArrayOutputStream(64 + links.size() * 96);
+		writeString(out, key);
+		writeInt(out, links.size());
+		for (var link : links) {
+			var element = link.getElement();
+			out.write(element.getKind().ordinal());
+			writeString(out, element.getModuleName());
+			writeString(out, name(element));
+			writeString(out, element.getMemberName());
+			writeString(out, element.getDescriptor());
+			out.write(element.isVararg() ? 1 : 0);
+			writeString(out, link.getLink().substring(base.length()));
+		}
+		return out.toByteArray();
+	}
+
+	private List<ElementLink> decode(Location location, String base) {
+		var buffer = location.segment.buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+		buffer.position(location.offset).limit(location.offset + location.length);
+		readString(buffer);
+		var count = buffer.getInt();
+		var kinds = JavaDocElement.Kind.values();
+		var links = new ArrayList<ElementLink>(count);
+		for (var i = 0; i < count; i++) {
+			var kind = kinds[buffer.get()];
+			var modulename = readString(buffer);
+			var name = readString(buffer);
+			var member = readString(buffer);
+			var desc = readString(buffer);
+			var vararg = buffer.get() != 0;
+			var element = element(kind, modulename, name, member, desc, vararg);
+			links.add(new ElementLink(element, base + readString(buffer)));
+		}
+		return links;
+	}
+
+	private static String name(JavaDocElement element) {
+		switch (element.getKind()) {
+		case MODULE:
+			return element.getModuleName();
+		case PACKAGE:
+			return element.getPackageName();
+		default:
+			return element.getClassName();
+		}
+	}
+
+	private static JavaDocElement element(JavaDocElement.Kind kind, String modulename, String name, String member,
+			String desc, boolean vararg) {
+		switch (kind) {
+		case MODULE:
+			return JavaDocElement.ofModule(name);
+		case PACKAGE:
+			return JavaDocElement.ofPackage(modulename, name);
+		case CLASS:
+			return JavaDocElement.ofClass(modulename, name);
+		case METHOD:
+			return JavaDocElement.ofMethod(modulename, name, member, desc, vararg);
+		default:
+			return JavaDocElement.ofField(modulename, name, member);
+		}
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int value) {
+		out.write(value >>> 24);
+		out.write(value >>> 16);
+		out.write(value >>> 8);
+		out.write(value);
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		if (value == null) {
+			out.write(NULL_STRING >>> 8);
+			out.write(NULL_STRING & 0xFF);
+			return;
+		}
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length >= NULL_STRING) {
+			throw new IllegalArgumentException("String too long: " + value.substring(0, 64));
+		}
+		out.write(bytes.length >>> 8);
+		out.write(bytes.length & 0xFF);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		var length = buffer.getShort() & 0xFFFF;
+		if (length == NULL_STRING) {
+			return null;
+		}
+		var bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	// Artifact access
+
+	/**
+	 * Hashes JAR files directly from a memory mapping. For directories the
+	 * relative paths and contents of all class files are hashed in a stable
+	 * order.
+	 */
+	private static String sha256(Path artifact) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		if (Files.isDirectory(artifact)) {
+			for (var file : classFiles(artifact)) {
+				var name = artifact.relativize(file).toString().replace('\\', '/');
+				digest.update(name.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+				digest.update(Files.readAllBytes(file));
+			}
+		} else {
+			try (var channel = FileChannel.open(artifact, StandardOpenOption.READ)) {
+				var size = channel.size();
+				for (var pos = 0L; pos < size; pos += Integer.MAX_VALUE) {
+					var length = Math.min(Integer.MAX_VALUE, size - pos);
+					digest.update(channel.map(FileChannel.MapMode.READ_ONLY, pos, length));
+				}
+			}
+		}
+		var hex = new StringBuilder(64);
+		for (var b : digest.digest()) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
+	private static List<Path> classFiles(Path dir) throws IOException {
+		try (var walk = Files.walk(dir)) {
+			return walk.filter(p -> p.getFileName().toString().endsWith(CLASS_SUFFIX)).filter(Files::isRegularFile)
+					.sorted().collect(Collectors.toList());
+		}
+	}
+
+	private static List<ElementLink> scan(Path artifact, String modulename, JavaDocLink jdl) throws IOException {
+		var classes = new ArrayList<byte[]>();
+		if (Files.isDirectory(artifact)) {
+			for (var file : classFiles(artifact)) {
+				classes.add(Files.readAllBytes(file));
+			}
+		} else {
+			try (var zip = new ZipFile(artifact.toFile())) {
+				for (var entries = zip.entries(); entries.hasMoreElements();) {
+					var entry = entries.nextElement();
+					var name = entry.getName();
+					if (name.endsWith(CLASS_SUFFIX) && !name.startsWith("META-INF/")) {
+						try (var in = zip.getInputStream(entry)) {
+							classes.add(in.readAllBytes());
+						}
+					}
+				}
+			}
+		}
+		var readers = new ArrayList<ClassFileReader>(classes.size());
+		for (var bytes : classes) {
+			var reader = new ClassFileReader(bytes);
+			if (reader.getModuleName() != null) {
+				if (modulename == null) {
+					modulename = reader.getModuleName();
+				}
+			} else {
+				readers.add(reader);
+			}
+		}
+		var links = new ArrayList<ElementLink>();
+		for (var reader : readers) {
+			for (var element : reader.getElements(modulename)) {
+				links.add(new ElementLink(element, element.link(jdl)));
+			}
+		}
+		return links;
+	}
+
+}
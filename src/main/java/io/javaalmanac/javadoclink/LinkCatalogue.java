@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Catalogue of links for one or more Javadoc versions in a compact columnar
+ * file, written with {@link CatalogueWriter}.
+ * <p>
+ * The rows are stored in blocks. Within a block every column is compressed
+ * separately with Deflate. The version, module, package, class, member and
+ * descriptor columns are encoded with a dictionary of the sorted distinct
+ * values in front coding. Links are front coded relative to the previous
+ * row. The blocks are memory-mapped and columns are only inflated when
+ * needed: a scan filtered by version or module skips blocks without the
+ * requested value after inflating the filter columns only. Instances are
+ * thread-safe.
+ */
+public final class LinkCatalogue {
+
+	/**
+	 * Receives the rows of a scan.
+	 */
+	public interface Visitor {
+
+		/**
+		 * Called for every row in the order of the catalogue.
+		 *
+		 * @param version Javadoc version
+		 * @param link    element and its link
+		 */
+		void visit(String version, ElementLink link);
+	}
+
+	static final int MAGIC = 0x4A444C4B;
+	static final int FORMAT = 1;
+	static final int HEADER_SIZE = 8;
+	static final int TRAILER_SIZE = 16;
+	static final int INDEX_ENTRY_SIZE = 16;
+	static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+	static final int VERSION = 0;
+	static final int MODULE = 1;
+	static final int PACKAGE = 2;
+	static final int CLASS = 3;
+	static final int MEMBER = 4;
+	static final int DESCRIPTOR = 5;
+	static final int DICTIONARY_COLUMNS = 6;
+	static final int KIND = 6;
+	static final int LINK = 7;
+	static final int COLUMNS = 8;
+
+	/** Flag in the kind column for vararg methods */
+	static final int VARARG = 0x80;
+
+	private static final JavaDocElement.Kind[] KINDS = JavaDocElement.Kind.values();
+
+	private final List<ByteBuffer> blocks;
+	private final long size;
+
+	private LinkCatalogue(List<ByteBuffer> blocks, long size) {
+		this.blocks = blocks;
+		this.size = size;
+	}
+
+	/**
+	 * Opens the given catalogue file.
+	 *
+	 * @param file catalogue file written by {@link CatalogueWriter}
+	 * @return catalogue
+	 * @throws IOException if the file can't be read or is not a catalogue
+	 */
+	public static LinkCatalogue open(Path file) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			var length = channel.size();
+			if (length < HEADER_SIZE + TRAILER_SIZE) {
+				throw new IOException("Not a link catalogue: " + file);
+			}
+			var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+			var trailer = channel.map(FileChannel.MapMode.READ_ONLY, length - TRAILER_SIZE, TRAILER_SIZE);
+			if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT || trailer.getInt(12) != MAGIC) {
+				throw new IOException("Not a link catalogue: " + file);
+			}
+			var indexOffset = trailer.getLong(0);
+			var count = trailer.getInt(8);
+			if (count < 0 || indexOffset < HEADER_SIZE
+					|| indexOffset + (long) count * INDEX_ENTRY_SIZE != length - TRAILER_SIZE) {
+				throw new IOException("Corrupt link catalogue: " + file);
+			}
+			var index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, (long) count * INDEX_ENTRY_SIZE);
+			var blocks = new ArrayList<ByteBuffer>(count);
+			var size = 0L;
+			for (var i = 0; i < count; i++) {
+				var offset = index.getLong(i * INDEX_ENTRY_SIZE);
+				var blockLength = index.getInt(i * INDEX_ENTRY_SIZE + 8);
+				if (offset < HEADER_SIZE || offset + blockLength > indexOffset) {
+					throw new IOException("Corrupt link catalogue: " + file);
+				}
+				blocks.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, blockLength));
+				size += index.getInt(i * INDEX_ENTRY_SIZE + 12);
+			}
+			return new LinkCatalogue(blocks, size);
+		}
+	}
+
+	/**
+	 * @return number of rows in the catalogue
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Visits all rows of the catalogue.
+	 *
+	 * @param visitor receives the rows
+	 */
+	public void scan(Visitor visitor) {
+		scan(null, null, visitor);
+	}
+
+	/**
+	 * Visits the rows with the given version and module.
+	 *
+	 * @param version    Javadoc version or <code>null</code> for all versions
+	 * @param modulename module name or <code>null</code> for all modules
+	 * @param visitor    receives the rows
+	 */
+	public void scan(String version, String modulename, Visitor visitor) {
+		var inflater = new Inflater();
+		try {
+			for (var block : blocks) {
+				new Block(block.duplicate(), inflater).scan(version, modulename, visitor);
+			}
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static class Block {
+
+		final ByteBuffer buffer;
+		final Inflater inflater;
+		final int rows;
+
+		Block(ByteBuffer buffer, Inflater inflater) {
+			this.buffer = buffer;
+			this.inflater = inflater;
+			this.rows = buffer.getInt(0);
+		}
+
+		void scan(String version, String modulename, Visitor visitor) {
+			var selected = new boolean[rows];
+			Arrays.fill(selected, true);
+			if (!filter(VERSION, version, selected) || !filter(MODULE, modulename, selected)) {
+				return;
+			}
+			var columns = new String[DICTIONARY_COLUMNS][];
+			for (var i = 0; i < DICTIONARY_COLUMNS; i++) {
+				columns[i] = values(i);
+			}
+			var kinds = column(KIND);
+			var links = ByteBuffer.wrap(column(LINK));
+			var link = new byte[0];
+			for (var row = 0; row < rows; row++) {
+				link = readDelta(links, link);
+				if (selected[row]) {
+					var element = element(kinds[row], columns[MODULE][row], columns[PACKAGE][row],
+							columns[CLASS][row], columns[MEMBER][row], columns[DESCRIPTOR][row]);
+					visitor.visit(columns[VERSION][row], new ElementLink(element,
+							new String(link, StandardCharsets.UTF_8)));
+				}
+			}
+		}
+
+		/**
+		 * Clears the rows which don't have the given value.
+		 *
+		 * @return <code>false</code> if no row has the value
+		 */
+		private boolean filter(int index, String value, boolean[] selected) {
+			if (value == null) {
+				return true;
+			}
+			var column = ByteBuffer.wrap(column(index));
+			var dictionary = dictionary(column);
+			var id = Arrays.binarySearch(dictionary, value) + 1;
+			if (id <= 0) {
+				return false;
+			}
+			for (var row = 0; row < rows; row++) {
+				if (readVarint(column) != id) {
+					selected[row] = false;
+				}
+			}
+			return true;
+		}
+
+		private String[] values(int index) {
+			var column = ByteBuffer.wrap(column(index));
+			var dictionary = dictionary(column);
+			var values = new String[rows];
+			for (var row = 0; row < rows; row++) {
+				var id = readVarint(column);
+				values[row] = id == 0 ? null : dictionary[id - 1];
+			}
+			return values;
+		}
+
+		private byte[] column(int index) {
+			var offset = 4 + COLUMNS * 8;
+			for (var i = 0; i < index; i++) {
+				offset += buffer.getInt(4 + i * 8 + 4);
+			}
+			var raw = new byte[buffer.getInt(4 + index * 8)];
+			var compressed = buffer.getInt(4 + index * 8 + 4);
+			inflater.reset();
+			inflater.setInput(buffer.duplicate().position(offset).limit(offset + compressed));
+			try {
+				var n = 0;
+				while (n < raw.length && !inflater.finished()) {
+					n += inflater.inflate(raw, n, raw.length - n);
+				}
+				if (n != raw.length) {
+					throw new IllegalStateException("Corrupt catalogue column");
+				}
+			} catch (DataFormatException e) {
+				throw new IllegalStateException("Corrupt catalogue column", e);
+			}
+			return raw;
+		}
+	}
+
+	private static String[] dictionary(ByteBuffer column) {
+		var dictionary = new String[readVarint(column)];
+		var value = new byte[0];
+		for (var i = 0; i < dictionary.length; i++) {
+			value = readDelta(column, value);
+			dictionary[i] = new String(value, StandardCharsets.UTF_8);
+		}
+		return dictionary;
+	}
+
+	private static JavaDocElement element(byte flags, String modulename, String packagename, String classname,
+			String membername, String desc) {
+		var kind = KINDS[flags & (VARARG - 1)];
+		switch (kind) {
+		case MODULE:
+			return JavaDocElement.ofModule(modulename);
+		case PACKAGE:
+			return JavaDocElement.ofPackage(modulename, packagename);
+		default:
+			break;
+		}
+		var name = packagename.isEmpty() ? classname : packagename + "/" + classname;
+		switch (kind) {
+		case METHOD:
+			return JavaDocElement.ofMethod(modulename, name, membername, desc, (flags & VARARG) != 0);
+		case FIELD:
+			return JavaDocElement.ofField(modulename, name, membername);
+		default:
+			return JavaDocElement.ofClass(modulename, name);
+		}
+	}
+
+	private static byte[] readDelta(ByteBuffer in, byte[] previous) {
+		var shared = readVarint(in);
+		var suffix = readVarint(in);
+		var value = Arrays.copyOf(previous, shared + suffix);
+		in.get(value, shared, suffix);
+		return value;
+	}
+
+	static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	static int readVarint(ByteBuffer in) {
+		var value = 0;
+		for (var shift = 0;; shift += 7) {
+			var b = in.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+	}
+
+}
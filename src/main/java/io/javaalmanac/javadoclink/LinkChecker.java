@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Checks links against hosted Javadoc. Every page is requested only once per
+ * check, all anchors of the page are verified from a single parse. Pages
+ * without checked anchors are only requested with <code>HEAD</code>.
+ * <p>
+ * Requests are sent asynchronously with a bounded number of requests in
+ * flight and a minimum interval between requests to the same host. Pages are
+ * cached with their <code>ETag</code> and <code>Last-Modified</code> headers,
+ * so subsequent checks send conditional requests and unchanged pages are not
+ * transferred again. Instances are thread-safe.
+ */
+public final class LinkChecker {
+
+	/**
+	 * Result of a link check.
+	 */
+	public enum Status {
+		/** Page and anchor exist */
+		OK,
+		/** The page does not exist */
+		PAGE_NOT_FOUND,
+		/** The page exists but does not contain the anchor */
+		ANCHOR_NOT_FOUND,
+		/** The page could not be retrieved */
+		FAILED
+	}
+
+	private static final Pattern ANCHOR = Pattern.compile("\\s(?:id|name)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+
+	/**
+	 * Cached state of a page. Anchors are <code>null</code> if only the
+	 * headers have been requested.
+	 */
+	private static class Page {
+		final Status status;
+		final String etag;
+		final String lastModified;
+		final Set<String> anchors;
+
+		Page(Status status, String etag, String lastModified, Set<String> anchors) {
+			this.status = status;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.anchors = anchors;
+		}
+	}
+
+	private final HttpClient client;
+	private final int concurrency;
+	private final long interval;
+
+	private final Map<String, Page> cache = new ConcurrentHashMap<>();
+	private final Map<String, Long> nextRequest = new HashMap<>();
+
+	/**
+	 * Creates a checker with its own HTTP client.
+	 *
+	 * @param concurrency       maximum number of requests in flight
+	 * @param requestsPerSecond maximum number of requests per second and host
+	 */
+	public LinkChecker(int concurrency, int requestsPerSecond) {
+		this(HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NORMAL)
+				.connectTimeout(Duration.ofSeconds(30)).build(), concurrency, requestsPerSecond);
+	}
+
+	/**
+	 * Creates a checker with the given HTTP client. The connections of the
+	 * client are reused for all requests.
+	 *
+	 * @param client            HTTP client to send the requests with
+	 * @param concurrency       maximum number of requests in flight
+	 * @param requestsPerSecond maximum number of requests per second and host
+	 */
+	public LinkChecker(HttpClient client, int concurrency, int requestsPerSecond) {
+		if (concurrency < 1 || requestsPerSecond < 1) {
+			throw new IllegalArgumentException("Concurrency and rate must be positive");
+		}
+		this.client = client;
+		this.concurrency = concurrency;
+		this.interval = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+	}
+
+	/**
+	 * Checks the given absolute links.
+	 *
+	 * @param links links to check
+	 * @return status for every link in the order of the given collection
+	 */
+	public CompletableFuture<Map<String, Status>> check(Collection<String> links) {
+		var anchors = new LinkedHashMap<String, Set<String>>();
+		for (var link : links) {
+			var sep = link.indexOf('#');
+			var page = anchors.computeIfAbsent(sep == -1 ? link : link.substring(0, sep), p -> new HashSet<>());
+			if (sep != -1) {
+				page.add(URLDecoder.decode(link.substring(sep + 1), StandardCharsets.UTF_8));
+			}
+		}
+		var pending = new ArrayDeque<>(anchors.keySet());
+		var pages = new ConcurrentHashMap<String, Page>();
+		var lanes = new CompletableFuture<?>[Math.min(concurrency, pending.size())];
+		for (var i = 0; i < lanes.length; i++) {
+			lanes[i] = next(pending, anchors, pages);
+		}
+		return CompletableFuture.allOf(lanes).thenApply(v -> {
+			var result = new LinkedHashMap<String, Status>();
+			for (var link : links) {
+				var sep = link.indexOf('#');
+				var page = pages.get(sep == -1 ? link : link.substring(0, sep));
+				if (page.status != Status.OK || sep == -1) {
+					result.put(link, page.status);
+				} else {
+					var anchor = URLDecoder.decode(link.substring(sep + 1), StandardCharsets.UTF_8);
+					result.put(link, page.anchors.contains(anchor) ? Status.OK : Status.ANCHOR_NOT_FOUND);
+				}
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * Fetches the pending pages one after the other. Results which are
+	 * available immediately, e.g. for invalid URLs, are collected in a loop so
+	 * the stack does not grow with the number of such links.
+	 */
+	private CompletableFuture<Void> next(Queue<String> pending, Map<String, Set<String>> anchors,
+			Map<String, Page> pages) {
+		while (true) {
+			String url;
+			synchronized (pending) {
+				url = pending.poll();
+			}
+			if (url == null) {
+				return CompletableFuture.completedFuture(null);
+			}
+			var page = fetch(url, !anchors.get(url).isEmpty());
+			if (!page.isDone()) {
+				return page.thenComposeAsync(p -> {
+					pages.put(url, p);
+					return next(pending, anchors, pages);
+				});
+			}
+			pages.put(url, page.join());
+		}
+	}
+
+	private CompletableFuture<Page> fetch(String url, boolean body) {
+		var cached = cache.get(url);
+		if (cached != null && body && cached.anchors == null) {
+			cached = null;
+		}
+		URI uri;
+		HttpRequest.Builder request;
+		try {
+			uri = URI.create(url);
+			request = HttpRequest.newBuilder(uri);
+		} catch (IllegalArgumentException e) {
+			return CompletableFuture.completedFuture(new Page(Status.FAILED, null, null, null));
+		}
+		if (body) {
+			request.GET();
+		} else {
+			request.method("HEAD", HttpRequest.BodyPublishers.noBody());
+		}
+		if (cached != null && cached.etag != null) {
+			request.header("If-None-Match", cached.etag);
+		}
+		if (cached != null && cached.lastModified != null) {
+			request.header("If-Modified-Since", cached.lastModified);
+		}
+		var validated = cached;
+		var delay = reserve(uri.getHost());
+		var executor = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS);
+		return CompletableFuture.supplyAsync(request::build, executor)
+				.thenCompose(r -> client.sendAsync(r, HttpResponse.BodyHandlers.ofString()))
+				.handle((response, error) -> {
+					if (error != null) {
+						return new Page(Status.FAILED, null, null, null);
+					}
+					var page = page(response, validated, body);
+					if (page.status == Status.OK) {
+						cache.put(url, page);
+					}
+					return page;
+				});
+	}
+
+	private static Page page(HttpResponse<String> response, Page cached, boolean body) {
+		var code = response.statusCode();
+		if (code == 304 && cached != null) {
+			return cached;
+		}
+		if (code == 404 || code == 410) {
+			return new Page(Status.PAGE_NOT_FOUND, null, null, null);
+		}
+		if (code < 200 || code >= 300) {
+			return new Page(Status.FAILED, null, null, null);
+		}
+		var headers = response.headers();
+		return new Page(Status.OK, headers.firstValue("ETag").orElse(null),
+				headers.firstValue("Last-Modified").orElse(null), body ? anchors(response.body()) : null);
+	}
+
+	/**
+	 * Reserves the next request slot for the given host.
+	 *
+	 * @return delay until the slot in nanoseconds
+	 */
+	private long reserve(String host) {
+		synchronized (nextRequest) {
+			var now = System.nanoTime();
+			var slot = Math.max(now, nextRequest.getOrDefault(host, now));
+			nextRequest.put(host, slot + interval);
+			return slot - now;
+		}
+	}
+
+	/**
+	 * All values of <code>id</code> and <code>name</code> attributes.
+	 */
+	static Set<String> anchors(String html) {
+		var anchors = new HashSet<String>();
+		var matcher = ANCHOR.matcher(html);
+		while (matcher.find()) {
+			var value = matcher.group(1) == null ? matcher.group(2) : matcher.group(1);
+			anchors.add(unescape(value));
+		}
+		return anchors;
+	}
+
+	private static String unescape(String s) {
+		if (s.indexOf('&') == -1) {
+			return s;
+		}
+		return s.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&#39;", "'")
+				.replace("&amp;", "&");
+	}
+
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.util.List;
+
+/**
+ * Set of links which have been added, removed or changed between two states of
+ * a link catalogue.
+ */
+public final class LinkDelta {
+
+	private final List<ElementLink> added;
+	private final List<ElementLink> removed;
+	private final List<ElementLink> changed;
+
+	LinkDelta(List<ElementLink> added, List<ElementLink> removed, List<ElementLink> changed) {
+		this.added = List.copyOf(added);
+		this.removed = List.copyOf(removed);
+		this.changed = List.copyOf(changed);
+	}
+
+	/**
+	 * @return links of new elements
+	 */
+	public List<ElementLink> getAdded() {
+		return added;
+	}
+
+	/**
+	 * @return links of elements which do not exist any more
+	 */
+	public List<ElementLink> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * @return new links of existing elements where the link has changed, e.g.
+	 *         because a method became a vararg method
+	 */
+	public List<ElementLink> getChanged() {
+		return changed;
+	}
+
+	/**
+	 * @return <code>true</code> if there are no differences at all
+	 */
+	public boolean isEmpty() {
+		return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "added=" + added + ", removed=" + removed + ", changed=" + changed;
+	}
+
+}
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.IOException;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Links of a Javadoc tree as recorded by the doclet
+ * <code>io.javaalmanac.javadoclink.doclet.ManifestDoclet</code> while the tree
+ * was generated. Other than {@link JavaDocLink} the links are not derived
+ * from the layout of a Javadoc version but looked up, so they are exact for
+ * every element contained in the manifest. Queries for other elements return
+ * <code>null</code>.
+ * <p>
+ * The manifest file is memory-mapped and not read into the heap. It starts
+ * with an open addressing hash table of element fingerprints which refers to
+ * the page paths and anchors, each string stored once. A query computes the
+ * fingerprint of the element and decodes the strings of the matching entry
+ * only. Instances are thread-safe.
+ */
+public final class LinkManifest {
+
+	private static final int MAGIC = 0x4A444C4D;
+	private static final int FORMAT = 2;
+	private static final int HEADER_SIZE = 12;
+	private static final int SLOT_SIZE = 16;
+	private static final int NO_ANCHOR = -1;
+
+	private final ByteBuffer buffer;
+	private final int capacity;
+	private final String base;
+
+	private LinkManifest(ByteBuffer buffer, int capacity, String base) {
+		this.buffer = buffer;
+		this.capacity = capacity;
+		this.base = base;
+	}
+
+	/**
+	 * Opens the given manifest file.
+	 *
+	 * @param file manifest file written by the <code>ManifestDoclet</code>
+	 * @return manifest with relative links
+	 * @throws IOException if the file can't be read or is not a manifest
+	 */
+	public static LinkManifest open(Path file) throws IOException {
+		ByteBuffer buffer;
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+			throw new IOException("Not a link manifest: " + file);
+		}
+		var capacity = buffer.getInt(8);
+		if (Integer.bitCount(capacity) != 1 || HEADER_SIZE + (long) capacity * SLOT_SIZE > buffer.limit()) {
+			throw new IOException("Corrupt link manifest: " + file);
+		}
+		return new LinkManifest(buffer, capacity, "");
+	}
+
+	/**
+	 * Writes a manifest file for the given links.
+	 *
+	 * @param file  target file
+	 * @param links relative links including anchors
+	 * @throws IOException if the file can't be written
+	 */
+	public static void write(Path file, List<ElementLink> links) throws IOException {
+		var capacity = LongHashTable.capacity(links.size());
+		var strings = new StringTable(HEADER_SIZE + capacity * SLOT_SIZE);
+		var table = ByteBuffer.allocate(HEADER_SIZE + capacity * SLOT_SIZE);
+		table.putInt(MAGIC).putInt(FORMAT).putInt(capacity);
+		for (var link : links) {
+			var key = LongHashTable.nonZero(ElementFingerprint.of(link.getElement()));
+			var slot = LongHashTable.slot(key, capacity);
+			while (table.getLong(slotOffset(slot)) != 0 && table.getLong(slotOffset(slot)) != key) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+			var url = link.getLink();
+			var sep = url.indexOf('#');
+			var offset = slotOffset(slot);
+			table.putLong(offset, key);
+			table.putInt(offset + 8, strings.offset(sep == -1 ? url : url.substring(0, sep)));
+			table.putInt(offset + 12, sep == -1 ? NO_ANCHOR : strings.offset(url.substring(sep + 1)));
+		}
+		try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			table.clear();
+			while (table.hasRemaining()) {
+				channel.write(table);
+			}
+			var data = ByteBuffer.wrap(strings.bytes, 0, strings.size);
+			while (data.hasRemaining()) {
+				channel.write(data);
+			}
+		}
+	}
+
+	/**
+	 * Strings stored once each with a two byte length prefix.
+	 */
+	private static class StringTable {
+
+		private final int start;
+		private final HashMap<String, Integer> offsets = new HashMap<>();
+		byte[] bytes = new byte[1 << 12];
+		int size;
+
+		StringTable(int start) {
+			this.start = start;
+		}
+
+		int offset(String s) {
+			var offset = offsets.get(s);
+			if (offset == null) {
+				var utf8 = s.getBytes(StandardCharsets.UTF_8);
+				if (utf8.length > 0xFFFF) {
+					throw new IllegalArgumentException("Link too long: " + s);
+				}
+				while (size + 2 + utf8.length > bytes.length) {
+					bytes = Arrays.copyOf(bytes, bytes.length * 2);
+				}
+				offset = start + size;
+				bytes[size++] = (byte) (utf8.length >>> 8);
+				bytes[size++] = (byte) utf8.length;
+				System.arraycopy(utf8, 0, bytes, size, utf8.length);
+				size += utf8.length;
+				offsets.put(s, offset);
+			}
+			return offset;
+		}
+	}
+
+	private static int slotOffset(int slot) {
+		return HEADER_SIZE + slot * SLOT_SIZE;
+	}
+
+	/**
+	 * Creates a view of this manifest which prefixes all links with the given
+	 * base URL. The file is mapped only once.
+	 *
+	 * @param baseurl URL of the Javadoc tree
+	 * @return new instance working with the given base URL
+	 */
+	public LinkManifest withBaseUrl(String baseurl) {
+		var base = baseurl.isEmpty() || baseurl.endsWith("/") ? baseurl : baseurl + "/";
+		return new LinkManifest(buffer, capacity, base);
+	}
+
+	/**
+	 * Link for the given element.
+	 *
+	 * @param element language element
+	 * @return link or <code>null</code> if the element is not contained
+	 */
+	public String link(JavaDocElement element) {
+		return lookup(ElementFingerprint.of(element));
+	}
+
+	/**
+	 * Link to the overview page of a module.
+	 *
+	 * @param modulename name in dot notation
+	 * @return link or <code>null</code> if the module is not contained
+	 */
+	public String moduleLink(String modulename) {
+		return lookup(ElementFingerprint.ofModule(modulename));
+	}
+
+	/**
+	 * Link to the overview page of a package.
+	 *
+	 * @param modulename  name in dot notation or <code>null</code> for the
+	 *                    unnamed module
+	 * @param packagename name in JVM internal notation
+	 * @return link or <code>null</code> if the package is not contained
+	 */
+	public String packageLink(String modulename, String packagename) {
+		return lookup(ElementFingerprint.ofPackage(modulename, packagename));
+	}
+
+	/**
+	 * Link to the page of a type.
+	 *
+	 * @param modulename name in dot notation or <code>null</code> for the
+	 *                   unnamed module
+	 * @param classname  name in JVM internal notation
+	 * @return link or <code>null</code> if the type is not contained
+	 */
+	public String classLink(String modulename, String classname) {
+		return lookup(ElementFingerprint.ofClass(modulename, classname));
+	}
+
+	/**
+	 * Link to the page of a type.
+	 *
+	 * @param cls type
+	 * @return link or <code>null</code> if the type is not contained
+	 */
+	public String classLink(Class<?> cls) {
+		return lookup(ElementFingerprint.ofClass(cls));
+	}
+
+	/**
+	 * Link to a method or constructor.
+	 *
+	 * @param modulename name in dot notation or <code>null</code> for the
+	 *                   unnamed module
+	 * @param classname  name in JVM internal notation
+	 * @param methodname name of the method or <code>&lt;init&gt;</code> for
+	 *                   constructors
+	 * @param desc       JVM method descriptor
+	 * @return link or <code>null</code> if the method is not contained
+	 */
+	public String methodLink(String modulename, String classname, String methodname, String desc) {
+		return lookup(ElementFingerprint.ofMethod(modulename, classname, methodname, desc));
+	}
+
+	/**
+	 * Link to a method or constructor.
+	 *
+	 * @param executable method or constructor
+	 * @return link or <code>null</code> if the method is not contained
+	 */
+	public String methodLink(Executable executable) {
+		return lookup(ElementFingerprint.ofMethod(executable));
+	}
+
+	/**
+	 * Link to a field.
+	 *
+	 * @param modulename name in dot notation or <code>null</code> for the
+	 *                   unnamed module
+	 * @param classname  name in JVM internal notation
+	 * @param fieldname  field name
+	 * @return link or <code>null</code> if the field is not contained
+	 */
+	public String fieldLink(String modulename, String classname, String fieldname) {
+		return lookup(ElementFingerprint.ofField(modulename, classname, fieldname));
+	}
+
+	/**
+	 * Link to a field.
+	 *
+	 * @param field field
+	 * @return link or <code>null</code> if the field is not contained
+	 */
+	public String fieldLink(Field field) {
+		return lookup(ElementFingerprint.ofField(field));
+	}
+
+	private String lookup(long fingerprint) {
+		var key = LongHashTable.nonZero(fingerprint);
+		for (var slot = LongHashTable.slot(key, capacity);; slot = (slot + 1) & (capacity - 1)) {
+			var offset = slotOffset(slot);
+			var k = buffer.getLong(offset);
+			if (k == 0) {
+				return null;
+			}
+			if (k == key) {
+				var anchor = buffer.getInt(offset + 12);
+				var page = base + string(buffer.getInt(offset + 8));
+				return anchor == NO_ANCHOR ? page : page + "#" + string(anchor);
+			}
+		}
+	}
+
+	private String string(int offset) {
+		var length = buffer.getShort(offset) & 0xFFFF;
+		var bytes = new byte[length];
+		buffer.duplicate().position(offset + 2).get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
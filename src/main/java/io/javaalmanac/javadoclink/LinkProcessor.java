@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Flow.Processor} which creates links for a stream of
+ * {@link JavaDocElement}s. Elements are collected in batches and the batches
+ * are rendered in parallel on the given {@link Executor}. Links are emitted in
+ * the order of the incoming elements or, optionally, as soon as a batch is
+ * rendered.
+ * <p>
+ * Demand is requested from upstream in batches and only when rendered links
+ * have been handed over to the subscribers. So there are never more than
+ * <code>parallelism * batchSize</code> elements in flight plus the buffers of
+ * the subscribers, which are limited to <code>bufferCapacity</code>. As
+ * emitting threads block while subscriber buffers are full, the executor must
+ * be able to deliver links concurrently, e.g. a {@link ForkJoinPool}.
+ * <p>
+ * For continuous sources a partial batch is rendered when its first element
+ * has waited for the maximum latency, so the end of a burst is emitted without
+ * waiting for further elements or completion.
+ */
+public final class LinkProcessor extends SubmissionPublisher<ElementLink>
+		implements Flow.Processor<JavaDocElement, ElementLink> {
+
+	private final JavaDocLink jdl;
+	private final Executor executor;
+	private final int batchSize;
+	private final int parallelism;
+	private final boolean ordered;
+	private final long maxLatencyNanos;
+	private final Object emitLock = new Object();
+	private final Object batchLock = new Object();
+
+	private Flow.Subscription subscription;
+	private List<JavaDocElement> batch;
+	private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+	/**
+	 * Creates a processor with ordered emission, batches of 256 elements, a
+	 * maximum latency of 100 ms and rendering on the common pool with its
+	 * parallelism.
+	 *
+	 * @param jdl instance to create links with
+	 */
+	public LinkProcessor(JavaDocLink jdl) {
+		this(jdl, ForkJoinPool.commonPool(), Flow.defaultBufferSize(), 256, ForkJoinPool.getCommonPoolParallelism(),
+				true);
+	}
+
+	/**
+	 * Creates a processor with the given configuration and a maximum latency
+	 * of 100 ms.
+	 *
+	 * @param jdl            instance to create links with
+	 * @param executor       executor for rendering and delivery to subscribers
+	 * @param bufferCapacity maximum buffer capacity for each subscriber
+	 * @param batchSize      number of elements rendered together
+	 * @param parallelism    maximum number of batches rendered concurrently
+	 * @param ordered        whether links are emitted in the order of the
+	 *                       incoming elements
+	 */
+	public LinkProcessor(JavaDocLink jdl, Executor executor, int bufferCapacity, int batchSize, int parallelism,
+			boolean ordered) {
+		this(jdl, executor, bufferCapacity, batchSize, parallelism, ordered, Duration.ofMillis(100));
+	}
+
+	/**
+	 * Creates a processor with the given configuration.
+	 *
+	 * @param jdl            instance to create links with
+	 * @param executor       executor for rendering and delivery to subscribers
+	 * @param bufferCapacity maximum buffer capacity for each subscriber
+	 * @param batchSize      number of elements rendered together
+	 * @param parallelism    maximum number of batches rendered concurrently
+	 * @param ordered        whether links are emitted in the order of the
+	 *                       incoming elements
+	 * @param maxLatency     maximum time an element waits for its batch to
+	 *                       fill up
+	 */
+	public LinkProcessor(JavaDocLink jdl, Executor executor, int bufferCapacity, int batchSize, int parallelism,
+			boolean ordered, Duration maxLatency) {
+		super(executor, bufferCapacity);
+		if (batchSize < 1 || parallelism < 1) {
+			throw new IllegalArgumentException("batchSize and parallelism must be positive");
+		}
+		if (maxLatency.isNegative() || maxLatency.isZero()) {
+			throw new IllegalArgumentException("maxLatency must be positive");
+		}
+		this.maxLatencyNanos = maxLatency.toNanos();
+		this.jdl = jdl;
+		this.executor = executor;
+		this.batchSize = batchSize;
+		this.parallelism = parallelism;
+		this.ordered = ordered;
+		this.batch = new ArrayList<>(batchSize);
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		if (this.subscription != null) {
+			subscription.cancel();
+			return;
+		}
+		this.subscription = subscription;
+		subscription.request((long) batchSize * parallelism);
+	}
+
+	@Override
+	public void onNext(JavaDocElement item) {
+		synchronized (batchLock) {
+			batch.add(item);
+			if (batch.size() == batchSize) {
+				dispatch();
+			} else if (batch.size() == 1) {
+				var current = batch;
+				CompletableFuture.delayedExecutor(maxLatencyNanos, TimeUnit.NANOSECONDS, executor)
+						.execute(() -> flush(current));
+			}
+		}
+	}
+
+	/**
+	 * Renders the given batch if it is still incomplete.
+	 */
+	private void flush(List<JavaDocElement> expected) {
+		synchronized (batchLock) {
+			if (batch == expected && !batch.isEmpty()) {
+				dispatch();
+			}
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		synchronized (batchLock) {
+			pending.whenComplete((v, t) -> closeExceptionally(throwable));
+		}
+	}
+
+	@Override
+	public void onComplete() {
+		synchronized (batchLock) {
+			if (!batch.isEmpty()) {
+				dispatch();
+			}
+			pending.whenComplete((v, t) -> {
+				if (t == null) {
+					close();
+				}
+			});
+		}
+	}
+
+	private void dispatch() {
+		var elements = batch;
+		batch = new ArrayList<>(batchSize);
+		var rendered = CompletableFuture.supplyAsync(() -> render(elements), executor);
+		CompletableFuture<Void> emitted;
+		// emission may block and must not run on this thread which holds the batch lock
+		if (ordered) {
+			emitted = pending.thenCompose(v -> rendered).thenAcceptAsync(this::emit, executor);
+		} else {
+			emitted = rendered.thenAcceptAsync(this::emitSynchronized, executor);
+			emitted = CompletableFuture.allOf(pending, emitted);
+		}
+		pending = emitted.whenComplete((v, t) -> {
+			if (t != null) {
+				subscription.cancel();
+				closeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+			}
+		});
+	}
+
+	private List<ElementLink> render(List<JavaDocElement> elements) {
+		var links = new ArrayList<ElementLink>(elements.size());
+		for (var element : elements) {
+			links.add(new ElementLink(element, element.link(jdl)));
+		}
+		return links;
+	}
+
+	private void emitSynchronized(List<ElementLink> links) {
+		synchronized (emitLock) {
+			emit(links);
+		}
+	}
+
+	private void emit(List<ElementLink> links) {
+		for (var link : links) {
+			submit(link);
+		}
+		subscription.request(links.size());
+	}
+
+}
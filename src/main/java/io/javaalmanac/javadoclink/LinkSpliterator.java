@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.module.ModuleDescriptor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Splittable source of the links of a module, a package or a type. The items
+ * of the source are module and package elements, which are emitted directly,
+ * and types. Types are loaded and expanded into their documented members only
+ * when they are reached, so loading and reflection happens in parallel. The
+ * class page link is rendered once per type and reused for all members.
+ * <p>
+ * Splits happen on the item range first. Once only a single type is left the
+ * member list of that type is split.
+ */
+final class LinkSpliterator implements Spliterator<ElementLink> {
+
+	private static final int ESTIMATED_MEMBERS = 16;
+
+	private final JavaDocLink jdl;
+	private final Module module;
+	private final Object[] items;
+	private int index;
+	private int fence;
+
+	private List<JavaDocElement> members;
+	private String classlink;
+	private int memberIndex;
+	private int memberFence;
+
+	private LinkSpliterator(JavaDocLink jdl, Module module, Object[] items, int index, int fence) {
+		this.jdl = jdl;
+		this.module = module;
+		this.items = items;
+		this.index = index;
+		this.fence = fence;
+	}
+
+	static LinkSpliterator ofClass(JavaDocLink jdl, Class<?> cls) {
+		return new LinkSpliterator(jdl, cls.getModule(), new Object[] { cls }, 0, 1);
+	}
+
+	static LinkSpliterator ofPackage(JavaDocLink jdl, Module module, String packagename) {
+		var classes = classesByPackage(module).getOrDefault(packagename, List.of());
+		var items = new ArrayList<Object>(classes.size() + 1);
+		items.add(JavaDocElement.ofPackage(module.getName(), packagename));
+		items.addAll(classes);
+		return new LinkSpliterator(jdl, module, items.toArray(), 0, items.size());
+	}
+
+	static LinkSpliterator ofModule(JavaDocLink jdl, Module module) {
+		var classes = classesByPackage(module);
+		var items = new ArrayList<Object>();
+		try {
+			jdl.moduleLink(module.getName());
+			items.add(JavaDocElement.ofModule(module.getName()));
+		} catch (UnsupportedOperationException e) {
+			// No module pages before Java 9
+		}
+		var packages = module.getDescriptor().exports().stream().filter(e -> !e.isQualified())
+				.map(ModuleDescriptor.Exports::source).sorted().collect(Collectors.toList());
+		for (var pkg : packages) {
+			var packagename = pkg.replace('.', '/');
+			items.add(JavaDocElement.ofPackage(module.getName(), packagename));
+			items.addAll(classes.getOrDefault(packagename, List.of()));
+		}
+		return new LinkSpliterator(jdl, module, items.toArray(), 0, items.size());
+	}
+
+	/**
+	 * Lists the class files of the given module as class elements grouped by
+	 * package and sorted by name.
+	 */
+	private static Map<String, List<JavaDocElement>> classesByPackage(Module module) {
+		if (!module.isNamed() || module.getLayer() == null) {
+			throw new IllegalArgumentException("Named module required: " + module);
+		}
+		var resolved = module.getLayer().configuration().findModule(module.getName()).orElseThrow();
+		var result = new TreeMap<String, List<JavaDocElement>>();
+		try (var reader = resolved.reference().open(); var entries = reader.list()) {
+			entries.filter(e -> e.endsWith(".class") && !e.endsWith("module-info.class")).sorted().forEach(e -> {
+				var classname = e.substring(0, e.length() - ".class".length());
+				var sep = classname.lastIndexOf('/');
+				var packagename = sep == -1 ? "" : classname.substring(0, sep);
+				result.computeIfAbsent(packagename, p -> new ArrayList<>())
+						.add(JavaDocElement.ofClass(module.getName(), classname));
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return result;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super ElementLink> action) {
+		while (members == null || memberIndex == memberFence) {
+			if (index == fence) {
+				return false;
+			}
+			var item = items[index++];
+			if (item instanceof Class) {
+				expand((Class<?>) item);
+			} else {
+				var element = (JavaDocElement) item;
+				if (element.getKind() == JavaDocElement.Kind.CLASS) {
+					var cls = load(element);
+					if (cls != null) {
+						expand(cls);
+					}
+				} else {
+					action.accept(new ElementLink(element, element.link(jdl)));
+					return true;
+				}
+			}
+		}
+		var member = members.get(memberIndex++);
+		action.accept(new ElementLink(member, memberLink(member)));
+		return true;
+	}
+
+	@Override
+	public Spliterator<ElementLink> trySplit() {
+		if (fence - index > 1) {
+			var mid = (index + fence) >>> 1;
+			var prefix = new LinkSpliterator(jdl, module, items, index, mid);
+			prefix.members = members;
+			prefix.classlink = classlink;
+			prefix.memberIndex = memberIndex;
+			prefix.memberFence = memberFence;
+			members = null;
+			index = mid;
+			return prefix;
+		}
+		if (fence - index == 1 && members == null && items[index] instanceof Class) {
+			expand((Class<?>) items[index++]);
+		}
+		if (index == fence && members != null && memberFence - memberIndex > 1) {
+			var mid = (memberIndex + memberFence) >>> 1;
+			var prefix = new LinkSpliterator(jdl, module, items, fence, fence);
+			prefix.members = members;
+			prefix.classlink = classlink;
+			prefix.memberIndex = memberIndex;
+			prefix.memberFence = mid;
+			memberIndex = mid;
+			return prefix;
+		}
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		var size = (long) (fence - index) * ESTIMATED_MEMBERS;
+		return members == null ? size : size + memberFence - memberIndex;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL | IMMUTABLE;
+	}
+
+	/**
+	 * The built-in implementation appends the anchor to the class link which
+	 * has been rendered for the type, other implementations create every
+	 * link through the interface.
+	 */
+	private String memberLink(JavaDocElement member) {
+		if (jdl instanceof JavaDocLinkImpl) {
+			return ((JavaDocLinkImpl) jdl).memberLink(classlink, member);
+		}
+		return member.link(jdl);
+	}
+
+	private Class<?> load(JavaDocElement element) {
+		try {
+			return Class.forName(module, element.getClassName().replace('/', '.'));
+		} catch (LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets the member list to the documented type itself followed by its
+	 * documented members. Undocumented types result in an empty list.
+	 */
+	private void expand(Class<?> type) {
+		var list = new ArrayList<JavaDocElement>();
+		if (isDocumented(type)) {
+			var classname = type.getName().replace('.', '/');
+			classlink = jdl.classLink(type.getModule().getName(), classname);
+			list.add(JavaDocElement.ofClass(type.getModule().getName(), classname));
+			try {
+				list.addAll(MemberResolver.documentedMembers(type));
+			} catch (LinkageError e) {
+				// Member signatures refer to types which are not available
+			}
+		}
+		members = list;
+		memberIndex = 0;
+		memberFence = list.size();
+	}
+
+	private static boolean isDocumented(Class<?> type) {
+		for (var t = type; t != null; t = t.getDeclaringClass()) {
+			if (t.isSynthetic() || t.isAnonymousClass() || t.isLocalClass()
+					|| (t.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Translates links created for one Javadoc layout into links for another
+ * layout, e.g. from Java 8 to Java 11. Links are parsed with the tokens of the
+ * source layout. Module names which are not part of the source links are
+ * resolved for the types of the Java runtime.
+ * <p>
+ * Besides single links whole texts and files can be translated. Within texts
+ * links are identified by the base URL of the source {@link JavaDocLink}
+ * instance, which therefore must not be empty. Instances are thread-safe.
+ */
+public final class LinkTranslator {
+
+	/**
+	 * File extensions of the text files translated by
+	 * {@link #translateFiles(Path, Path, int)}.
+	 */
+	public static final Set<String> TEXT_EXTENSIONS = Set.of("html", "htm", "xhtml", "xml", "md", "markdown", "txt",
+			"adoc", "rst", "css", "js", "json", "properties", "java");
+
+	private final JavaDocLinkImpl source;
+	private final JavaDocLink target;
+	private final MethodParameterStrategy params;
+	private final boolean flat;
+	private final boolean modulePaths;
+	private final boolean targetModulePaths;
+
+	/**
+	 * Creates a translator for the given layouts.
+	 *
+	 * @param source instance links have been created with, including the base URL
+	 * @param target instance to create new links with
+	 * @throws IllegalArgumentException if the source has not been created by
+	 *                                  {@link JavaDocLink#forVersion(String)}
+	 *                                  or derived from such an instance
+	 */
+	public LinkTranslator(JavaDocLink source, JavaDocLink target) {
+		this.source = JavaDocLinkImpl.of(source);
+		this.target = target;
+		this.params = this.source.getParameterStrategy();
+		var probe = this.source.withoutPage().withBaseUrl("").classLink("m", "p/C");
+		this.flat = probe.equals("p.C.html");
+		this.modulePaths = probe.startsWith("m/");
+		this.targetModulePaths = target.withBaseUrl("").classLink("m", "p/C").endsWith("m/p/C.html");
+	}
+
+	/**
+	 * Translates a single link.
+	 *
+	 * @param link link created for the source layout
+	 * @return link for the target layout or <code>null</code> if the link can't
+	 *         be translated
+	 */
+	public String translate(String link) {
+		var base = source.getBase();
+		if (!link.startsWith(base)) {
+			return null;
+		}
+		var element = parse(link.substring(base.length()));
+		if (element == null || (element.getModuleName() == null && targetModulePaths)) {
+			return null;
+		}
+		try {
+			return element.link(target);
+		} catch (UnsupportedOperationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Translates all links within the given text. Links which can't be translated
+	 * remain unchanged.
+	 *
+	 * @param text text containing links
+	 * @return text with translated links
+	 */
+	public String translateText(CharSequence text) {
+		var out = new StringBuilder(text.length());
+		translateText(text, out);
+		return out.toString();
+	}
+
+	/**
+	 * Translates all links of the given reader and writes the result to the given
+	 * writer. The content is processed line by line, line terminators are
+	 * written as read.
+	 *
+	 * @param in  text source
+	 * @param out text target
+	 * @return number of translated links
+	 * @throws IOException if reading or writing fails
+	 */
+	public int translate(BufferedReader in, Writer out) throws IOException {
+		var count = 0;
+		var line = new StringBuilder();
+		var buffer = new StringBuilder();
+		for (var c = in.read(); c != -1; c = in.read()) {
+			line.append((char) c);
+			if (c == '\n') {
+				count += translateLine(line, buffer, out);
+			}
+		}
+		if (line.length() > 0) {
+			count += translateLine(line, buffer, out);
+		}
+		return count;
+	}
+
+	private int translateLine(StringBuilder line, StringBuilder buffer, Writer out) throws IOException {
+		buffer.setLength(0);
+		var count = translateText(line, buffer);
+		out.append(buffer);
+		line.setLength(0);
+		return count;
+	}
+
+	/**
+	 * Translates all files in the source directory in parallel and writes them to
+	 * the same relative path in the target directory. Only text files with one of
+	 * the extensions in {@link #TEXT_EXTENSIONS} which are valid UTF-8 are
+	 * translated, line terminators are kept as they are. All other files and text
+	 * files without translated links are copied unchanged.
+	 *
+	 * @param sourceRoot  directory with the files to translate
+	 * @param targetRoot  directory to write the translated files to
+	 * @param parallelism number of files processed concurrently
+	 * @return number of translated links
+	 * @throws IOException if reading or writing fails
+	 */
+	public long translateFiles(Path sourceRoot, Path targetRoot, int parallelism) throws IOException {
+		List<Path> files;
+		try (var walk = Files.walk(sourceRoot)) {
+			files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+		}
+		var executor = Executors.newFixedThreadPool(parallelism);
+		try {
+			var results = new ArrayList<Future<Integer>>();
+			for (var file : files) {
+				var targetFile = targetRoot.resolve(sourceRoot.relativize(file).toString());
+				results.add(executor.submit(() -> translateFile(file, targetFile)));
+			}
+			var count = 0L;
+			for (var result : results) {
+				count += result.get();
+			}
+			return count;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			if (e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			}
+			throw new IOException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private int translateFile(Path file, Path targetFile) throws IOException {
+		Files.createDirectories(targetFile.toAbsolutePath().getParent());
+		if (isTextFile(file)) {
+			var bytes = Files.readAllBytes(file);
+			String text;
+			try {
+				text = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+			} catch (CharacterCodingException e) {
+				text = null;
+			}
+			if (text != null) {
+				var out = new StringBuilder(text.length());
+				var count = translateText(text, out);
+				if (count > 0) {
+					Files.writeString(targetFile, out, StandardCharsets.UTF_8);
+					return count;
+				}
+			}
+		}
+		Files.copy(file, targetFile, StandardCopyOption.REPLACE_EXISTING);
+		return 0;
+	}
+
+	private static boolean isTextFile(Path file) {
+		var name = file.getFileName().toString();
+		var dot = name.lastIndexOf('.');
+		return dot != -1 && TEXT_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+	}
+
+	private int translateText(CharSequence text, StringBuilder out) {
+		var base = source.getBase();
+		if (base.isEmpty()) {
+			throw new IllegalStateException("Base URL required for source links in texts.");
+		}
+		var count = 0;
+		var pos = 0;
+		var str = text.toString();
+		for (var start = str.indexOf(base); start != -1; start = str.indexOf(base, pos)) {
+			var end = linkEnd(str, start + base.length());
+			var translated = translate(str.substring(start, end));
+			out.append(str, pos, start);
+			if (translated == null) {
+				out.append(str, start, end);
+			} else {
+				out.append(translated);
+				count++;
+			}
+			pos = end;
+		}
+		out.append(str, pos, str.length());
+		return count;
+	}
+
+	/**
+	 * Finds the end of a link in a text. Within the parameter list of an anchor
+	 * spaces are allowed, as some layouts use <code>", "</code> as separator.
+	 */
+	private static int linkEnd(String text, int pos) {
+		var anchor = false;
+		var parameters = false;
+		for (; pos < text.length(); pos++) {
+			var c = text.charAt(pos);
+			if (parameters) {
+				if (c == ')') {
+					return pos + 1;
+				}
+				if (c == '\n' || c == '"' || c == '\'' || c == '<' || c == '>') {
+					return pos;
+				}
+				continue;
+			}
+			if (Character.isWhitespace(c) || c == '"' || c == '\'' || c == '<' || c == '>' || c == ')'
+					|| c == ']') {
+				return pos;
+			}
+			if (c == '#') {
+				anchor = true;
+			} else if (c == '(' && anchor) {
+				parameters = true;
+			}
+		}
+		return pos;
+	}
+
+	private JavaDocElement parse(String link) {
+		var hash = link.indexOf('#');
+		var page = hash == -1 ? link : link.substring(0, hash);
+		var anchor = hash == -1 ? null : link.substring(hash + 1);
+		if (!page.endsWith(".html")) {
+			return null;
+		}
+		page = page.substring(0, page.length() - ".html".length());
+
+		String modulename = null;
+		if (modulePaths) {
+			var sep = page.indexOf('/');
+			if (sep == -1) {
+				return null;
+			}
+			modulename = page.substring(0, sep);
+			page = page.substring(sep + 1);
+			if (page.equals("module-summary")) {
+				return anchor == null ? JavaDocElement.ofModule(modulename) : null;
+			}
+		} else if (!flat && page.indexOf('/') == -1) {
+			// Java 9 and 10 module pages like java.base-summary.html
+			if (page.endsWith("-summary") && !page.equals("overview-summary") && anchor == null) {
+				return JavaDocElement.ofModule(page.substring(0, page.length() - "-summary".length()));
+			}
+			return null;
+		}
+
+		String classname;
+		if (flat) {
+			if (page.startsWith("Package-")) {
+				var packagename = page.substring("Package-".length()).replace('.', '/');
+				return anchor == null ? JavaDocElement.ofPackage(moduleOf(null, packagename), packagename) : null;
+			}
+			classname = ReferenceParser.resolveType(page.replace('$', '.'));
+			if (classname == null) {
+				classname = page.replace('.', '/');
+			}
+		} else {
+			if (page.endsWith("/package-summary")) {
+				var packagename = page.substring(0, page.length() - "/package-summary".length());
+				return anchor == null ? JavaDocElement.ofPackage(moduleOf(modulename, packagename), packagename)
+						: null;
+			}
+			var sep = page.lastIndexOf('/');
+			classname = page.substring(0, sep + 1) + page.substring(sep + 1).replace('.', '$');
+		}
+		var sep = classname.lastIndexOf('/');
+		modulename = moduleOf(modulename, sep == -1 ? "" : classname.substring(0, sep));
+		if (anchor == null) {
+			return JavaDocElement.ofClass(modulename, classname);
+		}
+		return parseMember(modulename, classname, anchor);
+	}
+
+	private JavaDocElement parseMember(String modulename, String classname, String anchor) {
+		var start = params.paramsStart(anchor);
+		if (start == -1) {
+			return JavaDocElement.ofField(modulename, classname, anchor);
+		}
+		var types = params.parse(anchor.substring(start));
+		if (types == null) {
+			return null;
+		}
+		var name = anchor.substring(0, start);
+		if (name.equals(source.constructorName(classname))) {
+			name = "<init>";
+		}
+		var desc = new StringBuilder("(");
+		var vararg = false;
+		for (var type : types) {
+			vararg = type.endsWith("...");
+			if (vararg) {
+				type = type.substring(0, type.length() - 3) + "[]";
+			}
+			while (type.endsWith("[]")) {
+				desc.append('[');
+				type = type.substring(0, type.length() - 2);
+			}
+			var primitive = Descriptors.primitive(type);
+			if (primitive != 0) {
+				desc.append(primitive);
+			} else {
+				var internal = ReferenceParser.resolveType(type);
+				desc.append('L').append(internal == null ? type.replace('.', '/') : internal).append(';');
+			}
+		}
+		// The return type is not part of the links:
+		desc.append(")V");
+		return JavaDocElement.ofMethod(modulename, classname, name, desc.toString(), vararg);
+	}
+
+	private static String moduleOf(String modulename, String packagename) {
+		return modulename != null ? modulename : PlatformIndex.get().moduleOf(packagename);
+	}
+
+}
@@ -0,0 +1,388 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * Maintains the links of all documented elements in class file directories and
+ * JAR files. Changes in the file system are detected with a
+ * {@link WatchService} and only the modified class files are re-read. Every
+ * change is published as a {@link LinkDelta}.
+ * <p>
+ * Events are processed by calling {@link #poll(long, TimeUnit)} or by running
+ * this instance in a separate thread.
+ */
+public final class LinkWatcher implements Runnable, Closeable {
+
+	private static final String CLASS_SUFFIX = ".class";
+	private static final String MODULE_INFO = "module-info.class";
+	private static final String JAR_SEPARATOR = "!/";
+
+	private static class Root {
+		final Path path;
+		final String modulename;
+		final boolean jar;
+
+		Root(Path path, String modulename, boolean jar) {
+			this.path = path;
+			this.modulename = modulename;
+			this.jar = jar;
+		}
+	}
+
+	private final JavaDocLink jdl;
+	private final Consumer<LinkDelta> listener;
+	private final WatchService watchService;
+
+	private final List<Root> roots = new ArrayList<>();
+	private final Map<WatchKey, Path> directories = new HashMap<>();
+
+	/** Class file location to the links of its elements */
+	private final Map<String, Map<String, ElementLink>> links = new HashMap<>();
+
+	/** CRCs of JAR entries to skip unchanged entries */
+	private final Map<String, Long> crcs = new HashMap<>();
+
+	/**
+	 * Creates a new watcher without any registered locations.
+	 *
+	 * @param jdl      instance used to create the links
+	 * @param listener receives all non-empty deltas
+	 * @throws IOException if the watch service can't be created
+	 */
+	public LinkWatcher(JavaDocLink jdl, Consumer<LinkDelta> listener) throws IOException {
+		this.jdl = jdl;
+		this.listener = listener;
+		this.watchService = FileSystems.getDefault().newWatchService();
+	}
+
+	/**
+	 * Registers a class file directory or a JAR file. All documented elements of
+	 * the location are immediately published as added links.
+	 *
+	 * @param location   class file directory or JAR file
+	 * @param modulename name of the module for all elements in this location, if
+	 *                   <code>null</code> the name is taken from
+	 *                   <code>module-info.class</code> if present
+	 * @throws IOException if the location can't be read
+	 */
+	public synchronized void register(Path location, String modulename) throws IOException {
+		location = location.toAbsolutePath().normalize();
+		var delta = new DeltaBuilder();
+		if (Files.isDirectory(location)) {
+			if (modulename == null) {
+				modulename = moduleName(location.resolve(MODULE_INFO));
+			}
+			var root = new Root(location, modulename, false);
+			roots.add(root);
+			registerTree(root, location, delta);
+		} else {
+			if (modulename == null) {
+				modulename = moduleNameFromJar(location);
+			}
+			var root = new Root(location, modulename, true);
+			roots.add(root);
+			var parent = location.getParent();
+			if (!directories.containsValue(parent)) {
+				directories.put(parent.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), parent);
+			}
+			updateJar(root, delta);
+		}
+		delta.publish();
+	}
+
+	/**
+	 * Returns the current links of all registered locations.
+	 *
+	 * @return list of all current links
+	 */
+	public synchronized List<ElementLink> getLinks() {
+		return links.values().stream().flatMap(m -> m.values().stream()).collect(Collectors.toList());
+	}
+
+	/**
+	 * Waits for file system changes and processes all pending changes.
+	 *
+	 * @param timeout maximum time to wait for the first change
+	 * @param unit    unit of the timeout
+	 * @return <code>true</code> if changes have been processed
+	 * @throws IOException          if a changed file can't be read
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean poll(long timeout, TimeUnit unit) throws IOException, InterruptedException {
+		var key = watchService.poll(timeout, unit);
+		if (key == null) {
+			return false;
+		}
+		synchronized (this) {
+			var delta = new DeltaBuilder();
+			var changed = new LinkedHashMap<Path, Boolean>();
+			for (; key != null; key = watchService.poll()) {
+				var dir = directories.get(key);
+				for (var event : key.pollEvents()) {
+					if (event.kind() == OVERFLOW || dir == null) {
+						rescan(delta);
+						changed.clear();
+						break;
+					}
+					changed.put(dir.resolve((Path) event.context()), Boolean.valueOf(event.kind() == ENTRY_DELETE));
+				}
+				if (!key.reset()) {
+					directories.remove(key);
+				}
+			}
+			for (var entry : changed.entrySet()) {
+				update(entry.getKey(), entry.getValue().booleanValue(), delta);
+			}
+			delta.publish();
+		}
+		return true;
+	}
+
+	/**
+	 * Processes changes until this watcher is closed or the thread is
+	 * interrupted.
+	 */
+	@Override
+	public void run() {
+		try {
+			while (true) {
+				poll(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			}
+		} catch (ClosedWatchServiceException | InterruptedException e) {
+			// regular termination
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Stops watching all registered locations.
+	 */
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+	}
+
+	private void registerTree(Root root, Path dir, DeltaBuilder delta) throws IOException {
+		try (var files = Files.walk(dir)) {
+			for (var path : (Iterable<Path>) files::iterator) {
+				if (Files.isDirectory(path)) {
+					directories.put(path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), path);
+				} else if (isClassFile(path)) {
+					updateClassFile(root, path, delta);
+				}
+			}
+		}
+	}
+
+	private void rescan(DeltaBuilder delta) throws IOException {
+		for (var root : roots) {
+			if (root.jar) {
+				updateJar(root, delta);
+			} else {
+				var prefix = root.path.toString();
+				for (var location : new ArrayList<>(links.keySet())) {
+					if (location.startsWith(prefix) && !Files.exists(Path.of(location))) {
+						delta.update(location, List.of());
+					}
+				}
+				registerTree(root, root.path, delta);
+			}
+		}
+	}
+
+	private void update(Path path, boolean deleted, DeltaBuilder delta) throws IOException {
+		for (var root : roots) {
+			if (root.jar) {
+				if (root.path.equals(path)) {
+					updateJar(root, delta);
+				}
+			} else if (path.startsWith(root.path)) {
+				if (deleted || !Files.exists(path)) {
+					removeAll(path.toString(), delta);
+				} else if (Files.isDirectory(path)) {
+					registerTree(root, path, delta);
+				} else if (isClassFile(path)) {
+					updateClassFile(root, path, delta);
+				}
+			}
+		}
+	}
+
+	private void removeAll(String prefix, DeltaBuilder delta) {
+		for (var location : new ArrayList<>(links.keySet())) {
+			if (location.equals(prefix) || location.startsWith(prefix + File.separator)) {
+				delta.update(location, List.of());
+			}
+		}
+	}
+
+	private void updateClassFile(Root root, Path path, DeltaBuilder delta) throws IOException {
+		var elements = readElements(root.modulename, Files.readAllBytes(path));
+		if (elements != null) {
+			delta.update(path.toString(), elements);
+		}
+	}
+
+	private void updateJar(Root root, DeltaBuilder delta) throws IOException {
+		var prefix = root.path + JAR_SEPARATOR;
+		var current = new HashSet<String>();
+		if (Files.isRegularFile(root.path)) {
+			try (var zip = new ZipFile(root.path.toFile())) {
+				for (var entries = zip.entries(); entries.hasMoreElements();) {
+					var entry = entries.nextElement();
+					var name = entry.getName();
+					if (!name.endsWith(CLASS_SUFFIX) || name.startsWith("META-INF/")) {
+						continue;
+					}
+					var location = prefix + name;
+					current.add(location);
+					var crc = Long.valueOf(entry.getCrc());
+					if (crc.equals(crcs.get(location))) {
+						continue;
+					}
+					try (var in = zip.getInputStream(entry)) {
+						var elements = readElements(root.modulename, in.readAllBytes());
+						if (elements != null) {
+							crcs.put(location, crc);
+							delta.update(location, elements);
+						}
+					}
+				}
+			} catch (ZipException e) {
+				// JAR is currently being written, wait for next event
+				return;
+			}
+		}
+		for (var location : new ArrayList<>(links.keySet())) {
+			if (location.startsWith(prefix) && !current.contains(location)) {
+				crcs.remove(location);
+				delta.update(location, List.of());
+			}
+		}
+	}
+
+	private static List<JavaDocElement> readElements(String modulename, byte[] bytes) {
+		try {
+			return new ClassFileReader(bytes).getElements(modulename);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			// incomplete class file, wait for next event
+			return null;
+		}
+	}
+
+	private static boolean isClassFile(Path path) {
+		var name = path.getFileName().toString();
+		return name.endsWith(CLASS_SUFFIX) && !name.equals(MODULE_INFO);
+	}
+
+	private static String moduleName(Path moduleinfo) throws IOException {
+		if (!Files.isRegularFile(moduleinfo)) {
+			return null;
+		}
+		return new ClassFileReader(Files.readAllBytes(moduleinfo)).getModuleName();
+	}
+
+	private static String moduleNameFromJar(Path jar) throws IOException {
+		try (var zip = new ZipFile(jar.toFile())) {
+			var entry = zip.getEntry(MODULE_INFO);
+			if (entry == null) {
+				return null;
+			}
+			try (var in = zip.getInputStream(entry)) {
+				return new ClassFileReader(in.readAllBytes()).getModuleName();
+			}
+		}
+	}
+
+	private static String key(JavaDocElement element) {
+		var sb = new StringBuilder().append(element.getKind().ordinal()).append(element.getClassName());
+		if (element.getMemberName() != null) {
+			sb.append('#').append(element.getMemberName());
+		}
+		if (element.getDescriptor() != null) {
+			sb.append(element.getDescriptor());
+		}
+		return sb.toString();
+	}
+
+	private class DeltaBuilder {
+
+		private final List<ElementLink> added = new ArrayList<>();
+		private final List<ElementLink> removed = new ArrayList<>();
+		private final List<ElementLink> changed = new ArrayList<>();
+
+		void update(String location, List<JavaDocElement> elements) {
+			var oldlinks = links.remove(location);
+			if (oldlinks == null) {
+				oldlinks = Map.of();
+			}
+			var newlinks = new HashMap<String, ElementLink>();
+			for (var element : elements) {
+				var key = key(element);
+				var link = new ElementLink(element, element.link(jdl));
+				newlinks.put(key, link);
+				var old = oldlinks.get(key);
+				if (old == null) {
+					added.add(link);
+				} else if (!old.equals(link)) {
+					changed.add(link);
+				}
+			}
+			for (var old : oldlinks.entrySet()) {
+				if (!newlinks.containsKey(old.getKey())) {
+					removed.add(old.getValue());
+				}
+			}
+			if (!newlinks.isEmpty()) {
+				links.put(location, newlinks);
+			}
+		}
+
+		void publish() {
+			var delta = new LinkDelta(added, removed, changed);
+			if (!delta.isEmpty()) {
+				listener.accept(delta);
+			}
+		}
+	}
+
+}
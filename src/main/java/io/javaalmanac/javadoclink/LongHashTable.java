@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+/**
+ * Open addressing hash table with primitive <code>long</code> keys and values
+ * and linear probing. The key <code>0</code> is reserved to mark empty slots.
+ * Instances are not thread-safe.
+ */
+final class LongHashTable {
+
+	interface Visitor {
+		void visit(long key, long value);
+	}
+
+	private long[] keys;
+	private long[] values;
+	private int size;
+
+	LongHashTable(int expectedSize) {
+		var capacity = capacity(expectedSize);
+		keys = new long[capacity];
+		values = new long[capacity];
+	}
+
+	/**
+	 * Calculates the power of two table capacity for the given number of keys
+	 * with a maximum load factor of 0.5.
+	 */
+	static int capacity(int size) {
+		return Math.max(16, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+	}
+
+	/**
+	 * Start slot for the given key in a table with the given power of two
+	 * capacity.
+	 */
+	static int slot(long key, int capacity) {
+		var h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & (capacity - 1);
+	}
+
+	/**
+	 * Replaces the reserved key <code>0</code> with <code>1</code>.
+	 */
+	static long nonZero(long key) {
+		return key == 0 ? 1 : key;
+	}
+
+	int size() {
+		return size;
+	}
+
+	long get(long key, long defaultValue) {
+		var mask = keys.length - 1;
+		for (var i = slot(key, keys.length);; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				return values[i];
+			}
+			if (keys[i] == 0) {
+				return defaultValue;
+			}
+		}
+	}
+
+	void put(long key, long value) {
+		// index() may rehash, so the array must be read afterwards
+		var i = index(key);
+		values[i] = value;
+	}
+
+	void or(long key, long bits) {
+		var i = index(key);
+		values[i] |= bits;
+	}
+
+	void add(long key, long delta) {
+		var i = index(key);
+		values[i] += delta;
+	}
+
+	void forEach(Visitor visitor) {
+		for (var i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				visitor.visit(keys[i], values[i]);
+			}
+		}
+	}
+
+	private int index(long key) {
+		if (key == 0) {
+			throw new IllegalArgumentException("Reserved key 0");
+		}
+		if (size * 2 >= keys.length) {
+			rehash();
+		}
+		var mask = keys.length - 1;
+		for (var i = slot(key, keys.length);; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				return i;
+			}
+			if (keys[i] == 0) {
+				keys[i] = key;
+				size++;
+				return i;
+			}
+		}
+	}
+
+	private void rehash() {
+		var oldkeys = keys;
+		var oldvalues = values;
+		keys = new long[oldkeys.length * 2];
+		values = new long[oldkeys.length * 2];
+		var mask = keys.length - 1;
+		for (var j = 0; j < oldkeys.length; j++) {
+			if (oldkeys[j] != 0) {
+				var i = slot(oldkeys[j], keys.length);
+				while (keys[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = oldkeys[j];
+				values[i] = oldvalues[j];
+			}
+		}
+	}
+
+}
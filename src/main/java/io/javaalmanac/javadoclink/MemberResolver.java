@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the type where a member is documented. This is the declaring type
+ * for members of public or protected types. Public members of non-public types
+ * are documented in the public subtypes which inherit them.
+ * <p>
+ * The member table of every type contains its declared and all inherited
+ * documented members, indexed by name and descriptor. The tables are computed
+ * once per type and cached in a {@link ClassValue}. As they are immutable
+ * after creation lookups are thread-safe and do not allocate.
+ */
+final class MemberResolver {
+
+	/**
+	 * Resolved member with the type which documents it.
+	 */
+	static final class Resolved {
+
+		final Class<?> owner;
+		final int modifiers;
+		final boolean vararg;
+
+		Resolved(Class<?> owner, int modifiers, boolean vararg) {
+			this.owner = owner;
+			this.modifiers = modifiers;
+			this.vararg = vararg;
+		}
+
+		Resolved withOwner(Class<?> owner) {
+			return new Resolved(owner, modifiers, vararg);
+		}
+	}
+
+	private static final String CONSTRUCTOR = "<init>";
+
+	private static final ClassValue<MemberResolver> TABLES = new ClassValue<MemberResolver>() {
+		@Override
+		protected MemberResolver computeValue(Class<?> type) {
+			return new MemberResolver(type);
+		}
+	};
+
+	private final Map<String, Map<String, Resolved>> methods = new HashMap<>();
+	private final Map<String, Resolved> fields = new HashMap<>();
+
+	private MemberResolver(Class<?> type) {
+		for (var field : type.getDeclaredFields()) {
+			if (isDocumented(field)) {
+				fields.put(field.getName(), new Resolved(type, field.getModifiers(), false));
+			}
+		}
+		for (var ctor : type.getDeclaredConstructors()) {
+			if (isDocumented(ctor)) {
+				put(CONSTRUCTOR, Descriptors.of(ctor), new Resolved(type, ctor.getModifiers(), ctor.isVarArgs()));
+			}
+		}
+		for (var method : type.getDeclaredMethods()) {
+			if (isDocumented(method) && !method.isBridge()) {
+				put(method.getName(), Descriptors.of(method),
+						new Resolved(type, method.getModifiers(), method.isVarArgs()));
+			}
+		}
+		inherit(type, type.getSuperclass());
+		for (var itf : type.getInterfaces()) {
+			inherit(type, itf);
+		}
+	}
+
+	private void put(String name, String desc, Resolved resolved) {
+		methods.computeIfAbsent(name, n -> new HashMap<>()).putIfAbsent(desc, resolved);
+	}
+
+	private void inherit(Class<?> type, Class<?> parent) {
+		if (parent == null) {
+			return;
+		}
+		var table = TABLES.get(parent);
+		for (var field : table.fields.entrySet()) {
+			fields.putIfAbsent(field.getKey(), documentedIn(type, field.getValue()));
+		}
+		for (var method : table.methods.entrySet()) {
+			if (CONSTRUCTOR.equals(method.getKey())) {
+				continue;
+			}
+			for (var overload : method.getValue().entrySet()) {
+				var resolved = overload.getValue();
+				// static interface methods are not inherited:
+				if (!(parent.isInterface() && Modifier.isStatic(resolved.modifiers))) {
+					put(method.getKey(), overload.getKey(), documentedIn(type, resolved));
+				}
+			}
+		}
+	}
+
+	private static Resolved documentedIn(Class<?> type, Resolved resolved) {
+		if (isDocumented(resolved.owner) || !isDocumented(type)) {
+			return resolved;
+		}
+		return resolved.withOwner(type);
+	}
+
+	private static boolean isDocumented(Class<?> type) {
+		return (type.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED)) != 0;
+	}
+
+	private static boolean isDocumented(Member member) {
+		return !member.isSynthetic() && (member.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED)) != 0;
+	}
+
+	/**
+	 * Resolves a method or constructor declared in or inherited by the given type.
+	 *
+	 * @param type       type used to reference the method
+	 * @param methodname method name or <code>&lt;init&gt;</code>
+	 * @param desc       JVM method descriptor
+	 * @return resolved method or <code>null</code> if no documented method exists
+	 */
+	static Resolved method(Class<?> type, String methodname, String desc) {
+		var overloads = TABLES.get(type).methods.get(methodname);
+		return overloads == null ? null : overloads.get(desc);
+	}
+
+	/**
+	 * Resolves a field declared in or inherited by the given type.
+	 *
+	 * @param type      type used to reference the field
+	 * @param fieldname field name
+	 * @return resolved field or <code>null</code> if no documented field exists
+	 */
+	static Resolved field(Class<?> type, String fieldname) {
+		return TABLES.get(type).fields.get(fieldname);
+	}
+
+	/**
+	 * Lists all fields, constructors and methods which are documented on the
+	 * class page of the given type, including public members inherited from
+	 * non-public super types. The list is sorted by kind, name and descriptor.
+	 *
+	 * @param type type to list members of
+	 * @return documented members
+	 */
+	static List<JavaDocElement> documentedMembers(Class<?> type) {
+		var modulename = type.getModule().getName();
+		var classname = type.getName().replace('.', '/');
+		var table = TABLES.get(type);
+		var members = new ArrayList<JavaDocElement>();
+		for (var field : table.fields.entrySet()) {
+			if (field.getValue().owner == type) {
+				members.add(JavaDocElement.ofField(modulename, classname, field.getKey()));
+			}
+		}
+		for (var method : table.methods.entrySet()) {
+			for (var overload : method.getValue().entrySet()) {
+				var resolved = overload.getValue();
+				if (resolved.owner == type) {
+					members.add(JavaDocElement.ofMethod(modulename, classname, method.getKey(), overload.getKey(),
+							resolved.vararg));
+				}
+			}
+		}
+		members.sort(Comparator.comparing(JavaDocElement::getKind).thenComparing(JavaDocElement::getMemberName)
+				.thenComparing(e -> e.getDescriptor() == null ? "" : e.getDescriptor()));
+		return members;
+	}
+
+}
@@ -13,117 +13,281 @@
  *******************************************************************************/
 package io.javaalmanac.javadoclink;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.PrimitiveIterator;
+import java.util.regex.Pattern;
 
 final class MethodParameterStrategy {
 
+	/**
+	 * Shorter descriptors are converted with the scalar path, as copying the
+	 * descriptor into a byte array does not pay off for them.
+	 */
+	static final int SWAR_MIN_LENGTH = 32;
+
+	private static final byte[] VARARG = { '.', '.', '.' };
+
 	private final String begin;
 	private final String separator;
 	private final String end;
 	private final String array;
 
+	private final byte[] beginBytes;
+	private final byte[] separatorBytes;
+	private final byte[] endBytes;
+	private final byte[] arrayBytes;
+	private final int maxBytesPerChar;
+
 	MethodParameterStrategy(String begin, String separator, String end, String array) {
 		this.begin = begin;
 		this.separator = separator;
 		this.end = end;
 		this.array = array;
+		this.beginBytes = begin.getBytes(StandardCharsets.ISO_8859_1);
+		this.separatorBytes = separator.getBytes(StandardCharsets.ISO_8859_1);
+		this.endBytes = end.getBytes(StandardCharsets.ISO_8859_1);
+		this.arrayBytes = array.getBytes(StandardCharsets.ISO_8859_1);
+		// every descriptor character results in at most a separator and a
+		// primitive keyword, an array suffix or the vararg suffix:
+		this.maxBytesPerChar = separator.length() + Math.max("boolean".length(), Math.max(array.length(), 3));
 	}
 
 	String fromDesc(String desc, boolean vararg) {
-		var result = new ArrayList<Param>();
-		var chars = desc.substring(1, desc.indexOf(')')).chars().iterator();
-		while (chars.hasNext()) {
-			result.add(nextType(chars, desc));
+		if (desc.length() >= SWAR_MIN_LENGTH) {
+			var params = fromDescSwar(desc, vararg);
+			if (params != null) {
+				return params;
+			}
+		}
+		return fromDescScalar(desc, vararg);
+	}
+
+	String fromDescScalar(String desc, boolean vararg) {
+		var sb = new StringBuilder(desc.length() + 16).append(begin);
+		var pos = 1;
+		while (desc.charAt(pos) != ')') {
+			if (pos > 1) {
+				sb.append(separator);
+			}
+			var dims = 0;
+			while (desc.charAt(pos) == '[') {
+				dims++;
+				pos++;
+			}
+			var c = desc.charAt(pos);
+			if (c == 'L') {
+				var semicolon = desc.indexOf(';', pos);
+				if (semicolon == -1) {
+					throw invalid(desc);
+				}
+				appendSourceName(sb, desc, pos + 1, semicolon);
+				pos = semicolon + 1;
+			} else {
+				sb.append(primitive(c, desc));
+				pos++;
+			}
+			// vararg syntax only applies for the last parameter:
+			appendDimensions(sb, dims, vararg && desc.charAt(pos) == ')');
+		}
+		return sb.append(end).toString();
+	}
+
+	/**
+	 * Converts the descriptor on its Latin-1 bytes with {@link Swar}: All class
+	 * names are converted to source notation in a single pass over the
+	 * parameter section, class names are located by searching for
+	 * <code>;</code> eight bytes at a time and copied in bulk.
+	 *
+	 * @return parameter list or <code>null</code> if the descriptor is not
+	 *         Latin-1
+	 */
+	String fromDescSwar(String desc, boolean vararg) {
+		var bytes = Swar.latin1(desc);
+		if (bytes == null) {
+			return null;
+		}
+		var close = Swar.indexOf(bytes, 0, bytes.length, (byte) ')');
+		if (bytes.length == 0 || bytes[0] != '(' || close == -1) {
+			throw invalid(desc);
 		}
-		return join(result, vararg);
+		Swar.replace(bytes, 1, close, (byte) '/', (byte) '$', (byte) '.');
+		var out = new byte[beginBytes.length + endBytes.length + close * maxBytesPerChar];
+		var length = put(out, 0, beginBytes);
+		var pos = 1;
+		while (pos < close) {
+			if (pos > 1) {
+				length = put(out, length, separatorBytes);
+			}
+			var dims = 0;
+			while (bytes[pos] == '[') {
+				dims++;
+				pos++;
+			}
+			var c = (char) bytes[pos];
+			if (c == 'L') {
+				var semicolon = Swar.indexOf(bytes, pos, close, (byte) ';');
+				if (semicolon == -1) {
+					throw invalid(desc);
+				}
+				System.arraycopy(bytes, pos + 1, out, length, semicolon - pos - 1);
+				length += semicolon - pos - 1;
+				pos = semicolon + 1;
+			} else {
+				var name = primitive(c, desc);
+				for (var i = 0; i < name.length(); i++) {
+					out[length++] = (byte) name.charAt(i);
+				}
+				pos++;
+			}
+			for (var i = 1; i < dims; i++) {
+				length = put(out, length, arrayBytes);
+			}
+			if (dims > 0) {
+				// vararg syntax only applies for the last parameter:
+				length = put(out, length, vararg && pos == close ? VARARG : arrayBytes);
+			}
+		}
+		length = put(out, length, endBytes);
+		return new String(out, 0, length, StandardCharsets.ISO_8859_1);
 	}
 
-	private Param nextType(PrimitiveIterator.OfInt chars, String desc) {
-		switch (chars.nextInt()) {
+	private static int put(byte[] out, int pos, byte[] bytes) {
+		System.arraycopy(bytes, 0, out, pos, bytes.length);
+		return pos + bytes.length;
+	}
+
+	static String primitive(char c, String desc) {
+		switch (c) {
 		case 'Z':
-			return new Param("boolean");
+			return "boolean";
 		case 'C':
-			return new Param("char");
+			return "char";
 		case 'B':
-			return new Param("byte");
+			return "byte";
 		case 'S':
-			return new Param("short");
+			return "short";
 		case 'I':
-			return new Param("int");
+			return "int";
 		case 'F':
-			return new Param("float");
+			return "float";
 		case 'J':
-			return new Param("long");
+			return "long";
 		case 'D':
-			return new Param("double");
-		case 'L':
-			var sb = new StringBuilder();
-			for (var c = chars.nextInt(); c != ';'; c = chars.nextInt()) {
-				sb.append((char) c);
-			}
-			return new Param(sb.toString().replace('/', '.').replace('$', '.'));
-		case '[':
-			return nextType(chars, desc).addDimension();
+			return "double";
 		default:
-			throw new IllegalArgumentException("Invalid method descriptor: " + desc);
+			throw invalid(desc);
 		}
 	}
 
-	String fromClasses(Class<?>[] params, boolean vararg) {
-		var result = new ArrayList<Param>();
-		for (var param : params) {
-			result.add(fromClass(param));
-		}
-		return join(result, vararg);
+	private static IllegalArgumentException invalid(String desc) {
+		return new IllegalArgumentException("Invalid method descriptor: " + desc);
 	}
 
-	private Param fromClass(Class<?> param) {
-		if (param.isArray()) {
-			return fromClass(param.getComponentType()).addDimension();
-		} else {
-			return new Param(param.getName().replace('$', '.'));
+	/**
+	 * Appends a internal or binary class name in source notation, i.e. with
+	 * <code>/</code> and <code>$</code> replaced by <code>.</code>, without
+	 * creating intermediate strings.
+	 */
+	private static void appendSourceName(StringBuilder sb, String name, int start, int end) {
+		for (var i = start; i < end; i++) {
+			var c = name.charAt(i);
+			sb.append(c == '/' || c == '$' ? '.' : c);
 		}
 	}
 
-	private String join(List<Param> params, boolean vararg) {
-		var sb = new StringBuilder(begin);
-		for (var idx = 0; idx < params.size(); idx++) {
-			if (idx > 0) {
-				sb.append(separator);
-			}
-			// vararg syntax only applies for the last parameter:
-			sb.append(params.get(idx).toString(vararg && (idx == params.size() - 1)));
+	private void appendDimensions(StringBuilder sb, int dims, boolean vararg) {
+		for (var i = 1; i < dims; i++) {
+			sb.append(array);
+		}
+		if (dims > 0) {
+			sb.append(vararg ? "..." : array);
 		}
-		return sb.append(end).toString();
 	}
 
-	private class Param {
-
-		private final String type;
-		private final int dimensions;
+	/**
+	 * Starts a parameter list which is built parameter by parameter with
+	 * {@link #appendParameter(StringBuilder, int, String, int, int, int, boolean)}.
+	 */
+	StringBuilder begin(StringBuilder sb) {
+		return sb.append(begin);
+	}
 
-		Param(String type, int dimensions) {
-			this.type = type;
-			this.dimensions = dimensions;
+	/**
+	 * Appends a single parameter to a parameter list started with
+	 * {@link #begin(StringBuilder)}.
+	 *
+	 * @param index  index of the parameter
+	 * @param name   string containing the primitive type keyword or the internal
+	 *               or binary class name
+	 * @param start  start of the type name in <code>name</code>
+	 * @param end    end of the type name in <code>name</code>
+	 * @param dims   array dimensions
+	 * @param vararg whether this is the vararg parameter
+	 */
+	void appendParameter(StringBuilder sb, int index, String name, int start, int end, int dims, boolean vararg) {
+		if (index > 0) {
+			sb.append(separator);
 		}
+		appendSourceName(sb, name, start, end);
+		appendDimensions(sb, dims, vararg);
+	}
 
-		Param(String type) {
-			this(type, 0);
-		}
+	/**
+	 * Completes a parameter list started with {@link #begin(StringBuilder)}.
+	 */
+	String end(StringBuilder sb) {
+		return sb.append(end).toString();
+	}
+
+	/**
+	 * Returns the position where the parameter list starts in the given anchor or
+	 * -1 if the anchor does not describe a method.
+	 */
+	int paramsStart(String anchor) {
+		return anchor.indexOf(begin);
+	}
 
-		Param addDimension() {
-			return new Param(type, dimensions + 1);
+	/**
+	 * Parses a parameter list created by this strategy into the parameter types in
+	 * source notation, with <code>[]</code> for array dimensions and
+	 * <code>...</code> for varargs.
+	 *
+	 * @return parameter types or <code>null</code> if the parameter list does not
+	 *         match this strategy
+	 */
+	List<String> parse(String params) {
+		if (params.length() < begin.length() + end.length() || !params.startsWith(begin) || !params.endsWith(end)) {
+			return null;
 		}
+		var types = new ArrayList<String>();
+		var content = params.substring(begin.length(), params.length() - end.length());
+		if (!content.isEmpty()) {
+			for (var type : content.split(Pattern.quote(separator.trim()), -1)) {
+				types.add(type.trim().replace(array, "[]"));
+			}
+		}
+		return types;
+	}
 
-		String toString(boolean vararg) {
-			if (dimensions > 0) {
-				var s = new Param(type, dimensions - 1).toString(false);
-				return s + (vararg ? "..." : array);
+	String fromClasses(Class<?>[] params, boolean vararg) {
+		var sb = new StringBuilder(params.length * 24).append(begin);
+		for (var idx = 0; idx < params.length; idx++) {
+			if (idx > 0) {
+				sb.append(separator);
 			}
-			return type;
+			var type = params[idx];
+			var dims = 0;
+			while (type.isArray()) {
+				dims++;
+				type = type.getComponentType();
+			}
+			var name = type.getName();
+			appendSourceName(sb, name, 0, name.length());
+			// vararg syntax only applies for the last parameter:
+			appendDimensions(sb, dims, vararg && (idx == params.length - 1));
 		}
+		return sb.append(end).toString();
 	}
 
 }
@@ -0,0 +1,615 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * {@link JavaDocLink} decorator which caches the rendered links outside of
+ * the Java heap. Keys and links are stored as bytes in direct buffers, so
+ * even tens of millions of entries don't add objects for the garbage
+ * collector to trace. Link streams are not cached.
+ * <p>
+ * The memory is split into independently locked segments. Every segment
+ * appends its entries to a ring buffer and finds them with an open addressing
+ * index of buffer offsets. If the buffer is full, entries are evicted from the
+ * oldest end with the CLOCK algorithm: entries which have been read since
+ * they were added or last moved get a second chance and are moved to the
+ * newest end instead.
+ * <p>
+ * Instances created with {@link #withBaseUrl(String)} and
+ * {@link #relativeTo(String)} share the memory and statistics of this
+ * instance. Entries are shared by instances of the built-in implementation
+ * with the same layout, base URL and page directory, other delegates have
+ * separate entries per instance. The memory is released when all instances
+ * are unreachable. Instances are thread-safe.
+ */
+public final class OffHeapLinkCache implements JavaDocLink {
+
+	/** Largest segment, buffer offsets must fit into an <code>int</code> */
+	private static final long MAX_SEGMENT_SIZE = 1 << 30;
+
+	private static final int MIN_CAPACITY = 1 << 16;
+
+	private static final int MIN_SEGMENTS = 16;
+
+	/** Assumed minimal average entry size to dimension the index */
+	private static final int AVERAGE_ENTRY_SIZE = 64;
+
+	/** Entry header: hash, key length, value length and reference bit */
+	private static final int HEADER_SIZE = 9;
+
+	private static final int MODULE = 1;
+	private static final int MODULE_REFLECTIVE = 2;
+	private static final int PACKAGE = 3;
+	private static final int PACKAGE_REFLECTIVE = 4;
+	private static final int CLASS = 5;
+	private static final int CLASS_REFLECTIVE = 6;
+	private static final int METHOD = 7;
+	private static final int METHOD_REFLECTIVE = 8;
+	private static final int METHOD_INHERITED = 9;
+	private static final int FIELD = 10;
+	private static final int FIELD_REFLECTIVE = 11;
+	private static final int FIELD_INHERITED = 12;
+
+	private static final ThreadLocal<Key> KEYS = ThreadLocal.withInitial(Key::new);
+
+	private interface Link {
+		String create(JavaDocLink delegate);
+	}
+
+	private final Store store;
+	private final JavaDocLink delegate;
+	private final int namespace;
+
+	private OffHeapLinkCache(Store store, JavaDocLink delegate) {
+		this.store = store;
+		this.delegate = delegate;
+		this.namespace = store.namespace(delegate);
+	}
+
+	/**
+	 * Creates a cache for the links of the given instance.
+	 *
+	 * @param delegate instance to create links which are not cached yet
+	 * @param capacity off-heap memory for the entries and their index in bytes,
+	 *                 at least 64 KiB
+	 * @return new cache instance
+	 */
+	public static OffHeapLinkCache of(JavaDocLink delegate, long capacity) {
+		if (capacity < MIN_CAPACITY) {
+			throw new IllegalArgumentException("Capacity too small: " + capacity);
+		}
+		var segments = MIN_SEGMENTS;
+		while (capacity / segments > MAX_SEGMENT_SIZE) {
+			segments *= 2;
+		}
+		return new OffHeapLinkCache(new Store(segments, (int) (capacity / segments)), delegate);
+	}
+
+	/**
+	 * @return number of cached links of all instances sharing the memory
+	 */
+	public long size() {
+		var size = 0L;
+		for (var segment : store.segments) {
+			synchronized (segment) {
+				size += segment.count;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return number of bytes currently used by cached links
+	 */
+	public long getUsedBytes() {
+		var used = 0L;
+		for (var segment : store.segments) {
+			synchronized (segment) {
+				used += segment.usedBytes();
+			}
+		}
+		return used;
+	}
+
+	/**
+	 * @return number of links served from the cache
+	 */
+	public long getHitCount() {
+		return store.hits.sum();
+	}
+
+	/**
+	 * @return number of links created by the delegate
+	 */
+	public long getMissCount() {
+		return store.misses.sum();
+	}
+
+	/**
+	 * @return number of links removed to free memory
+	 */
+	public long getEvictionCount() {
+		return store.evictions.sum();
+	}
+
+	@Override
+	public OffHeapLinkCache withBaseUrl(String baseurl) {
+		return new OffHeapLinkCache(store, delegate.withBaseUrl(baseurl));
+	}
+
+	@Override
+	public OffHeapLinkCache relativeTo(String pagepath) {
+		return new OffHeapLinkCache(store, delegate.relativeTo(pagepath));
+	}
+
+	@Override
+	public String moduleLink(String modulename) {
+		return link(key(MODULE).add(modulename), d -> d.moduleLink(modulename));
+	}
+
+	@Override
+	public String moduleLink(Module module) {
+		return link(key(MODULE_REFLECTIVE).add(module.getName()), d -> d.moduleLink(module));
+	}
+
+	@Override
+	public String packageLink(String modulename, String packagename) {
+		return link(key(PACKAGE).add(modulename).add(packagename), d -> d.packageLink(modulename, packagename));
+	}
+
+	@Override
+	public String packageLink(Module module, Package pkg) {
+		return link(key(PACKAGE_REFLECTIVE).add(module.getName()).add(pkg.getName()),
+				d -> d.packageLink(module, pkg));
+	}
+
+	@Override
+	public String classLink(String modulename, String classname) {
+		return link(key(CLASS).add(modulename).add(classname), d -> d.classLink(modulename, classname));
+	}
+
+	@Override
+	public String classLink(Class<?> cls) {
+		return link(key(CLASS_REFLECTIVE).add(cls), d -> d.classLink(cls));
+	}
+
+	@Override
+	public String methodLink(String modulename, String classname, String methodname, String desc, boolean vararg) {
+		return link(key(METHOD).add(modulename).add(classname).add(methodname).add(desc).add(vararg),
+				d -> d.methodLink(modulename, classname, methodname, desc, vararg));
+	}
+
+	@Override
+	public String methodLink(Executable executable) {
+		var name = executable instanceof Constructor ? "<init>" : executable.getName();
+		return link(key(METHOD_REFLECTIVE).add(executable.getDeclaringClass()).add(name)
+				.add(Descriptors.of(executable)).add(executable.isVarArgs()), d -> d.methodLink(executable));
+	}
+
+	@Override
+	public String methodLink(Class<?> cls, String methodname, String desc) {
+		return link(key(METHOD_INHERITED).add(cls).add(methodname).add(desc),
+				d -> d.methodLink(cls, methodname, desc));
+	}
+
+	@Override
+	public String fieldLink(String modulename, String classname, String fieldname) {
+		return link(key(FIELD).add(modulename).add(classname).add(fieldname),
+				d -> d.fieldLink(modulename, classname, fieldname));
+	}
+
+	@Override
+	public String fieldLink(Field field) {
+		return link(key(FIELD_REFLECTIVE).add(field.getDeclaringClass()).add(field.getName()),
+				d -> d.fieldLink(field));
+	}
+
+	@Override
+	public String fieldLink(Class<?> cls, String fieldname) {
+		return link(key(FIELD_INHERITED).add(cls).add(fieldname), d -> d.fieldLink(cls, fieldname));
+	}
+
+	@Override
+	public Stream<ElementLink> links(Class<?> cls) {
+		return delegate.links(cls);
+	}
+
+	@Override
+	public Stream<ElementLink> links(Module module, Package pkg) {
+		return delegate.links(module, pkg);
+	}
+
+	@Override
+	public Stream<ElementLink> links(Module module) {
+		return delegate.links(module);
+	}
+
+	private Key key(int operation) {
+		var key = KEYS.get();
+		if (key.busy) {
+			// the delegate creates links with another cache on this thread
+			key = new Key();
+		}
+		key.busy = true;
+		key.length = 0;
+		return key.add(namespace).add(operation);
+	}
+
+	private String link(Key key, Link link) {
+		try {
+			key.hash = hash(key.bytes, key.length);
+			var segment = store.segment(key.hash);
+			var cached = segment.get(key);
+			if (cached != null) {
+				store.hits.increment();
+				return cached;
+			}
+			store.misses.increment();
+			var created = link.create(delegate);
+			store.evictions.add(segment.put(key, created.getBytes(StandardCharsets.UTF_8)));
+			return created;
+		} finally {
+			key.busy = false;
+		}
+	}
+
+	/**
+	 * FNV-1a with the MurmurHash3 finalizer, the upper bits select the segment
+	 * and the lower bits the index slot.
+	 */
+	private static int hash(byte[] bytes, int length) {
+		var h = 0x811C9DC5;
+		for (var i = 0; i < length; i++) {
+			h = (h ^ bytes[i]) * 0x01000193;
+		}
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Binary key of a link. Strings are stored with their length and chars in
+	 * modified UTF-8, so different arguments never result in the same key.
+	 */
+	private static final class Key {
+
+		byte[] bytes = new byte[256];
+		int length;
+		int hash;
+		boolean busy;
+
+		Key add(int value) {
+			ensure(4);
+			bytes[length++] = (byte) (value >>> 24);
+			bytes[length++] = (byte) (value >>> 16);
+			bytes[length++] = (byte) (value >>> 8);
+			bytes[length++] = (byte) value;
+			return this;
+		}
+
+		Key add(boolean value) {
+			ensure(1);
+			bytes[length++] = (byte) (value ? 1 : 0);
+			return this;
+		}
+
+		Key add(Class<?> cls) {
+			return add(cls.getModule().getName()).add(cls.getName());
+		}
+
+		Key add(String value) {
+			if (value == null) {
+				return add(-1);
+			}
+			var n = value.length();
+			add(n);
+			ensure(n * 3);
+			for (var i = 0; i < n; i++) {
+				var c = value.charAt(i);
+				if (c != 0 && c < 0x80) {
+					bytes[length++] = (byte) c;
+				} else if (c < 0x800) {
+					bytes[length++] = (byte) (0xC0 | c >>> 6);
+					bytes[length++] = (byte) (0x80 | c & 0x3F);
+				} else {
+					bytes[length++] = (byte) (0xE0 | c >>> 12);
+					bytes[length++] = (byte) (0x80 | c >>> 6 & 0x3F);
+					bytes[length++] = (byte) (0x80 | c & 0x3F);
+				}
+			}
+			return this;
+		}
+
+		void ensure(int size) {
+			if (length + size > bytes.length) {
+				var copy = new byte[Math.max(bytes.length * 2, length + size)];
+				System.arraycopy(bytes, 0, copy, 0, length);
+				bytes = copy;
+			}
+		}
+	}
+
+	/**
+	 * Memory and statistics shared by all instances created from the same
+	 * cache.
+	 */
+	private static final class Store {
+
+		final Segment[] segments;
+		final Map<String, Integer> namespaces = new ConcurrentHashMap<>();
+		final AtomicInteger nextNamespace = new AtomicInteger();
+		final LongAdder hits = new LongAdder();
+		final LongAdder misses = new LongAdder();
+		final LongAdder evictions = new LongAdder();
+
+		Store(int count, int size) {
+			segments = new Segment[count];
+			for (var i = 0; i < count; i++) {
+				segments[i] = new Segment(size);
+			}
+		}
+
+		/**
+		 * Instances of the built-in implementation creating the same links
+		 * get the same namespace.
+		 */
+		int namespace(JavaDocLink delegate) {
+			if (delegate instanceof JavaDocLinkImpl) {
+				var impl = (JavaDocLinkImpl) delegate;
+				var id = impl.getLayout() + '\n' + impl.getBase() + '\n' + impl.getPageDirectory();
+				return namespaces.computeIfAbsent(id, k -> Integer.valueOf(nextNamespace.getAndIncrement()))
+						.intValue();
+			}
+			return nextNamespace.getAndIncrement();
+		}
+
+		Segment segment(int hash) {
+			return segments[(int) ((hash & 0xFFFFFFFFL) * segments.length >>> 32)];
+		}
+	}
+
+	/**
+	 * Ring buffer of entries with an index. Entries are appended at
+	 * <code>head</code> and evicted at <code>tail</code>. If the buffer has
+	 * wrapped around, the entries are located in
+	 * <code>[tail, limit)</code> and <code>[0, head)</code>, otherwise in
+	 * <code>[tail, head)</code>.
+	 */
+	private static final class Segment {
+
+		final ByteBuffer slab;
+		final int capacity;
+		final int maxEntrySize;
+
+		/** Offsets of entries plus one, <code>0</code> marks empty slots */
+		final ByteBuffer index;
+		final int mask;
+		final int maxEntries;
+
+		int head;
+		int tail;
+		int limit;
+		boolean wrapped;
+		int count;
+
+		byte[] scratch = new byte[256];
+
+		Segment(int size) {
+			var slots = LongHashTable.capacity(size / AVERAGE_ENTRY_SIZE);
+			this.index = ByteBuffer.allocateDirect(slots * 4);
+			this.mask = slots - 1;
+			this.maxEntries = slots / 2;
+			this.capacity = size - slots * 4;
+			this.slab = ByteBuffer.allocateDirect(capacity);
+			this.maxEntrySize = Math.min(capacity / 8, HEADER_SIZE + 2 * 0xFFFF);
+			this.limit = capacity;
+		}
+
+		/**
+		 * Returns the cached link for the given key and marks the entry as
+		 * referenced. The value is decoded from the key buffer outside of the
+		 * lock.
+		 */
+		String get(Key key) {
+			int length;
+			synchronized (this) {
+				var pos = find(key);
+				if (pos == -1) {
+					return null;
+				}
+				slab.put(pos + 8, (byte) 1);
+				var keyLength = slab.getShort(pos + 4) & 0xFFFF;
+				length = slab.getShort(pos + 6) & 0xFFFF;
+				if (key.bytes.length < length) {
+					key.bytes = new byte[length];
+				}
+				slab.duplicate().position(pos + HEADER_SIZE + keyLength).get(key.bytes, 0, length);
+			}
+			return new String(key.bytes, 0, length, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Adds the link for the given key unless it is too large or has been
+		 * added concurrently.
+		 *
+		 * @return number of evicted entries
+		 */
+		synchronized int put(Key key, byte[] value) {
+			var size = HEADER_SIZE + key.length + value.length;
+			if (key.length > 0xFFFF || value.length > 0xFFFF || size > maxEntrySize || find(key) != -1) {
+				return 0;
+			}
+			var evicted = 0;
+			int pos;
+			while (count >= maxEntries || (pos = place(size)) == -1) {
+				evicted += advance();
+			}
+			slab.putInt(pos, key.hash);
+			slab.putShort(pos + 4, (short) key.length);
+			slab.putShort(pos + 6, (short) value.length);
+			slab.put(pos + 8, (byte) 0);
+			slab.duplicate().position(pos + HEADER_SIZE).put(key.bytes, 0, key.length).put(value);
+			count++;
+			var i = key.hash & mask;
+			while (index.getInt(i << 2) != 0) {
+				i = (i + 1) & mask;
+			}
+			index.putInt(i << 2, pos + 1);
+			return evicted;
+		}
+
+		private int find(Key key) {
+			for (var i = key.hash & mask;; i = (i + 1) & mask) {
+				var ref = index.getInt(i << 2);
+				if (ref == 0) {
+					return -1;
+				}
+				var pos = ref - 1;
+				if (slab.getInt(pos) == key.hash && matches(pos, key)) {
+					return pos;
+				}
+			}
+		}
+
+		private boolean matches(int pos, Key key) {
+			if ((slab.getShort(pos + 4) & 0xFFFF) != key.length) {
+				return false;
+			}
+			var offset = pos + HEADER_SIZE;
+			for (var i = 0; i < key.length; i++) {
+				if (slab.get(offset + i) != key.bytes[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private int size(int pos) {
+			return HEADER_SIZE + (slab.getShort(pos + 4) & 0xFFFF) + (slab.getShort(pos + 6) & 0xFFFF);
+		}
+
+		int usedBytes() {
+			return wrapped ? limit - tail + head : head - tail;
+		}
+
+		/**
+		 * Reserves the given number of bytes at the head if possible without
+		 * eviction.
+		 *
+		 * @return offset of the reserved space or -1
+		 */
+		private int place(int size) {
+			if (count == 0) {
+				head = tail = 0;
+				limit = capacity;
+				wrapped = false;
+			}
+			if (!wrapped && capacity - head < size) {
+				if (tail < size) {
+					return -1;
+				}
+				limit = head;
+				head = 0;
+				wrapped = true;
+			}
+			if (wrapped && tail - head < size) {
+				return -1;
+			}
+			var pos = head;
+			head += size;
+			return pos;
+		}
+
+		/**
+		 * Advances the clock hand by one entry: the entry at the tail is
+		 * either evicted or, if it has been referenced, moved to the head.
+		 *
+		 * @return number of evicted entries
+		 */
+		private int advance() {
+			var pos = tail;
+			var size = size(pos);
+			var hash = slab.getInt(pos);
+			if (slab.get(pos + 8) == 0) {
+				unindex(pos, hash);
+				removeTail(size);
+				return 1;
+			}
+			if (scratch.length < size) {
+				scratch = new byte[size];
+			}
+			slab.duplicate().position(pos).get(scratch, 0, size);
+			removeTail(size);
+			// the space of the removed entry is sufficient in every case
+			var target = place(size);
+			slab.duplicate().position(target).put(scratch, 0, size);
+			slab.put(target + 8, (byte) 0);
+			count++;
+			var i = hash & mask;
+			while (index.getInt(i << 2) != pos + 1) {
+				i = (i + 1) & mask;
+			}
+			index.putInt(i << 2, target + 1);
+			return 0;
+		}
+
+		private void removeTail(int size) {
+			tail += size;
+			count--;
+			if (wrapped && tail == limit) {
+				tail = 0;
+				limit = capacity;
+				wrapped = false;
+			}
+		}
+
+		/**
+		 * Removes the index slot of the given entry and shifts the following
+		 * slots of the probe sequence back.
+		 */
+		private void unindex(int pos, int hash) {
+			var i = hash & mask;
+			while (index.getInt(i << 2) != pos + 1) {
+				i = (i + 1) & mask;
+			}
+			for (var j = (i + 1) & mask;; j = (j + 1) & mask) {
+				var ref = index.getInt(j << 2);
+				if (ref == 0) {
+					break;
+				}
+				var home = slab.getInt(ref - 1) & mask;
+				if (i <= j ? i < home && home <= j : i < home || home <= j) {
+					continue;
+				}
+				index.putInt(i << 2, ref);
+				i = j;
+			}
+			index.putInt(i << 2, 0);
+		}
+	}
+
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+/**
+ * Page from which links are created relative to. The directory of the page is
+ * analyzed once, so a link costs a comparison of the common prefix and a
+ * single concatenation with a precomputed sequence of <code>../</code>
+ * segments.
+ */
+final class PagePath {
+
+	private final String dir;
+
+	/** Number of directories in the prefix of the given length */
+	private final int[] depth;
+
+	/** Parent references by number of levels */
+	private final String[] parents;
+
+	PagePath(String page) {
+		this.dir = page.substring(0, page.lastIndexOf('/') + 1);
+		this.depth = new int[dir.length() + 1];
+		for (var i = 0; i < dir.length(); i++) {
+			depth[i + 1] = depth[i] + (dir.charAt(i) == '/' ? 1 : 0);
+		}
+		var levels = depth[dir.length()];
+		this.parents = new String[levels + 1];
+		parents[0] = "";
+		for (var i = 1; i <= levels; i++) {
+			parents[i] = parents[i - 1] + "../";
+		}
+	}
+
+	/**
+	 * @return directory of the page including the trailing slash, links only
+	 *         depend on this directory
+	 */
+	String getDirectory() {
+		return dir;
+	}
+
+	/**
+	 * Creates the link to the given target relative to this page. Targets on
+	 * other hosts or with a different absolute root are returned unchanged.
+	 *
+	 * @param target link relative to the same root as this page
+	 * @return relative link
+	 */
+	String relativize(String target) {
+		var limit = Math.min(dir.length(), target.length());
+		var common = 0;
+		while (common < limit && dir.charAt(common) == target.charAt(common)) {
+			common++;
+		}
+		var boundary = dir.lastIndexOf('/', common - 1) + 1;
+		if (boundary < root(target)) {
+			return target;
+		}
+		return parents[depth[dir.length()] - depth[boundary]].concat(target.substring(boundary));
+	}
+
+	/**
+	 * Length of the part which can't be expressed relatively: scheme and
+	 * authority of absolute URLs or the leading slash of absolute paths.
+	 */
+	private static int root(String link) {
+		var scheme = link.indexOf("://");
+		if (scheme != -1 && scheme < link.indexOf('/')) {
+			var path = link.indexOf('/', scheme + 3);
+			return path == -1 ? link.length() : path + 1;
+		}
+		return link.startsWith("/") ? 1 : 0;
+	}
+
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReference;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the packages and public types of the modules of the Java runtime.
+ * The index is created lazily once per JVM and is immutable afterwards.
+ */
+final class PlatformIndex {
+
+	private static final String JAVA_LANG = "java/lang";
+
+	private static class Holder {
+		static final PlatformIndex INSTANCE = new PlatformIndex();
+	}
+
+	static PlatformIndex get() {
+		return Holder.INSTANCE;
+	}
+
+	/** Exported package in internal notation to module name */
+	private final Map<String, String> packages = new HashMap<>();
+
+	/** Simple, possibly nested type name in dot notation to internal name */
+	private volatile Map<String, String> types;
+
+	private PlatformIndex() {
+		for (var ref : ModuleFinder.ofSystem().findAll()) {
+			var modulename = ref.descriptor().name();
+			for (var export : ref.descriptor().exports()) {
+				if (!export.isQualified()) {
+					packages.put(export.source().replace('.', '/'), modulename);
+				}
+			}
+		}
+	}
+
+	private Map<String, String> types() {
+		var t = types;
+		if (t == null) {
+			synchronized (this) {
+				t = types;
+				if (t == null) {
+					var map = new HashMap<String, String>();
+					ModuleFinder.ofSystem().findAll().stream() //
+							.sorted(Comparator.comparing(r -> r.descriptor().name())) //
+							.forEach(r -> addTypes(map, r));
+					types = t = map;
+				}
+			}
+		}
+		return t;
+	}
+
+	private void addTypes(Map<String, String> types, ModuleReference ref) {
+		var modulename = ref.descriptor().name();
+		try (var reader = ref.open()) {
+			reader.list().forEach(entry -> addType(types, modulename, entry));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void addType(Map<String, String> types, String modulename, String entry) {
+		if (!entry.endsWith(".class")) {
+			return;
+		}
+		var classname = entry.substring(0, entry.length() - 6);
+		var sep = classname.lastIndexOf('/');
+		if (sep == -1 || !modulename.equals(packages.get(classname.substring(0, sep)))) {
+			return;
+		}
+		var simplename = classname.substring(sep + 1);
+		if (simplename.endsWith("-info") || !isNestedTypeName(simplename)) {
+			return;
+		}
+		var key = simplename.replace('$', '.');
+		var existing = types.get(key);
+		if (existing == null || rank(classname) < rank(existing)) {
+			types.put(key, classname);
+		}
+	}
+
+	private static boolean isNestedTypeName(String name) {
+		var start = true;
+		for (var i = 0; i < name.length(); i++) {
+			var c = name.charAt(i);
+			if (start && !Character.isJavaIdentifierStart(c)) {
+				return false;
+			}
+			start = c == '$';
+		}
+		return !start;
+	}
+
+	private int rank(String classname) {
+		var pkg = classname.substring(0, classname.lastIndexOf('/'));
+		if (JAVA_LANG.equals(pkg)) {
+			return 0;
+		}
+		var modulename = packages.get(pkg);
+		if ("java.base".equals(modulename)) {
+			return 1;
+		}
+		return modulename.startsWith("java.") ? 2 : 3;
+	}
+
+	/**
+	 * Returns the name of the module exporting the given package.
+	 *
+	 * @param packagename name in internal notation
+	 * @return module name or <code>null</code> if not exported by the runtime
+	 */
+	String moduleOf(String packagename) {
+		return packages.get(packagename);
+	}
+
+	/**
+	 * Resolves a simple, possibly nested type name like <code>Map.Entry</code>.
+	 *
+	 * @param name name in dot notation without package
+	 * @return internal name or <code>null</code> if unknown
+	 */
+	String resolveSimpleName(String name) {
+		return types().get(name);
+	}
+
+	/**
+	 * Resolves a fully qualified type name like <code>java.util.Map.Entry</code>
+	 * where the package is exported by a runtime module.
+	 *
+	 * @param name qualified name in dot notation
+	 * @return internal name or <code>null</code> if no runtime package matches
+	 */
+	String resolveQualifiedName(String name) {
+		var sb = new StringBuilder(name.length());
+		for (var sep = name.lastIndexOf('.'); sep != -1; sep = name.lastIndexOf('.', sep - 1)) {
+			sb.setLength(0);
+			sb.append(name, 0, sep);
+			replace(sb, 0, '.', '/');
+			if (packages.containsKey(sb.toString())) {
+				sb.append('/').append(name, sep + 1, name.length());
+				replace(sb, sep + 1, '.', '$');
+				return sb.toString();
+			}
+		}
+		return null;
+	}
+
+	private static void replace(StringBuilder sb, int start, char oldchar, char newchar) {
+		for (var i = start; i < sb.length(); i++) {
+			if (sb.charAt(i) == oldchar) {
+				sb.setCharAt(i, newchar);
+			}
+		}
+	}
+
+}
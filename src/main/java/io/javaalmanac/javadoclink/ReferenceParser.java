@@ -0,0 +1,518 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Executable;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Parser for Javadoc references like <code>String#indexOf(int, int)</code>.
+ * Type names are resolved with the {@link PlatformIndex} and, for other types,
+ * with the context class loader. Results of type lookups are cached per class
+ * loader for a bounded number of recently used names, the member tables of
+ * classes as long as the classes are loaded.
+ */
+final class ReferenceParser {
+
+	private static final String OBJECT = "java/lang/Object";
+
+	/** Maximum number of cached type lookups per class loader */
+	private static final int LOOKUP_LIMIT = 4096;
+
+	/** Lookups by class loader, loaders and their classes are not kept alive */
+	private static final Map<ClassLoader, Lookup> LOOKUPS = new WeakHashMap<>();
+
+	private static final ClassValue<MemberTable> MEMBERS = new ClassValue<MemberTable>() {
+		@Override
+		protected MemberTable computeValue(Class<?> type) {
+			return new MemberTable(type);
+		}
+	};
+
+	private ReferenceParser() {
+	}
+
+	static JavaDocElement parse(String reference) {
+		var len = reference.length();
+		var slash = -1;
+		var hash = -1;
+		var open = -1;
+		var close = -1;
+		for (var i = 0; i < len; i++) {
+			switch (reference.charAt(i)) {
+			case '/':
+				if (slash == -1 && hash == -1) {
+					slash = i;
+				}
+				break;
+			case '#':
+				if (hash == -1) {
+					hash = i;
+				}
+				break;
+			case '(':
+				if (hash != -1 && open == -1) {
+					open = i;
+				}
+				break;
+			case ')':
+				if (open != -1 && close == -1) {
+					close = i;
+				}
+				break;
+			}
+		}
+		if (open != -1 && (close == -1 || !reference.substring(close + 1).isBlank())) {
+			throw invalid(reference);
+		}
+
+		var modulename = slash == -1 ? null : reference.substring(0, slash).trim();
+		var typename = reference.substring(slash + 1, hash == -1 ? len : hash).trim();
+		if (typename.isEmpty()) {
+			if (modulename != null && hash == -1) {
+				return JavaDocElement.ofModule(modulename);
+			}
+			throw invalid(reference);
+		}
+
+		var classname = resolveType(typename);
+		if (classname == null) {
+			var packagename = typename.replace('.', '/');
+			if (hash == -1) {
+				modulename = modulename == null ? PlatformIndex.get().moduleOf(packagename) : modulename;
+				if (modulename != null) {
+					return JavaDocElement.ofPackage(modulename, packagename);
+				}
+			}
+			throw invalid(reference);
+		}
+		var cls = loadClass(classname);
+		if (modulename == null) {
+			modulename = moduleOf(classname, cls);
+		}
+		if (hash == -1) {
+			return JavaDocElement.ofClass(modulename, classname);
+		}
+
+		var membername = reference.substring(hash + 1, open == -1 ? len : open).trim();
+		if (membername.equals(simpleName(classname))) {
+			membername = "<init>";
+		}
+		var params = open == -1 ? null : parseParams(reference, open + 1, close);
+		if (cls.isEmpty()) {
+			if (params == null) {
+				return JavaDocElement.ofField(modulename, classname, membername);
+			}
+			return JavaDocElement.ofMethod(modulename, classname, membername, fallbackDesc(params),
+					isVararg(params));
+		}
+		var table = MEMBERS.get(cls.get());
+		if (params == null && table.fields.contains(membername)) {
+			var resolved = MemberResolver.field(cls.get(), membername);
+			if (resolved != null && resolved.owner != cls.get()) {
+				return JavaDocElement.ofField(resolved.owner.getModule().getName(), internalName(resolved.owner),
+						membername);
+			}
+			return JavaDocElement.ofField(modulename, classname, membername);
+		}
+		for (var sig : table.methods.getOrDefault(membername, List.of())) {
+			if (params == null || sig.matches(params)) {
+				var resolved = MemberResolver.method(cls.get(), membername, sig.desc);
+				if (resolved != null && resolved.owner != cls.get()) {
+					return JavaDocElement.ofMethod(resolved.owner.getModule().getName(),
+							internalName(resolved.owner), membername, sig.desc, sig.vararg);
+				}
+				return JavaDocElement.ofMethod(modulename, classname, membername, sig.desc, sig.vararg);
+			}
+		}
+		throw invalid(reference);
+	}
+
+	private static IllegalArgumentException invalid(String reference) {
+		return new IllegalArgumentException("Invalid reference: " + reference);
+	}
+
+	/**
+	 * Resolves a type name as written in Javadoc references.
+	 *
+	 * @param name qualified or simple type name in dot notation
+	 * @return internal name or <code>null</code> if unknown
+	 */
+	static String resolveType(String name) {
+		var lookup = lookup();
+		var classname = lookup.types.get(name);
+		if (classname == null) {
+			classname = resolveType0(name);
+			lookup.types.put(name, classname);
+		}
+		return classname.isEmpty() ? null : classname;
+	}
+
+	private static String resolveType0(String name) {
+		var index = PlatformIndex.get();
+		var classname = name.indexOf('.') == -1 ? null : index.resolveQualifiedName(name);
+		if (classname == null) {
+			classname = index.resolveSimpleName(name);
+		}
+		if (classname == null) {
+			// try all possible nestings for types outside the runtime:
+			var internal = name.replace('.', '/');
+			for (var sep = internal.length(); sep != -1; sep = internal.lastIndexOf('/', sep - 1)) {
+				var candidate = internal.substring(0, sep) + internal.substring(sep).replace('/', '$');
+				if (loadClass(candidate).isPresent()) {
+					return candidate;
+				}
+			}
+			return "";
+		}
+		return classname;
+	}
+
+	private static Optional<Class<?>> loadClass(String classname) {
+		var lookup = lookup();
+		var ref = lookup.classes.get(classname);
+		if (ref == Lookup.NOT_FOUND) {
+			return Optional.empty();
+		}
+		var cls = ref == null ? null : ref.get();
+		if (cls == null) {
+			try {
+				cls = Class.forName(classname.replace('/', '.'), false, lookup.loader());
+			} catch (ClassNotFoundException | LinkageError e) {
+				lookup.classes.put(classname, Lookup.NOT_FOUND);
+				return Optional.empty();
+			}
+			lookup.classes.put(classname, new WeakReference<>(cls));
+		}
+		return Optional.of(cls);
+	}
+
+	private static Lookup lookup() {
+		var loader = Thread.currentThread().getContextClassLoader();
+		if (loader == null) {
+			loader = ReferenceParser.class.getClassLoader();
+		}
+		synchronized (LOOKUPS) {
+			var lookup = LOOKUPS.get(loader);
+			if (lookup == null) {
+				lookup = new Lookup(loader);
+				LOOKUPS.put(loader, lookup);
+			}
+			return lookup;
+		}
+	}
+
+	/**
+	 * Bounded results of type lookups with a specific class loader. The most
+	 * recently used names are kept, classes only as long as they are loaded.
+	 */
+	private static class Lookup {
+
+		static final WeakReference<Class<?>> NOT_FOUND = new WeakReference<>(null);
+
+		private final WeakReference<ClassLoader> loader;
+
+		final Map<String, String> types = lru();
+		final Map<String, WeakReference<Class<?>>> classes = lru();
+
+		Lookup(ClassLoader loader) {
+			this.loader = new WeakReference<>(loader);
+		}
+
+		ClassLoader loader() {
+			return loader.get();
+		}
+
+		private static <V> Map<String, V> lru() {
+			return Collections.synchronizedMap(new LinkedHashMap<String, V>(64, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+					return size() > LOOKUP_LIMIT;
+				}
+			});
+		}
+	}
+
+	private static String moduleOf(String classname, Optional<Class<?>> cls) {
+		var sep = classname.lastIndexOf('/');
+		var modulename = PlatformIndex.get().moduleOf(sep == -1 ? "" : classname.substring(0, sep));
+		if (modulename == null && cls.isPresent()) {
+			modulename = cls.get().getModule().getName();
+		}
+		return modulename;
+	}
+
+	private static String internalName(Class<?> cls) {
+		return cls.getName().replace('.', '/');
+	}
+
+	private static String simpleName(String classname) {
+		return classname.substring(Math.max(classname.lastIndexOf('/'), classname.lastIndexOf('$')) + 1);
+	}
+
+	private static List<Param> parseParams(String reference, int start, int end) {
+		if (isBlank(reference, start, end)) {
+			return List.of();
+		}
+		var params = new ArrayList<Param>(4);
+		var depth = 0;
+		var segment = start;
+		for (var i = start; i <= end; i++) {
+			var c = i == end ? ',' : reference.charAt(i);
+			if (c == '<') {
+				depth++;
+			} else if (c == '>') {
+				depth--;
+			} else if (c == ',' && depth == 0) {
+				if (i > segment || !params.isEmpty()) {
+					params.add(new Param(reference, segment, i));
+				}
+				segment = i + 1;
+			}
+		}
+		if (params.size() == 1 && params.get(0).type.isEmpty()) {
+			params.clear();
+		}
+		return params;
+	}
+
+	private static boolean isBlank(String s, int start, int end) {
+		for (var i = start; i < end; i++) {
+			if (!Character.isWhitespace(s.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isVararg(List<Param> params) {
+		return !params.isEmpty() && params.get(params.size() - 1).vararg;
+	}
+
+	private static String fallbackDesc(List<Param> params) {
+		var sb = new StringBuilder().append('(');
+		for (var param : params) {
+			for (var i = param.dimensions(); i > 0; i--) {
+				sb.append('[');
+			}
+			var primitive = Descriptors.primitive(param.type);
+			if (primitive != 0) {
+				sb.append(primitive);
+			} else {
+				var classname = resolveType(param.type);
+				sb.append('L').append(classname == null ? OBJECT : classname).append(';');
+			}
+		}
+		return sb.append(")V").toString();
+	}
+
+	/**
+	 * A parameter type as written in the reference.
+	 */
+	private static class Param {
+
+		final String type;
+		final int arraydims;
+		final boolean vararg;
+
+		Param(String reference, int start, int end) {
+			while (start < end && Character.isWhitespace(reference.charAt(start))) {
+				start++;
+			}
+			var typeend = start;
+			for (var depth = 0; typeend < end; typeend++) {
+				var c = reference.charAt(typeend);
+				if (c == '<') {
+					depth++;
+				} else if (c == '>') {
+					depth--;
+				} else if (depth == 0 && (c == '[' || Character.isWhitespace(c) || reference.startsWith("...", typeend))) {
+					break;
+				}
+			}
+			var dims = 0;
+			var varargs = false;
+			for (var i = typeend; i < end; i++) {
+				var c = reference.charAt(i);
+				if (c == '[') {
+					dims++;
+				} else if (reference.startsWith("...", i)) {
+					varargs = true;
+					i += 2;
+				} else if (Character.isJavaIdentifierStart(c)) {
+					// optional parameter name
+					break;
+				}
+			}
+			this.type = stripTypeArguments(reference, start, typeend);
+			this.arraydims = dims;
+			this.vararg = varargs;
+		}
+
+		int dimensions() {
+			return arraydims + (vararg ? 1 : 0);
+		}
+
+		private static String stripTypeArguments(String reference, int start, int end) {
+			var lt = reference.indexOf('<', start);
+			if (lt == -1 || lt >= end) {
+				return reference.substring(start, end);
+			}
+			var sb = new StringBuilder(end - start);
+			var depth = 0;
+			for (var i = start; i < end; i++) {
+				var c = reference.charAt(i);
+				if (c == '<') {
+					depth++;
+				} else if (c == '>') {
+					depth--;
+				} else if (depth == 0) {
+					sb.append(c);
+				}
+			}
+			return sb.toString();
+		}
+	}
+
+	/**
+	 * Documented fields and methods of a type, indexed by name. Overloads are
+	 * sorted by number of parameters and descriptor, so a reference without
+	 * parameters selects the same method independently of the reflection
+	 * order.
+	 */
+	private static class MemberTable {
+
+		private static final Comparator<Signature> OVERLOADS = Comparator
+				.<Signature>comparingInt(s -> s.types.length).thenComparing(s -> s.desc);
+
+		final Set<String> fields = new HashSet<>();
+		final Map<String, List<Signature>> methods = new HashMap<>();
+
+		MemberTable(Class<?> type) {
+			for (var field : type.getFields()) {
+				fields.add(field.getName());
+			}
+			for (var field : type.getDeclaredFields()) {
+				if (isDocumented(field)) {
+					fields.add(field.getName());
+				}
+			}
+			for (var ctor : type.getDeclaredConstructors()) {
+				if (isDocumented(ctor)) {
+					add("<init>", ctor);
+				}
+			}
+			for (var method : type.getDeclaredMethods()) {
+				if (isDocumented(method) && !method.isBridge()) {
+					add(method.getName(), method);
+				}
+			}
+			for (var method : type.getMethods()) {
+				if (method.getDeclaringClass() != type && !method.isBridge()) {
+					add(method.getName(), method);
+				}
+			}
+			for (var overloads : methods.values()) {
+				overloads.sort(OVERLOADS);
+			}
+		}
+
+		private static boolean isDocumented(Member member) {
+			return !member.isSynthetic() && (member.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED)) != 0;
+		}
+
+		private void add(String name, Executable executable) {
+			methods.computeIfAbsent(name, n -> new ArrayList<>()).add(new Signature(executable));
+		}
+	}
+
+	/**
+	 * Pre-computed parameter information of a method or constructor.
+	 */
+	private static class Signature {
+
+		final String desc;
+		final boolean vararg;
+		final String[] types;
+		final int[] dims;
+		final String[] typevars;
+
+		Signature(Executable executable) {
+			desc = Descriptors.of(executable);
+			vararg = executable.isVarArgs();
+			var params = executable.getParameterTypes();
+			var generics = executable.getGenericParameterTypes();
+			types = new String[params.length];
+			dims = new int[params.length];
+			typevars = new String[params.length];
+			for (var i = 0; i < params.length; i++) {
+				var type = params[i];
+				while (type.isArray()) {
+					dims[i]++;
+					type = type.getComponentType();
+				}
+				types[i] = type.isPrimitive() ? type.getName() : type.getName().replace('.', '/');
+				if (generics.length == params.length) {
+					typevars[i] = typeVariable(generics[i]);
+				}
+			}
+		}
+
+		private static String typeVariable(Type type) {
+			while (type instanceof GenericArrayType) {
+				type = ((GenericArrayType) type).getGenericComponentType();
+			}
+			return type instanceof TypeVariable ? ((TypeVariable<?>) type).getName() : null;
+		}
+
+		boolean matches(List<Param> params) {
+			if (params.size() != types.length) {
+				return false;
+			}
+			for (var i = 0; i < types.length; i++) {
+				var param = params.get(i);
+				if (param.dimensions() != dims[i]) {
+					return false;
+				}
+				if (param.type.equals(typevars[i])) {
+					continue;
+				}
+				var primitive = Descriptors.primitive(param.type) != 0;
+				if (!types[i].equals(primitive ? param.type : resolveType(param.type))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+
+/**
+ * Decorator which converts the links of any {@link JavaDocLink}
+ * implementation to links relative to a page. Used for implementations which
+ * do not create relative links themselves.
+ */
+final class RelativeLink implements JavaDocLink {
+
+	private final JavaDocLink delegate;
+	private final PagePath page;
+
+	RelativeLink(JavaDocLink delegate, PagePath page) {
+		this.delegate = delegate;
+		this.page = page;
+	}
+
+	@Override
+	public JavaDocLink withBaseUrl(String baseurl) {
+		return new RelativeLink(delegate.withBaseUrl(baseurl), page);
+	}
+
+	@Override
+	public JavaDocLink relativeTo(String pagepath) {
+		return new RelativeLink(delegate, new PagePath(pagepath));
+	}
+
+	@Override
+	public String moduleLink(String modulename) {
+		return page.relativize(delegate.moduleLink(modulename));
+	}
+
+	@Override
+	public String moduleLink(Module module) {
+		return page.relativize(delegate.moduleLink(module));
+	}
+
+	@Override
+	public String packageLink(String modulename, String packagename) {
+		return page.relativize(delegate.packageLink(modulename, packagename));
+	}
+
+	@Override
+	public String packageLink(Module module, Package pkg) {
+		return page.relativize(delegate.packageLink(module, pkg));
+	}
+
+	@Override
+	public String classLink(String modulename, String classname) {
+		return page.relativize(delegate.classLink(modulename, classname));
+	}
+
+	@Override
+	public String classLink(Class<?> cls) {
+		return page.relativize(delegate.classLink(cls));
+	}
+
+	@Override
+	public String methodLink(String modulename, String classname, String methodname, String desc, boolean vararg) {
+		return page.relativize(delegate.methodLink(modulename, classname, methodname, desc, vararg));
+	}
+
+	@Override
+	public String methodLink(Executable executable) {
+		return page.relativize(delegate.methodLink(executable));
+	}
+
+	@Override
+	public String fieldLink(String modulename, String classname, String fieldname) {
+		return page.relativize(delegate.fieldLink(modulename, classname, fieldname));
+	}
+
+	@Override
+	public String fieldLink(Field field) {
+		return page.relativize(delegate.fieldLink(field));
+	}
+
+}
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+
+/**
+ * Renders human readable signatures where the element name links to its
+ * Javadoc and every parameter type of a method links to the Javadoc of the
+ * type, for example
+ * <code>indexOf(&lt;a href="...String.html"&gt;String&lt;/a&gt;, int)</code>.
+ * Primitive types are not linked. The method link and the parameter links are
+ * created in a single pass over the descriptor or parameter types.
+ * <p>
+ * For descriptors the modules of parameter types are resolved for the Java
+ * platform. Other types are expected in the module of the declaring class.
+ * Instances are thread-safe.
+ */
+public final class SignatureRenderer {
+
+	/**
+	 * Output format of the signatures.
+	 */
+	public enum Format {
+
+		/** HTML with <code>&lt;a href&gt;</code> elements */
+		HTML {
+			@Override
+			void link(Appendable out, String url, CharSequence text) throws IOException {
+				out.append("<a href=\"");
+				escape(out, url, true);
+				out.append("\">");
+				escape(out, text, false);
+				out.append("</a>");
+			}
+
+			@Override
+			void text(Appendable out, CharSequence text) throws IOException {
+				escape(out, text, false);
+			}
+
+			private void escape(Appendable out, CharSequence s, boolean attribute) throws IOException {
+				for (var i = 0; i < s.length(); i++) {
+					var c = s.charAt(i);
+					switch (c) {
+					case '&':
+						out.append("&amp;");
+						break;
+					case '<':
+						out.append("&lt;");
+						break;
+					case '>':
+						out.append("&gt;");
+						break;
+					case '"':
+						out.append(attribute ? "&quot;" : "\"");
+						break;
+					default:
+						out.append(c);
+					}
+				}
+			}
+		},
+
+		/**
+		 * CommonMark with inline links, link destinations are enclosed in angle
+		 * brackets as they may contain spaces and parentheses
+		 */
+		MARKDOWN {
+			@Override
+			void link(Appendable out, String url, CharSequence text) throws IOException {
+				out.append('[');
+				text(out, text);
+				out.append("](<");
+				for (var i = 0; i < url.length(); i++) {
+					var c = url.charAt(i);
+					if (c == '<') {
+						out.append("%3C");
+					} else if (c == '>') {
+						out.append("%3E");
+					} else {
+						out.append(c);
+					}
+				}
+				out.append(">)");
+			}
+
+			@Override
+			void text(Appendable out, CharSequence text) throws IOException {
+				for (var i = 0; i < text.length(); i++) {
+					var c = text.charAt(i);
+					if ("\\`*_[]()<>#!|".indexOf(c) != -1) {
+						out.append('\\');
+					}
+					out.append(c);
+				}
+			}
+		};
+
+		abstract void link(Appendable out, String url, CharSequence text) throws IOException;
+
+		abstract void text(Appendable out, CharSequence text) throws IOException;
+	}
+
+	private final JavaDocLinkImpl jdl;
+	private final Format format;
+
+	/**
+	 * Creates a renderer for the given layout and format.
+	 *
+	 * @param jdl    instance to create links with
+	 * @param format output format
+	 * @throws IllegalArgumentException if the instance has not been created
+	 *                                  by {@link JavaDocLink#forVersion(String)}
+	 *                                  or derived from such an instance
+	 */
+	public SignatureRenderer(JavaDocLink jdl, Format format) {
+		this.jdl = JavaDocLinkImpl.of(jdl);
+		this.format = format;
+	}
+
+	/**
+	 * Renders the given element. Modules and packages are rendered with their
+	 * name, classes with their simple name, fields with their name and methods
+	 * with their name and parameter types.
+	 *
+	 * @param out     sink to write the signature to
+	 * @param element element to render
+	 * @throws IOException if writing to the sink fails
+	 */
+	public void render(Appendable out, JavaDocElement element) throws IOException {
+		var modulename = element.getModuleName();
+		switch (element.getKind()) {
+		case MODULE:
+			format.link(out, jdl.moduleLink(modulename), modulename);
+			break;
+		case PACKAGE:
+			var pkg = element.getPackageName();
+			format.link(out, jdl.packageLink(modulename, pkg), pkg.replace('/', '.'));
+			break;
+		case CLASS:
+			var classname = element.getClassName();
+			format.link(out, jdl.classLink(modulename, classname), simpleName(classname, 0, classname.length()));
+			break;
+		case FIELD:
+			format.link(out, jdl.fieldLink(modulename, element.getClassName(), element.getMemberName()),
+					element.getMemberName());
+			break;
+		default:
+			renderMethod(out, modulename, element.getClassName(), element.getMemberName(), element.getDescriptor(),
+					element.isVararg());
+		}
+	}
+
+	/**
+	 * Renders the given method or constructor with its parameter types.
+	 *
+	 * @param out        sink to write the signature to
+	 * @param executable method or constructor to render
+	 * @throws IOException if writing to the sink fails
+	 */
+	public void render(Appendable out, Executable executable) throws IOException {
+		var strategy = jdl.getParameterStrategy();
+		var anchor = strategy.begin(new StringBuilder(64));
+		var params = new StringBuilder(64);
+		var types = executable.getParameterTypes();
+		for (var idx = 0; idx < types.length; idx++) {
+			var type = types[idx];
+			var dims = 0;
+			while (type.isArray()) {
+				dims++;
+				type = type.getComponentType();
+			}
+			var vararg = executable.isVarArgs() && idx == types.length - 1;
+			var name = type.getName();
+			strategy.appendParameter(anchor, idx, name, 0, name.length(), dims, vararg);
+			separator(params, idx);
+			var simple = simpleName(name.replace('.', '/'), 0, name.length());
+			if (type.isPrimitive()) {
+				format.text(params, simple);
+			} else {
+				format.link(params, jdl.classLink(type), simple);
+			}
+			format.text(params, dimensions(dims, vararg));
+		}
+		var owner = executable.getDeclaringClass();
+		var classname = owner.getName().replace('.', '/');
+		var constructor = executable instanceof Constructor;
+		var methodname = constructor ? "<init>" : executable.getName();
+		var link = jdl.methodLink0(owner.getModule().getName(), classname, methodname, strategy.end(anchor));
+		writeMethod(out, link, constructor ? simpleName(classname, 0, classname.length()) : executable.getName(),
+				params);
+	}
+
+	private void renderMethod(Appendable out, String modulename, String classname, String methodname, String desc,
+			boolean vararg) throws IOException {
+		var strategy = jdl.getParameterStrategy();
+		var anchor = strategy.begin(new StringBuilder(desc.length() + 16));
+		var params = new StringBuilder(desc.length() * 2);
+		var idx = 0;
+		var pos = 1;
+		while (desc.charAt(pos) != ')') {
+			var dims = 0;
+			while (desc.charAt(pos) == '[') {
+				dims++;
+				pos++;
+			}
+			separator(params, idx);
+			var c = desc.charAt(pos);
+			String text;
+			int start;
+			int end;
+			String link = null;
+			if (c == 'L') {
+				text = desc;
+				start = pos + 1;
+				end = desc.indexOf(';', pos);
+				if (end == -1) {
+					throw new IllegalArgumentException("Invalid method descriptor: " + desc);
+				}
+				pos = end + 1;
+				var typename = desc.substring(start, end);
+				link = jdl.classLink(moduleOf(typename, modulename), typename);
+			} else {
+				text = MethodParameterStrategy.primitive(c, desc);
+				start = 0;
+				end = text.length();
+				pos++;
+			}
+			var isVararg = vararg && desc.charAt(pos) == ')';
+			strategy.appendParameter(anchor, idx, text, start, end, dims, isVararg);
+			var simple = simpleName(text, start, end);
+			if (link == null) {
+				format.text(params, simple);
+			} else {
+				format.link(params, link, simple);
+			}
+			format.text(params, dimensions(dims, isVararg));
+			idx++;
+		}
+		var link = jdl.methodLink0(modulename, classname, methodname, strategy.end(anchor));
+		var name = "<init>".equals(methodname) ? simpleName(classname, 0, classname.length()) : methodname;
+		writeMethod(out, link, name, params);
+	}
+
+	private void writeMethod(Appendable out, String link, String name, CharSequence params) throws IOException {
+		format.link(out, link, name);
+		format.text(out, "(");
+		// parameters are already formatted
+		out.append(params);
+		format.text(out, ")");
+	}
+
+	private static void separator(StringBuilder params, int idx) {
+		if (idx > 0) {
+			params.append(", ");
+		}
+	}
+
+	/**
+	 * Name of a type without package in source notation, e.g.
+	 * <code>Map.Entry</code>.
+	 */
+	private static String simpleName(String name, int start, int end) {
+		var sep = name.lastIndexOf('/', end - 1);
+		if (sep >= start) {
+			start = sep + 1;
+		}
+		return name.substring(start, end).replace('$', '.');
+	}
+
+	private static String dimensions(int dims, boolean vararg) {
+		if (dims == 0) {
+			return "";
+		}
+		return "[]".repeat(vararg ? dims - 1 : dims) + (vararg ? "..." : "");
+	}
+
+	private static String moduleOf(String typename, String defaultModule) {
+		var sep = typename.lastIndexOf('/');
+		var modulename = PlatformIndex.get().moduleOf(sep == -1 ? "" : typename.substring(0, sep));
+		return modulename == null ? defaultModule : modulename;
+	}
+
+}
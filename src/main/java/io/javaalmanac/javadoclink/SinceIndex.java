@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.zip.ZipFile;
+
+/**
+ * Index of the Java releases in which the elements of the Java SE and JDK API
+ * exist. The index is created from the <code>lib/ct.sym</code> file of a JDK,
+ * which contains the API signatures of all releases supported by the
+ * <code>--release</code> option of <code>javac</code>, plus the API of the JDK
+ * itself. It is stored in a file which is memory-mapped for lookups, so every
+ * query takes constant time.
+ * <p>
+ * Elements are identified by their {@link ElementFingerprint} without the
+ * module name, as <code>ct.sym</code> does not reliably contain module names
+ * for releases before Java 9. Modules are indexed by name from Java 9 on.
+ */
+public final class SinceIndex {
+
+	private static final int MAGIC = 0x4A444C53;
+	private static final int FORMAT = 2;
+	private static final int HEADER_SIZE = 24;
+	private static final int SLOT_SIZE = 16;
+	private static final String MODULE_INFO = "/module-info.sig";
+
+	private final ByteBuffer buffer;
+	private final int capacity;
+	private final long releases;
+
+	private SinceIndex(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer.order(ByteOrder.BIG_ENDIAN);
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+			throw new IOException("Invalid index file");
+		}
+		this.capacity = buffer.getInt(8);
+		this.releases = buffer.getLong(16);
+	}
+
+	/**
+	 * Opens an existing index file.
+	 *
+	 * @param file index file created by {@link #build(Path, Path)}
+	 * @return index instance
+	 * @throws IOException if the file can't be read
+	 */
+	public static SinceIndex open(Path file) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return new SinceIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Creates an index file from the API of the currently running JDK.
+	 *
+	 * @param file index file to create
+	 * @return index instance for the new file
+	 * @throws IOException if the JDK files can't be read or the index can't be
+	 *                     written
+	 */
+	public static SinceIndex build(Path file) throws IOException {
+		return build(Path.of(System.getProperty("java.home"), "lib", "ct.sym"), file);
+	}
+
+	/**
+	 * Creates an index file from the given <code>ct.sym</code> file and the API
+	 * of the currently running JDK.
+	 *
+	 * @param ctsym <code>ct.sym</code> file
+	 * @param file  index file to create
+	 * @return index instance for the new file
+	 * @throws IOException if the JDK files can't be read or the index can't be
+	 *                     written
+	 */
+	public static SinceIndex build(Path ctsym, Path file) throws IOException {
+		var table = new LongHashTable(1 << 18);
+		addCtSym(ctsym, table);
+		addRuntime(table);
+		write(table, file);
+		return open(file);
+	}
+
+	/**
+	 * Returns the set of releases where the given element exists as a bitset. Bit
+	 * <i>n</i> is set for Java <i>n</i>.
+	 *
+	 * @param element element to look up, the module name is ignored
+	 * @return bitset of releases or <code>0</code> if the element is unknown
+	 */
+	public long getReleases(JavaDocElement element) {
+		return lookup(key(element));
+	}
+
+	/**
+	 * Returns the set of releases covered by this index as a bitset. Bit
+	 * <i>n</i> is set for Java <i>n</i>.
+	 *
+	 * @return bitset of releases
+	 */
+	public long getCoveredReleases() {
+		return releases;
+	}
+
+	/**
+	 * Checks whether the given element exists in the given Java version. For
+	 * versions not covered by this index this method always returns
+	 * <code>true</code>, as there is no evidence of absence.
+	 *
+	 * @param element element to check
+	 * @param version version as listed in {@link JavaDocLink#supportedVersions()}
+	 * @return <code>false</code> if the element is known not to exist in the
+	 *         given version
+	 */
+	public boolean exists(JavaDocElement element, String version) {
+		var bit = 1L << feature(version);
+		return (releases & bit) == 0 || (getReleases(element) & bit) != 0;
+	}
+
+	/**
+	 * Returns the first release covered by this index where the given element
+	 * exists.
+	 *
+	 * @param element element to check
+	 * @return version as listed in {@link JavaDocLink#supportedVersions()} or
+	 *         <code>null</code> if the element is unknown
+	 */
+	public String since(JavaDocElement element) {
+		var bits = getReleases(element);
+		return bits == 0 ? null : version(Long.numberOfTrailingZeros(bits));
+	}
+
+	private long lookup(long key) {
+		var mask = capacity - 1;
+		for (var i = LongHashTable.slot(key, capacity);; i = (i + 1) & mask) {
+			var pos = HEADER_SIZE + i * SLOT_SIZE;
+			var k = buffer.getLong(pos);
+			if (k == key) {
+				return buffer.getLong(pos + 8);
+			}
+			if (k == 0) {
+				return 0;
+			}
+		}
+	}
+
+	private static void addCtSym(Path ctsym, LongHashTable table) throws IOException {
+		try (var zip = new ZipFile(ctsym.toFile())) {
+			for (var entries = zip.entries(); entries.hasMoreElements();) {
+				var entry = entries.nextElement();
+				var name = entry.getName();
+				if (!name.endsWith(".sig")) {
+					continue;
+				}
+				var bits = releases(name.substring(0, name.indexOf('/')));
+				if (name.endsWith(MODULE_INFO)) {
+					// every release directory has a module-info for each module
+					var modulename = name.substring(name.indexOf('/') + 1, name.lastIndexOf('/'));
+					table.or(key(JavaDocElement.ofModule(modulename)), bits);
+					continue;
+				}
+				try (var in = zip.getInputStream(entry)) {
+					add(new ClassFileReader(in.readAllBytes()), bits, table);
+				}
+			}
+		}
+	}
+
+	private static void addRuntime(LongHashTable table) throws IOException {
+		var bits = 1L << Runtime.version().feature();
+		var index = PlatformIndex.get();
+		var modules = FileSystems.getFileSystem(URI.create("jrt:/")).getPath("/modules");
+		var documented = new HashSet<String>();
+		try (var files = Files.walk(modules)) {
+			for (var path : (Iterable<Path>) files::iterator) {
+				var name = path.getFileName() == null ? "" : path.getFileName().toString();
+				if (!name.endsWith(".class") || path.getNameCount() < 4) {
+					continue;
+				}
+				var pkg = path.subpath(2, path.getNameCount() - 1).toString();
+				if (index.moduleOf(pkg) != null) {
+					add(new ClassFileReader(Files.readAllBytes(path)), bits, table);
+					documented.add(path.getName(1).toString());
+				}
+			}
+		}
+		for (var modulename : documented) {
+			table.or(key(JavaDocElement.ofModule(modulename)), bits);
+		}
+	}
+
+	private static void add(ClassFileReader reader, long bits, LongHashTable table) {
+		var elements = reader.getElements(null);
+		if (!elements.isEmpty()) {
+			table.or(key(JavaDocElement.ofPackage(null, elements.get(0).getPackageName())), bits);
+		}
+		for (var element : elements) {
+			table.or(key(element), bits);
+		}
+	}
+
+	private static void write(LongHashTable table, Path file) throws IOException {
+		var capacity = LongHashTable.capacity(table.size());
+		var buffer = ByteBuffer.allocate(HEADER_SIZE + capacity * SLOT_SIZE);
+		buffer.putInt(0, MAGIC).putInt(4, FORMAT).putInt(8, capacity).putInt(12, table.size());
+		var mask = capacity - 1;
+		table.forEach((key, value) -> {
+			buffer.putLong(16, buffer.getLong(16) | value);
+			for (var i = LongHashTable.slot(key, capacity);; i = (i + 1) & mask) {
+				var pos = HEADER_SIZE + i * SLOT_SIZE;
+				if (buffer.getLong(pos) == 0) {
+					buffer.putLong(pos, key).putLong(pos + 8, value);
+					break;
+				}
+			}
+		});
+		try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	private static long key(JavaDocElement element) {
+		long fp;
+		switch (element.getKind()) {
+		case PACKAGE:
+			fp = ElementFingerprint.ofPackage(null, element.getPackageName());
+			break;
+		case CLASS:
+			fp = ElementFingerprint.ofClass(null, element.getClassName());
+			break;
+		case METHOD:
+			fp = ElementFingerprint.ofMethod(null, element.getClassName(), element.getMemberName(),
+					element.getDescriptor());
+			break;
+		case FIELD:
+			fp = ElementFingerprint.ofField(null, element.getClassName(), element.getMemberName());
+			break;
+		default:
+			fp = ElementFingerprint.ofModule(element.getModuleName());
+		}
+		return LongHashTable.nonZero(fp);
+	}
+
+	/**
+	 * Decodes the release directory names of <code>ct.sym</code> like
+	 * <code>9ABC</code> where every character represents a release.
+	 */
+	private static long releases(String dir) {
+		var bits = 0L;
+		for (var i = 0; i < dir.length(); i++) {
+			bits |= 1L << Character.digit(dir.charAt(i), Character.MAX_RADIX);
+		}
+		return bits;
+	}
+
+	private static int feature(String version) {
+		return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+	}
+
+	private static String version(int feature) {
+		return feature < 5 ? "1." + feature : String.valueOf(feature);
+	}
+
+}
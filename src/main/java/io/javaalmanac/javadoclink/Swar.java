@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SIMD within a register: scans and rewrites Latin-1 bytes eight at a time by
+ * reading them as a single <code>long</code>. A byte of a word equal to a
+ * given value is detected without carries between the bytes, so there are
+ * no false positives. Remaining bytes at the end of a range are processed one
+ * by one.
+ */
+final class Swar {
+
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	private static final long ONES = 0x0101010101010101L;
+	private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+
+	private Swar() {
+	}
+
+	/**
+	 * Returns the Latin-1 bytes of the given string.
+	 *
+	 * @return bytes or <code>null</code> if the string contains characters
+	 *         outside of Latin-1 or <code>'?'</code>, which is used as a
+	 *         replacement for such characters
+	 */
+	static byte[] latin1(String s) {
+		var bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+		return indexOf(bytes, 0, bytes.length, (byte) '?') == -1 ? bytes : null;
+	}
+
+	/**
+	 * Returns the position of the first byte with the given value in the given
+	 * range or <code>-1</code>.
+	 */
+	static int indexOf(byte[] bytes, int from, int to, byte value) {
+		var pattern = ONES * (value & 0xFF);
+		var pos = from;
+		for (; pos + Long.BYTES <= to; pos += Long.BYTES) {
+			var matches = matches((long) LONGS.get(bytes, pos), pattern);
+			if (matches != 0) {
+				return pos + (Long.numberOfTrailingZeros(matches) >>> 3);
+			}
+		}
+		for (; pos < to; pos++) {
+			if (bytes[pos] == value) {
+				return pos;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Replaces all bytes with one of the two given values in the given range.
+	 */
+	static void replace(byte[] bytes, int from, int to, byte value1, byte value2, byte replacement) {
+		var pattern1 = ONES * (value1 & 0xFF);
+		var pattern2 = ONES * (value2 & 0xFF);
+		var fill = ONES * (replacement & 0xFF);
+		var pos = from;
+		for (; pos + Long.BYTES <= to; pos += Long.BYTES) {
+			var word = (long) LONGS.get(bytes, pos);
+			var matches = matches(word, pattern1) | matches(word, pattern2);
+			if (matches != 0) {
+				// spread the high bit of every matching byte to the whole byte:
+				var mask = (matches >>> 7) * 0xFF;
+				LONGS.set(bytes, pos, (word & ~mask) | (fill & mask));
+			}
+		}
+		for (; pos < to; pos++) {
+			if (bytes[pos] == value1 || bytes[pos] == value2) {
+				bytes[pos] = replacement;
+			}
+		}
+	}
+
+	/**
+	 * @return word with the high bit set in every byte of the given word which
+	 *         is equal to the corresponding byte of the pattern
+	 */
+	private static long matches(long word, long pattern) {
+		var x = word ^ pattern;
+		return ~(((x & LOW7) + LOW7) | x | LOW7);
+	}
+
+}
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns dense integer IDs to modules, packages, classes, methods and fields
+ * and creates links for these IDs. Every symbol is normalized for the layout,
+ * the base URL and the page of the {@link JavaDocLink} instance once when it
+ * is added: module, package and class links are rendered completely, member
+ * anchors including the parameter list. Creating a link for IDs then costs
+ * array lookups and at most one concatenation.
+ * <p>
+ * Methods and fields are identified independently of their class, so for
+ * example <code>toString()</code> is stored once for all classes. Each kind
+ * of symbol has its own range of IDs starting at 0, IDs are only valid for
+ * the table and the kind which created them.
+ * <p>
+ * Symbols are added while holding a lock, links are created without locking.
+ * Like other objects, IDs have to be published safely to other threads.
+ */
+public final class SymbolTable {
+
+	private static final String CONSTRUCTOR = "<init>";
+
+	private final JavaDocLinkImpl jdl;
+
+	private final Map<String, Integer> moduleIds = new HashMap<>();
+	private final Map<String, Map<String, Integer>> packageIds = new HashMap<>();
+	private final Map<String, Map<String, Integer>> classIds = new HashMap<>();
+	private final Map<String, Integer> methodIds = new HashMap<>();
+	private final Map<String, Integer> fieldIds = new HashMap<>();
+
+	/** Parameter lists are shared by all methods with the same descriptor */
+	private final Map<String, String> parameters = new HashMap<>();
+
+	private int packageCount;
+	private int classCount;
+
+	private volatile String[] moduleNames = new String[16];
+	private volatile String[] moduleLinks = new String[16];
+	private volatile String[] packageLinks = new String[16];
+	private volatile String[] classLinks = new String[64];
+	private volatile String[] constructorAnchors = new String[64];
+	private volatile String[] methodAnchors = new String[64];
+	private volatile String[] methodParameters = new String[64];
+	private volatile String[] fieldAnchors = new String[64];
+
+	private SymbolTable(JavaDocLinkImpl jdl) {
+		this.jdl = jdl;
+	}
+
+	/**
+	 * Creates an empty table for links of the given instance.
+	 *
+	 * @param jdl layout, base URL and page to create links for
+	 * @return new symbol table
+	 * @throws IllegalArgumentException if the instance has not been created
+	 *                                  by {@link JavaDocLink#forVersion(String)}
+	 *                                  or derived from such an instance
+	 */
+	public static SymbolTable of(JavaDocLink jdl) {
+		return new SymbolTable(JavaDocLinkImpl.of(jdl));
+	}
+
+	/**
+	 * Returns the ID of the given module and adds it if necessary.
+	 *
+	 * @param modulename name in dot notation
+	 * @return module ID
+	 */
+	public synchronized int moduleId(String modulename) {
+		var id = moduleIds.get(modulename);
+		if (id != null) {
+			return id.intValue();
+		}
+		var next = moduleIds.size();
+		moduleNames = ensure(moduleNames, next);
+		moduleLinks = ensure(moduleLinks, next);
+		moduleNames[next] = modulename;
+		try {
+			moduleLinks[next] = jdl.moduleLink(modulename);
+		} catch (UnsupportedOperationException e) {
+			// thrown again by moduleLink(int)
+		}
+		moduleIds.put(modulename, Integer.valueOf(next));
+		return next;
+	}
+
+	/**
+	 * Returns the ID of the given package and adds it if necessary.
+	 *
+	 * @param modulename  name in dot notation or <code>null</code>
+	 * @param packagename name in JVM internal notation
+	 * @return package ID
+	 */
+	public synchronized int packageId(String modulename, String packagename) {
+		var ids = packageIds.computeIfAbsent(modulename, m -> new HashMap<>());
+		var id = ids.get(packagename);
+		if (id != null) {
+			return id.intValue();
+		}
+		var next = packageCount++;
+		packageLinks = ensure(packageLinks, next);
+		packageLinks[next] = jdl.packageLink(moduleName(modulename), packagename);
+		ids.put(packagename, Integer.valueOf(next));
+		return next;
+	}
+
+	/**
+	 * Returns the ID of the given class and adds it if necessary.
+	 *
+	 * @param modulename name in dot notation or <code>null</code>
+	 * @param classname  name in JVM internal notation
+	 * @return class ID
+	 */
+	public synchronized int classId(String modulename, String classname) {
+		var ids = classIds.computeIfAbsent(modulename, m -> new HashMap<>());
+		var id = ids.get(classname);
+		if (id != null) {
+			return id.intValue();
+		}
+		var next = classCount++;
+		classLinks = ensure(classLinks, next);
+		constructorAnchors = ensure(constructorAnchors, next);
+		classLinks[next] = jdl.classLink(moduleName(modulename), classname);
+		constructorAnchors[next] = "#".concat(jdl.constructorName(classname));
+		ids.put(classname, Integer.valueOf(next));
+		return next;
+	}
+
+	/**
+	 * Returns the ID of the given method and adds it if necessary. The ID is
+	 * independent of the class declaring the method.
+	 *
+	 * @param methodname name of the method or <code>&lt;init&gt;</code> for
+	 *                   constructors
+	 * @param desc       JVM internal signature descriptor
+	 * @param vararg     <code>true</code>, if the last array parameter is used
+	 *                   as vararg parameter
+	 * @return method ID
+	 */
+	public synchronized int methodId(String methodname, String desc, boolean vararg) {
+		var signature = (vararg ? "+" : "-").concat(desc);
+		var key = signature.concat(methodname);
+		var id = methodIds.get(key);
+		if (id != null) {
+			return id.intValue();
+		}
+		var next = methodIds.size();
+		methodAnchors = ensure(methodAnchors, next);
+		methodParameters = ensure(methodParameters, next);
+		var params = parameters.computeIfAbsent(signature, k -> jdl.getParameterStrategy().fromDesc(desc, vararg));
+		methodParameters[next] = params;
+		methodAnchors[next] = CONSTRUCTOR.equals(methodname) ? null : "#" + methodname + params;
+		methodIds.put(key, Integer.valueOf(next));
+		return next;
+	}
+
+	/**
+	 * Returns the ID of the given field and adds it if necessary. The ID is
+	 * independent of the class declaring the field.
+	 *
+	 * @param fieldname field name
+	 * @return field ID
+	 */
+	public synchronized int fieldId(String fieldname) {
+		var id = fieldIds.get(fieldname);
+		if (id != null) {
+			return id.intValue();
+		}
+		var next = fieldIds.size();
+		fieldAnchors = ensure(fieldAnchors, next);
+		fieldAnchors[next] = "#".concat(fieldname);
+		fieldIds.put(fieldname, Integer.valueOf(next));
+		return next;
+	}
+
+	/**
+	 * Creates a link to the module overview page. This operation is only
+	 * supported since Java 9.
+	 *
+	 * @param module module ID
+	 * @return link to module overview page
+	 */
+	public String moduleLink(int module) {
+		var link = moduleLinks[module];
+		return link == null ? jdl.moduleLink(moduleNames[module]) : link;
+	}
+
+	/**
+	 * Creates a link to the package overview page.
+	 *
+	 * @param pkg package ID
+	 * @return link to package overview page
+	 */
+	public String packageLink(int pkg) {
+		return packageLinks[pkg];
+	}
+
+	/**
+	 * Creates a link to the class page.
+	 *
+	 * @param cls class ID
+	 * @return link to the class page
+	 */
+	public String classLink(int cls) {
+		return classLinks[cls];
+	}
+
+	/**
+	 * Creates a link to a method or constructor within a class page.
+	 *
+	 * @param cls    ID of the class documenting the method
+	 * @param method method ID
+	 * @return link to the method within the class page
+	 */
+	public String methodLink(int cls, int method) {
+		var anchor = methodAnchors[method];
+		if (anchor == null) {
+			return classLinks[cls] + constructorAnchors[cls] + methodParameters[method];
+		}
+		return classLinks[cls].concat(anchor);
+	}
+
+	/**
+	 * Creates a link to a field within a class page.
+	 *
+	 * @param cls   ID of the class documenting the field
+	 * @param field field ID
+	 * @return link to the field within the class page
+	 */
+	public String fieldLink(int cls, int field) {
+		return classLinks[cls].concat(fieldAnchors[field]);
+	}
+
+	private String moduleName(String modulename) {
+		if (modulename == null) {
+			return null;
+		}
+		// share the module name instance
+		return moduleNames[moduleId(modulename)];
+	}
+
+	private static String[] ensure(String[] array, int index) {
+		return index < array.length ? array : Arrays.copyOf(array, array.length * 2);
+	}
+
+}
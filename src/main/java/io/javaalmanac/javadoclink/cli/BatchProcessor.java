@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import io.javaalmanac.javadoclink.JavaDocElement;
+import io.javaalmanac.javadoclink.JavaDocLink;
+
+/**
+ * Converts element records to links. The input is split into chunks of
+ * complete lines which are processed in parallel. Results are written in input
+ * order, while the number of chunks in flight is limited to twice the number
+ * of threads. Files are memory-mapped chunk by chunk.
+ */
+final class BatchProcessor {
+
+	static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
+	private final List<JavaDocLink> targets;
+	private final RecordFormat format;
+	private final ExecutorService executor;
+	private final int maxInFlight;
+	private final int chunkSize;
+
+	private final ArrayDeque<Future<byte[]>> inFlight = new ArrayDeque<>();
+
+	BatchProcessor(List<JavaDocLink> targets, RecordFormat format, ExecutorService executor, int threads,
+			int chunkSize) {
+		this.targets = targets;
+		this.format = format;
+		this.executor = executor;
+		this.maxInFlight = 2 * threads;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Processes the given file and writes the links to the output.
+	 */
+	void process(Path file, OutputStream out) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			var size = channel.size();
+			var pos = 0L;
+			while (pos < size) {
+				var length = Math.min(chunkSize, size - pos);
+				var buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, length);
+				if (pos + length < size) {
+					var end = lastNewline(buffer);
+					while (end == -1) {
+						// line longer than chunk
+						length = Math.min(length * 2, size - pos);
+						buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, length);
+						end = pos + length == size ? (int) length : lastNewline(buffer);
+					}
+					buffer.limit(end);
+				}
+				submit(buffer, out);
+				pos += buffer.limit();
+			}
+		}
+		flush(out);
+	}
+
+	/**
+	 * Processes the given stream and writes the links to the output.
+	 */
+	void process(InputStream in, OutputStream out) throws IOException {
+		var carry = new byte[0];
+		while (true) {
+			var chunk = new byte[Math.max(chunkSize, carry.length * 2)];
+			System.arraycopy(carry, 0, chunk, 0, carry.length);
+			var length = carry.length + in.readNBytes(chunk, carry.length, chunk.length - carry.length);
+			if (length < chunk.length) {
+				if (length > 0) {
+					submit(ByteBuffer.wrap(chunk, 0, length), out);
+				}
+				break;
+			}
+			var end = lastNewline(ByteBuffer.wrap(chunk, 0, length));
+			if (end == -1) {
+				carry = chunk;
+				continue;
+			}
+			carry = new byte[length - end];
+			System.arraycopy(chunk, end, carry, 0, carry.length);
+			submit(ByteBuffer.wrap(chunk, 0, end), out);
+		}
+		flush(out);
+	}
+
+	/**
+	 * Position after the last newline in the buffer or -1.
+	 */
+	private static int lastNewline(ByteBuffer buffer) {
+		for (var i = buffer.limit() - 1; i >= buffer.position(); i--) {
+			if (buffer.get(i) == '\n') {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	private void submit(ByteBuffer chunk, OutputStream out) throws IOException {
+		if (inFlight.size() >= maxInFlight) {
+			write(inFlight.removeFirst(), out);
+		}
+		inFlight.addLast(executor.submit(() -> convert(chunk)));
+	}
+
+	private void flush(OutputStream out) throws IOException {
+		while (!inFlight.isEmpty()) {
+			write(inFlight.removeFirst(), out);
+		}
+		out.flush();
+	}
+
+	private void write(Future<byte[]> result, OutputStream out) throws IOException {
+		try {
+			out.write(result.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	private byte[] convert(ByteBuffer chunk) {
+		var text = StandardCharsets.UTF_8.decode(chunk).toString();
+		var out = new StringBuilder(text.length() * 2);
+		var links = new ArrayList<String>(targets.size());
+		var start = 0;
+		while (start < text.length()) {
+			var end = text.indexOf('\n', start);
+			if (end == -1) {
+				end = text.length();
+			}
+			var line = text.substring(start, end > start && text.charAt(end - 1) == '\r' ? end - 1 : end);
+			start = end + 1;
+			if (line.isBlank() || line.startsWith("#")) {
+				continue;
+			}
+			var element = format.parse(line);
+			links.clear();
+			for (var target : targets) {
+				links.add(link(element, target));
+			}
+			format.appendLinks(out, links);
+			out.append('\n');
+		}
+		return out.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String link(JavaDocElement element, JavaDocLink target) {
+		try {
+			return element.link(target);
+		} catch (UnsupportedOperationException e) {
+			// modules before Java 9
+			return "";
+		}
+	}
+
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+/**
+ * Minimal reader and writer for flat JSON objects with string, boolean,
+ * number and <code>null</code> values as used for element records. Nested
+ * objects and arrays are not supported.
+ */
+final class JsonRecord {
+
+	static final String[] KEYS = { "kind", "module", "class", "member", "desc", "vararg" };
+
+	private final String json;
+	private int pos;
+
+	private JsonRecord(String json) {
+		this.json = json;
+	}
+
+	/**
+	 * Extracts the record fields in the order defined by {@link RecordFormat}.
+	 */
+	static String[] fields(String json) {
+		return new JsonRecord(json).parse();
+	}
+
+	static void appendString(StringBuilder out, String value) {
+		out.append('"');
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				out.append('\\').append(c);
+			} else if (c < 0x20) {
+				out.append(String.format("\\u%04x", (int) c));
+			} else {
+				out.append(c);
+			}
+		}
+		out.append('"');
+	}
+
+	private String[] parse() {
+		var fields = new String[RecordFormat.FIELD_COUNT];
+		skipWhitespace();
+		expect('{');
+		skipWhitespace();
+		if (peek() == '}') {
+			return fields;
+		}
+		while (true) {
+			skipWhitespace();
+			var key = string();
+			skipWhitespace();
+			expect(':');
+			skipWhitespace();
+			var value = value();
+			for (var i = 0; i < KEYS.length; i++) {
+				if (KEYS[i].equals(key)) {
+					fields[i] = value;
+				}
+			}
+			skipWhitespace();
+			if (peek() == '}') {
+				return fields;
+			}
+			expect(',');
+		}
+	}
+
+	private String value() {
+		if (peek() == '"') {
+			return string();
+		}
+		var start = pos;
+		while (pos < json.length() && ",} \t".indexOf(json.charAt(pos)) == -1) {
+			pos++;
+		}
+		var literal = json.substring(start, pos);
+		return "null".equals(literal) ? null : literal;
+	}
+
+	private String string() {
+		expect('"');
+		var sb = new StringBuilder();
+		while (true) {
+			var c = next();
+			if (c == '"') {
+				return sb.toString();
+			}
+			if (c == '\\') {
+				c = next();
+				switch (c) {
+				case 'n':
+					sb.append('\n');
+					break;
+				case 't':
+					sb.append('\t');
+					break;
+				case 'r':
+					sb.append('\r');
+					break;
+				case 'b':
+					sb.append('\b');
+					break;
+				case 'f':
+					sb.append('\f');
+					break;
+				case 'u':
+					if (pos + 4 > json.length()) {
+						throw invalid();
+					}
+					sb.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+					pos += 4;
+					break;
+				default:
+					sb.append(c);
+				}
+			} else {
+				sb.append(c);
+			}
+		}
+	}
+
+	private void skipWhitespace() {
+		while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+			pos++;
+		}
+	}
+
+	private char peek() {
+		if (pos >= json.length()) {
+			throw invalid();
+		}
+		return json.charAt(pos);
+	}
+
+	private char next() {
+		var c = peek();
+		pos++;
+		return c;
+	}
+
+	private void expect(char c) {
+		if (next() != c) {
+			throw invalid();
+		}
+	}
+
+	private IllegalArgumentException invalid() {
+		return new IllegalArgumentException("Invalid record: " + json);
+	}
+
+}
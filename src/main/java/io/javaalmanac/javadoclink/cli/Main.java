@@ -0,0 +1,440 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.javaalmanac.javadoclink.JavaDocArchive;
+import io.javaalmanac.javadoclink.JavaDocLink;
+import io.javaalmanac.javadoclink.LinkCache;
+
+/**
+ * Command line tool which reads element records from files or standard input
+ * and writes the corresponding links for one or more Javadoc versions.
+ */
+public final class Main {
+
+	private static final String USAGE = String.join(System.lineSeparator(), //
+			"Usage: java -jar javadoclink.jar [options] [files...]", //
+			"Reads element records (kind, module, class, member, desc, vararg) from the", //
+			"given files or from standard input and writes one line of links per record.", //
+			"Options:", //
+			"  -t, --target VERSION[=BASEURL]  Javadoc version and optional base URL,", //
+			"                                  can be repeated (default: latest version)", //
+			"  -f, --format tsv|csv|jsonl      record format (default: from file", //
+			"                                  extension, tsv for standard input)", //
+			"  -o, --output FILE               output file (default: standard output)", //
+			"  -j, --threads N                 number of worker threads", //
+			"                                  (default: number of processors)", //
+			"  --chunk-size BYTES              size of input chunks processed in parallel", //
+			"  --train                         create links for all versions and formats", //
+			"                                  without input, e.g. for a training run with", //
+			"                                  -XX:ArchiveClassesAtExit=javadoclink.jsa", //
+			"  --shards N                      create the links of all elements in the", //
+			"                                  given class directories, JAR files or @list", //
+			"                                  files with N worker processes", //
+			"  --connect HOST:PORT[,...]       send the shards to worker servers instead", //
+			"  --serve [HOST:]PORT             run as worker server for --connect, binds", //
+			"                                  to loopback without HOST; requests are not", //
+			"                                  authenticated, use other addresses only in", //
+			"                                  trusted networks", //
+			"  --retries N                     retries of failed shards (default: 2)", //
+			"  --shard-timeout SECONDS         time limit per shard attempt (default: 600)", //
+			"  --cache DIR                     link cache shared by the workers", //
+			"  --worker FILE                   internal: run a single shard for the artifacts", //
+			"                                  listed in FILE, started by --shards", //
+			"  --mirror VERSION=ZIP            serve the Javadoc ZIP at /VERSION/ with the", //
+			"                                  HTTP server, can be repeated", //
+			"  --http [HOST:]PORT              address of the HTTP server for --mirror", //
+			"  -h, --help                      print this message");
+
+	private final List<JavaDocLink> targets = new ArrayList<>();
+	private final List<String> targetSpecs = new ArrayList<>();
+	private final List<Path> files = new ArrayList<>();
+	private RecordFormat format;
+	private Path output;
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private int chunkSize = BatchProcessor.DEFAULT_CHUNK_SIZE;
+	private boolean help;
+	private boolean train;
+	private int shards;
+	private int retries = 2;
+	private Duration shardTimeout = ShardCoordinator.DEFAULT_TIMEOUT;
+	private final List<InetSocketAddress> workers = new ArrayList<>();
+	private InetSocketAddress serve;
+	private Path worker;
+	private Path cache;
+	private final Map<String, Path> mirrors = new LinkedHashMap<>();
+	private InetSocketAddress http;
+
+	private Main() {
+	}
+
+	/**
+	 * Entry point of the command line tool.
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(String... args) {
+		var status = run(args, System.in, System.out, System.err);
+		if (status != 0) {
+			System.exit(status);
+		}
+	}
+
+	static int run(String[] args, InputStream in, OutputStream out, PrintStream err) {
+		var main = new Main();
+		try {
+			main.parseArgs(args);
+		} catch (IllegalArgumentException e) {
+			err.println(e.getMessage());
+			err.println(USAGE);
+			return 2;
+		}
+		if (main.help) {
+			var usage = new PrintStream(out, true);
+			usage.println(USAGE);
+			return 0;
+		}
+		try {
+			main.execute(in, out);
+			return 0;
+		} catch (IOException | RuntimeException e) {
+			err.println(e.getMessage());
+			return 1;
+		}
+	}
+
+	private void parseArgs(String[] args) {
+		for (var i = 0; i < args.length; i++) {
+			var arg = args[i];
+			switch (arg) {
+			case "-t":
+			case "--target":
+				var spec = argument(args, ++i, arg);
+				targets.add(target(spec));
+				targetSpecs.add(spec);
+				break;
+			case "-f":
+			case "--format":
+				format = format(argument(args, ++i, arg));
+				break;
+			case "-o":
+			case "--output":
+				output = Path.of(argument(args, ++i, arg));
+				break;
+			case "-j":
+			case "--threads":
+				threads = positive(argument(args, ++i, arg), arg);
+				break;
+			case "-h":
+			case "--help":
+				help = true;
+				break;
+			case "--chunk-size":
+				chunkSize = positive(argument(args, ++i, arg), arg);
+				break;
+			case "--train":
+				train = true;
+				break;
+			case "--shards":
+				shards = positive(argument(args, ++i, arg), arg);
+				break;
+			case "--connect":
+				for (var address : argument(args, ++i, arg).split(",")) {
+					workers.add(address(address, arg));
+				}
+				break;
+			case "--serve":
+				serve = address(argument(args, ++i, arg), arg);
+				break;
+			case "--worker":
+				worker = Path.of(argument(args, ++i, arg));
+				break;
+			case "--retries":
+				retries = number(argument(args, ++i, arg), arg, 0);
+				break;
+			case "--shard-timeout":
+				shardTimeout = Duration.ofSeconds(positive(argument(args, ++i, arg), arg));
+				break;
+			case "--cache":
+				cache = Path.of(argument(args, ++i, arg));
+				break;
+			case "--mirror":
+				mirror(argument(args, ++i, arg));
+				break;
+			case "--http":
+				http = address(argument(args, ++i, arg), arg);
+				break;
+			default:
+				if (arg.startsWith("-")) {
+					throw new IllegalArgumentException("Unknown option: " + arg);
+				}
+				files.add(Path.of(arg));
+			}
+		}
+		if (targets.isEmpty()) {
+			var versions = JavaDocLink.supportedVersions();
+			var latest = versions.get(versions.size() - 1);
+			targets.add(JavaDocLink.forVersion(latest));
+			targetSpecs.add(latest);
+		}
+		if (worker != null && output == null) {
+			throw new IllegalArgumentException("Output file required for --worker");
+		}
+		if (!mirrors.isEmpty() && http == null) {
+			throw new IllegalArgumentException("HTTP address required for --mirror");
+		}
+		if (!workers.isEmpty() && shards == 0) {
+			shards = workers.size();
+		}
+	}
+
+	private static String argument(String[] args, int index, String option) {
+		if (index >= args.length) {
+			throw new IllegalArgumentException("Missing argument for " + option);
+		}
+		return args[index];
+	}
+
+	static JavaDocLink target(String spec) {
+		var sep = spec.indexOf('=');
+		var version = sep == -1 ? spec : spec.substring(0, sep);
+		var jdl = JavaDocLink.forVersion(version);
+		if (jdl == null) {
+			throw new IllegalArgumentException("Unsupported version: " + version);
+		}
+		return sep == -1 ? jdl : jdl.withBaseUrl(spec.substring(sep + 1));
+	}
+
+	private void mirror(String spec) {
+		var sep = spec.indexOf('=');
+		if (sep == -1 || JavaDocLink.forVersion(spec.substring(0, sep)) == null) {
+			throw new IllegalArgumentException("Invalid mirror: " + spec);
+		}
+		mirrors.put(spec.substring(0, sep), Path.of(spec.substring(sep + 1)));
+	}
+
+	private static InetSocketAddress address(String spec, String option) {
+		var sep = spec.lastIndexOf(':');
+		try {
+			var port = Integer.parseInt(spec.substring(sep + 1));
+			var host = sep == -1 ? InetAddress.getLoopbackAddress().getHostAddress() : spec.substring(0, sep);
+			return new InetSocketAddress(host, port);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid address for " + option + ": " + spec);
+		}
+	}
+
+	private static RecordFormat format(String name) {
+		try {
+			return RecordFormat.valueOf(name.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unknown format: " + name);
+		}
+	}
+
+	private static int positive(String value, String option) {
+		return number(value, option, 1);
+	}
+
+	private static int number(String value, String option, int min) {
+		try {
+			var n = Integer.parseInt(value);
+			if (n >= min) {
+				return n;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new IllegalArgumentException(
+				(min > 0 ? "Positive number" : "Number") + " expected for " + option + ": " + value);
+	}
+
+	private void execute(InputStream in, OutputStream out) throws IOException {
+		if (worker != null) {
+			withCacheDir(dir -> {
+				// writes the output file atomically by itself
+				try (var linkCache = LinkCache.open(dir)) {
+					new ShardWorker(targets, linkCache, ShardWorker.DEFAULT_RUN_SIZE).render(paths(worker), output);
+				}
+			});
+			return;
+		}
+		var executor = Executors.newFixedThreadPool(threads, r -> {
+			var thread = new Thread(r, "javadoclink-worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			if (train) {
+				Training.run(executor, threads);
+			} else if (!mirrors.isEmpty()) {
+				mirror(executor, new PrintStream(out, true));
+			} else if (serve != null) {
+				try (var server = new ServerSocket(serve.getPort(), 0, serve.getAddress())) {
+					withCacheDir(dir -> ShardWorker.serve(server, dir, executor));
+				}
+			} else {
+				// only opened here, the other modes don't write links
+				var target = new BufferedOutputStream(output == null ? out : Files.newOutputStream(output), 1 << 16);
+				try {
+					links(executor, in, target);
+				} finally {
+					if (output != null) {
+						target.close();
+					}
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void links(ExecutorService executor, InputStream in, BufferedOutputStream target) throws IOException {
+		if (shards > 0) {
+			shard(executor, target);
+			target.flush();
+			return;
+		}
+		if (files.isEmpty()) {
+			var processor = new BatchProcessor(targets, format == null ? RecordFormat.TSV : format, executor, threads,
+					chunkSize);
+			processor.process(in, target);
+		}
+		for (var file : files) {
+			var processor = new BatchProcessor(targets,
+					format == null ? RecordFormat.forFileName(file.getFileName().toString()) : format, executor,
+					threads, chunkSize);
+			processor.process(file, target);
+		}
+	}
+
+	private void shard(ExecutorService executor, OutputStream target) throws IOException {
+		var artifacts = new ArrayList<Path>();
+		for (var file : files) {
+			var name = file.toString();
+			if (name.startsWith("@")) {
+				artifacts.addAll(paths(Path.of(name.substring(1))));
+			} else {
+				artifacts.add(file);
+			}
+		}
+		var workdir = Files.createTempDirectory("javadoclink-shards");
+		try {
+			var runner = workers.isEmpty() //
+					? ShardCoordinator.processes(targetSpecs, cache == null ? workdir.resolve("cache") : cache,
+							shardTimeout)
+					: ShardCoordinator.sockets(targetSpecs, workers, shardTimeout);
+			new ShardCoordinator(shards, retries, runner, executor).run(artifacts, workdir, target);
+		} finally {
+			ShardCoordinator.delete(workdir);
+		}
+	}
+
+	private void mirror(ExecutorService executor, PrintStream log) throws IOException {
+		var archives = new LinkedHashMap<String, JavaDocArchive>();
+		try {
+			for (var entry : mirrors.entrySet()) {
+				archives.put(entry.getKey(), JavaDocArchive.open(entry.getValue()));
+			}
+		} catch (IOException e) {
+			for (var archive : archives.values()) {
+				archive.close();
+			}
+			throw e;
+		}
+		try (var server = new MirrorServer(http, archives, executor)) {
+			var address = server.getAddress();
+			log.println("Serving " + archives.keySet() + " at http://" + host(address) + ":" + address.getPort() + "/");
+			new CountDownLatch(1).await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private interface CacheAction {
+		void run(Path cacheDir) throws IOException;
+	}
+
+	/**
+	 * Runs the given action with the cache directory. Without
+	 * <code>--cache</code> a temporary directory is used, which is deleted
+	 * afterwards or when the JVM is terminated before.
+	 */
+	private void withCacheDir(CacheAction action) throws IOException {
+		if (cache != null) {
+			action.run(cache);
+			return;
+		}
+		var dir = Files.createTempDirectory("javadoclink-cache");
+		var cleanup = new Thread(() -> {
+			try {
+				ShardCoordinator.delete(dir);
+			} catch (IOException e) {
+				// best effort while the JVM terminates
+			}
+		});
+		Runtime.getRuntime().addShutdownHook(cleanup);
+		try {
+			action.run(dir);
+		} finally {
+			try {
+				Runtime.getRuntime().removeShutdownHook(cleanup);
+			} catch (IllegalStateException e) {
+				// shutdown in progress, the hook deletes the directory
+			}
+			ShardCoordinator.delete(dir);
+		}
+	}
+
+	/**
+	 * Host part of a URL for the given address, IPv6 addresses are enclosed in
+	 * brackets.
+	 */
+	static String host(InetSocketAddress address) {
+		var host = address.getHostString();
+		return host.indexOf(':') == -1 ? host : "[" + host + "]";
+	}
+
+	private static List<Path> paths(Path listfile) throws IOException {
+		var paths = new ArrayList<Path>();
+		for (var line : Files.readAllLines(listfile, StandardCharsets.UTF_8)) {
+			if (!line.isBlank()) {
+				paths.add(Path.of(line.strip()));
+			}
+		}
+		return paths;
+	}
+
+}
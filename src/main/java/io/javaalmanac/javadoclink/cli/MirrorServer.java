@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.javaalmanac.javadoclink.JavaDocArchive;
+
+/**
+ * HTTP front end for Javadoc ZIP archives. Pages are served at
+ * <code>/VERSION/PATH</code> where <code>PATH</code> is a link created by
+ * {@link io.javaalmanac.javadoclink.JavaDocLink} for this version. With the
+ * query parameter <code>anchor</code> only the existence of the anchor is
+ * checked, the response is 204 if it exists and 404 otherwise.
+ */
+final class MirrorServer implements Closeable {
+
+	/** No charset for HTML, pages of older versions declare ISO-8859-1 themselves */
+	private static final Map<String, String> CONTENT_TYPES = Map.of( //
+			"html", "text/html", //
+			"css", "text/css", //
+			"js", "text/javascript", //
+			"png", "image/png", //
+			"gif", "image/gif", //
+			"svg", "image/svg+xml", //
+			"zip", "application/zip");
+
+	private final HttpServer server;
+	private final Map<String, JavaDocArchive> archives;
+
+	MirrorServer(InetSocketAddress address, Map<String, JavaDocArchive> archives, Executor executor)
+			throws IOException {
+		this.archives = archives;
+		this.server = HttpServer.create(address, 0);
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+		server.start();
+	}
+
+	InetSocketAddress getAddress() {
+		return server.getAddress();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			var method = exchange.getRequestMethod();
+			if (!method.equals("GET") && !method.equals("HEAD")) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			var path = exchange.getRequestURI().getPath();
+			var sep = path.indexOf('/', 1);
+			var archive = sep == -1 ? null : archives.get(path.substring(1, sep));
+			var page = sep == -1 ? null : path.substring(sep + 1);
+			var size = archive == null ? -1 : archive.size(page);
+			if (size == -1) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			var anchor = anchor(exchange.getRequestURI().getRawQuery());
+			if (anchor != null) {
+				exchange.sendResponseHeaders(archive.exists(page + "#" + anchor) ? 204 : 404, -1);
+				return;
+			}
+			exchange.getResponseHeaders().set("Content-Type", contentType(page));
+			if (method.equals("HEAD")) {
+				exchange.getResponseHeaders().set("Content-Length", String.valueOf(size));
+				exchange.sendResponseHeaders(200, -1);
+				return;
+			}
+			exchange.sendResponseHeaders(200, size);
+			archive.transferTo(page, Channels.newChannel(exchange.getResponseBody()));
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private static String anchor(String query) {
+		if (query == null) {
+			return null;
+		}
+		for (var param : query.split("&")) {
+			if (param.startsWith("anchor=")) {
+				// still encoded like the anchor of a link
+				return param.substring(7);
+			}
+		}
+		return null;
+	}
+
+	private static String contentType(String page) {
+		var sep = page.lastIndexOf('.');
+		var type = sep == -1 ? null : CONTENT_TYPES.get(page.substring(sep + 1).toLowerCase(Locale.ROOT));
+		return type == null ? "application/octet-stream" : type;
+	}
+
+	@Override
+	public void close() throws IOException {
+		server.stop(0);
+		for (var archive : archives.values()) {
+			archive.close();
+		}
+	}
+
+}
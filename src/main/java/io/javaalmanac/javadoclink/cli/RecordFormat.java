@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import java.util.List;
+import java.util.Locale;
+
+import io.javaalmanac.javadoclink.JavaDocElement;
+
+/**
+ * Supported formats for element records. Every record describes one element
+ * with the fields kind, module, class, member, descriptor and vararg. Fields
+ * which do not apply to the element kind are empty. The output uses the same
+ * format with one link per target.
+ */
+enum RecordFormat {
+
+	/** Tab separated values */
+	TSV {
+		@Override
+		String[] fields(String line) {
+			return split(line, '\t');
+		}
+
+		@Override
+		void appendLinks(StringBuilder out, List<String> links) {
+			join(out, links, '\t');
+		}
+	},
+
+	/**
+	 * Comma separated values as specified in RFC 4180: values may be enclosed in
+	 * double quotes, quoted values may contain commas and double quotes written
+	 * twice. Links containing commas or double quotes are quoted.
+	 */
+	CSV {
+		@Override
+		String[] fields(String line) {
+			var fields = new String[FIELD_COUNT];
+			var pos = 0;
+			for (var i = 0; i < FIELD_COUNT; i++) {
+				if (pos > line.length()) {
+					fields[i] = "";
+					continue;
+				}
+				var value = new StringBuilder();
+				pos = unquote(line, pos, value) + 1;
+				fields[i] = value.toString();
+			}
+			return fields;
+		}
+
+		@Override
+		void appendLinks(StringBuilder out, List<String> links) {
+			for (var i = 0; i < links.size(); i++) {
+				if (i > 0) {
+					out.append(',');
+				}
+				quote(out, links.get(i));
+			}
+		}
+	},
+
+	/**
+	 * One JSON object per line with the keys <code>kind</code>,
+	 * <code>module</code>, <code>class</code>, <code>member</code>,
+	 * <code>desc</code> and <code>vararg</code>.
+	 */
+	JSONL {
+		@Override
+		String[] fields(String line) {
+			return JsonRecord.fields(line);
+		}
+
+		@Override
+		void appendLinks(StringBuilder out, List<String> links) {
+			out.append('[');
+			for (var i = 0; i < links.size(); i++) {
+				if (i > 0) {
+					out.append(',');
+				}
+				JsonRecord.appendString(out, links.get(i));
+			}
+			out.append(']');
+		}
+	};
+
+	static final int KIND = 0;
+	static final int MODULE = 1;
+	static final int CLASS = 2;
+	static final int MEMBER = 3;
+	static final int DESC = 4;
+	static final int VARARG = 5;
+	static final int FIELD_COUNT = 6;
+
+	abstract String[] fields(String line);
+
+	abstract void appendLinks(StringBuilder out, List<String> links);
+
+	/**
+	 * Parses a single record.
+	 *
+	 * @param line record
+	 * @return element described by the record
+	 * @throws IllegalArgumentException if the record is invalid
+	 */
+	JavaDocElement parse(String line) {
+		var fields = fields(line);
+		JavaDocElement.Kind kind;
+		try {
+			kind = JavaDocElement.Kind.valueOf(fields[KIND].trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw invalid(line);
+		}
+		var modulename = value(fields[MODULE]);
+		switch (kind) {
+		case MODULE:
+			return JavaDocElement.ofModule(required(modulename, line));
+		case PACKAGE:
+			return JavaDocElement.ofPackage(modulename, required(value(fields[CLASS]), line));
+		case CLASS:
+			return JavaDocElement.ofClass(modulename, required(value(fields[CLASS]), line));
+		case METHOD:
+			return JavaDocElement.ofMethod(modulename, required(value(fields[CLASS]), line),
+					required(value(fields[MEMBER]), line), required(value(fields[DESC]), line),
+					isTrue(fields[VARARG]));
+		case FIELD:
+			return JavaDocElement.ofField(modulename, required(value(fields[CLASS]), line),
+					required(value(fields[MEMBER]), line));
+		default:
+			throw invalid(line);
+		}
+	}
+
+	/**
+	 * Determines the format from the extension of the given file name.
+	 *
+	 * @param filename file name
+	 * @return format, {@link #TSV} for unknown extensions
+	 */
+	static RecordFormat forFileName(String filename) {
+		var lower = filename.toLowerCase(Locale.ROOT);
+		if (lower.endsWith(".csv")) {
+			return CSV;
+		}
+		if (lower.endsWith(".jsonl") || lower.endsWith(".json")) {
+			return JSONL;
+		}
+		return TSV;
+	}
+
+	private static String[] split(String line, char separator) {
+		var fields = new String[FIELD_COUNT];
+		var start = 0;
+		for (var i = 0; i < FIELD_COUNT; i++) {
+			var end = start > line.length() ? -1 : line.indexOf(separator, start);
+			if (start > line.length()) {
+				fields[i] = "";
+			} else if (end == -1) {
+				fields[i] = line.substring(start);
+				start = line.length() + 1;
+			} else {
+				fields[i] = line.substring(start, end);
+				start = end + 1;
+			}
+		}
+		return fields;
+	}
+
+	/**
+	 * Reads the CSV value starting at the given position.
+	 *
+	 * @return position of the separator after the value or the end of the line
+	 */
+	private static int unquote(String line, int pos, StringBuilder value) {
+		if (pos == line.length() || line.charAt(pos) != '"') {
+			var end = line.indexOf(',', pos);
+			end = end == -1 ? line.length() : end;
+			value.append(line, pos, end);
+			return end;
+		}
+		for (pos++; pos < line.length(); pos++) {
+			var c = line.charAt(pos);
+			if (c == '"') {
+				if (pos + 1 < line.length() && line.charAt(pos + 1) == '"') {
+					pos++;
+				} else {
+					// only a separator may follow the closing quote:
+					if (pos + 1 < line.length() && line.charAt(pos + 1) != ',') {
+						throw invalid(line);
+					}
+					return pos + 1;
+				}
+			}
+			value.append(c);
+		}
+		throw invalid(line);
+	}
+
+	private static void quote(StringBuilder out, String value) {
+		if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1
+				&& value.indexOf('\r') == -1) {
+			out.append(value);
+			return;
+		}
+		out.append('"');
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c == '"') {
+				out.append('"');
+			}
+			out.append(c);
+		}
+		out.append('"');
+	}
+
+	private static void join(StringBuilder out, List<String> links, char separator) {
+		for (var i = 0; i < links.size(); i++) {
+			if (i > 0) {
+				out.append(separator);
+			}
+			out.append(links.get(i));
+		}
+	}
+
+	private static String value(String field) {
+		if (field == null) {
+			return null;
+		}
+		var trimmed = field.trim();
+		return trimmed.isEmpty() ? null : trimmed;
+	}
+
+	private static String required(String value, String line) {
+		if (value == null) {
+			throw invalid(line);
+		}
+		return value;
+	}
+
+	private static boolean isTrue(String field) {
+		var v = value(field);
+		return "true".equalsIgnoreCase(v) || "1".equals(v);
+	}
+
+	private static IllegalArgumentException invalid(String line) {
+		return new IllegalArgumentException("Invalid record: " + line);
+	}
+
+}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Creates the links of a large set of artifacts with several worker JVMs.
+ * Artifacts are assigned to shards by a stable hash of their path, so the
+ * same artifact always ends up in the same shard. Every shard is rendered by
+ * a worker into a sorted file, failed shards are retried. Finally the shard
+ * files are merged into a single sorted output, which is therefore identical
+ * for any number of shards and workers.
+ */
+final class ShardCoordinator {
+
+	/** Default time limit for a single attempt of a shard */
+	static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(10);
+
+	private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+
+	/**
+	 * Renders a single shard into a sorted output file.
+	 */
+	interface Runner {
+
+		/**
+		 * @param shard   index of the shard
+		 * @param attempt number of previous failed attempts for this shard
+		 * @param input   file with one artifact path per line
+		 * @param output  file to write the sorted lines to
+		 * @throws IOException if the shard could not be rendered
+		 */
+		void run(int shard, int attempt, Path input, Path output) throws IOException, InterruptedException;
+	}
+
+	private final int shards;
+	private final int retries;
+	private final Runner runner;
+	private final ExecutorService executor;
+
+	ShardCoordinator(int shards, int retries, Runner runner, ExecutorService executor) {
+		this.shards = shards;
+		this.retries = retries;
+		this.runner = runner;
+		this.executor = executor;
+	}
+
+	/**
+	 * Shard of the given artifact, independent of the JVM and platform.
+	 */
+	static int shardOf(String artifact, int shards) {
+		var crc = new CRC32();
+		crc.update(artifact.getBytes(StandardCharsets.UTF_8));
+		return (int) (crc.getValue() % shards);
+	}
+
+	/**
+	 * Renders all artifacts and writes the merged lines to the output.
+	 *
+	 * @param artifacts class file directories or JAR files
+	 * @param workdir   empty directory for the shard files
+	 * @param out       output for the merged lines
+	 */
+	void run(List<Path> artifacts, Path workdir, OutputStream out) throws IOException {
+		var inputs = new ArrayList<List<Path>>(shards);
+		for (var i = 0; i < shards; i++) {
+			inputs.add(new ArrayList<>());
+		}
+		for (var artifact : artifacts) {
+			inputs.get(shardOf(artifact.toString(), shards)).add(artifact);
+		}
+		var results = new ArrayList<Future<Path>>(shards);
+		for (var i = 0; i < shards; i++) {
+			var input = workdir.resolve(String.format("shard-%05d.in", i));
+			try (var writer = new PrintWriter(Files.newBufferedWriter(input, StandardCharsets.UTF_8))) {
+				for (var artifact : inputs.get(i)) {
+					writer.print(artifact);
+					writer.print('\n');
+				}
+			}
+			var shard = i;
+			var output = workdir.resolve(String.format("shard-%05d.out", i));
+			results.add(executor.submit(() -> runShard(shard, input, output)));
+		}
+		var outputs = new ArrayList<Path>(shards);
+		try {
+			for (var result : results) {
+				outputs.add(result.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+		} finally {
+			for (var result : results) {
+				result.cancel(true);
+			}
+		}
+		SortedLines.merge(outputs, out);
+	}
+
+	private Path runShard(int shard, Path input, Path output) throws IOException, InterruptedException {
+		IOException failure = null;
+		for (var attempt = 0; attempt <= retries; attempt++) {
+			try {
+				runner.run(shard, attempt, input, output);
+				if (Files.isRegularFile(output)) {
+					return output;
+				}
+				failure = new IOException("No output for shard " + shard);
+			} catch (IOException e) {
+				failure = e;
+			}
+			Files.deleteIfExists(output);
+		}
+		var message = "Shard " + shard + " failed after " + (retries + 1) + " attempts: " + failure.getMessage();
+		throw new IOException(message, failure);
+	}
+
+	/**
+	 * Runs every shard in a new JVM with the class path of this tool. Workers
+	 * which do not finish within the timeout are killed and the attempt fails.
+	 */
+	static Runner processes(List<String> targets, Path cacheDir, Duration timeout) {
+		var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		String classpath;
+		try {
+			classpath = Path.of(Main.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+		} catch (Exception e) {
+			throw new IllegalStateException("Can't determine class path", e);
+		}
+		return (shard, attempt, input, output) -> {
+			var command = new ArrayList<>(List.of(java, "-cp", classpath, Main.class.getName(), "--worker",
+					input.toString(), "-o", output.toString(), "--cache", cacheDir.toString()));
+			for (var target : targets) {
+				command.add("-t");
+				command.add(target);
+			}
+			var log = output.resolveSibling(output.getFileName() + ".log");
+			var process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+			try {
+				if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+					throw new IOException("Worker timed out after " + timeout.toSeconds() + " seconds");
+				}
+				var status = process.exitValue();
+				if (status != 0) {
+					throw new IOException("Worker exited with " + status + ": " + Files.readString(log).trim());
+				}
+			} finally {
+				process.destroyForcibly();
+			}
+		};
+	}
+
+	/**
+	 * Sends every shard to one of the given worker servers. Retries go to the
+	 * next worker. The timeout limits every single read, including the wait for
+	 * the response while the worker renders the shard.
+	 */
+	static Runner sockets(List<String> targets, List<InetSocketAddress> workers, Duration timeout) {
+		return (shard, attempt, input, output) -> {
+			var address = workers.get((shard + attempt) % workers.size());
+			try (var socket = new Socket()) {
+				socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+				socket.setSoTimeout((int) Math.min(timeout.toMillis(), Integer.MAX_VALUE));
+				var request = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+				request.print(ShardWorker.PROTOCOL + "\n");
+				for (var target : targets) {
+					request.print("target " + target + "\n");
+				}
+				for (var artifact : Files.readAllLines(input, StandardCharsets.UTF_8)) {
+					request.print("artifact " + Path.of(artifact).toAbsolutePath() + "\n");
+				}
+				request.print("end\n");
+				request.flush();
+				var response = new BufferedReader(
+						new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+				var status = response.readLine();
+				if (status == null || !status.startsWith("ok ")) {
+					throw new IOException("Worker " + address + " failed: " + status);
+				}
+				long expected;
+				try {
+					expected = Long.parseLong(status.substring(3));
+				} catch (NumberFormatException e) {
+					throw new IOException("Worker " + address + " sent invalid status: " + status, e);
+				}
+				var count = 0L;
+				var temp = output.resolveSibling(output.getFileName() + ".tmp");
+				try (var writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+					for (var line = response.readLine(); line != null; line = response.readLine()) {
+						writer.write(line);
+						writer.write('\n');
+						count++;
+					}
+				}
+				if (count != expected) {
+					Files.delete(temp);
+					throw new IOException("Worker " + address + " sent " + count + " of " + expected + " lines");
+				}
+				Files.move(temp, output);
+			}
+		};
+	}
+
+	/**
+	 * Deletes the work directory with all shard files.
+	 */
+	static void delete(Path workdir) throws IOException {
+		try (var walk = Files.walk(workdir)) {
+			for (var file : (Iterable<Path>) walk.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(file);
+			}
+		}
+	}
+
+}
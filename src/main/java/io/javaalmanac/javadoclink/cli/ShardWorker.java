@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+
+import io.javaalmanac.javadoclink.ElementLink;
+import io.javaalmanac.javadoclink.JavaDocElement;
+import io.javaalmanac.javadoclink.JavaDocLink;
+import io.javaalmanac.javadoclink.LinkCache;
+
+/**
+ * Renders the links of one shard of artifacts. Every line of the output
+ * contains the artifact, the element record and one link per target, all tab
+ * separated. Lines are sorted in runs of limited size which are merged into
+ * the output file, so memory usage does not depend on the size of the shard.
+ * The output file is replaced atomically, an existing output is therefore
+ * always complete.
+ * <p>
+ * Workers run as separate processes for a single shard or as server which
+ * renders shards requested by a {@link ShardCoordinator} over a socket.
+ */
+final class ShardWorker {
+
+	static final String PROTOCOL = "javadoclink-shard/1";
+
+	static final int DEFAULT_RUN_SIZE = 1 << 18;
+
+	private final List<JavaDocLink> targets;
+	private final LinkCache cache;
+	private final int runSize;
+
+	ShardWorker(List<JavaDocLink> targets, LinkCache cache, int runSize) {
+		this.targets = targets;
+		this.cache = cache;
+		this.runSize = runSize;
+	}
+
+	/**
+	 * Renders the given artifacts into the output file.
+	 *
+	 * @return number of lines written
+	 */
+	long render(List<Path> artifacts, Path output) throws IOException {
+		var runs = new ArrayList<Path>();
+		var lines = new ArrayList<String>();
+		var temp = output.resolveSibling(output.getFileName() + ".tmp");
+		try {
+			for (var artifact : artifacts) {
+				appendLines(artifact, lines);
+				if (lines.size() >= runSize) {
+					var run = output.resolveSibling(output.getFileName() + ".run" + runs.size());
+					SortedLines.write(lines, run);
+					runs.add(run);
+					lines.clear();
+				}
+			}
+			long count;
+			if (runs.isEmpty()) {
+				count = SortedLines.write(lines, temp);
+			} else {
+				if (!lines.isEmpty()) {
+					var run = output.resolveSibling(output.getFileName() + ".run" + runs.size());
+					SortedLines.write(lines, run);
+					runs.add(run);
+				}
+				try (var out = Files.newOutputStream(temp)) {
+					count = SortedLines.merge(runs, out);
+				}
+			}
+			Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return count;
+		} finally {
+			for (var run : runs) {
+				Files.deleteIfExists(run);
+			}
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private void appendLines(Path artifact, List<String> lines) throws IOException {
+		var links = new ArrayList<List<ElementLink>>(targets.size());
+		for (var target : targets) {
+			links.add(cache.getLinks(artifact, null, target));
+		}
+		var elements = links.get(0);
+		for (var i = 0; i < elements.size(); i++) {
+			var line = new StringBuilder(256);
+			line.append(artifact);
+			appendRecord(line, elements.get(i).getElement());
+			for (var targetLinks : links) {
+				line.append('\t').append(targetLinks.get(i).getLink());
+			}
+			lines.add(line.toString());
+		}
+	}
+
+	private static void appendRecord(StringBuilder line, JavaDocElement element) {
+		var kind = element.getKind();
+		line.append('\t').append(kind.name().toLowerCase(Locale.ROOT));
+		line.append('\t').append(value(element.getModuleName()));
+		var name = kind == JavaDocElement.Kind.PACKAGE ? element.getPackageName() : element.getClassName();
+		line.append('\t').append(value(name));
+		line.append('\t').append(value(element.getMemberName()));
+		line.append('\t').append(value(element.getDescriptor()));
+		line.append('\t').append(kind == JavaDocElement.Kind.METHOD ? String.valueOf(element.isVararg()) : "");
+	}
+
+	private static String value(String s) {
+		return s == null ? "" : s;
+	}
+
+	/**
+	 * Accepts shard requests until the server socket is closed. Each
+	 * connection is handled on the executor.
+	 * <p>
+	 * A request consists of the protocol line, <code>target</code> lines with
+	 * the target specifications, <code>artifact</code> lines and a final
+	 * <code>end</code> line. The response is <code>ok</code> with the number of
+	 * lines followed by the lines, or <code>error</code> with a message.
+	 */
+	static void serve(ServerSocket server, Path cacheDir, ExecutorService executor) throws IOException {
+		try (var cache = LinkCache.open(cacheDir)) {
+			while (!server.isClosed()) {
+				Socket socket;
+				try {
+					socket = server.accept();
+				} catch (IOException e) {
+					if (server.isClosed()) {
+						break;
+					}
+					throw e;
+				}
+				executor.execute(() -> handle(socket, cache));
+			}
+		}
+	}
+
+	private static void handle(Socket socket, LinkCache cache) {
+		try (socket) {
+			var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			var out = socket.getOutputStream();
+			Path output = null;
+			try {
+				if (!PROTOCOL.equals(in.readLine())) {
+					throw new IllegalArgumentException("Unsupported protocol");
+				}
+				var targets = new ArrayList<JavaDocLink>();
+				var artifacts = new ArrayList<Path>();
+				for (var line = in.readLine(); !"end".equals(line); line = in.readLine()) {
+					if (line == null) {
+						throw new IllegalArgumentException("Incomplete request");
+					} else if (line.startsWith("target ")) {
+						targets.add(Main.target(line.substring(7)));
+					} else if (line.startsWith("artifact ")) {
+						artifacts.add(Path.of(line.substring(9)));
+					} else {
+						throw new IllegalArgumentException("Invalid request: " + line);
+					}
+				}
+				output = Files.createTempFile("javadoclink-shard", ".out");
+				var count = new ShardWorker(targets, cache, DEFAULT_RUN_SIZE).render(artifacts, output);
+				writeAscii(out, "ok " + count + "\n");
+				Files.copy(output, out);
+			} catch (IOException | RuntimeException e) {
+				writeAscii(out, "error " + String.valueOf(e.getMessage()).replace('\n', ' ') + "\n");
+			} finally {
+				if (output != null) {
+					Files.deleteIfExists(output);
+				}
+			}
+			out.flush();
+		} catch (IOException e) {
+			// connection lost, the coordinator retries the shard
+		}
+	}
+
+	private static void writeAscii(OutputStream out, String s) throws IOException {
+		out.write(s.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
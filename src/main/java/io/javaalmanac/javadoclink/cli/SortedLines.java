@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Files of lines in ascending order without duplicates, used for the shard
+ * outputs and for the sorted runs of a single shard. Lines are compared with
+ * {@link String#compareTo(String)}, so the merged result does not depend on
+ * the number of files or their order.
+ */
+final class SortedLines {
+
+	private static class Head implements Comparable<Head> {
+		final BufferedReader reader;
+		String line;
+
+		Head(BufferedReader reader) {
+			this.reader = reader;
+		}
+
+		boolean next() throws IOException {
+			line = reader.readLine();
+			return line != null;
+		}
+
+		@Override
+		public int compareTo(Head other) {
+			return line.compareTo(other.line);
+		}
+	}
+
+	private SortedLines() {
+	}
+
+	/**
+	 * Sorts the given lines in place and writes them to a file.
+	 *
+	 * @return number of lines written
+	 */
+	static long write(List<String> lines, Path file) throws IOException {
+		Collections.sort(lines);
+		var count = 0L;
+		try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			String last = null;
+			for (var line : lines) {
+				if (!line.equals(last)) {
+					writer.write(line);
+					writer.write('\n');
+					count++;
+					last = line;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Merges sorted files into a single sorted stream of lines. Only one line
+	 * per file is held in memory.
+	 *
+	 * @return number of lines written
+	 */
+	static long merge(List<Path> files, OutputStream out) throws IOException {
+		var readers = new ArrayList<BufferedReader>(files.size());
+		try {
+			var queue = new PriorityQueue<Head>(Math.max(1, files.size()));
+			for (var file : files) {
+				var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+				readers.add(reader);
+				var head = new Head(reader);
+				if (head.next()) {
+					queue.add(head);
+				}
+			}
+			var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+			var count = 0L;
+			String last = null;
+			while (!queue.isEmpty()) {
+				var head = queue.poll();
+				if (!head.line.equals(last)) {
+					writer.write(head.line);
+					writer.write('\n');
+					count++;
+					last = head.line;
+				}
+				if (head.next()) {
+					queue.add(head);
+				}
+			}
+			writer.flush();
+			return count;
+		} finally {
+			for (var reader : readers) {
+				reader.close();
+			}
+		}
+	}
+
+}
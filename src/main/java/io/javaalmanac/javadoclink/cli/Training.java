@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import io.javaalmanac.javadoclink.JavaDocElement;
+import io.javaalmanac.javadoclink.JavaDocLink;
+
+/**
+ * Workload for training runs which record the loaded classes in a class data
+ * sharing archive, e.g. with <code>-XX:ArchiveClassesAtExit</code>. Links are
+ * created for every supported version, so every layout and every strategy of
+ * the layouts is used at least once. All code paths of the command line tool
+ * are exercised with records in every format: element names, descriptors with
+ * all primitive types, arrays, varargs and nested types, reflection types and
+ * references in Javadoc notation.
+ */
+final class Training {
+
+	private static final String[][] RECORDS = { //
+			{ "module", "java.base" }, //
+			{ "package", "java.base", "java/util" }, //
+			{ "class", "java.base", "java/lang/String" }, //
+			{ "class", "java.base", "java/util/Map$Entry" }, //
+			{ "field", "java.base", "java/lang/Integer", "MAX_VALUE" }, //
+			{ "method", "java.base", "java/lang/String", "<init>", "([CII)V", "false" }, //
+			{ "method", "java.base", "java/util/AbstractMap$SimpleEntry", "<init>", "(Ljava/util/Map$Entry;)V",
+					"false" }, //
+			{ "method", "java.base", "java/lang/String", "format",
+					"(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;", "true" }, //
+			{ "method", "java.base", "java/util/Map", "ofEntries", "([Ljava/util/Map$Entry;)Ljava/util/Map;",
+					"true" }, //
+			{ "method", "java.base", "java/lang/reflect/Array", "newInstance",
+					"(Ljava/lang/Class;[I)Ljava/lang/Object;", "true" }, //
+			{ "method", "java.base", "java/util/Arrays", "deepEquals", "([Ljava/lang/Object;[Ljava/lang/Object;)Z",
+					"false" } };
+
+	private static final String PRIMITIVES = "ZBCSIJFD";
+
+	private static final String[] REFERENCES = { "String", "String#indexOf(int, int)",
+			"java.util.Map.Entry#getKey()", "java.base/java.util.List#toArray(T[])", "Integer#MAX_VALUE" };
+
+	private Training() {
+	}
+
+	/**
+	 * Runs the training workload.
+	 *
+	 * @param executor executor for batch processing
+	 * @param threads  number of threads of the executor
+	 */
+	static void run(ExecutorService executor, int threads) throws IOException {
+		var targets = new ArrayList<JavaDocLink>();
+		for (var version : JavaDocLink.supportedVersions()) {
+			targets.add(JavaDocLink.forVersion(version).withBaseUrl("https://example.com/api/" + version));
+		}
+		for (var format : RecordFormat.values()) {
+			var input = records(format).getBytes(StandardCharsets.UTF_8);
+			new BatchProcessor(targets, format, executor, threads, BatchProcessor.DEFAULT_CHUNK_SIZE)
+					.process(new ByteArrayInputStream(input), OutputStream.nullOutputStream());
+		}
+		for (var target : targets) {
+			reflectionLinks(target);
+		}
+	}
+
+	private static String records(RecordFormat format) {
+		var records = new ArrayList<String[]>(List.of(RECORDS));
+		for (var p : PRIMITIVES.toCharArray()) {
+			records.add(new String[] { "method", "java.base", "java/util/Arrays", "fill", "([" + p + p + ")V",
+					"false" });
+		}
+		var out = new StringBuilder();
+		for (var record : records) {
+			switch (format) {
+			case TSV:
+				out.append(String.join("\t", record));
+				break;
+			case CSV:
+				out.append(String.join(",", record));
+				break;
+			default:
+				out.append('{');
+				for (var i = 0; i < record.length; i++) {
+					if (i > 0) {
+						out.append(',');
+					}
+					JsonRecord.appendString(out, JsonRecord.KEYS[i]);
+					out.append(':');
+					JsonRecord.appendString(out, record[i]);
+				}
+				out.append('}');
+			}
+			out.append('\n');
+		}
+		return out.toString();
+	}
+
+	private static void reflectionLinks(JavaDocLink target) throws IOException {
+		try {
+			target.methodLink(String.class.getMethod("indexOf", int.class, int.class));
+			target.methodLink(String.class.getMethod("format", String.class, Object[].class));
+			target.methodLink(String.class.getConstructor(char[].class, int.class, int.class));
+			target.methodLink(HashMap.class.getConstructor(Map.class));
+			target.methodLink(ArrayList.class, "toString", "()Ljava/lang/String;");
+			target.fieldLink(Integer.class.getField("MAX_VALUE"));
+			target.fieldLink(Integer.class, "MIN_VALUE");
+		} catch (NoSuchMethodException | NoSuchFieldException e) {
+			throw new IOException(e);
+		}
+		target.classLink(Map.Entry.class);
+		target.packageLink(Object.class.getModule(), Object.class.getPackage());
+		target.links(Map.Entry.class).count();
+		for (var reference : REFERENCES) {
+			JavaDocElement.parse(reference).link(target);
+		}
+	}
+
+}
@@ -0,0 +1,436 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.doclet;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.ModuleElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import jdk.javadoc.doclet.DocletEnvironment;
+import jdk.javadoc.doclet.Reporter;
+import jdk.javadoc.doclet.StandardDoclet;
+
+import io.javaalmanac.javadoclink.ElementLink;
+import io.javaalmanac.javadoclink.JavaDocElement;
+import io.javaalmanac.javadoclink.JavaDocLink;
+import io.javaalmanac.javadoclink.LinkManifest;
+
+/**
+ * Doclet which generates the standard Javadoc tree and additionally writes a
+ * manifest with the link of every documented module, package, type, field,
+ * constructor and method. The manifest is read with {@link LinkManifest}.
+ * Usage:
+ *
+ * <pre>
+ * javadoc -docletpath javadoclink.jar -doclet io.javaalmanac.javadoclink.doclet.ManifestDoclet \
+ *         --link-manifest api.jdlm -d api ...
+ * </pre>
+ *
+ * The page paths are derived from the documented elements, including whether
+ * they belong to a named module. The anchors are looked up in the generated
+ * pages: the anchor of the layout of the running Javadoc tool is tried first,
+ * then the anchors of all other known layouts. The manifest contains the
+ * anchor found on the page. If a page or an anchor can't be found the run
+ * fails.
+ */
+public class ManifestDoclet extends StandardDoclet {
+
+	private static final String MANIFEST_OPTION = "--link-manifest";
+	private static final String DESTINATION_OPTION = "-d";
+
+	private Reporter reporter;
+	private Path manifest;
+	private Path destination = Path.of("");
+
+	/**
+	 * Creates a new doclet instance, called by the Javadoc tool.
+	 */
+	public ManifestDoclet() {
+	}
+
+	@Override
+	public void init(Locale locale, Reporter reporter) {
+		super.init(locale, reporter);
+		this.reporter = reporter;
+	}
+
+	@Override
+	public String getName() {
+		return "ManifestDoclet";
+	}
+
+	@Override
+	public Set<Option> getSupportedOptions() {
+		var options = new HashSet<Option>();
+		for (var option : super.getSupportedOptions()) {
+			if (option.getNames().contains(DESTINATION_OPTION)) {
+				options.add(new DelegatingOption(option) {
+					@Override
+					public boolean process(String name, List<String> arguments) {
+						destination = Path.of(arguments.get(0));
+						return super.process(name, arguments);
+					}
+				});
+			} else {
+				options.add(option);
+			}
+		}
+		options.add(new Option() {
+			@Override
+			public int getArgumentCount() {
+				return 1;
+			}
+
+			@Override
+			public String getDescription() {
+				return "File to write the link manifest to";
+			}
+
+			@Override
+			public Kind getKind() {
+				return Kind.STANDARD;
+			}
+
+			@Override
+			public List<String> getNames() {
+				return List.of(MANIFEST_OPTION);
+			}
+
+			@Override
+			public String getParameters() {
+				return "<file>";
+			}
+
+			@Override
+			public boolean process(String name, List<String> arguments) {
+				manifest = Path.of(arguments.get(0));
+				return true;
+			}
+		});
+		return options;
+	}
+
+	@Override
+	public boolean run(DocletEnvironment environment) {
+		if (manifest == null) {
+			reporter.print(Diagnostic.Kind.ERROR, "Missing option " + MANIFEST_OPTION);
+			return false;
+		}
+		if (!super.run(environment)) {
+			return false;
+		}
+		var collected = new ArrayList<ElementLink>();
+		new Collector(environment, collected).collect();
+		var links = resolve(collected);
+		if (links == null) {
+			return false;
+		}
+		try {
+			LinkManifest.write(manifest, links);
+		} catch (IOException e) {
+			reporter.print(Diagnostic.Kind.ERROR, "Can't write " + manifest + ": " + e.getMessage());
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Replaces the anchors of all links with the anchors found on the pages.
+	 * Pages are read one at a time as the links of a type are consecutive.
+	 *
+	 * @return links or <code>null</code> if a page or an anchor is missing
+	 */
+	private List<ElementLink> resolve(List<ElementLink> links) {
+		var resolved = new ArrayList<ElementLink>(links.size());
+		var valid = true;
+		String page = null;
+		String content = null;
+		for (var link : links) {
+			var url = link.getLink();
+			var sep = url.indexOf('#');
+			var path = sep == -1 ? url : url.substring(0, sep);
+			if (!path.equals(page)) {
+				page = path;
+				try {
+					content = Files.readString(destination.resolve(path));
+				} catch (IOException e) {
+					content = null;
+					error("Page not found for " + link.getElement() + ": " + path);
+					valid = false;
+				}
+			}
+			if (content == null) {
+				continue;
+			}
+			if (sep == -1) {
+				resolved.add(link);
+				continue;
+			}
+			var anchor = findAnchor(content, link.getElement(), url.substring(sep + 1));
+			if (anchor == null) {
+				error("Anchor not found for " + link.getElement() + ": " + url);
+				valid = false;
+			} else {
+				resolved.add(new ElementLink(link.getElement(), path + '#' + anchor));
+			}
+		}
+		return valid ? resolved : null;
+	}
+
+	/**
+	 * @return the first candidate anchor which exists on the page or
+	 *         <code>null</code>
+	 */
+	static String findAnchor(String content, JavaDocElement element, String anchor) {
+		var candidates = new LinkedHashSet<String>();
+		candidates.add(anchor);
+		for (var version : JavaDocLink.supportedVersions()) {
+			try {
+				var link = element.link(JavaDocLink.forVersion(version));
+				candidates.add(link.substring(link.indexOf('#') + 1));
+			} catch (UnsupportedOperationException e) {
+				// Layout without module pages
+			}
+		}
+		for (var candidate : candidates) {
+			var id = escape(URLDecoder.decode(candidate, StandardCharsets.UTF_8));
+			if (content.contains("id=\"" + id + "\"") || content.contains("name=\"" + id + "\"")) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	private void error(String message) {
+		reporter.print(Diagnostic.Kind.ERROR, message);
+	}
+
+	private static String escape(String s) {
+		return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+	}
+
+	/**
+	 * Creates the links for all included elements.
+	 */
+	private static class Collector {
+
+		private final DocletEnvironment environment;
+		private final Elements elements;
+		private final Types types;
+		private final List<ElementLink> links;
+		private final JavaDocLink named;
+		private final JavaDocLink unnamed;
+
+		Collector(DocletEnvironment environment, List<ElementLink> links) {
+			this.environment = environment;
+			this.elements = environment.getElementUtils();
+			this.types = environment.getTypeUtils();
+			this.links = links;
+			var versions = JavaDocLink.supportedVersions();
+			var version = String.valueOf(Runtime.version().feature());
+			if (!versions.contains(version)) {
+				version = versions.get(versions.size() - 1);
+			}
+			this.named = JavaDocLink.forVersion(version);
+			// Without modules the Javadoc 11+ layout has no module directories
+			this.unnamed = Runtime.version().feature() >= 11 ? JavaDocLink.forVersion("10") : named;
+		}
+
+		void collect() {
+			for (var element : environment.getIncludedElements()) {
+				switch (element.getKind()) {
+				case MODULE:
+					var module = (ModuleElement) element;
+					if (!module.isUnnamed()) {
+						add(JavaDocElement.ofModule(module.getQualifiedName().toString()));
+					}
+					break;
+				case PACKAGE:
+					var pkg = (PackageElement) element;
+					if (!pkg.isUnnamed()) {
+						var packagename = internalName(pkg.getQualifiedName().toString());
+						add(JavaDocElement.ofPackage(modulename(pkg), packagename));
+					}
+					break;
+				default:
+					if (element instanceof TypeElement) {
+						collectType((TypeElement) element);
+					}
+				}
+			}
+		}
+
+		private void collectType(TypeElement type) {
+			var modulename = modulename(type);
+			var classname = binaryName(type);
+			add(JavaDocElement.ofClass(modulename, classname));
+			for (var member : type.getEnclosedElements()) {
+				if (!environment.isIncluded(member)) {
+					continue;
+				}
+				switch (member.getKind()) {
+				case FIELD:
+				case ENUM_CONSTANT:
+					add(JavaDocElement.ofField(modulename, classname, member.getSimpleName().toString()));
+					break;
+				case METHOD:
+				case CONSTRUCTOR:
+					var executable = (ExecutableElement) member;
+					var name = member.getKind() == ElementKind.CONSTRUCTOR ? "<init>"
+							: member.getSimpleName().toString();
+					add(JavaDocElement.ofMethod(modulename, classname, name, descriptor(executable),
+							executable.isVarArgs()));
+					break;
+				default:
+					// nested types are included elements themselves
+				}
+			}
+		}
+
+		private void add(JavaDocElement element) {
+			var jdl = element.getModuleName() == null ? unnamed : named;
+			links.add(new ElementLink(element, element.link(jdl)));
+		}
+
+		private String modulename(Element element) {
+			var module = elements.getModuleOf(element);
+			return module == null || module.isUnnamed() ? null : module.getQualifiedName().toString();
+		}
+
+		private String binaryName(TypeElement type) {
+			return internalName(elements.getBinaryName(type).toString());
+		}
+
+		private String descriptor(ExecutableElement executable) {
+			var desc = new StringBuilder("(");
+			for (var param : executable.getParameters()) {
+				descriptor(desc, param.asType());
+			}
+			desc.append(')');
+			descriptor(desc, executable.getReturnType());
+			return desc.toString();
+		}
+
+		private void descriptor(StringBuilder desc, TypeMirror type) {
+			var erased = types.erasure(type);
+			switch (erased.getKind()) {
+			case BOOLEAN:
+				desc.append('Z');
+				break;
+			case BYTE:
+				desc.append('B');
+				break;
+			case CHAR:
+				desc.append('C');
+				break;
+			case SHORT:
+				desc.append('S');
+				break;
+			case INT:
+				desc.append('I');
+				break;
+			case LONG:
+				desc.append('J');
+				break;
+			case FLOAT:
+				desc.append('F');
+				break;
+			case DOUBLE:
+				desc.append('D');
+				break;
+			case VOID:
+				desc.append('V');
+				break;
+			case ARRAY:
+				desc.append('[');
+				descriptor(desc, ((ArrayType) erased).getComponentType());
+				break;
+			case DECLARED:
+				var element = (TypeElement) ((DeclaredType) erased).asElement();
+				desc.append('L').append(binaryName(element)).append(';');
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported type: " + type);
+			}
+		}
+
+		private static String internalName(String name) {
+			return name.replace('.', '/');
+		}
+	}
+
+	/**
+	 * Option of the standard doclet with additional processing.
+	 */
+	private static class DelegatingOption implements Option {
+
+		private final Option delegate;
+
+		DelegatingOption(Option delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int getArgumentCount() {
+			return delegate.getArgumentCount();
+		}
+
+		@Override
+		public String getDescription() {
+			return delegate.getDescription();
+		}
+
+		@Override
+		public Kind getKind() {
+			return delegate.getKind();
+		}
+
+		@Override
+		public List<String> getNames() {
+			return delegate.getNames();
+		}
+
+		@Override
+		public String getParameters() {
+			return delegate.getParameters();
+		}
+
+		@Override
+		public boolean process(String option, List<String> arguments) {
+			return delegate.process(option, arguments);
+		}
+	}
+
+}
@@ -13,9 +13,11 @@
  *******************************************************************************/
 
 /**
- * The only public API is the interface
+ * The main API is the interface
  * {@link io.javaalmanac.javadoclink.JavaDocLink}. Use factory method
  * {@link io.javaalmanac.javadoclink.JavaDocLink#forVersion(String)} to get a
- * instance for your Java version.
+ * instance for your Java version. Language elements can also be described with
+ * {@link io.javaalmanac.javadoclink.JavaDocElement}, e.g. parsed from Javadoc
+ * references.
  */
 package io.javaalmanac.javadoclink;
\ No newline at end of file
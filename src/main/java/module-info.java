@@ -16,5 +16,12 @@
  * Generator for Javadoc deep links.
  */
 module io.javaalmanac.javadoclink {
+	// LinkChecker accepts an HttpClient in its public API
+	requires transitive java.net.http;
+	requires static jdk.httpserver;
+	requires static jdk.javadoc;
+
 	exports io.javaalmanac.javadoclink;
+	// the doclet is instantiated by the Javadoc tool
+	exports io.javaalmanac.javadoclink.doclet to jdk.javadoc;
 }
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Verifies the number of bytes allocated per link for every layout and every
+ * entry point of {@link JavaDocLink}. The budgets include the resulting string
+ * for a typical base URL and are about twice the values measured after
+ * warm-up, so only real regressions fail the test.
+ */
+public class AllocationBudgetTest {
+
+	private static final int WARMUP = 20_000;
+	private static final int ITERATIONS = 2_000;
+
+	private static com.sun.management.ThreadMXBean threads;
+
+	private static int sink;
+
+	@BeforeAll
+	public static void setup() {
+		threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		threads.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	private static final class Operation {
+
+		final String name;
+		final int budget;
+		final Function<JavaDocLink, String> link;
+
+		Operation(String name, int budget, Function<JavaDocLink, String> link) {
+			this.name = name;
+			this.budget = budget;
+			this.link = link;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private static List<Operation> operations() throws Exception {
+		var constructor = Thread.class.getConstructor(ThreadGroup.class, Runnable.class, String.class, long.class);
+		var method = String.class.getMethod("format", String.class, Object[].class);
+		var field = Math.class.getField("PI");
+		var ops = new ArrayList<Operation>();
+		ops.add(new Operation("module", 384, jdl -> jdl.moduleLink("java.base")));
+		ops.add(new Operation("module reflective", 384, jdl -> jdl.moduleLink(Object.class.getModule())));
+		ops.add(new Operation("package", 512, jdl -> jdl.packageLink("java.base", "java/util/concurrent")));
+		ops.add(new Operation("package reflective", 512,
+				jdl -> jdl.packageLink(Object.class.getModule(), Object.class.getPackage())));
+		ops.add(new Operation("class", 512, jdl -> jdl.classLink("java.base", "java/util/Map$Entry")));
+		ops.add(new Operation("class reflective", 640, jdl -> jdl.classLink(java.util.Map.Entry.class)));
+		ops.add(new Operation("method", 1280, jdl -> jdl.methodLink("java.base", "java/lang/String", "format",
+				"(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;", true)));
+		ops.add(new Operation("constructor", 1536, jdl -> jdl.methodLink("java.base", "java/lang/Thread", "<init>",
+				"(Ljava/lang/ThreadGroup;Ljava/lang/Runnable;Ljava/lang/String;J)V", false)));
+		ops.add(new Operation("method reflective", 1408, jdl -> jdl.methodLink(method)));
+		ops.add(new Operation("constructor reflective", 1792, jdl -> jdl.methodLink(constructor)));
+		ops.add(new Operation("method inherited", 1280,
+				jdl -> jdl.methodLink(java.util.ArrayList.class, "toString", "()Ljava/lang/String;")));
+		ops.add(new Operation("field", 640, jdl -> jdl.fieldLink("java.base", "java/lang/Math", "PI")));
+		ops.add(new Operation("field reflective", 768, jdl -> jdl.fieldLink(field)));
+		ops.add(new Operation("field inherited", 768, jdl -> jdl.fieldLink(java.util.jar.JarFile.class, "OPEN_READ")));
+		return ops;
+	}
+
+	private static Stream<Arguments> budgets() throws Exception {
+		var args = new ArrayList<Arguments>();
+		for (var version : JavaDocLink.supportedVersions()) {
+			for (var op : operations()) {
+				if (op.name.startsWith("module") && !supportsModules(version)) {
+					continue;
+				}
+				args.add(Arguments.of(version, op));
+			}
+		}
+		return args.stream();
+	}
+
+	private static boolean supportsModules(String version) {
+		try {
+			JavaDocLink.forVersion(version).moduleLink("java.base");
+			return true;
+		} catch (UnsupportedOperationException e) {
+			return false;
+		}
+	}
+
+	@ParameterizedTest(name = "{0} {1}")
+	@MethodSource("budgets")
+	public void should_stay_within_allocation_budget(String version, Operation op) {
+		var jdl = JavaDocLink.forVersion(version).withBaseUrl("https://docs.oracle.com/en/java/javase/17/docs/api/");
+		for (var i = 0; i < WARMUP; i++) {
+			sink += op.link.apply(jdl).length();
+		}
+		var thread = Thread.currentThread().getId();
+		var before = threads.getThreadAllocatedBytes(thread);
+		for (var i = 0; i < ITERATIONS; i++) {
+			sink += op.link.apply(jdl).length();
+		}
+		var perCall = (threads.getThreadAllocatedBytes(thread) - before) / ITERATIONS;
+		assertTrue(perCall <= op.budget,
+				String.format("%s %s allocates %d bytes per call, budget is %d", version, op, perCall, op.budget));
+	}
+
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ApiDiffTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void should_report_added_removed_and_changed_elements() throws IOException {
+		var v1 = compile("v1", //
+				"p/A.java", "package p; public class A {" //
+						+ " public int f;" //
+						+ " public int g;" //
+						+ " public void m(int x) {}" //
+						+ " public void removed() {}" //
+						+ " public String ret() { return null; }" //
+						+ " public void vararg(String[] s) {}" //
+						+ " void internal() {}" //
+						+ "}", //
+				"p/Gone.java", "package p; public class Gone {}");
+		var v2 = compile("v2", //
+				"p/A.java", "package p; public class A {" //
+						+ " public int f;" //
+						+ " public static int g;" //
+						+ " public void m(int x) {}" //
+						+ " public void added(String... s) {}" //
+						+ " public Object ret() { return null; }" //
+						+ " public void vararg(String... s) {}" //
+						+ " void internal2() {}" //
+						+ "}", //
+				"q/New.java", "package q; public class New {}");
+
+		var changes = new ApiDiff(JavaDocLink.forVersion("8"), JavaDocLink.forVersion("10")).compare(v1, v2);
+
+		assertEquals(Set.of( //
+				"REMOVED p/A.html#removed--", //
+				"REMOVED p/Gone.html", //
+				"REMOVED p/Gone.html#Gone--", //
+				"ADDED p/A.html#added(java.lang.String...)", //
+				"ADDED q/package-summary.html", //
+				"ADDED q/New.html", //
+				"ADDED q/New.html#%3Cinit%3E()", //
+				"CHANGED p/A.html#g -> p/A.html#g", //
+				"CHANGED p/A.html#ret-- -> p/A.html#ret()", //
+				"CHANGED p/A.html#vararg-java.lang.String:A- -> p/A.html#vararg(java.lang.String...)"),
+				describe(changes));
+	}
+
+	@Test
+	public void should_report_nothing_for_identical_inputs() throws IOException {
+		var v1 = compile("v1", "p/A.java", "package p; public class A { public void m() {} }");
+
+		assertTrue(new ApiDiff(JavaDocLink.forVersion("11"), JavaDocLink.forVersion("11")).compare(v1, v1).isEmpty());
+	}
+
+	@Test
+	public void should_consider_exported_packages_of_modules() throws IOException {
+		var v1 = compile("v1", //
+				"module-info.java", "module m { exports p; }", //
+				"p/A.java", "package p; public class A {}", //
+				"q/B.java", "package q; public class B {}");
+		var v2 = compile("v2", //
+				"module-info.java", "module m { exports q; }", //
+				"p/A.java", "package p; public class A {}", //
+				"q/B.java", "package q; public class B {}");
+
+		var changes = new ApiDiff(JavaDocLink.forVersion("11"), JavaDocLink.forVersion("11")).compare(v1, v2);
+
+		assertEquals(Set.of( //
+				"REMOVED m/p/package-summary.html", //
+				"REMOVED m/p/A.html", //
+				"REMOVED m/p/A.html#%3Cinit%3E()", //
+				"ADDED m/q/package-summary.html", //
+				"ADDED m/q/B.html", //
+				"ADDED m/q/B.html#%3Cinit%3E()"), describe(changes));
+	}
+
+	@Test
+	public void should_report_moved_elements_as_changed() throws IOException {
+		var v1 = compile("v1", //
+				"module-info.java", "module m1 { exports p; }", //
+				"p/A.java", "package p; public class A {}");
+		var v2 = compile("v2", //
+				"module-info.java", "module m2 { exports p; }", //
+				"p/A.java", "package p; public class A {}");
+
+		var changes = new ApiDiff(JavaDocLink.forVersion("11"), JavaDocLink.forVersion("11")).compare(v1, v2);
+
+		assertEquals(Set.of( //
+				"REMOVED m1/module-summary.html", //
+				"ADDED m2/module-summary.html", //
+				"CHANGED m1/p/package-summary.html -> m2/p/package-summary.html", //
+				"CHANGED m1/p/A.html -> m2/p/A.html", //
+				"CHANGED m1/p/A.html#%3Cinit%3E() -> m2/p/A.html#%3Cinit%3E()"), describe(changes));
+	}
+
+	@Test
+	public void should_read_jar_files() throws IOException {
+		var v1 = compile("v1", "p/A.java", "package p; public class A {}");
+		var v2 = compile("v2", "p/A.java", "package p; public class A { public A(int i) {} }");
+
+		var changes = new ApiDiff(JavaDocLink.forVersion("10"), JavaDocLink.forVersion("10"))
+				.compare(TestArtifacts.jar(v1), TestArtifacts.jar(v2));
+
+		assertEquals(Set.of( //
+				"REMOVED p/A.html#%3Cinit%3E()", //
+				"ADDED p/A.html#%3Cinit%3E(int)"), describe(changes));
+	}
+
+	@Test
+	public void should_read_module_directories() throws IOException {
+		compile("mods/m1", //
+				"module-info.java", "module m1 { exports p; }", //
+				"p/A.java", "package p; public class A {}");
+		compile("mods/m2", //
+				"module-info.java", "module m2 { exports q; }", //
+				"q/B.java", "package q; public class B {}");
+
+		var table = ApiDiff.read(dir.resolve("mods"));
+
+		// modules, packages, classes and default constructors
+		assertEquals(8, table.size());
+	}
+
+	@Test
+	public void should_compare_jdk_with_itself() throws IOException {
+		var modules = ApiDiff.jrtModules(Path.of(System.getProperty("java.home")));
+
+		var table = ApiDiff.read(modules);
+		var changes = new ApiDiff(JavaDocLink.forVersion("11"), JavaDocLink.forVersion("17")).compare(modules,
+				modules);
+
+		assertTrue(table.size() > 20000, String.valueOf(table.size()));
+		assertTrue(changes.isEmpty(), changes.toString());
+		var row = table.row(LongHashTable.nonZero(ElementFingerprint.ofClass(null, "java/lang/String")));
+		assertEquals(JavaDocElement.ofClass("java.base", "java/lang/String"), table.element(row));
+		assertEquals(-1, table.row(LongHashTable.nonZero(ElementFingerprint.ofClass(null, "sun/misc/Launcher"))));
+	}
+
+	private Path compile(String name, String... sources) throws IOException {
+		return TestArtifacts.compile(dir.resolve("src").resolve(name), dir.resolve(name), sources);
+	}
+
+	private static Set<String> describe(List<ApiChange> changes) {
+		return changes.stream().map(c -> {
+			switch (c.getType()) {
+			case ADDED:
+				return "ADDED " + c.getNew().getLink();
+			case REMOVED:
+				return "REMOVED " + c.getOld().getLink();
+			default:
+				return "CHANGED " + c.getOld().getLink() + " -> " + c.getNew().getLink();
+			}
+		}).collect(Collectors.toCollection(TreeSet::new));
+	}
+
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ApiUsageScannerTest {
+
+	private static final JavaDocLink JDL = JavaDocLink.forVersion("11");
+
+	private static final String SOURCE = "package app; import java.util.ArrayList;" //
+			+ " public class Main {" //
+			+ "  public static void main(String[] args) {" //
+			+ "   ArrayList<String> list = new ArrayList<>();" //
+			+ "   list.add(\"a\");" //
+			+ "   list.add(\"b\");" //
+			+ "   System.out.println(list.toString());" //
+			+ "   System.out.println(String.format(\"%s\", list));" //
+			+ "   args.clone();" //
+			+ "   switch (args.length) { case 1: Helper.run(); break; case 1000: break; default: }" //
+			+ "   switch (args.length) { case 0: case 1: case 2: Helper.run(); break; default: }" //
+			+ "  }" //
+			+ " }";
+
+	private static final String HELPER = "package app; class Helper { static void run() {} }";
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void should_count_platform_references() throws Exception {
+		var classes = compile();
+
+		var usages = new ApiUsageScanner(JDL, 2).scan(List.of(classes));
+
+		assertEquals(expected(1), describe(usages));
+	}
+
+	@Test
+	public void should_scan_jars_and_nested_jars() throws Exception {
+		var classes = compile();
+		var jar = TestArtifacts.jar(classes);
+		var fatjar = dir.resolve("fat.jar");
+		try (var out = new ZipOutputStream(Files.newOutputStream(fatjar))) {
+			out.putNextEntry(new ZipEntry("BOOT-INF/lib/app.jar"));
+			out.write(Files.readAllBytes(jar));
+			out.putNextEntry(new ZipEntry("BOOT-INF/classes/app/Main.class"));
+			out.write(Files.readAllBytes(classes.resolve("app/Main.class")));
+			out.putNextEntry(new ZipEntry("BOOT-INF/classes/app/Helper.class"));
+			out.write(Files.readAllBytes(classes.resolve("app/Helper.class")));
+		}
+
+		var usages = new ApiUsageScanner(JDL, 4).scan(List.of(jar, fatjar));
+
+		assertEquals(expected(3), describe(usages));
+	}
+
+	@Test
+	public void should_ignore_invalid_class_files() throws Exception {
+		var classes = compile();
+		Files.write(classes.resolve("app/Broken.class"), new byte[] { (byte) 0xCA, (byte) 0xFE, 0, 0 });
+
+		var usages = new ApiUsageScanner(JDL, 1).scan(List.of(classes));
+
+		assertEquals(expected(1), describe(usages));
+	}
+
+	@Test
+	public void should_visit_all_references_of_java_base() throws IOException {
+		var base = ApiDiff.jrtModules(Path.of(System.getProperty("java.home"))).resolve("java.base");
+		var counts = new long[256];
+		try (var walk = Files.walk(base)) {
+			for (var file : (Iterable<Path>) walk::iterator) {
+				var name = file.getFileName().toString();
+				if (name.endsWith(".class") && !name.equals("module-info.class")) {
+					new ClassFileReader(Files.readAllBytes(file)).accept((opcode, owner, member, desc) -> {
+						assertTrue(owner.length() > 0);
+						counts[opcode]++;
+					});
+				}
+			}
+		}
+
+		assertTrue(counts[ClassFileReader.INVOKEVIRTUAL] > 10000);
+		assertTrue(counts[ClassFileReader.INVOKEINTERFACE] > 1000);
+		assertTrue(counts[ClassFileReader.NEW] > 10000);
+		assertTrue(counts[ClassFileReader.PUTFIELD] > 1000);
+	}
+
+	private static Map<String, Long> expected(long factor) throws Exception {
+		var expected = new LinkedHashMap<String, Long>();
+		expected.put(JDL.fieldLink(System.class.getField("out")), 2 * factor);
+		expected.put(JDL.methodLink(ArrayList.class.getMethod("add", Object.class)), 2 * factor);
+		expected.put(JDL.methodLink(PrintStream.class.getMethod("println", String.class)), 2 * factor);
+		expected.put(JDL.methodLink(AbstractCollection.class.getMethod("toString")), factor);
+		expected.put(JDL.methodLink(ArrayList.class.getConstructor()), factor);
+		expected.put(JDL.classLink(ArrayList.class), factor);
+		expected.put(JDL.methodLink(Object.class.getConstructor()), 2 * factor);
+		expected.put(JDL.methodLink(String.class.getMethod("format", String.class, Object[].class)), factor);
+		return expected;
+	}
+
+	private Path compile() throws IOException {
+		return TestArtifacts.compile(dir.resolve("src"), dir.resolve("classes"), "Main.java", SOURCE, "Helper.java",
+				HELPER);
+	}
+
+	private static Map<String, Long> describe(List<ApiUsage> usages) {
+		var result = new LinkedHashMap<String, Long>();
+		for (var usage : usages) {
+			result.put(usage.getLink().getLink(), usage.getCount());
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ElementFingerprintTest {
+
+	@Test
+	public void should_be_stable() {
+		assertEquals(0x1907baa1a0054a7eL, ElementFingerprint.ofClass("java.base", "java/lang/String"));
+	}
+
+	@Test
+	public void should_be_equal_for_modules() {
+		assertEquals(ElementFingerprint.ofModule("java.base"), ElementFingerprint.ofModule(String.class.getModule()));
+	}
+
+	@Test
+	public void should_be_equal_for_packages() {
+		assertEquals(ElementFingerprint.ofPackage("java.base", "java/util"),
+				ElementFingerprint.ofPackage(Map.class.getModule(), Map.class.getPackage()));
+	}
+
+	@Test
+	public void should_be_equal_for_nested_classes() {
+		assertEquals(ElementFingerprint.ofClass("java.base", "java/util/Map$Entry"),
+				ElementFingerprint.ofClass(Map.Entry.class));
+	}
+
+	@Test
+	public void should_be_equal_for_methods() throws Exception {
+		assertEquals(
+				ElementFingerprint.ofMethod("java.base", "java/lang/String", "format",
+						"(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;"),
+				ElementFingerprint.ofMethod(String.class.getMethod("format", String.class, Object[].class)));
+		assertEquals(ElementFingerprint.ofMethod("java.base", "java/lang/String", "indexOf", "(II)I"),
+				ElementFingerprint.ofMethod(String.class.getMethod("indexOf", int.class, int.class)));
+		assertEquals(ElementFingerprint.ofMethod("java.base", "java/util/Map", "entry", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/util/Map$Entry;"),
+				ElementFingerprint.ofMethod(Map.class.getMethod("entry", Object.class, Object.class)));
+	}
+
+	@Test
+	public void should_be_equal_for_multi_dimension_arrays() throws Exception {
+		assertEquals(
+				ElementFingerprint.ofMethod("java.base", "java/util/Arrays", "deepToString",
+						"([Ljava/lang/Object;)Ljava/lang/String;"),
+				ElementFingerprint.ofMethod(java.util.Arrays.class.getMethod("deepToString", Object[].class)));
+		assertEquals(ElementFingerprint.ofMethod("java.base", "java/lang/Foo", "foo", "([[I)V"),
+				ElementFingerprint.ofMethod("java.base", "java/lang/Foo", "foo", "([[I)Ljava/lang/String;"));
+	}
+
+	@Test
+	public void should_be_equal_for_constructors() throws Exception {
+		assertEquals(ElementFingerprint.ofMethod("java.base", "java/lang/Thread", "<init>", "()V"),
+				ElementFingerprint.ofMethod(Thread.class.getConstructor()));
+	}
+
+	@Test
+	public void should_be_equal_for_fields() throws Exception {
+		assertEquals(ElementFingerprint.ofField("java.base", "java/lang/Integer", "MAX_VALUE"),
+				ElementFingerprint.ofField(Integer.class.getField("MAX_VALUE")));
+	}
+
+	@Test
+	public void should_be_equal_for_elements() {
+		assertEquals(ElementFingerprint.ofMethod("java.base", "java/lang/String", "indexOf", "(II)I"),
+				ElementFingerprint.of(JavaDocElement.ofMethod("java.base", "java/lang/String", "indexOf", "(II)I", false)));
+	}
+
+	@Test
+	public void should_distinguish_overloads_and_kinds() {
+		var fingerprints = new HashSet<Long>();
+		fingerprints.add(ElementFingerprint.ofMethod("java.base", "java/lang/String", "indexOf", "(I)I"));
+		fingerprints.add(ElementFingerprint.ofMethod("java.base", "java/lang/String", "indexOf", "(II)I"));
+		fingerprints.add(ElementFingerprint.ofMethod("java.base", "java/lang/String", "indexOf", "([I)I"));
+		fingerprints.add(ElementFingerprint.ofMethod("java.base", "java/lang/String", "indexOf", "(Ljava/lang/String;)I"));
+		fingerprints.add(ElementFingerprint.ofMethod("java.base", "java/lang/String", "indexOf", "()I"));
+		fingerprints.add(ElementFingerprint.ofField("java.base", "java/lang/String", "indexOf"));
+		fingerprints.add(ElementFingerprint.ofClass("java.base", "java/lang/String"));
+		fingerprints.add(ElementFingerprint.ofClass(null, "java/lang/String"));
+		fingerprints.add(ElementFingerprint.ofPackage("java.base", "java/lang/String"));
+		assertEquals(9, fingerprints.size());
+		assertNotEquals(ElementFingerprint.ofModule("a"), ElementFingerprint.ofModule("b"));
+	}
+
+	@Test
+	public void should_separate_method_name_from_parameters() throws Exception {
+		assertNotEquals(ElementFingerprint.ofMethod("m", "a/B", "set", "(I)V"),
+				ElementFingerprint.ofMethod("m", "a/B", "setint", "()V"));
+		assertNotEquals(ElementFingerprint.ofMethod("m", "a/B", "get", "(Ljava/lang/String;)V"),
+				ElementFingerprint.ofMethod("m", "a/B", "getjava.lang.String", "()V"));
+		assertEquals(ElementFingerprint.ofMethod("java.base", "java/lang/String", "indexOf", "(II)I"),
+				ElementFingerprint.ofMethod(String.class.getMethod("indexOf", int.class, int.class)));
+	}
+
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the default methods of {@link JavaDocLink} with an implementation
+ * which only provides the methods of the original interface.
+ */
+public class ForwardingLinkTest {
+
+	static class Forwarding implements JavaDocLink {
+
+		private final JavaDocLink delegate;
+
+		Forwarding(JavaDocLink delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public JavaDocLink withBaseUrl(String baseurl) {
+			return new Forwarding(delegate.withBaseUrl(baseurl));
+		}
+
+		@Override
+		public String moduleLink(String modulename) {
+			return delegate.moduleLink(modulename);
+		}
+
+		@Override
+		public String moduleLink(Module module) {
+			return delegate.moduleLink(module);
+		}
+
+		@Override
+		public String packageLink(String modulename, String packagename) {
+			return delegate.packageLink(modulename, packagename);
+		}
+
+		@Override
+		public String packageLink(Module module, Package pkg) {
+			return delegate.packageLink(module, pkg);
+		}
+
+		@Override
+		public String classLink(String modulename, String classname) {
+			return delegate.classLink(modulename, classname);
+		}
+
+		@Override
+		public String classLink(Class<?> cls) {
+			return delegate.classLink(cls);
+		}
+
+		@Override
+		public String methodLink(String modulename, String classname, String methodname, String desc,
+				boolean vararg) {
+			return delegate.methodLink(modulename, classname, methodname, desc, vararg);
+		}
+
+		@Override
+		public String methodLink(Executable executable) {
+			return delegate.methodLink(executable);
+		}
+
+		@Override
+		public String fieldLink(String modulename, String classname, String fieldname) {
+			return delegate.fieldLink(modulename, classname, fieldname);
+		}
+
+		@Override
+		public String fieldLink(Field field) {
+			return delegate.fieldLink(field);
+		}
+	}
+
+	@Test
+	public void should_resolve_inherited_members() {
+		for (var version : JavaDocLink.supportedVersions()) {
+			var jdl = JavaDocLink.forVersion(version);
+			var forwarding = new Forwarding(jdl);
+
+			assertEquals(jdl.methodLink(ArrayList.class, "toString", "()Ljava/lang/String;"),
+					forwarding.methodLink(ArrayList.class, "toString", "()Ljava/lang/String;"));
+			assertEquals(jdl.methodLink(ArrayList.class, "add", "(Ljava/lang/Object;)Z"),
+					forwarding.methodLink(ArrayList.class, "add", "(Ljava/lang/Object;)Z"));
+			assertEquals(jdl.fieldLink(java.util.concurrent.ConcurrentSkipListSet.class, "noSuchField"),
+					forwarding.fieldLink(java.util.concurrent.ConcurrentSkipListSet.class, "noSuchField"));
+			assertEquals(jdl.fieldLink(java.util.jar.JarFile.class, "OPEN_READ"),
+					forwarding.fieldLink(java.util.jar.JarFile.class, "OPEN_READ"));
+		}
+	}
+
+	@Test
+	public void should_create_link_streams() {
+		for (var version : List.of("8", "11", "17")) {
+			var jdl = JavaDocLink.forVersion(version);
+			var forwarding = new Forwarding(jdl);
+
+			assertEquals(jdl.links(ArrayList.class).collect(Collectors.toList()),
+					forwarding.links(ArrayList.class).collect(Collectors.toList()));
+			var module = Object.class.getModule();
+			var pkg = java.util.function.Function.class.getPackage();
+			assertEquals(jdl.links(module, pkg).collect(Collectors.toList()),
+					forwarding.links(module, pkg).collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void should_create_relative_links_by_default() {
+		var forwarding = new Forwarding(JavaDocLink.forVersion("17")).relativeTo("java.base/java/lang/String.html");
+
+		assertEquals("../util/List.html", forwarding.classLink("java.base", "java/util/List"));
+		assertEquals("String.html#indexOf(int,int)",
+				forwarding.methodLink("java.base", "java/lang/String", "indexOf", "(II)I", false));
+		assertEquals("../../../java.sql/module-summary.html", forwarding.moduleLink("java.sql"));
+		assertEquals("../../../api/java.base/java/util/List.html",
+				forwarding.withBaseUrl("api").classLink("java.base", "java/util/List"));
+	}
+
+}
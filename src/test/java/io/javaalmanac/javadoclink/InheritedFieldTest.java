@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+public class InheritedFieldTest extends JavaDocLinkTest {
+
+	@Override
+	protected String createLink(JavaDocLink jdl) {
+		return jdl.fieldLink(JarFile.class, "OPEN_READ");
+	}
+
+	@Override
+	protected String createLinkReflective(JavaDocLink jdl) throws Exception {
+		return jdl.fieldLink(JarFile.class.getField("OPEN_READ"));
+	}
+
+	public static Stream<Arguments> expectedLinks() {
+		return linksPerVersion( //
+				since("1.1", "java.util.zip.ZipFile.html#OPEN_READ"), //
+				since("1.2", "java/util/zip/ZipFile.html#OPEN_READ"), //
+				since("11", "java.base/java/util/zip/ZipFile.html#OPEN_READ"));
+	}
+
+}
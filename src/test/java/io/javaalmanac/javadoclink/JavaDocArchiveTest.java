@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JavaDocArchiveTest {
+
+	static final String STRING_PAGE = "<html><body>" //
+			+ "<section class=\"detail\" id=\"&lt;init&gt;()\"></section>" //
+			+ "<section class=\"detail\" id=\"indexOf(int,int)\"></section>" //
+			+ "</body></html>";
+
+	@TempDir
+	Path dir;
+
+	private Path zip;
+
+	private final JavaDocLink jdl = JavaDocLink.forVersion("17");
+
+	@BeforeEach
+	public void setup() throws IOException {
+		zip = dir.resolve("jdk-17_doc-all.zip");
+		zip(zip, Map.of("docs/api/element-list", "module:java.base\njava.lang\n", //
+				"docs/api/index.html", "<html></html>", //
+				"docs/api/java.base/java/lang/String.html", STRING_PAGE, //
+				"docs/specs/other/api/element-list", "other\n", //
+				"docs/index.html", "<html></html>"));
+	}
+
+	@Test
+	public void should_index_pages_below_javadoc_root() throws IOException {
+		try (var archive = JavaDocArchive.open(zip)) {
+			assertEquals(3, archive.size());
+			assertEquals(STRING_PAGE.length(), archive.size(jdl.classLink(String.class)));
+			assertEquals(13, archive.size("/index.html"));
+			assertEquals(-1, archive.size(jdl.classLink(Object.class)));
+			assertEquals(-1, archive.size("../index.html"));
+		}
+	}
+
+	@Test
+	public void should_check_anchors() throws IOException {
+		try (var archive = JavaDocArchive.open(zip)) {
+			assertTrue(archive.exists(jdl.classLink(String.class)));
+			assertTrue(archive.exists(jdl.methodLink(String.class.getConstructor())));
+			assertTrue(archive.exists(jdl.methodLink("java.base", "java/lang/String", "indexOf", "(II)I", false)));
+			assertFalse(archive.exists(jdl.methodLink("java.base", "java/lang/String", "length", "()I", false)));
+			assertFalse(archive.exists(jdl.classLink(Object.class)));
+		} catch (NoSuchMethodException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@Test
+	public void should_check_anchors_of_pages_in_other_encodings() throws IOException {
+		var latin1 = dir.resolve("jdk-8_doc-all.zip");
+		try (var out = new ZipOutputStream(Files.newOutputStream(latin1))) {
+			out.putNextEntry(new ZipEntry("docs/api/package-list"));
+			out.write("java.lang\n".getBytes(StandardCharsets.US_ASCII));
+			out.putNextEntry(new ZipEntry("docs/api/java/lang/String.html"));
+			out.write("<p>Gr\u00FC\u00DFe</p><a name=\"length--\"></a>".getBytes(StandardCharsets.ISO_8859_1));
+		}
+		var jdl8 = JavaDocLink.forVersion("8");
+		try (var archive = JavaDocArchive.open(latin1)) {
+			assertTrue(archive.exists(jdl8.methodLink("java.base", "java/lang/String", "length", "()I", false)));
+			assertFalse(archive.exists(jdl8.methodLink("java.base", "java/lang/String", "isEmpty", "()Z", false)));
+		}
+	}
+
+	@Test
+	public void should_transfer_page_to_channel() throws IOException {
+		try (var archive = JavaDocArchive.open(zip)) {
+			var out = new ByteArrayOutputStream();
+
+			var count = archive.transferTo(jdl.classLink(String.class) + "#length()", Channels.newChannel(out));
+
+			assertEquals(STRING_PAGE.length(), count);
+			assertEquals(STRING_PAGE, out.toString(StandardCharsets.UTF_8));
+			assertEquals(-1, archive.transferTo(jdl.classLink(Object.class), Channels.newChannel(out)));
+		}
+	}
+
+	@Test
+	public void should_transfer_page_to_file_channel() throws IOException {
+		var file = dir.resolve("out.html");
+		try (var archive = JavaDocArchive.open(zip);
+				var out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			archive.transferTo("index.html", out);
+			archive.transferTo(jdl.classLink(String.class), out);
+		}
+
+		assertEquals("<html></html>" + STRING_PAGE, Files.readString(file));
+	}
+
+	@Test
+	public void should_reject_zip_without_javadoc() throws IOException {
+		var other = dir.resolve("other.zip");
+		zip(other, Map.of("index.html", "<html></html>"));
+
+		assertThrows(IOException.class, () -> JavaDocArchive.open(other));
+	}
+
+	static void zip(Path zip, Map<String, String> entries) throws IOException {
+		try (var out = new ZipOutputStream(Files.newOutputStream(zip))) {
+			for (var entry : entries.entrySet()) {
+				out.putNextEntry(new ZipEntry(entry.getKey()));
+				out.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+			}
+		}
+	}
+
+}
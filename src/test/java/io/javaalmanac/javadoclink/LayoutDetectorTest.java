@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LayoutDetectorTest {
+
+	@TempDir
+	Path tree;
+
+	@Test
+	public void should_detect_flat_layout() throws IOException {
+		file("packages.html", "<html></html>");
+		file("java.lang.String.html", "<a href=\"#indexOf(int, int)\">");
+
+		assertEquals("1.1", LayoutDetector.detectVersion(tree));
+	}
+
+	@Test
+	public void should_detect_layout_before_java_8() throws IOException {
+		file("package-list", "java.lang\n");
+		file("java/lang/String.html", "<A HREF=\"#skip-navbar_top\"></A><A HREF=\"#indexOf(int, int)\">");
+
+		assertEquals("7", LayoutDetector.detectVersion(tree));
+	}
+
+	@Test
+	public void should_detect_java_8_layout() throws IOException {
+		file("package-list", "java.lang\n");
+		file("java/lang/package-summary.html", "<a href=\"#skip.navbar.top\">");
+		file("java/lang/String.html", "<a href=\"#skip.navbar.top\"></a><a href=\"#indexOf-int-int-\">");
+
+		assertEquals("8", LayoutDetector.detectVersion(tree));
+	}
+
+	@Test
+	public void should_detect_java_9_layout() throws IOException {
+		file("package-list", "java.lang\n");
+		file("java.base-summary.html", "<html></html>");
+		file("java/lang/String.html", "<a name=\"toString--\"></a><a href=\"#toString--\">");
+
+		assertEquals("9", LayoutDetector.detectVersion(tree));
+	}
+
+	@Test
+	public void should_detect_java_10_layout() throws IOException {
+		file("element-list", "module:java.base\njava.lang\n");
+		file("java.base-summary.html", "<html></html>");
+		file("java/lang/String.html", "<a href=\"#%3Cinit%3E()\"></a><a href=\"#toString()\">");
+
+		assertEquals("10", LayoutDetector.detectVersion(tree));
+	}
+
+	@Test
+	public void should_detect_java_11_layout() throws IOException {
+		file("element-list", "module:java.base\njava.lang\n");
+		file("java.base/module-summary.html", "<html></html>");
+		file("java.base/java/lang/String.html", "<a href=\"#toString()\">");
+
+		assertEquals("11", LayoutDetector.detectVersion(tree));
+		assertSame(JavaDocLink.forVersion("11"), LayoutDetector.detect(tree));
+	}
+
+	@Test
+	public void should_detect_non_modular_element_list_layout() throws IOException {
+		file("element-list", "com.example\n");
+		file("com/example/Foo.html", "<a href=\"#bar(java.lang.String,int)\">");
+
+		assertEquals("10", LayoutDetector.detectVersion(tree));
+	}
+
+	@Test
+	public void should_detect_layout_in_zip_file() throws IOException {
+		var zip = tree.resolve("api.zip");
+		try (var out = new ZipOutputStream(Files.newOutputStream(zip))) {
+			entry(out, "docs/api/package-list", "java.lang\n");
+			entry(out, "docs/api/java/lang/String.html", "<a href=\"#indexOf-int-int-\">");
+		}
+
+		assertEquals("8", LayoutDetector.detectVersion(zip));
+	}
+
+	@Test
+	public void should_return_null_for_unknown_layout() throws IOException {
+		file("index.html", "<html></html>");
+
+		assertNull(LayoutDetector.detectVersion(tree));
+		assertNull(LayoutDetector.detect(tree));
+	}
+
+	private void file(String path, String content) throws IOException {
+		var file = tree.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private static void entry(ZipOutputStream out, String name, String content) throws IOException {
+		out.putNextEntry(new ZipEntry(name));
+		out.write(content.getBytes());
+		out.closeEntry();
+	}
+
+}
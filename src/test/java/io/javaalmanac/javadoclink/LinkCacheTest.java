@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LinkCacheTest {
+
+	public static class Target {
+		public int field;
+
+		public void method(String... args) {
+		}
+
+		void notDocumented() {
+		}
+	}
+
+	private static final String TARGET = "io/javaalmanac/javadoclink/LinkCacheTest$Target";
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void should_create_links_for_jar() throws IOException {
+		var jar = writeJar("lib.jar", "");
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			var links = cache.getLinks(jar, "test", JavaDocLink.forVersion("11"));
+
+			assertEquals(Set.of( //
+					"test/io/javaalmanac/javadoclink/LinkCacheTest.Target.html", //
+					"test/io/javaalmanac/javadoclink/LinkCacheTest.Target.html#field", //
+					"test/io/javaalmanac/javadoclink/LinkCacheTest.Target.html#%3Cinit%3E()", //
+					"test/io/javaalmanac/javadoclink/LinkCacheTest.Target.html#method(java.lang.String...)"),
+					links(links));
+		}
+	}
+
+	@Test
+	public void should_reject_other_implementations() throws IOException {
+		var jar = writeJar("lib.jar", "");
+		var decorator = new ForwardingLinkTest.Forwarding(JavaDocLink.forVersion("11"));
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			assertThrows(IllegalArgumentException.class, () -> cache.getLinks(jar, "test", decorator));
+		}
+	}
+
+	@Test
+	public void should_create_links_for_class_directory() throws IOException {
+		var classes = dir.resolve("classes");
+		Files.createDirectories(classes.resolve(TARGET).getParent());
+		Files.write(classes.resolve(TARGET + ".class"), TestArtifacts.classBytes(Target.class));
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			var links = cache.getLinks(classes, "test", JavaDocLink.forVersion("11"));
+
+			assertEquals(4, links.size());
+			assertEquals(links, cache.getLinks(classes, "test", JavaDocLink.forVersion("11")));
+			assertEquals(1, cache.size());
+		}
+	}
+
+	@Test
+	public void should_read_entries_written_by_other_instance() throws IOException {
+		var jar = writeJar("lib.jar", "");
+		var jdl = JavaDocLink.forVersion("8").withBaseUrl("https://example.com/api");
+		List<ElementLink> expected;
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			expected = cache.getLinks(jar, "test", jdl);
+		}
+		var segment = dir.resolve("cache/links-00000.seg");
+		var size = Files.size(segment);
+
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			assertEquals(expected, cache.getLinks(jar, "test", jdl));
+		}
+		assertEquals(size, Files.size(segment));
+	}
+
+	@Test
+	public void should_create_new_entry_for_changed_artifact() throws IOException {
+		var jdl = JavaDocLink.forVersion("11");
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			var jar = writeJar("lib.jar", "");
+			var links1 = cache.getLinks(jar, "test", jdl);
+			writeJar("lib.jar", "other/");
+			var links2 = cache.getLinks(jar, "test", jdl);
+
+			assertEquals(links1, links2);
+			assertEquals(2, cache.size());
+		}
+	}
+
+	@Test
+	public void should_separate_layouts_base_urls_and_modules() throws IOException {
+		var jar = writeJar("lib.jar", "");
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			cache.getLinks(jar, "test", JavaDocLink.forVersion("11"));
+			cache.getLinks(jar, "test", JavaDocLink.forVersion("17"));
+			cache.getLinks(jar, "test", JavaDocLink.forVersion("10"));
+			cache.getLinks(jar, "other", JavaDocLink.forVersion("11"));
+			var links = cache.getLinks(jar, "test", JavaDocLink.forVersion("11").withBaseUrl("https://example.com/"));
+
+			assertEquals(4, cache.size());
+			assertEquals("https://example.com/test/io/javaalmanac/javadoclink/LinkCacheTest.Target.html",
+					links.get(0).getLink());
+		}
+	}
+
+	@Test
+	public void should_ignore_incomplete_records() throws IOException {
+		var jar = writeJar("lib.jar", "");
+		var jdl = JavaDocLink.forVersion("11");
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			cache.getLinks(jar, "test", jdl);
+		}
+		var segment = dir.resolve("cache/links-00000.seg");
+		var size = Files.size(segment);
+		try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0, 0, 1, 0, 1, 2, 3, 4, 5, 6 }));
+		}
+
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			assertEquals(1, cache.size());
+			var other = writeJar("other.jar", "other/");
+			assertEquals(4, cache.getLinks(other, "test", jdl).size());
+			assertEquals(2, cache.size());
+		}
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			assertEquals(2, cache.size());
+		}
+		assertNotEquals(size + 10, Files.size(segment));
+	}
+
+	@Test
+	public void should_replace_records_with_invalid_checksum() throws IOException {
+		var jar = writeJar("lib.jar", "");
+		var jdl = JavaDocLink.forVersion("11");
+		List<ElementLink> expected;
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			expected = cache.getLinks(jar, "test", jdl);
+		}
+		var segment = dir.resolve("cache/links-00000.seg");
+		var size = Files.size(segment);
+		try (var channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			var last = ByteBuffer.allocate(1);
+			channel.read(last, size - 1);
+			channel.write(ByteBuffer.wrap(new byte[] { (byte) (last.get(0) ^ 0x55) }), size - 1);
+		}
+
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			assertEquals(links(expected), links(cache.getLinks(jar, "test", jdl)));
+		}
+		try (var cache = LinkCache.open(dir.resolve("cache"))) {
+			assertEquals(links(expected), links(cache.getLinks(jar, "test", jdl)));
+			assertEquals(1, cache.size());
+		}
+		assertTrue(Files.size(segment) > size);
+	}
+
+	@Test
+	public void should_roll_over_segments() throws IOException {
+		var jdl = JavaDocLink.forVersion("11");
+		try (var cache = new LinkCache(dir.resolve("cache"), 256)) {
+			cache.getLinks(writeJar("a.jar", "a/"), "test", jdl);
+			cache.getLinks(writeJar("b.jar", "b/"), "test", jdl);
+			var jar = writeJar("c.jar", "c/");
+			var links = cache.getLinks(jar, "test", jdl);
+
+			assertEquals(3, cache.size());
+			assertEquals(links, cache.getLinks(jar, "test", jdl));
+		}
+		try (var files = Files.list(dir.resolve("cache"))) {
+			assertEquals(3, files.filter(p -> p.toString().endsWith(".seg")).count());
+		}
+	}
+
+	@Test
+	public void should_add_entry_once_for_concurrent_instances() throws Exception {
+		var jar = writeJar("lib.jar", "");
+		var jdl = JavaDocLink.forVersion("11");
+		var executor = Executors.newFixedThreadPool(4);
+		var caches = new ArrayList<LinkCache>();
+		try {
+			var results = new ArrayList<Future<List<ElementLink>>>();
+			for (var i = 0; i < 4; i++) {
+				var cache = LinkCache.open(dir.resolve("cache"));
+				caches.add(cache);
+				results.add(executor.submit((Callable<List<ElementLink>>) () -> cache.getLinks(jar, "test", jdl)));
+			}
+			for (var result : results) {
+				assertEquals(4, result.get().size());
+			}
+			assertEquals(1, caches.get(0).size());
+		} finally {
+			executor.shutdownNow();
+			for (var cache : caches) {
+				cache.close();
+			}
+		}
+	}
+
+	private static Set<String> links(List<ElementLink> links) {
+		return links.stream().map(ElementLink::getLink).collect(Collectors.toSet());
+	}
+
+	/**
+	 * Writes a JAR with the target class, the prefix makes the content unique.
+	 */
+	private Path writeJar(String name, String prefix) throws IOException {
+		var jar = dir.resolve(name);
+		try (var out = new ZipOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+			out.putNextEntry(new ZipEntry("META-INF/" + prefix + "marker"));
+			out.putNextEntry(new ZipEntry(TARGET + ".class"));
+			out.write(TestArtifacts.classBytes(Target.class));
+		}
+		return jar;
+	}
+
+}
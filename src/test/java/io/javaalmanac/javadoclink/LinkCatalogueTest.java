@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LinkCatalogueTest {
+
+	@TempDir
+	Path dir;
+
+	private Path file;
+	private List<String> versions;
+	private List<ElementLink> links;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		file = dir.resolve("links.jdlk");
+		versions = new ArrayList<>();
+		links = new ArrayList<>();
+		for (var version : List.of("11", "17")) {
+			var jdl = JavaDocLink.forVersion(version).withBaseUrl("https://example.com/" + version + "/api/");
+			add(version, JavaDocElement.ofModule("java.base"), jdl);
+			add(version, JavaDocElement.ofPackage("java.base", "java/lang"), jdl);
+			add(version, JavaDocElement.ofPackage("java.base", ""), jdl);
+			add(version, JavaDocElement.ofClass(null, "Foo"), jdl);
+			for (var type : List.of(String.class, Map.Entry.class, List.class, Thread.State.class)) {
+				add(version, classElement(type), jdl);
+				for (var method : type.getDeclaredMethods()) {
+					if (Modifier.isPublic(method.getModifiers())) {
+						add(version, JavaDocElement.ofMethod(type.getModule().getName(),
+								type.getName().replace('.', '/'), method.getName(),
+								Descriptors.of(method), method.isVarArgs()), jdl);
+					}
+				}
+				for (var field : type.getFields()) {
+					add(version, JavaDocElement.ofField(type.getModule().getName(),
+							type.getName().replace('.', '/'), field.getName()), jdl);
+				}
+			}
+		}
+		try (var writer = new CatalogueWriter(file, 100)) {
+			for (var i = 0; i < links.size(); i++) {
+				writer.add(versions.get(i), links.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void should_read_all_rows() throws IOException {
+		var catalogue = LinkCatalogue.open(file);
+
+		var actualVersions = new ArrayList<String>();
+		var actualLinks = new ArrayList<ElementLink>();
+		catalogue.scan((version, link) -> {
+			actualVersions.add(version);
+			actualLinks.add(link);
+		});
+
+		assertTrue(links.size() > 300);
+		assertEquals(links.size(), catalogue.size());
+		assertEquals(versions, actualVersions);
+		assertEquals(links, actualLinks);
+	}
+
+	@Test
+	public void should_filter_by_version_and_module() throws IOException {
+		var catalogue = LinkCatalogue.open(file);
+
+		var expected = new ArrayList<ElementLink>();
+		for (var i = 0; i < links.size(); i++) {
+			if ("17".equals(versions.get(i)) && "java.base".equals(links.get(i).getElement().getModuleName())) {
+				expected.add(links.get(i));
+			}
+		}
+		var actual = new ArrayList<ElementLink>();
+		catalogue.scan("17", "java.base", (version, link) -> actual.add(link));
+
+		assertEquals(expected, actual);
+		catalogue.scan("8", null, (version, link) -> {
+			throw new AssertionError(link);
+		});
+	}
+
+	@Test
+	public void should_be_smaller_than_tsv() throws IOException {
+		var tsv = 0L;
+		for (var link : links) {
+			tsv += link.getElement().toString().length() + link.getLink().length() + 10;
+		}
+
+		assertTrue(Files.size(file) * 4 < tsv, Files.size(file) + " vs. " + tsv);
+	}
+
+	@Test
+	public void should_write_empty_catalogue() throws IOException {
+		CatalogueWriter.create(file).close();
+
+		var catalogue = LinkCatalogue.open(file);
+
+		assertEquals(0, catalogue.size());
+		catalogue.scan((version, link) -> {
+			throw new AssertionError(link);
+		});
+	}
+
+	@Test
+	public void should_ignore_repeated_close() throws IOException {
+		var writer = CatalogueWriter.create(file);
+		writer.close();
+		var size = Files.size(file);
+
+		writer.close();
+
+		assertEquals(size, Files.size(file));
+		assertEquals(0, LinkCatalogue.open(file).size());
+	}
+
+	@Test
+	public void should_reject_other_files() throws IOException {
+		Files.write(file, new byte[64]);
+
+		assertThrows(IOException.class, () -> LinkCatalogue.open(file));
+	}
+
+	private static JavaDocElement classElement(Class<?> type) {
+		return JavaDocElement.ofClass(type.getModule().getName(), type.getName().replace('.', '/'));
+	}
+
+	private void add(String version, JavaDocElement element, JavaDocLink jdl) {
+		versions.add(version);
+		links.add(new ElementLink(element, element.link(jdl)));
+	}
+
+}
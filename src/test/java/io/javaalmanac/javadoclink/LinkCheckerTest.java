@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.javaalmanac.javadoclink.LinkChecker.Status;
+
+public class LinkCheckerTest {
+
+	private static final String STRING_PAGE = "<html><body>" //
+			+ "<section class=\"detail\" id=\"&lt;init&gt;()\"></section>" //
+			+ "<section class=\"detail\" id=\"indexOf(int,int)\"></section>" //
+			+ "<a name='CASE_INSENSITIVE_ORDER'></a>" //
+			+ "</body></html>";
+
+	private HttpServer server;
+	private ExecutorService executor;
+	private String base;
+
+	private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+	private final List<String> methods = new ArrayList<>();
+	private final AtomicInteger notModified = new AtomicInteger();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	@BeforeEach
+	public void setup() throws IOException {
+		executor = Executors.newCachedThreadPool();
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.setExecutor(executor);
+		server.createContext("/api/", this::handle);
+		server.start();
+		base = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/";
+	}
+
+	@AfterEach
+	public void teardown() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		var path = exchange.getRequestURI().getPath();
+		requests.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+		synchronized (methods) {
+			methods.add(exchange.getRequestMethod() + " " + path);
+		}
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		try {
+			Thread.sleep(20);
+			String body;
+			if (path.equals("/api/java.base/java/lang/String.html")) {
+				body = STRING_PAGE;
+			} else if (path.endsWith("/package-summary.html") || path.startsWith("/api/p/")) {
+				body = "<html></html>";
+			} else {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			var etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+			exchange.getResponseHeaders().add("ETag", etag);
+			if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				notModified.incrementAndGet();
+				exchange.sendResponseHeaders(304, -1);
+				return;
+			}
+			var bytes = body.getBytes(StandardCharsets.UTF_8);
+			if (exchange.getRequestMethod().equals("HEAD")) {
+				exchange.sendResponseHeaders(200, -1);
+			} else {
+				exchange.sendResponseHeaders(200, bytes.length);
+				exchange.getResponseBody().write(bytes);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			inFlight.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	@Test
+	public void should_check_pages_and_anchors() throws Exception {
+		var jdl = JavaDocLink.forVersion("17").withBaseUrl(base);
+		var links = List.of(jdl.classLink("java.base", "java/lang/String"),
+				jdl.methodLink("java.base", "java/lang/String", "indexOf", "(II)I", false),
+				jdl.methodLink("java.base", "java/lang/String", "<init>", "()V", false),
+				jdl.fieldLink("java.base", "java/lang/String", "CASE_INSENSITIVE_ORDER"),
+				jdl.methodLink("java.base", "java/lang/String", "length", "()I", false),
+				jdl.classLink("java.base", "java/lang/Missing"),
+				jdl.methodLink("java.base", "java/lang/Missing", "foo", "()V", false),
+				"not a link");
+
+		var result = new LinkChecker(4, 1000).check(links).get(10, TimeUnit.SECONDS);
+
+		assertEquals(List.of(Status.OK, Status.OK, Status.OK, Status.OK, Status.ANCHOR_NOT_FOUND,
+				Status.PAGE_NOT_FOUND, Status.PAGE_NOT_FOUND, Status.FAILED), new ArrayList<>(result.values()));
+		assertEquals(1, requests.get("/api/java.base/java/lang/String.html").get());
+		assertEquals(1, requests.get("/api/java.base/java/lang/Missing.html").get());
+	}
+
+	@Test
+	public void should_use_head_for_pages_without_anchors() throws Exception {
+		var link = base + "java.base/java/util/package-summary.html";
+
+		var result = new LinkChecker(4, 1000).check(List.of(link)).get(10, TimeUnit.SECONDS);
+
+		assertEquals(Map.of(link, Status.OK), result);
+		assertEquals(List.of("HEAD /api/java.base/java/util/package-summary.html"), methods);
+	}
+
+	@Test
+	public void should_send_conditional_requests_for_cached_pages() throws Exception {
+		var checker = new LinkChecker(4, 1000);
+		var links = List.of(base + "java.base/java/lang/String.html#indexOf(int,int)",
+				base + "java.base/java/lang/String.html#foo()");
+
+		var first = checker.check(links).get(10, TimeUnit.SECONDS);
+		var second = checker.check(links).get(10, TimeUnit.SECONDS);
+
+		assertEquals(first, second);
+		assertEquals(List.of(Status.OK, Status.ANCHOR_NOT_FOUND), new ArrayList<>(second.values()));
+		assertEquals(2, requests.get("/api/java.base/java/lang/String.html").get());
+		assertEquals(1, notModified.get());
+	}
+
+	@Test
+	public void should_limit_concurrency_and_rate() throws Exception {
+		var links = new ArrayList<String>();
+		for (var i = 0; i < 12; i++) {
+			links.add(base + "p/C" + i + ".html#m()");
+		}
+
+		var start = System.nanoTime();
+		var result = new LinkChecker(3, 50).check(links).get(10, TimeUnit.SECONDS);
+		var elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertEquals(Set.of(Status.ANCHOR_NOT_FOUND), Set.copyOf(result.values()));
+		assertTrue(maxInFlight.get() <= 3, String.valueOf(maxInFlight.get()));
+		assertTrue(elapsed >= 11 * 20, String.valueOf(elapsed));
+	}
+
+	@Test
+	public void should_check_many_invalid_links() throws Exception {
+		var links = new ArrayList<String>();
+		for (var i = 0; i < 50000; i++) {
+			links.add("java/lang/C" + i + ".html");
+		}
+		links.add(base + "p/C.html");
+
+		var result = new LinkChecker(1, 1000).check(links).get(10, TimeUnit.SECONDS);
+
+		assertEquals(50001, result.size());
+		assertEquals(Status.FAILED, result.get("java/lang/C49999.html"));
+		assertEquals(Status.OK, result.get(base + "p/C.html"));
+	}
+
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class LinkProcessorTest {
+
+	private static final JavaDocLink JDL = JavaDocLink.forVersion("11");
+
+	private static List<JavaDocElement> elements(int count) {
+		return IntStream.range(0, count).mapToObj(i -> JavaDocElement.ofField("java.base", "java/lang/Foo", "f" + i))
+				.collect(Collectors.toList());
+	}
+
+	private static List<String> process(LinkProcessor processor, List<JavaDocElement> elements) throws Exception {
+		var result = Collections.synchronizedList(new ArrayList<String>());
+		try (var source = new SubmissionPublisher<JavaDocElement>()) {
+			source.subscribe(processor);
+			var done = processor.consume(link -> result.add(link.getLink()));
+			elements.forEach(source::submit);
+			source.close();
+			done.get(10, TimeUnit.SECONDS);
+		}
+		return result;
+	}
+
+	@Test
+	public void should_emit_links_in_order() throws Exception {
+		var elements = elements(1000);
+		var processor = new LinkProcessor(JDL, ForkJoinPool.commonPool(), 4, 7, 4, true);
+
+		var links = process(processor, elements);
+
+		assertEquals(elements.stream().map(e -> e.link(JDL)).collect(Collectors.toList()), links);
+	}
+
+	@Test
+	public void should_emit_all_links_unordered() throws Exception {
+		var elements = elements(1000);
+		var processor = new LinkProcessor(JDL, ForkJoinPool.commonPool(), 4, 7, 4, false);
+
+		var links = process(processor, elements);
+
+		assertEquals(1000, links.size());
+		assertEquals(elements.stream().map(e -> e.link(JDL)).collect(Collectors.toSet()), new HashSet<>(links));
+	}
+
+	@Test
+	public void should_use_default_configuration() throws Exception {
+		var links = process(new LinkProcessor(JDL), elements(3));
+
+		assertEquals(List.of("java.base/java/lang/Foo.html#f0", "java.base/java/lang/Foo.html#f1",
+				"java.base/java/lang/Foo.html#f2"), links);
+	}
+
+	@Test
+	public void should_emit_partial_batches_of_continuous_sources() throws Exception {
+		var processor = new LinkProcessor(JDL, ForkJoinPool.commonPool(), 4, 256, 4, true, Duration.ofMillis(20));
+		var result = Collections.synchronizedList(new ArrayList<String>());
+		var received = new CountDownLatch(5);
+		try (var source = new SubmissionPublisher<JavaDocElement>()) {
+			source.subscribe(processor);
+			processor.consume(link -> {
+				result.add(link.getLink());
+				received.countDown();
+			});
+			elements(3).forEach(source::submit);
+			Thread.sleep(50);
+			elements(5).subList(3, 5).forEach(source::submit);
+
+			assertTrue(received.await(10, TimeUnit.SECONDS), result.toString());
+		}
+		assertEquals(elements(5).stream().map(e -> e.link(JDL)).collect(Collectors.toList()), result);
+	}
+
+	@Test
+	public void should_propagate_rendering_errors() throws Exception {
+		var processor = new LinkProcessor(JavaDocLink.forVersion("8"));
+
+		var ex = assertThrows(ExecutionException.class,
+				() -> process(processor, List.of(JavaDocElement.ofModule("java.base"))));
+		assertEquals(UnsupportedOperationException.class, ex.getCause().getClass());
+	}
+
+}
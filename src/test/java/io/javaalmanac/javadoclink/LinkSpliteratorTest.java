@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class LinkSpliteratorTest {
+
+	private final JavaDocLink jdl = JavaDocLink.forVersion("17");
+
+	@Test
+	public void should_create_links_for_class_and_members() {
+		var links = links(jdl.links(Integer.class).collect(Collectors.toList()));
+
+		assertEquals("java.base/java/lang/Integer.html", links.get(0));
+		assertTrue(links.contains("java.base/java/lang/Integer.html#MAX_VALUE"));
+		assertTrue(links.contains("java.base/java/lang/Integer.html#%3Cinit%3E(int)"));
+		assertTrue(links.contains("java.base/java/lang/Integer.html#parseInt(java.lang.String)"));
+		assertFalse(links.contains("java.base/java/lang/Integer.html#value"));
+		// bridge method:
+		assertFalse(links.contains("java.base/java/lang/Integer.html#compareTo(java.lang.Object)"));
+	}
+
+	@Test
+	public void should_include_members_of_non_public_super_types() {
+		var links = links(jdl.links(StringBuilder.class).collect(Collectors.toList()));
+
+		assertTrue(links.contains("java.base/java/lang/StringBuilder.html#length()"));
+	}
+
+	@Test
+	public void should_create_links_for_package() {
+		var links = links(jdl.links(Object.class.getModule(), java.util.function.Function.class.getPackage())
+				.collect(Collectors.toList()));
+
+		assertEquals("java.base/java/util/function/package-summary.html", links.get(0));
+		assertTrue(links.contains("java.base/java/util/function/Function.html#identity()"));
+		assertTrue(links.contains("java.base/java/util/function/IntUnaryOperator.html"));
+	}
+
+	@Test
+	public void should_create_links_for_module() {
+		var links = links(jdl.links(Object.class.getModule()).collect(Collectors.toList()));
+
+		assertEquals("java.base/module-summary.html", links.get(0));
+		assertEquals("java.base/java/io/package-summary.html", links.get(1));
+		assertTrue(links.contains("java.base/java/util/Map.Entry.html#getKey()"));
+		assertFalse(links.contains("java.base/jdk/internal/misc/Unsafe.html"));
+	}
+
+	@Test
+	public void should_omit_module_link_before_java_9() {
+		var links = links(JavaDocLink.forVersion("8").links(Object.class.getModule()).collect(Collectors.toList()));
+
+		assertEquals("java/io/package-summary.html", links.get(0));
+	}
+
+	@Test
+	public void should_create_same_links_in_parallel() {
+		var module = Object.class.getModule();
+		var sequential = jdl.links(module).collect(Collectors.toList());
+		var parallel = jdl.links(module).parallel().collect(Collectors.toList());
+
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void should_split_members_of_single_class() {
+		var spliterator = jdl.links(String.class).spliterator();
+		var prefix = spliterator.trySplit();
+
+		var links = new java.util.ArrayList<ElementLink>();
+		prefix.forEachRemaining(links::add);
+		spliterator.forEachRemaining(links::add);
+
+		assertEquals(jdl.links(String.class).collect(Collectors.toList()), links);
+	}
+
+	@Test
+	public void should_reject_unnamed_module() {
+		var module = ClassLoader.getSystemClassLoader().getUnnamedModule();
+		assertThrows(IllegalArgumentException.class, () -> jdl.links(module));
+	}
+
+	private static List<String> links(List<ElementLink> links) {
+		return links.stream().map(ElementLink::getLink).collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LinkTranslatorTest {
+
+	private static final String BASE8 = "https://docs.oracle.com/javase/8/docs/api/";
+	private static final String BASE11 = "https://docs.oracle.com/en/java/javase/11/docs/api/";
+
+	private final LinkTranslator translator = new LinkTranslator(JavaDocLink.forVersion("8").withBaseUrl(BASE8),
+			JavaDocLink.forVersion("11").withBaseUrl(BASE11));
+
+	@Test
+	public void should_reject_other_source_implementations() {
+		var decorator = new ForwardingLinkTest.Forwarding(JavaDocLink.forVersion("8"));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> new LinkTranslator(decorator, JavaDocLink.forVersion("11")));
+	}
+
+	@Test
+	public void should_translate_class_link() {
+		assertEquals(BASE11 + "java.base/java/lang/String.html", translator.translate(BASE8 + "java/lang/String.html"));
+	}
+
+	@Test
+	public void should_translate_nested_class_link() {
+		assertEquals(BASE11 + "java.base/java/util/Map.Entry.html#getKey()",
+				translator.translate(BASE8 + "java/util/Map.Entry.html#getKey--"));
+	}
+
+	@Test
+	public void should_translate_package_link() {
+		assertEquals(BASE11 + "java.base/java/util/package-summary.html",
+				translator.translate(BASE8 + "java/util/package-summary.html"));
+	}
+
+	@Test
+	public void should_translate_field_link() {
+		assertEquals(BASE11 + "java.base/java/lang/Math.html#PI", translator.translate(BASE8 + "java/lang/Math.html#PI"));
+	}
+
+	@Test
+	public void should_translate_method_link() {
+		assertEquals(BASE11 + "java.base/java/lang/String.html#indexOf(int,int)",
+				translator.translate(BASE8 + "java/lang/String.html#indexOf-int-int-"));
+	}
+
+	@Test
+	public void should_translate_array_and_vararg_parameters() {
+		assertEquals(BASE11 + "java.base/java/lang/String.html#format(java.lang.String,java.lang.Object...)",
+				translator.translate(BASE8 + "java/lang/String.html#format-java.lang.String-java.lang.Object...-"));
+		assertEquals(BASE11 + "java.base/java/util/Arrays.html#sort(int%5B%5D)",
+				translator.translate(BASE8 + "java/util/Arrays.html#sort-int:A-"));
+	}
+
+	@Test
+	public void should_translate_constructor_link() {
+		assertEquals(BASE11 + "java.base/java/lang/String.html#%3Cinit%3E(char%5B%5D)",
+				translator.translate(BASE8 + "java/lang/String.html#String-char:A-"));
+	}
+
+	@Test
+	public void should_translate_links_with_space_separator() {
+		var translator = new LinkTranslator(JavaDocLink.forVersion("7").withBaseUrl(BASE8),
+				JavaDocLink.forVersion("8").withBaseUrl(BASE8));
+		assertEquals(BASE8 + "java/lang/String.html#indexOf-int-int-",
+				translator.translate(BASE8 + "java/lang/String.html#indexOf(int, int)"));
+	}
+
+	@Test
+	public void should_translate_module_links_to_older_layouts() {
+		var translator = new LinkTranslator(JavaDocLink.forVersion("11"), JavaDocLink.forVersion("9"));
+		assertEquals("java.base-summary.html", translator.translate("java.base/module-summary.html"));
+	}
+
+	@Test
+	public void should_return_null_for_modules_in_layouts_without_modules() {
+		var translator = new LinkTranslator(JavaDocLink.forVersion("11"), JavaDocLink.forVersion("8"));
+		assertNull(translator.translate("java.base/module-summary.html"));
+	}
+
+	@Test
+	public void should_return_null_for_unknown_module() {
+		assertNull(translator.translate(BASE8 + "com/example/Foo.html"));
+	}
+
+	@Test
+	public void should_return_null_for_other_links() {
+		assertNull(translator.translate("https://example.com/java/lang/String.html"));
+		assertNull(translator.translate(BASE8 + "index.html"));
+	}
+
+	@Test
+	public void should_translate_links_in_text() {
+		var text = "See <a href=\"" + BASE8 + "java/lang/String.html#indexOf-int-int-\">indexOf</a> and " + BASE8
+				+ "java/lang/Math.html#PI.";
+		assertEquals("See <a href=\"" + BASE11 + "java.base/java/lang/String.html#indexOf(int,int)\">indexOf</a> and "
+				+ BASE11 + "java.base/java/lang/Math.html#PI.", translator.translateText(text));
+	}
+
+	@Test
+	public void should_translate_links_with_spaces_in_text() {
+		var translator = new LinkTranslator(JavaDocLink.forVersion("7").withBaseUrl(BASE8),
+				JavaDocLink.forVersion("11").withBaseUrl(BASE11));
+		assertEquals("(" + BASE11 + "java.base/java/lang/String.html#indexOf(int,int))",
+				translator.translateText("(" + BASE8 + "java/lang/String.html#indexOf(int, int))"));
+	}
+
+	@Test
+	public void should_require_base_url_for_text() {
+		var translator = new LinkTranslator(JavaDocLink.forVersion("8"), JavaDocLink.forVersion("11"));
+		assertThrows(IllegalStateException.class, () -> translator.translateText("text"));
+	}
+
+	@Test
+	public void should_translate_files(@TempDir Path dir) throws IOException {
+		var source = dir.resolve("source");
+		var target = dir.resolve("target");
+		Files.createDirectories(source.resolve("sub"));
+		Files.writeString(source.resolve("a.md"), "[String](" + BASE8 + "java/lang/String.html)\n");
+		Files.writeString(source.resolve("sub/b.md"), "unchanged\n" + BASE8 + "java/util/List.html#size--\n");
+
+		assertEquals(2, translator.translateFiles(source, target, 2));
+
+		assertEquals("[String](" + BASE11 + "java.base/java/lang/String.html)\n",
+				Files.readString(target.resolve("a.md")));
+		assertEquals("unchanged\n" + BASE11 + "java.base/java/util/List.html#size()\n",
+				Files.readString(target.resolve("sub/b.md")));
+	}
+
+	@Test
+	public void should_keep_line_terminators_in_files(@TempDir Path dir) throws IOException {
+		var source = dir.resolve("source");
+		var target = dir.resolve("target");
+		Files.createDirectories(source);
+		Files.writeString(source.resolve("a.html"), "<a href=\"" + BASE8 + "java/lang/String.html\">\r\nend");
+
+		assertEquals(1, translator.translateFiles(source, target, 1));
+
+		assertEquals("<a href=\"" + BASE11 + "java.base/java/lang/String.html\">\r\nend",
+				Files.readString(target.resolve("a.html")));
+	}
+
+	@Test
+	public void should_copy_other_files_unchanged(@TempDir Path dir) throws IOException {
+		var source = dir.resolve("source");
+		var target = dir.resolve("target");
+		Files.createDirectories(source);
+		var binary = new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, (byte) 0xFF };
+		Files.write(source.resolve("a.class"), binary);
+		Files.write(source.resolve("b.html"), binary);
+		var text = ("no links\r\n" + BASE8 + "unknown.txt").getBytes(StandardCharsets.UTF_8);
+		Files.write(source.resolve("c.txt"), text);
+		var png = (BASE8 + "java/lang/String.html").getBytes(StandardCharsets.UTF_8);
+		Files.write(source.resolve("d.png"), png);
+
+		assertEquals(0, translator.translateFiles(source, target, 2));
+
+		assertArrayEquals(binary, Files.readAllBytes(target.resolve("a.class")));
+		assertArrayEquals(binary, Files.readAllBytes(target.resolve("b.html")));
+		assertArrayEquals(text, Files.readAllBytes(target.resolve("c.txt")));
+		assertArrayEquals(png, Files.readAllBytes(target.resolve("d.png")));
+	}
+
+	@Test
+	public void should_keep_line_terminators_in_streams() throws IOException {
+		var out = new StringWriter();
+		var in = new BufferedReader(new StringReader(BASE8 + "java/lang/String.html\r\nx\ny"));
+
+		assertEquals(1, translator.translate(in, out));
+
+		assertEquals(BASE11 + "java.base/java/lang/String.html\r\nx\ny", out.toString());
+	}
+
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LinkWatcherTest {
+
+	public static class Target {
+		public int field;
+
+		public void method(String... args) {
+		}
+
+		void notDocumented() {
+		}
+	}
+
+	private static final String TARGET = "io/javaalmanac/javadoclink/LinkWatcherTest$Target";
+
+	@TempDir
+	Path dir;
+
+	private List<LinkDelta> deltas;
+
+	private LinkWatcher watcher;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		deltas = new ArrayList<>();
+		watcher = new LinkWatcher(JavaDocLink.forVersion("11"), deltas::add);
+	}
+
+	@AfterEach
+	public void teardown() throws IOException {
+		watcher.close();
+	}
+
+	@Test
+	public void should_publish_all_links_on_register() throws Exception {
+		writeClass(dir.resolve(TARGET + ".class"));
+
+		watcher.register(dir, "test");
+
+		assertEquals(1, deltas.size());
+		assertEquals(Set.of( //
+				"test/io/javaalmanac/javadoclink/LinkWatcherTest.Target.html", //
+				"test/io/javaalmanac/javadoclink/LinkWatcherTest.Target.html#field", //
+				"test/io/javaalmanac/javadoclink/LinkWatcherTest.Target.html#%3Cinit%3E()", //
+				"test/io/javaalmanac/javadoclink/LinkWatcherTest.Target.html#method(java.lang.String...)"),
+				links(deltas.get(0).getAdded()));
+	}
+
+	@Test
+	public void should_publish_added_and_removed_class_files() throws Exception {
+		watcher.register(dir, "test");
+		assertTrue(deltas.isEmpty());
+
+		writeClass(dir.resolve(TARGET + ".class"));
+		awaitDelta();
+		assertEquals(4, deltas.get(0).getAdded().size());
+		assertEquals(4, watcher.getLinks().size());
+
+		deltas.clear();
+		Files.delete(dir.resolve(TARGET + ".class"));
+		awaitDelta();
+		assertEquals(4, deltas.get(0).getRemoved().size());
+		assertTrue(watcher.getLinks().isEmpty());
+	}
+
+	@Test
+	public void should_publish_changes_in_jar_files() throws Exception {
+		var jar = dir.resolve("lib.jar");
+		writeJar(jar, false);
+		watcher.register(jar, "test");
+		assertEquals(0, deltas.size());
+
+		writeJar(jar, true);
+		awaitDelta();
+		assertEquals(4, deltas.get(0).getAdded().size());
+	}
+
+	private void awaitDelta() throws Exception {
+		var timeout = System.currentTimeMillis() + 10000;
+		while (deltas.isEmpty() && System.currentTimeMillis() < timeout) {
+			watcher.poll(100, TimeUnit.MILLISECONDS);
+		}
+		assertEquals(1, deltas.size());
+	}
+
+	private static Set<String> links(List<ElementLink> links) {
+		return links.stream().map(ElementLink::getLink).collect(Collectors.toSet());
+	}
+
+	private void writeClass(Path file) throws IOException {
+		Files.createDirectories(file.getParent());
+		var tmp = Files.write(dir.resolve("tmp"), TestArtifacts.classBytes(Target.class));
+		Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private void writeJar(Path jar, boolean withClass) throws IOException {
+		var tmp = dir.resolve("tmp");
+		try (var out = new ZipOutputStream(Files.newOutputStream(tmp))) {
+			out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+			if (withClass) {
+				out.putNextEntry(new ZipEntry(TARGET + ".class"));
+				out.write(TestArtifacts.classBytes(Target.class));
+			}
+		}
+		Files.move(tmp, jar, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+}
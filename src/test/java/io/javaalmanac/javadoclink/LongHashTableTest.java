@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LongHashTableTest {
+
+	@Test
+	public void should_keep_values_written_while_growing() {
+		var put = new LongHashTable(1);
+		var or = new LongHashTable(1);
+		var add = new LongHashTable(1);
+
+		for (var key = 1L; key <= 1000; key++) {
+			put.put(key, key * 2);
+			or.or(key, key << 8);
+			add.add(key, key + 1);
+		}
+
+		assertEquals(1000, put.size());
+		for (var key = 1L; key <= 1000; key++) {
+			assertEquals(key * 2, put.get(key, -1));
+			assertEquals(key << 8, or.get(key, -1));
+			assertEquals(key + 1, add.get(key, -1));
+		}
+	}
+
+	@Test
+	public void should_combine_values_of_existing_keys() {
+		var table = new LongHashTable(16);
+
+		table.or(42, 1);
+		table.or(42, 4);
+		table.add(7, 3);
+		table.add(7, 4);
+
+		assertEquals(5, table.get(42, 0));
+		assertEquals(7, table.get(7, 0));
+		assertEquals(-1, table.get(8, -1));
+	}
+
+	@Test
+	public void should_reject_reserved_key() {
+		var table = new LongHashTable(16);
+
+		assertThrows(IllegalArgumentException.class, () -> table.put(0, 1));
+	}
+
+}
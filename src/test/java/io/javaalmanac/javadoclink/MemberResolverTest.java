@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarFile;
+
+import org.junit.jupiter.api.Test;
+
+public class MemberResolverTest {
+
+	@Test
+	public void should_resolve_declared_method() {
+		var resolved = MemberResolver.method(ArrayList.class, "isEmpty", "()Z");
+		assertSame(ArrayList.class, resolved.owner);
+	}
+
+	@Test
+	public void should_resolve_inherited_method() {
+		var resolved = MemberResolver.method(ArrayList.class, "toString", "()Ljava/lang/String;");
+		assertSame(java.util.AbstractCollection.class, resolved.owner);
+	}
+
+	@Test
+	public void should_resolve_default_method_from_interface() {
+		var resolved = MemberResolver.method(ArrayList.class, "stream", "()Ljava/util/stream/Stream;");
+		assertSame(java.util.Collection.class, resolved.owner);
+	}
+
+	@Test
+	public void should_resolve_vararg_method() {
+		var resolved = MemberResolver.method(String.class, "format",
+				"(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;");
+		assertTrue(resolved.vararg);
+	}
+
+	@Test
+	public void should_resolve_constructor() {
+		var resolved = MemberResolver.method(ArrayList.class, "<init>", "(I)V");
+		assertSame(ArrayList.class, resolved.owner);
+		assertFalse(resolved.vararg);
+	}
+
+	@Test
+	public void should_not_inherit_constructors() {
+		assertSame(java.util.zip.ZipFile.class, MemberResolver.method(java.util.zip.ZipFile.class, "<init>",
+				"(Ljava/lang/String;Ljava/nio/charset/Charset;)V").owner);
+		assertNull(MemberResolver.method(JarFile.class, "<init>", "(Ljava/lang/String;Ljava/nio/charset/Charset;)V"));
+	}
+
+	@Test
+	public void should_not_inherit_static_interface_methods() {
+		assertNull(MemberResolver.method(ArrayList.class, "of", "()Ljava/util/List;"));
+		assertSame(List.class, MemberResolver.method(List.class, "of", "()Ljava/util/List;").owner);
+	}
+
+	@Test
+	public void should_document_members_of_non_public_types_in_public_subtype() {
+		var resolved = MemberResolver.method(StringBuilder.class, "length", "()I");
+		assertSame(StringBuilder.class, resolved.owner);
+	}
+
+	@Test
+	public void should_resolve_inherited_field() {
+		assertSame(java.util.zip.ZipFile.class, MemberResolver.field(JarFile.class, "OPEN_READ").owner);
+	}
+
+	@Test
+	public void should_return_null_for_unknown_members() {
+		assertNull(MemberResolver.method(ArrayList.class, "unknown", "()V"));
+		assertNull(MemberResolver.field(ArrayList.class, "unknown"));
+	}
+
+	@Test
+	public void should_link_to_documenting_type() {
+		var jdl = JavaDocLink.forVersion("17");
+		assertEquals("java.base/java/lang/StringBuilder.html#length()",
+				jdl.methodLink(StringBuilder.class, "length", "()I"));
+	}
+
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the scalar and the SWAR path for converting method descriptors into
+ * parameter lists. Not part of the default build, run with
+ * <code>mvn test -Dgroups=benchmark -DexcludedGroups=none</code>.
+ */
+@Tag("benchmark")
+public class MethodParameterBenchmarkTest {
+
+	private static final int RUNS = 15;
+	private static final int ITERATIONS = 200_000;
+
+	private static final String SHORT = "(II)I";
+
+	private static final String MEDIUM = "(Ljava/lang/String;ILjava/util/List;)V";
+
+	private static final String NESTED = "(Ljavax/swing/text/html/HTMLDocument$HTMLReader$FormAction;"
+			+ "Ljava/util/concurrent/ConcurrentHashMap$KeySetView;Ljava/lang/Thread$UncaughtExceptionHandler;)V";
+
+	private static final String ARRAYS = "([[[Ljava/util/Map$Entry;[[I[Ljava/lang/String;[[[[J"
+			+ "[Ljava/lang/Character$UnicodeBlock;[[Ljava/lang/Object;)V";
+
+	private final MethodParameterStrategy strategy = new MethodParameterStrategy("(", ",", ")", "%5B%5D");
+
+	@Test
+	public void scalar_vs_swar() {
+		for (var desc : new String[] { SHORT, MEDIUM, NESTED, ARRAYS }) {
+			assertEquals(strategy.fromDescScalar(desc, true), strategy.fromDescSwar(desc, true));
+			var scalar = measure(strategy::fromDescScalar, desc);
+			var swar = measure(strategy::fromDescSwar, desc);
+			System.out.printf("%3d chars: scalar %6.1f ns/op, swar %6.1f ns/op%n", desc.length(), scalar, swar);
+		}
+	}
+
+	/**
+	 * @return median time per conversion in nanoseconds
+	 */
+	private static double measure(BiFunction<String, Boolean, String> conversion, String desc) {
+		var times = new double[RUNS];
+		var sink = 0L;
+		for (var run = 0; run < RUNS; run++) {
+			var start = System.nanoTime();
+			for (var i = 0; i < ITERATIONS; i++) {
+				sink += conversion.apply(desc, Boolean.TRUE).length();
+			}
+			times[run] = (double) (System.nanoTime() - start) / ITERATIONS;
+		}
+		assertTrue(sink > 0);
+		Arrays.sort(times);
+		return times[RUNS / 2];
+	}
+
+}
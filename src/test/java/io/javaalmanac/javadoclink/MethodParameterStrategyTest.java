@@ -14,6 +14,7 @@
 package io.javaalmanac.javadoclink;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Map;
@@ -74,9 +75,56 @@ public class MethodParameterStrategyTest {
 				parameters.fromClasses(new Class[] { String[].class, String[].class }, true));
 	}
 
+	@Test
+	public void should_convert_multi_dimensional_varargs_of_nested_types_from_desc() {
+		assertEquals("(int,java.util.Map.Entry[][]...)", parameters.fromDesc("(I[[[Ljava/util/Map$Entry;)V", true));
+	}
+
+	@Test
+	public void should_throw_exception_when_class_name_is_not_terminated() {
+		var ex = assertThrows(IllegalArgumentException.class, () -> parameters.fromDesc("(Ljava/lang/String)V", false));
+		assertEquals("Invalid method descriptor: (Ljava/lang/String)V", ex.getMessage());
+	}
+
 	@Test
 	public void should_throw_exception_with_full_signature_when_unknown_type_is_provided() {
 		var ex = assertThrows(IllegalArgumentException.class, () -> parameters.fromDesc("(XYZ)V", false));
 		assertEquals("Invalid method descriptor: (XYZ)V", ex.getMessage());
 	}
+
+	@Test
+	public void should_convert_long_descriptors_like_scalar_path() {
+		var descs = new String[] { "(Ljava/util/concurrent/ConcurrentHashMap$KeySetView;[[[J)V",
+				"([[[[Ljava/util/Map$Entry;[[I[Ljava/lang/Thread$State;ZBCSIJFD)V",
+				"(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)V",
+				"(Lp/\u00C4u\u00DFere$Klasse;Ljava/lang/Object;)V",
+				"(Lp/\u0394elta;Ljava/lang/Object;Lp/\u0394;)V" };
+		var strategies = new MethodParameterStrategy[] { parameters,
+				new MethodParameterStrategy("(", ", ", ")", "%5B%5D"),
+				new MethodParameterStrategy("-", "-", "-", ":A") };
+		for (var strategy : strategies) {
+			for (var desc : descs) {
+				for (var vararg : new boolean[] { false, true }) {
+					assertEquals(strategy.fromDescScalar(desc, vararg), strategy.fromDesc(desc, vararg), desc);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void should_fall_back_to_scalar_path_for_non_latin1_descriptors() {
+		assertNull(parameters.fromDescSwar("(Lp/\u0394elta;Ljava/lang/Object;)V", false));
+		assertEquals("(p.\u0394elta,java.lang.Object)",
+				parameters.fromDesc("(Lp/\u0394elta;Ljava/lang/Object;)V", false));
+	}
+
+	@Test
+	public void should_throw_exception_for_invalid_long_descriptors() {
+		var ex = assertThrows(IllegalArgumentException.class,
+				() -> parameters.fromDescSwar("(Ljava/lang/String;Ljava/lang/Object)V;", false));
+		assertEquals("Invalid method descriptor: (Ljava/lang/String;Ljava/lang/Object)V;", ex.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> parameters.fromDescSwar("(Ljava/lang/String;[", false));
+		assertThrows(IllegalArgumentException.class, () -> parameters.fromDescSwar("(Ljava/lang/String;X)V", false));
+	}
+
 }
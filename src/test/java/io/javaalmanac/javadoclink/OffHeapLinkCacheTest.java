@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class OffHeapLinkCacheTest {
+
+	private static final String BASE = "https://docs.oracle.com/en/java/javase/17/docs/api/";
+
+	private final JavaDocLink jdl = JavaDocLink.forVersion("17").withBaseUrl(BASE);
+
+	private static List<Function<JavaDocLink, String>> operations() throws Exception {
+		var constructor = Thread.class.getConstructor(ThreadGroup.class, Runnable.class, String.class, long.class);
+		var method = String.class.getMethod("format", String.class, Object[].class);
+		var field = Math.class.getField("PI");
+		return List.of( //
+				l -> l.moduleLink("java.base"), //
+				l -> l.moduleLink(Object.class.getModule()), //
+				l -> l.packageLink("java.base", "java/util"), //
+				l -> l.packageLink(Object.class.getModule(), Object.class.getPackage()), //
+				l -> l.classLink("java.base", "java/util/Map$Entry"), //
+				l -> l.classLink(java.util.Map.Entry.class), //
+				l -> l.methodLink("java.base", "java/lang/String", "format", "(Ljava/lang/String;[Ljava/lang/Object;)V",
+						true), //
+				l -> l.methodLink("java.base", "java/lang/String", "format", "(Ljava/lang/String;[Ljava/lang/Object;)V",
+						false), //
+				l -> l.methodLink(constructor), //
+				l -> l.methodLink(method), //
+				l -> l.methodLink(ArrayList.class, "isEmpty", "()Z"), //
+				l -> l.fieldLink("java.base", "java/lang/Math", "PI"), //
+				l -> l.fieldLink(field), //
+				l -> l.fieldLink(Math.class, "E"));
+	}
+
+	@Test
+	public void should_return_links_of_delegate() throws Exception {
+		var cache = OffHeapLinkCache.of(jdl, 1 << 20);
+
+		for (var i = 0; i < 3; i++) {
+			for (var op : operations()) {
+				assertEquals(op.apply(jdl), op.apply(cache));
+			}
+		}
+
+		assertEquals(14, cache.size());
+		assertEquals(14, cache.getMissCount());
+		assertEquals(28, cache.getHitCount());
+		assertTrue(cache.getUsedBytes() > 14 * BASE.length());
+	}
+
+	@Test
+	public void should_keep_separate_entries_for_derived_instances() {
+		var cache = OffHeapLinkCache.of(JavaDocLink.forVersion("17"), 1 << 20);
+		var based = cache.withBaseUrl(BASE);
+		var relative = cache.relativeTo("java.base/java/lang/String.html");
+
+		assertEquals("java.base/java/util/List.html", cache.classLink("java.base", "java/util/List"));
+		assertEquals(BASE + "java.base/java/util/List.html", based.classLink("java.base", "java/util/List"));
+		assertEquals("../util/List.html", relative.classLink("java.base", "java/util/List"));
+		assertEquals("java.base/java/util/List.html", cache.classLink("java.base", "java/util/List"));
+
+		assertEquals(3, based.size());
+		assertEquals(1, relative.getHitCount());
+	}
+
+	@Test
+	public void should_share_entries_of_instances_creating_the_same_links() {
+		var cache = OffHeapLinkCache.of(JavaDocLink.forVersion("17"), 1 << 20);
+
+		cache.withBaseUrl(BASE).classLink("java.base", "java/util/List");
+		cache.withBaseUrl(BASE).classLink("java.base", "java/util/List");
+		cache.relativeTo("java.base/java/lang/String.html").classLink("java.base", "java/util/List");
+		cache.relativeTo("java.base/java/lang/Object.html").classLink("java.base", "java/util/List");
+
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.getHitCount());
+	}
+
+	@Test
+	public void should_keep_separate_entries_for_other_delegates() {
+		var cache = OffHeapLinkCache.of(new ForwardingLinkTest.Forwarding(jdl), 1 << 20);
+
+		cache.withBaseUrl(BASE).classLink("java.base", "java/util/List");
+		cache.withBaseUrl(BASE).classLink("java.base", "java/util/List");
+
+		assertEquals(2, cache.size());
+		assertEquals(0, cache.getHitCount());
+	}
+
+	@Test
+	public void should_create_relative_links_for_other_delegates() {
+		var cache = OffHeapLinkCache.of(new ForwardingLinkTest.Forwarding(JavaDocLink.forVersion("17")), 1 << 20);
+
+		var relative = cache.relativeTo("java.base/java/lang/String.html");
+
+		assertEquals("../util/List.html", relative.classLink("java.base", "java/util/List"));
+		assertEquals("../util/List.html", relative.classLink("java.base", "java/util/List"));
+		assertEquals(1, relative.getHitCount());
+	}
+
+	@Test
+	public void should_handle_non_ascii_names() {
+		var cache = OffHeapLinkCache.of(jdl, 1 << 20);
+
+		var link = cache.fieldLink("mü", "p/Grüße", "中");
+		var other = cache.fieldLink("mü", "p/Grüße", "丮");
+
+		assertEquals(jdl.fieldLink("mü", "p/Grüße", "中"), link);
+		assertEquals(link, cache.fieldLink("mü", "p/Grüße", "中"));
+		assertEquals(jdl.fieldLink("mü", "p/Grüße", "丮"), other);
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void should_not_cache_failures() {
+		var cache = OffHeapLinkCache.of(JavaDocLink.forVersion("8"), 1 << 16);
+
+		assertThrows(UnsupportedOperationException.class, () -> cache.moduleLink("java.base"));
+		assertThrows(UnsupportedOperationException.class, () -> cache.moduleLink("java.base"));
+
+		assertEquals("java/lang/String.html", cache.classLink("java.base", "java/lang/String"));
+		assertEquals(1, cache.size());
+		assertEquals(3, cache.getMissCount());
+	}
+
+	@Test
+	public void should_evict_entries_when_full() {
+		var cache = OffHeapLinkCache.of(jdl, 1 << 16);
+
+		for (var i = 0; i < 20000; i++) {
+			assertEquals(jdl.classLink("m", "p/C" + i), cache.classLink("m", "p/C" + i));
+		}
+
+		assertTrue(cache.size() < 20000, String.valueOf(cache.size()));
+		assertTrue(cache.getUsedBytes() < 1 << 16);
+		assertEquals(20000 - cache.size(), cache.getEvictionCount());
+		assertEquals(jdl.classLink("m", "p/C0"), cache.classLink("m", "p/C0"));
+		assertEquals(20001, cache.getMissCount());
+	}
+
+	@Test
+	public void should_keep_referenced_entries() {
+		var cache = OffHeapLinkCache.of(jdl, 1 << 16);
+
+		for (var i = 0; i < 20000; i++) {
+			cache.classLink("m", "p/Cold" + i);
+			for (var j = 0; j < 8; j++) {
+				cache.classLink("m", "p/Hot" + j);
+			}
+		}
+
+		assertEquals(20000 + 8, cache.getMissCount());
+		assertEquals(20000 * 8 - 8, cache.getHitCount());
+		assertTrue(cache.getEvictionCount() > 0);
+	}
+
+	@Test
+	public void should_create_links_concurrently() throws Exception {
+		var cache = OffHeapLinkCache.of(jdl, 1 << 16);
+		var executor = Executors.newFixedThreadPool(4);
+		try {
+			var results = new ArrayList<Future<Boolean>>();
+			for (var t = 0; t < 4; t++) {
+				var seed = t;
+				results.add(executor.submit((Callable<Boolean>) () -> {
+					for (var i = 0; i < 20000; i++) {
+						var name = "p/C" + (i * (seed + 1) % 3000);
+						if (!jdl.classLink("m", name).equals(cache.classLink("m", name))) {
+							return Boolean.FALSE;
+						}
+					}
+					return Boolean.TRUE;
+				}));
+			}
+			for (var result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(80000, cache.getHitCount() + cache.getMissCount());
+	}
+
+}
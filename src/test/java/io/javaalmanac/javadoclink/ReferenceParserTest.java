@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.jupiter.api.Test;
+
+public class ReferenceParserTest {
+
+	@Test
+	public void should_parse_module() {
+		assertEquals(JavaDocElement.ofModule("java.base"), JavaDocElement.parse("java.base/"));
+	}
+
+	@Test
+	public void should_parse_package() {
+		assertEquals(JavaDocElement.ofPackage("java.base", "java/util"), JavaDocElement.parse("java.util"));
+	}
+
+	@Test
+	public void should_parse_qualified_class() {
+		assertEquals(JavaDocElement.ofClass("java.base", "java/util/List"), JavaDocElement.parse("java.util.List"));
+	}
+
+	@Test
+	public void should_parse_qualified_nested_class() {
+		assertEquals(JavaDocElement.ofClass("java.base", "java/util/Map$Entry"),
+				JavaDocElement.parse("java.util.Map.Entry"));
+	}
+
+	@Test
+	public void should_resolve_simple_names_with_java_lang_preference() {
+		assertEquals(JavaDocElement.ofClass("java.base", "java/lang/String"), JavaDocElement.parse("String"));
+	}
+
+	@Test
+	public void should_resolve_simple_names_with_java_base_preference() {
+		assertEquals(JavaDocElement.ofClass("java.base", "java/util/List"), JavaDocElement.parse("List"));
+	}
+
+	@Test
+	public void should_resolve_simple_nested_names() {
+		assertEquals(JavaDocElement.ofClass("java.base", "java/util/Map$Entry"), JavaDocElement.parse("Map.Entry"));
+	}
+
+	@Test
+	public void should_parse_method_without_parameters() {
+		assertEquals(JavaDocElement.ofMethod("java.base", "java/util/Map$Entry", "getKey", "()Ljava/lang/Object;", false),
+				JavaDocElement.parse("java.util.Map.Entry#getKey()"));
+	}
+
+	@Test
+	public void should_select_overload_by_parameters() {
+		assertEquals(JavaDocElement.ofMethod("java.base", "java/lang/String", "indexOf", "(II)I", false),
+				JavaDocElement.parse("String#indexOf(int, int)"));
+		assertEquals(JavaDocElement.ofMethod("java.base", "java/lang/String", "indexOf", "(Ljava/lang/String;I)I", false),
+				JavaDocElement.parse("String#indexOf(String,int)"));
+	}
+
+	@Test
+	public void should_match_type_variables() {
+		assertEquals(
+				JavaDocElement.ofMethod("java.base", "java/util/List", "toArray",
+						"([Ljava/lang/Object;)[Ljava/lang/Object;", false),
+				JavaDocElement.parse("List#toArray(T[])"));
+	}
+
+	@Test
+	public void should_parse_varargs_and_parameter_names() {
+		assertEquals(
+				JavaDocElement.ofMethod("java.base", "java/lang/String", "format",
+						"(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;", true),
+				JavaDocElement.parse("String#format(String format, Object... args)"));
+	}
+
+	@Test
+	public void should_parse_constructor() {
+		assertEquals(JavaDocElement.ofMethod("java.base", "java/lang/Thread", "<init>", "()V", false),
+				JavaDocElement.parse("Thread#Thread()"));
+	}
+
+	@Test
+	public void should_parse_field() {
+		assertEquals(JavaDocElement.ofField("java.base", "java/lang/Integer", "MAX_VALUE"),
+				JavaDocElement.parse("Integer#MAX_VALUE"));
+	}
+
+	@Test
+	public void should_parse_method_without_parentheses() {
+		assertEquals(JavaDocElement.ofMethod("java.base", "java/lang/Object", "hashCode", "()I", false),
+				JavaDocElement.parse("Object#hashCode"));
+	}
+
+	@Test
+	public void should_select_overload_with_fewest_parameters_without_parentheses() {
+		assertEquals(JavaDocElement.ofMethod("java.base", "java/lang/String", "indexOf", "(I)I", false),
+				JavaDocElement.parse("String#indexOf"));
+		assertEquals(JavaDocElement.ofMethod("java.base", "java/lang/String", "valueOf", "(C)Ljava/lang/String;",
+				false), JavaDocElement.parse("String#valueOf"));
+	}
+
+	@Test
+	public void should_accept_explicit_module() {
+		assertEquals(JavaDocElement.ofClass("java.base", "java/lang/String"),
+				JavaDocElement.parse("java.base/java.lang.String"));
+	}
+
+	@Test
+	public void should_resolve_documented_owner_of_inherited_method() {
+		assertEquals(
+				JavaDocElement.ofMethod("java.base", "java/util/AbstractCollection", "toString",
+						"()Ljava/lang/String;", false),
+				JavaDocElement.parse("java.util.ArrayList#toString()"));
+	}
+
+	@Test
+	public void should_create_link() {
+		assertEquals("java.base/java/lang/String.html#indexOf(int,int)",
+				JavaDocElement.parse("String#indexOf(int, int)").link(JavaDocLink.forVersion("11")));
+	}
+
+	@Test
+	public void should_throw_exception_for_unknown_member() {
+		var ex = assertThrows(IllegalArgumentException.class, () -> JavaDocElement.parse("String#noSuchMethod()"));
+		assertEquals("Invalid reference: String#noSuchMethod()", ex.getMessage());
+	}
+
+	@Test
+	public void should_throw_exception_for_unknown_type() {
+		assertThrows(IllegalArgumentException.class, () -> JavaDocElement.parse("NoSuchType#foo"));
+	}
+
+	@Test
+	public void should_resolve_types_per_class_loader() throws Exception {
+		var name = ReferenceParserTest.class.getName();
+		var thread = Thread.currentThread();
+		var original = thread.getContextClassLoader();
+		try (var isolated = new URLClassLoader(new URL[0], null)) {
+			thread.setContextClassLoader(isolated);
+			assertNull(ReferenceParser.resolveType(name));
+
+			thread.setContextClassLoader(original);
+			assertEquals("io/javaalmanac/javadoclink/ReferenceParserTest", ReferenceParser.resolveType(name));
+
+			thread.setContextClassLoader(isolated);
+			assertNull(ReferenceParser.resolveType(name));
+		} finally {
+			thread.setContextClassLoader(original);
+		}
+	}
+
+}
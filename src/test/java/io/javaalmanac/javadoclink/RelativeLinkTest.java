@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RelativeLinkTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void should_create_links_for_flat_layout() {
+		var jdl = JavaDocLink.forVersion("1.1").relativeTo("java.lang.String.html");
+
+		assertEquals("java.util.List.html", jdl.classLink("java.base", "java/util/List"));
+		assertEquals("java.lang.String.html#indexOf(int, int)",
+				jdl.methodLink("java.base", "java/lang/String", "indexOf", "(II)I", false));
+		assertEquals("Package-java.util.html", jdl.packageLink("java.base", "java/util"));
+	}
+
+	@Test
+	public void should_create_links_for_package_directories() {
+		var jdl = JavaDocLink.forVersion("8").relativeTo("java/lang/String.html");
+
+		assertEquals("Object.html", jdl.classLink(Object.class));
+		assertEquals("ref/Reference.html", jdl.classLink(java.lang.ref.Reference.class));
+		assertEquals("../util/List.html#add-java.lang.Object-",
+				jdl.methodLink("java.base", "java/util/List", "add", "(Ljava/lang/Object;)Z", false));
+		assertEquals("../../javax/swing/JButton.html", jdl.classLink("java.desktop", "javax/swing/JButton"));
+		assertEquals("../util/concurrent/package-summary.html", jdl.packageLink("java.base", "java/util/concurrent"));
+	}
+
+	@Test
+	public void should_create_links_for_module_directories() {
+		var jdl = JavaDocLink.forVersion("17").relativeTo("java.base/java/lang/String.html");
+
+		assertEquals("../util/List.html#add(E)", jdl.classLink("java.base", "java/util/List") + "#add(E)");
+		assertEquals("../../../java.desktop/javax/swing/JButton.html#%3Cinit%3E()",
+				jdl.methodLink("java.desktop", "javax/swing/JButton", "<init>", "()V", false));
+		assertEquals("../../module-summary.html", jdl.moduleLink("java.base"));
+		assertEquals("../../../java.sql/module-summary.html", jdl.moduleLink("java.sql"));
+		assertEquals("String.html#CASE_INSENSITIVE_ORDER",
+				jdl.fieldLink("java.base", "java/lang/String", "CASE_INSENSITIVE_ORDER"));
+	}
+
+	@Test
+	public void should_create_links_from_root_page() {
+		var jdl = JavaDocLink.forVersion("17").relativeTo("index.html");
+
+		assertEquals("java.base/java/util/List.html", jdl.classLink("java.base", "java/util/List"));
+	}
+
+	@Test
+	public void should_create_links_from_pages_outside_of_javadoc() {
+		var jdl = JavaDocLink.forVersion("17").withBaseUrl("api/17").relativeTo("blog/2026/post.html");
+
+		assertEquals("../../api/17/java.base/java/util/List.html", jdl.classLink("java.base", "java/util/List"));
+	}
+
+	@Test
+	public void should_keep_page_when_base_url_is_set() {
+		var jdl = JavaDocLink.forVersion("17").relativeTo("blog/2026/post.html").withBaseUrl("api/17");
+
+		assertEquals("../../api/17/java.base/java/util/List.html", jdl.classLink("java.base", "java/util/List"));
+	}
+
+	@Test
+	public void should_create_links_for_absolute_base_url() {
+		var jdl = JavaDocLink.forVersion("17").withBaseUrl("https://example.com/api/17/");
+
+		assertEquals("../17/java.base/java/util/List.html",
+				jdl.relativeTo("https://example.com/api/11/index.html").classLink("java.base", "java/util/List"));
+		assertEquals("https://example.com/api/17/java.base/java/util/List.html",
+				jdl.relativeTo("https://example.org/index.html").classLink("java.base", "java/util/List"));
+		assertEquals("https://example.com/api/17/java.base/java/util/List.html",
+				jdl.relativeTo("blog/index.html").classLink("java.base", "java/util/List"));
+	}
+
+	@Test
+	public void should_keep_root_relative_links() {
+		var jdl = JavaDocLink.forVersion("17").withBaseUrl("/api/");
+
+		assertEquals("../api/java.base/java/util/List.html",
+				jdl.relativeTo("/blog/post.html").classLink("java.base", "java/util/List"));
+		assertEquals("/api/java.base/java/util/List.html",
+				jdl.relativeTo("post.html").classLink("java.base", "java/util/List"));
+	}
+
+	@Test
+	public void should_create_relative_links_for_elements() {
+		var jdl = JavaDocLink.forVersion("17").relativeTo("java.base/java/util/List.html");
+
+		var links = jdl.links(String.class).map(ElementLink::getLink).collect(Collectors.toList());
+
+		assertEquals("../lang/String.html", links.get(0));
+		assertTrue(links.contains("../lang/String.html#CASE_INSENSITIVE_ORDER"), links.toString());
+		assertTrue(links.stream().allMatch(l -> l.startsWith("../lang/String.html")), links.toString());
+	}
+
+	@Test
+	public void should_cache_links_relative_to_base() throws IOException {
+		var classes = Path.of(RelativeLinkTest.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+		var jdl = JavaDocLink.forVersion("10");
+
+		try (var cache = LinkCache.open(dir)) {
+			var plain = cache.getLinks(classes, null, jdl);
+			var relative = cache.getLinks(classes, null, jdl.relativeTo("io/javaalmanac/Page.html"));
+			var again = cache.getLinks(classes, null, jdl);
+
+			assertEquals(plain, again);
+			assertEquals(plain.size(), relative.size());
+			for (var i = 0; i < plain.size(); i++) {
+				assertEquals(plain.get(i).getLink().replaceFirst("^io/javaalmanac/", ""), relative.get(i).getLink());
+			}
+		}
+	}
+
+}
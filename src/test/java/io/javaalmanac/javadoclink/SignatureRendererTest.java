@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.reflect.Executable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class SignatureRendererTest {
+
+	private static final JavaDocLink JDL = JavaDocLink.forVersion("11");
+
+	@Test
+	public void should_reject_other_implementations() {
+		var decorator = new ForwardingLinkTest.Forwarding(JDL);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> new SignatureRenderer(decorator, SignatureRenderer.Format.HTML));
+	}
+
+	@Test
+	public void should_render_method_with_parameter_links() throws IOException {
+		var element = JavaDocElement.ofMethod("java.base", "java/lang/String", "indexOf", "(Ljava/lang/String;I)I",
+				false);
+
+		assertEquals("<a href=\"java.base/java/lang/String.html#indexOf(java.lang.String,int)\">indexOf</a>" //
+				+ "(<a href=\"java.base/java/lang/String.html\">String</a>, int)", html(JDL, element));
+	}
+
+	@Test
+	public void should_render_arrays_and_varargs() throws IOException {
+		var element = JavaDocElement.ofMethod("java.base", "java/lang/String", "format",
+				"(Ljava/util/Locale;[[ILjava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;", true);
+
+		assertEquals("<a href=\"java.base/java/lang/String.html" //
+				+ "#format(java.util.Locale,int%5B%5D%5B%5D,java.lang.String,java.lang.Object...)\">format</a>" //
+				+ "(<a href=\"java.base/java/util/Locale.html\">Locale</a>, int[][], " //
+				+ "<a href=\"java.base/java/lang/String.html\">String</a>, " //
+				+ "<a href=\"java.base/java/lang/Object.html\">Object</a>...)", html(JDL, element));
+	}
+
+	@Test
+	public void should_render_nested_types_and_constructors() throws Exception {
+		var constructor = HashMap.class.getConstructor(Map.class);
+		var out = new StringBuilder();
+		new SignatureRenderer(JDL, SignatureRenderer.Format.HTML).render(out, constructor);
+
+		assertEquals("<a href=\"java.base/java/util/HashMap.html#%3Cinit%3E(java.util.Map)\">HashMap</a>" //
+				+ "(<a href=\"java.base/java/util/Map.html\">Map</a>)", out.toString());
+
+		var element = JavaDocElement.ofMethod("java.base", "java/util/Map", "ofEntries",
+				"([Ljava/util/Map$Entry;)Ljava/util/Map;", true);
+		assertEquals("<a href=\"java.base/java/util/Map.html#ofEntries(java.util.Map.Entry...)\">ofEntries</a>" //
+				+ "(<a href=\"java.base/java/util/Map.Entry.html\">Map.Entry</a>...)", html(JDL, element));
+	}
+
+	@Test
+	public void should_resolve_modules_of_platform_types() throws IOException {
+		var element = JavaDocElement.ofMethod("my.module", "org/example/Foo", "log",
+				"(Ljava/util/logging/Logger;Lorg/example/Bar;)V", false);
+
+		assertEquals("<a href=\"my.module/org/example/Foo.html" //
+				+ "#log(java.util.logging.Logger,org.example.Bar)\">log</a>" //
+				+ "(<a href=\"java.logging/java/util/logging/Logger.html\">Logger</a>, " //
+				+ "<a href=\"my.module/org/example/Bar.html\">Bar</a>)", html(JDL, element));
+	}
+
+	@Test
+	public void should_escape_html() throws IOException {
+		var jdl = JDL.withBaseUrl("https://example.com/api?a=1&b=\"2\"");
+		var element = JavaDocElement.ofMethod("java.base", "java/lang/Object", "<init>", "()V", false);
+
+		assertEquals("<a href=\"https://example.com/api?a=1&amp;b=&quot;2&quot;/java.base/java/lang/Object.html" //
+				+ "#%3Cinit%3E()\">Object</a>()", html(jdl, element));
+	}
+
+	@Test
+	public void should_render_markdown() throws IOException {
+		var element = JavaDocElement.ofMethod(null, "java/lang/String", "split",
+				"(Ljava/lang/String;I)[Ljava/lang/String;", false);
+		var out = new StringBuilder();
+
+		new SignatureRenderer(JavaDocLink.forVersion("7"), SignatureRenderer.Format.MARKDOWN).render(out, element);
+
+		assertEquals("[split](<java/lang/String.html#split(java.lang.String, int)>)" //
+				+ "\\([String](<java/lang/String.html>), int\\)", out.toString());
+	}
+
+	@Test
+	public void should_escape_markdown() throws IOException {
+		var element = JavaDocElement.ofMethod(null, "p/My_Type", "m", "([Lp/My_Type;)V", false);
+		var out = new StringBuilder();
+
+		new SignatureRenderer(JavaDocLink.forVersion("8"), SignatureRenderer.Format.MARKDOWN).render(out, element);
+
+		assertEquals("[m](<p/My_Type.html#m-p.My_Type:A->)\\([My\\_Type](<p/My_Type.html>)\\[\\]\\)", out.toString());
+	}
+
+	@Test
+	public void should_render_other_elements() throws IOException {
+		assertEquals("<a href=\"java.base/module-summary.html\">java.base</a>",
+				html(JDL, JavaDocElement.ofModule("java.base")));
+		assertEquals("<a href=\"java.base/java/util/package-summary.html\">java.util</a>",
+				html(JDL, JavaDocElement.ofPackage("java.base", "java/util")));
+		assertEquals("<a href=\"java.base/java/util/Map.Entry.html\">Map.Entry</a>",
+				html(JDL, JavaDocElement.ofClass("java.base", "java/util/Map$Entry")));
+		assertEquals("<a href=\"java.base/java/lang/Integer.html#MAX_VALUE\">MAX_VALUE</a>",
+				html(JDL, JavaDocElement.ofField("java.base", "java/lang/Integer", "MAX_VALUE")));
+	}
+
+	static Object[][] executables() throws Exception {
+		var executables = new Executable[] { //
+				String.class.getMethod("indexOf", String.class, int.class), //
+				String.class.getMethod("format", String.class, Object[].class), //
+				String.class.getConstructor(char[].class, int.class, int.class), //
+				Map.class.getMethod("ofEntries", Map.Entry[].class), //
+				Thread.class.getConstructor(ThreadGroup.class, Runnable.class, String.class, long.class) };
+		var versions = JavaDocLink.supportedVersions();
+		var args = new Object[versions.size() * executables.length][];
+		var i = 0;
+		for (var version : versions) {
+			for (var executable : executables) {
+				args[i++] = new Object[] { version, executable };
+			}
+		}
+		return args;
+	}
+
+	@ParameterizedTest
+	@MethodSource("executables")
+	public void should_create_same_member_links_as_javadoclink(String version, Executable executable)
+			throws IOException {
+		var jdl = JavaDocLink.forVersion(version);
+		var expected = jdl.methodLink(executable);
+		var out = new StringBuilder();
+
+		new SignatureRenderer(jdl, SignatureRenderer.Format.HTML).render(out, executable);
+
+		assertEquals(expected, out.substring("<a href=\"".length(), out.indexOf("\">")));
+	}
+
+	private static String html(JavaDocLink jdl, JavaDocElement element) throws IOException {
+		var out = new StringBuilder();
+		new SignatureRenderer(jdl, SignatureRenderer.Format.HTML).render(out, element);
+		return out.toString();
+	}
+
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SinceIndexTest {
+
+	@TempDir
+	static Path dir;
+
+	private static SinceIndex index;
+
+	@BeforeAll
+	public static void setup() throws Exception {
+		SinceIndex.build(dir.resolve("since.idx"));
+		index = SinceIndex.open(dir.resolve("since.idx"));
+	}
+
+	@Test
+	public void should_cover_current_release() {
+		var current = String.valueOf(Runtime.version().feature());
+		assertTrue((index.getCoveredReleases() & (1L << Runtime.version().feature())) != 0);
+		assertTrue(index.exists(JavaDocElement.ofClass("java.base", "java/lang/String"), current));
+	}
+
+	@Test
+	public void should_find_since_for_methods() {
+		var isBlank = JavaDocElement.ofMethod("java.base", "java/lang/String", "isBlank", "()Z", false);
+		assertEquals("11", index.since(isBlank));
+		assertFalse(index.exists(isBlank, "10"));
+		assertTrue(index.exists(isBlank, "11"));
+	}
+
+	@Test
+	public void should_find_since_for_fields() {
+		var field = JavaDocElement.ofField("java.base", "java/lang/Runtime$Version", "foo");
+		assertNull(index.since(field));
+	}
+
+	@Test
+	public void should_find_since_for_classes() {
+		var cls = JavaDocElement.ofClass("java.base", "java/lang/Runtime$Version");
+		assertEquals("9", index.since(cls));
+		assertFalse(index.exists(cls, "8"));
+	}
+
+	@Test
+	public void should_find_since_for_packages() {
+		var pkg = JavaDocElement.ofPackage("java.base", "java/util/function");
+		assertFalse(index.exists(pkg, "7"));
+		assertTrue(index.exists(pkg, "8"));
+	}
+
+	@Test
+	public void should_find_since_for_modules() {
+		var base = JavaDocElement.ofModule("java.base");
+		assertEquals("9", index.since(base));
+		assertTrue(index.exists(base, String.valueOf(Runtime.version().feature())));
+		assertFalse(index.exists(base, "8"));
+		var http = JavaDocElement.ofModule("java.net.http");
+		assertEquals("11", index.since(http));
+		assertFalse(index.exists(http, "10"));
+		var corba = JavaDocElement.ofModule("java.corba");
+		assertTrue(index.exists(corba, "10"));
+		assertFalse(index.exists(corba, "11"));
+		assertNull(index.since(JavaDocElement.ofModule("no.such.module")));
+	}
+
+	@Test
+	public void should_report_existence_for_versions_not_covered() {
+		var isBlank = JavaDocElement.ofMethod("java.base", "java/lang/String", "isBlank", "()Z", false);
+		assertTrue(index.exists(isBlank, "1.2"));
+	}
+
+}
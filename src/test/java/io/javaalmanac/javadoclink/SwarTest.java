@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class SwarTest {
+
+	@Test
+	public void should_find_byte_at_every_position() {
+		for (var length = 0; length < 40; length++) {
+			for (var pos = 0; pos < length; pos++) {
+				var bytes = new byte[length];
+				bytes[pos] = ';';
+				assertEquals(pos, Swar.indexOf(bytes, 0, length, (byte) ';'));
+				assertEquals(-1, Swar.indexOf(bytes, pos + 1, length, (byte) ';'));
+				assertEquals(-1, Swar.indexOf(bytes, 0, pos, (byte) ';'));
+			}
+		}
+	}
+
+	@Test
+	public void should_find_first_of_multiple_bytes() {
+		var bytes = bytes("abc;def;ghi;jkl;");
+		assertEquals(3, Swar.indexOf(bytes, 0, bytes.length, (byte) ';'));
+		assertEquals(7, Swar.indexOf(bytes, 4, bytes.length, (byte) ';'));
+	}
+
+	@Test
+	public void should_not_match_neighbouring_values() {
+		var bytes = new byte[256];
+		for (var i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) i;
+		}
+		for (var i = 0; i < bytes.length; i++) {
+			assertEquals(i, Swar.indexOf(bytes, 0, bytes.length, (byte) i));
+		}
+	}
+
+	@Test
+	public void should_replace_bytes() {
+		var bytes = bytes("(Ljava/util/Map$Entry;[Ljava/lang/Thread$State;)V");
+		Swar.replace(bytes, 0, bytes.length - 3, (byte) '/', (byte) '$', (byte) '.');
+		assertArrayEquals(bytes("(Ljava.util.Map.Entry;[Ljava.lang.Thread.State;)V"), bytes);
+	}
+
+	@Test
+	public void should_replace_bytes_in_range_only() {
+		var bytes = bytes("//////////////////////");
+		Swar.replace(bytes, 3, 19, (byte) '/', (byte) '$', (byte) '.');
+		assertArrayEquals(bytes("///................///"), bytes);
+	}
+
+	@Test
+	public void should_create_latin1_bytes() {
+		assertArrayEquals(bytes("java/lang/Straße"), Swar.latin1("java/lang/Straße"));
+	}
+
+	@Test
+	public void should_reject_strings_outside_latin1() {
+		assertNull(Swar.latin1("java/lang/Δ"));
+		assertNull(Swar.latin1("java/lang/?"));
+	}
+
+	private static byte[] bytes(String s) {
+		return s.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+}
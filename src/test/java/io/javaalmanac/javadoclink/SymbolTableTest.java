@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class SymbolTableTest {
+
+	static Stream<JavaDocLink> layouts() {
+		return Stream.of("1.1", "7", "8", "9", "10", "17").map(JavaDocLink::forVersion)
+				.flatMap(jdl -> Stream.of(jdl, jdl.withBaseUrl("https://example.com/api/"),
+						jdl.relativeTo("java.base/java/lang/String.html")));
+	}
+
+	@ParameterizedTest
+	@MethodSource("layouts")
+	public void should_create_same_links_as_layout(JavaDocLink jdl) {
+		var table = SymbolTable.of(jdl);
+		var pkg = table.packageId("java.base", "java/util");
+		var cls = table.classId("java.base", "java/util/Map$Entry");
+		var method = table.methodId("comparingByKey", "(Ljava/util/Comparator;)Ljava/util/Comparator;", false);
+		var constructor = table.methodId("<init>", "([Ljava/lang/Object;)V", true);
+		var field = table.fieldId("CASE_INSENSITIVE_ORDER");
+
+		assertEquals(jdl.packageLink("java.base", "java/util"), table.packageLink(pkg));
+		assertEquals(jdl.classLink("java.base", "java/util/Map$Entry"), table.classLink(cls));
+		assertEquals(jdl.methodLink("java.base", "java/util/Map$Entry", "comparingByKey",
+				"(Ljava/util/Comparator;)Ljava/util/Comparator;", false), table.methodLink(cls, method));
+		assertEquals(jdl.methodLink("java.base", "java/util/Map$Entry", "<init>", "([Ljava/lang/Object;)V", true),
+				table.methodLink(cls, constructor));
+		assertEquals(jdl.fieldLink("java.base", "java/util/Map$Entry", "CASE_INSENSITIVE_ORDER"),
+				table.fieldLink(cls, field));
+	}
+
+	@Test
+	public void should_create_module_links() {
+		var jdl = JavaDocLink.forVersion("17");
+		var table = SymbolTable.of(jdl);
+
+		assertEquals(jdl.moduleLink("java.base"), table.moduleLink(table.moduleId("java.base")));
+	}
+
+	@Test
+	public void should_reject_other_implementations() {
+		var decorator = new ForwardingLinkTest.Forwarding(JavaDocLink.forVersion("17"));
+
+		assertThrows(IllegalArgumentException.class, () -> SymbolTable.of(decorator));
+	}
+
+	@Test
+	public void should_throw_exception_for_module_links_before_java_9() {
+		var table = SymbolTable.of(JavaDocLink.forVersion("8"));
+		var module = table.moduleId("java.base");
+
+		assertThrows(UnsupportedOperationException.class, () -> table.moduleLink(module));
+	}
+
+	@Test
+	public void should_assign_dense_ids_per_kind() {
+		var table = SymbolTable.of(JavaDocLink.forVersion("17"));
+
+		assertEquals(0, table.classId("java.base", "java/lang/String"));
+		assertEquals(1, table.classId("java.base", "java/lang/Object"));
+		assertEquals(0, table.classId("java.base", "java/lang/String"));
+		assertEquals(2, table.classId(null, "java.base/java/lang/String"));
+		assertEquals(0, table.packageId("java.base", "java/lang"));
+		assertEquals(0, table.methodId("toString", "()Ljava/lang/String;", false));
+		assertEquals(1, table.methodId("toString", "()Ljava/lang/String;", true));
+		assertEquals(0, table.methodId("toString", "()Ljava/lang/String;", false));
+		assertEquals(0, table.fieldId("value"));
+		assertEquals(0, table.moduleId("java.base"));
+	}
+
+	@Test
+	public void should_share_members_between_classes() {
+		var table = SymbolTable.of(JavaDocLink.forVersion("8"));
+		var string = table.classId("java.base", "java/lang/String");
+		var object = table.classId("java.base", "java/lang/Object");
+		var toString = table.methodId("toString", "()Ljava/lang/String;", false);
+		var constructor = table.methodId("<init>", "()V", false);
+
+		assertEquals("java/lang/String.html#toString--", table.methodLink(string, toString));
+		assertEquals("java/lang/Object.html#toString--", table.methodLink(object, toString));
+		assertEquals("java/lang/String.html#String--", table.methodLink(string, constructor));
+		assertEquals("java/lang/Object.html#Object--", table.methodLink(object, constructor));
+		assertSame(table.classLink(string), table.classLink(string));
+		assertNotEquals(table.classLink(string), table.classLink(object));
+	}
+
+	@Test
+	public void should_add_symbols_for_unnamed_module() {
+		var jdl = JavaDocLink.forVersion("10");
+		var table = SymbolTable.of(jdl);
+
+		var cls = table.classId(null, "p/A");
+
+		assertEquals(jdl.classLink(null, "p/A"), table.classLink(cls));
+		assertEquals(jdl.packageLink(null, "p"), table.packageLink(table.packageId(null, "p")));
+	}
+
+}
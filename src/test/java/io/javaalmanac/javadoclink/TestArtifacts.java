@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.spi.ToolProvider;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Creates class files and JAR files for tests.
+ */
+public final class TestArtifacts {
+
+	private TestArtifacts() {
+	}
+
+	/**
+	 * Writes the given sources to a source directory and compiles them.
+	 *
+	 * @param src     directory to write the sources to
+	 * @param out     directory to write the class files to
+	 * @param sources pairs of relative file name and source text
+	 * @return class file directory
+	 */
+	public static Path compile(Path src, Path out, String... sources) throws IOException {
+		var args = new ArrayList<String>(List.of("-d", out.toString()));
+		for (var i = 0; i < sources.length; i += 2) {
+			var file = src.resolve(sources[i]);
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, sources[i + 1]);
+			args.add(file.toString());
+		}
+		var javac = ToolProvider.findFirst("javac").orElseThrow();
+		var log = new StringWriter();
+		var status = javac.run(new PrintWriter(log), new PrintWriter(log), args.toArray(new String[0]));
+		assertEquals(0, status, log.toString());
+		return out;
+	}
+
+	/**
+	 * Packs all files of the given directory into a JAR file next to it.
+	 *
+	 * @param classes class file directory
+	 * @return JAR file with the same name as the directory plus
+	 *         <code>.jar</code>
+	 */
+	public static Path jar(Path classes) throws IOException {
+		var jar = Path.of(classes + ".jar");
+		try (var out = new ZipOutputStream(Files.newOutputStream(jar)); var walk = Files.walk(classes)) {
+			for (var file : (Iterable<Path>) walk.filter(Files::isRegularFile)::iterator) {
+				out.putNextEntry(new ZipEntry(classes.relativize(file).toString().replace('\\', '/')));
+				out.write(Files.readAllBytes(file));
+			}
+		}
+		return jar;
+	}
+
+	/**
+	 * Reads the class file of the given class from the class path.
+	 *
+	 * @param cls class to read
+	 * @return content of the class file
+	 */
+	public static byte[] classBytes(Class<?> cls) throws IOException {
+		try (var in = cls.getResourceAsStream("/" + cls.getName().replace('.', '/') + ".class")) {
+			return in.readAllBytes();
+		}
+	}
+
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MainTest {
+
+	@TempDir
+	Path dir;
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+	@Test
+	public void should_convert_tsv_from_stdin() {
+		var input = "class\tjava.base\tjava/lang/String\n" //
+				+ "method\tjava.base\tjava/lang/String\tindexOf\t(II)I\tfalse\n" //
+				+ "\n" //
+				+ "# comment\n" //
+				+ "module\tjava.base\n";
+
+		assertEquals(0, run(input, "-t", "8", "--target", "11=https://example.com/api"));
+
+		assertEquals("java/lang/String.html\thttps://example.com/api/java.base/java/lang/String.html\n" //
+				+ "java/lang/String.html#indexOf-int-int-\thttps://example.com/api/java.base/java/lang/String.html#indexOf(int,int)\n" //
+				+ "\thttps://example.com/api/java.base/module-summary.html\n", output());
+	}
+
+	@Test
+	public void should_convert_csv_file() throws IOException {
+		var file = dir.resolve("records.csv");
+		Files.writeString(file, "field,java.base,java/lang/Math,PI,,\r\n" //
+				+ "\"package\",\"java.base\",\"java/util\"\r\n");
+
+		assertEquals(0, run("", "-t", "17", file.toString()));
+
+		assertEquals("java.base/java/lang/Math.html#PI\njava.base/java/util/package-summary.html\n", output());
+	}
+
+	@Test
+	public void should_convert_jsonl_file() throws IOException {
+		var file = dir.resolve("records.jsonl");
+		Files.writeString(file, "{\"kind\":\"METHOD\",\"module\":\"java.base\",\"class\":\"java/lang/String\","
+				+ "\"member\":\"format\",\"desc\":\"(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/String;\","
+				+ "\"vararg\":true}\n");
+
+		assertEquals(0, run("", "-t", "17", "-t", "8", file.toString()));
+
+		assertEquals("[\"java.base/java/lang/String.html#format(java.lang.String,java.lang.Object...)\","
+				+ "\"java/lang/String.html#format-java.lang.String-java.lang.Object...-\"]\n", output());
+	}
+
+	@Test
+	public void should_preserve_order_with_many_chunks() throws IOException {
+		var input = new StringBuilder();
+		var expected = new StringBuilder();
+		for (var i = 0; i < 2000; i++) {
+			input.append("field\tjava.base\tjava/lang/Math\tF").append(i).append('\n');
+			expected.append("java.base/java/lang/Math.html#F").append(i).append('\n');
+		}
+		var file = dir.resolve("records.tsv");
+		Files.writeString(file, input);
+
+		assertEquals(0, run("", "-t", "17", "-j", "4", "--chunk-size", "100", file.toString()));
+		assertEquals(expected.toString(), output());
+
+		out.reset();
+		assertEquals(0, run(input.toString(), "-t", "17", "-j", "4", "--chunk-size", "100"));
+		assertEquals(expected.toString(), output());
+	}
+
+	@Test
+	public void should_write_output_file() throws IOException {
+		var file = dir.resolve("links.txt");
+
+		assertEquals(0, run("class\tjava.base\tjava/lang/Object\n", "-t", "17", "-o", file.toString()));
+
+		assertEquals("java.base/java/lang/Object.html\n", Files.readString(file));
+	}
+
+	@Test
+	public void should_report_invalid_records() {
+		assertEquals(1, run("method\tjava.base\tjava/lang/String\n", "-t", "17"));
+		assertTrue(error().contains("Invalid record: method\tjava.base\tjava/lang/String"));
+	}
+
+	@Test
+	public void should_run_training_without_input() {
+		assertEquals(0, run("invalid", "--train", "-j", "2"));
+		assertEquals("", output());
+		assertEquals("", error());
+	}
+
+	@Test
+	public void should_not_touch_output_file_without_links() throws IOException {
+		var file = dir.resolve("links.txt");
+		Files.writeString(file, "keep");
+
+		assertEquals(0, run("", "--train", "-j", "2", "-o", file.toString()));
+
+		assertEquals("keep", Files.readString(file));
+	}
+
+	@Test
+	public void should_print_usage() {
+		assertEquals(0, run("", "--help"));
+		assertTrue(output().startsWith("Usage:"));
+	}
+
+	@Test
+	public void should_report_invalid_options() {
+		assertEquals(2, run("", "--unknown"));
+		assertTrue(error().startsWith("Unknown option: --unknown"));
+		assertTrue(error().contains("Usage:"));
+	}
+
+	@Test
+	public void should_report_unsupported_versions() {
+		assertEquals(2, run("", "-t", "0.9"));
+		assertTrue(error().startsWith("Unsupported version: 0.9"));
+	}
+
+	@Test
+	public void should_format_hosts_for_urls() throws IOException {
+		assertEquals("127.0.0.1", Main.host(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 8080)));
+		assertEquals("localhost", Main.host(InetSocketAddress.createUnresolved("localhost", 8080)));
+		assertEquals("[0:0:0:0:0:0:0:1]", Main.host(new InetSocketAddress(InetAddress.getByName("::1"), 8080)));
+	}
+
+	private int run(String input, String... args) {
+		return Main.run(args, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out,
+				new PrintStream(err, true, StandardCharsets.UTF_8));
+	}
+
+	private String output() {
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private String error() {
+		return err.toString(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.javaalmanac.javadoclink.JavaDocArchive;
+
+/**
+ * Measures the throughput of the mirror server for concurrent page requests.
+ * Not part of the default build, run with
+ * <code>mvn test -Dgroups=benchmark -DexcludedGroups=none</code>.
+ */
+@Tag("benchmark")
+public class MirrorBenchmarkTest {
+
+	private static final int PAGES = 2000;
+	private static final int PAGE_SIZE = 40 << 10;
+	private static final int REQUESTS = 20000;
+	private static final int CONCURRENCY = 32;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void concurrent_page_requests() throws Exception {
+		var zip = dir.resolve("jdk-17_doc-all.zip");
+		var page = "<html>" + "<p>lorem ipsum</p>".repeat(PAGE_SIZE / 18) + "</html>";
+		try (var out = new ZipOutputStream(Files.newOutputStream(zip))) {
+			out.putNextEntry(new ZipEntry("docs/api/element-list"));
+			out.write("module:m\np\n".getBytes(StandardCharsets.UTF_8));
+			for (var i = 0; i < PAGES; i++) {
+				out.putNextEntry(new ZipEntry("docs/api/m/p/C" + i + ".html"));
+				out.write(page.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		var threads = Runtime.getRuntime().availableProcessors();
+		var executor = Executors.newFixedThreadPool(threads);
+		var open = System.nanoTime();
+		var archive = JavaDocArchive.open(zip);
+		System.out.printf("index of %d pages: %.1f ms%n", archive.size(), (System.nanoTime() - open) / 1e6);
+		try (var server = new MirrorServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+				Map.of("17", archive), executor)) {
+			var base = "http://127.0.0.1:" + server.getAddress().getPort() + "/17/m/p/C";
+			var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+			run(client, base, REQUESTS / 10, page.length());
+
+			var start = System.nanoTime();
+			run(client, base, REQUESTS, page.length());
+			var seconds = (System.nanoTime() - start) / 1e9;
+
+			System.out.printf("%d requests with %d in flight on %d server threads: %.0f requests/s, %.1f MB/s%n",
+					REQUESTS, CONCURRENCY, threads, REQUESTS / seconds,
+					REQUESTS * (double) page.length() / seconds / 1e6);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void run(HttpClient client, String base, int requests, int size) throws Exception {
+		var permits = new Semaphore(CONCURRENCY);
+		var responses = new ArrayList<CompletableFuture<?>>(requests);
+		for (var i = 0; i < requests; i++) {
+			permits.acquire();
+			var request = HttpRequest.newBuilder(URI.create(base + (i % PAGES) + ".html")).build();
+			responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenAccept(r -> {
+				assertEquals(200, r.statusCode());
+				assertEquals(size, r.body().length);
+			}).whenComplete((r, e) -> permits.release()));
+		}
+		CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).join();
+	}
+
+}
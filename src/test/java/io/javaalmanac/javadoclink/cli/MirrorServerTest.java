@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.javaalmanac.javadoclink.JavaDocArchive;
+import io.javaalmanac.javadoclink.JavaDocLink;
+
+public class MirrorServerTest {
+
+	private static final String PAGE = "<html><section id=\"indexOf(int,int)\"></section></html>";
+
+	@TempDir
+	Path dir;
+
+	private ExecutorService executor;
+	private MirrorServer server;
+	private HttpClient client;
+	private String base;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		var zip = dir.resolve("jdk-17_doc-all.zip");
+		try (var out = new ZipOutputStream(Files.newOutputStream(zip))) {
+			out.putNextEntry(new ZipEntry("docs/api/element-list"));
+			out.write("module:java.base\njava.lang\n".getBytes(StandardCharsets.UTF_8));
+			out.putNextEntry(new ZipEntry("docs/api/java.base/java/lang/String.html"));
+			out.write(PAGE.getBytes(StandardCharsets.UTF_8));
+		}
+		executor = Executors.newFixedThreadPool(4);
+		server = new MirrorServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+				Map.of("17", JavaDocArchive.open(zip)), executor);
+		client = HttpClient.newHttpClient();
+		base = "http://127.0.0.1:" + server.getAddress().getPort() + "/17/";
+	}
+
+	@AfterEach
+	public void teardown() throws IOException {
+		server.close();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void should_serve_pages() throws Exception {
+		var link = JavaDocLink.forVersion("17").withBaseUrl(base).classLink(String.class);
+
+		var response = client.send(HttpRequest.newBuilder(URI.create(link)).build(),
+				HttpResponse.BodyHandlers.ofString());
+
+		assertEquals(200, response.statusCode());
+		assertEquals("text/html", response.headers().firstValue("Content-Type").orElse(null));
+		assertEquals(PAGE, response.body());
+	}
+
+	@Test
+	public void should_answer_head_requests() throws Exception {
+		var response = client.send(HttpRequest.newBuilder(URI.create(base + "java.base/java/lang/String.html"))
+				.method("HEAD", HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+
+		assertEquals(200, response.statusCode());
+		assertEquals(String.valueOf(PAGE.length()), response.headers().firstValue("Content-Length").orElse(null));
+		assertEquals("", response.body());
+	}
+
+	@Test
+	public void should_check_anchors() throws Exception {
+		assertEquals(204, status(base + "java.base/java/lang/String.html?anchor=indexOf(int,int)"));
+		assertEquals(404, status(base + "java.base/java/lang/String.html?anchor=length()"));
+	}
+
+	@Test
+	public void should_return_404_for_unknown_pages() throws Exception {
+		assertEquals(404, status(base + "java.base/java/lang/Object.html"));
+		assertEquals(404, status(base.replace("/17/", "/11/") + "java.base/java/lang/String.html"));
+		assertEquals(404, status(base.replace("/17/", "/")));
+	}
+
+	@Test
+	public void should_require_http_address_for_mirror() {
+		var err = new ByteArrayOutputStream();
+		var status = Main.run(new String[] { "--mirror", "17=jdk.zip" }, null, new ByteArrayOutputStream(),
+				new PrintStream(err));
+
+		assertEquals(2, status);
+		assertTrue(err.toString().startsWith("HTTP address required for --mirror"));
+	}
+
+	private int status(String url) throws Exception {
+		return client.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.discarding())
+				.statusCode();
+	}
+
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaalmanac.javadoclink.JavaDocElement;
+
+public class RecordFormatTest {
+
+	@Test
+	public void should_quote_csv_links_with_commas() {
+		var out = new StringBuilder();
+		RecordFormat.CSV.appendLinks(out,
+				List.of("java/lang/String.html#indexOf(int,int)", "java/lang/String.html", "a\"b"));
+
+		assertEquals("\"java/lang/String.html#indexOf(int,int)\",java/lang/String.html,\"a\"\"b\"", out.toString());
+	}
+
+	@Test
+	public void should_read_written_csv_links() {
+		var links = List.of("java/lang/String.html#indexOf(int,int)", "", "java/lang/Math.html#PI",
+				"x.html#m(java.lang.String, int)", "\"quoted\"", ",");
+		var out = new StringBuilder();
+		RecordFormat.CSV.appendLinks(out, links);
+
+		assertArrayEquals(links.toArray(), RecordFormat.CSV.fields(out.toString()));
+	}
+
+	@Test
+	public void should_parse_quoted_csv_fields() {
+		assertArrayEquals(new String[] { "method", "java.base", "a,b", "say \"hi\"", "", "" },
+				RecordFormat.CSV.fields("method,\"java.base\",\"a,b\",\"say \"\"hi\"\"\""));
+	}
+
+	@Test
+	public void should_parse_csv_record() {
+		var record = "\"method\",\"java.base\",\"java/lang/String\",\"indexOf\",\"(II)I\",\"false\"";
+		assertEquals(JavaDocElement.ofMethod("java.base", "java/lang/String", "indexOf", "(II)I", false),
+				RecordFormat.CSV.parse(record));
+	}
+
+	@Test
+	public void should_reject_unterminated_csv_quotes() {
+		var ex = assertThrows(IllegalArgumentException.class, () -> RecordFormat.CSV.fields("class,\"java.base"));
+		assertEquals("Invalid record: class,\"java.base", ex.getMessage());
+	}
+
+	@Test
+	public void should_reject_text_after_csv_quotes() {
+		assertThrows(IllegalArgumentException.class, () -> RecordFormat.CSV.fields("\"class\"x,java.base"));
+	}
+
+}
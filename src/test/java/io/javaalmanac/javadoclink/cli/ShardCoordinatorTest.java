@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.spi.ToolProvider;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.javaalmanac.javadoclink.JavaDocLink;
+import io.javaalmanac.javadoclink.LinkCache;
+import io.javaalmanac.javadoclink.TestArtifacts;
+
+public class ShardCoordinatorTest {
+
+	@TempDir
+	Path dir;
+
+	private ExecutorService executor;
+	private LinkCache cache;
+	private List<Path> artifacts;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		executor = Executors.newCachedThreadPool();
+		cache = LinkCache.open(dir.resolve("cache"));
+		artifacts = new ArrayList<>();
+		for (var i = 0; i < 5; i++) {
+			artifacts.add(compile("p" + i, i % 2 == 1));
+		}
+	}
+
+	@AfterEach
+	public void teardown() throws IOException {
+		executor.shutdownNow();
+		cache.close();
+	}
+
+	@Test
+	public void should_create_same_output_for_any_number_of_shards() throws IOException {
+		var one = coordinate(1, 0, local());
+		var three = coordinate(3, 0, local());
+		var seven = coordinate(7, 0, local());
+
+		assertEquals(one, three);
+		assertEquals(one, seven);
+		var lines = one.split("\n");
+		assertEquals(5 * 4, lines.length);
+		assertTrue(one.contains("\tmethod\t\tp3/A\tm\t(I[Ljava/lang/String;)V\ttrue\t" //
+				+ "p3/A.html#m(int,java.lang.String...)\t" //
+				+ "https://example.com/api/p3/A.html#m-int-java.lang.String...-\n"), one);
+		for (var i = 1; i < lines.length; i++) {
+			assertTrue(lines[i - 1].compareTo(lines[i]) < 0);
+		}
+	}
+
+	@Test
+	public void should_retry_failed_shards() throws IOException {
+		var attempts = new AtomicInteger();
+		var local = local();
+		ShardCoordinator.Runner flaky = (shard, attempt, input, output) -> {
+			attempts.incrementAndGet();
+			if (attempt == 0) {
+				Files.writeString(output, "partial");
+				throw new IOException("worker crashed");
+			}
+			local.run(shard, attempt, input, output);
+		};
+
+		assertEquals(coordinate(3, 0, local), coordinate(3, 1, flaky));
+		assertEquals(6, attempts.get());
+	}
+
+	@Test
+	public void should_fail_when_retries_are_exhausted() {
+		ShardCoordinator.Runner broken = (shard, attempt, input, output) -> {
+			throw new IOException("worker crashed");
+		};
+
+		var e = assertThrows(IOException.class, () -> coordinate(2, 2, broken));
+		assertTrue(e.getMessage().contains("failed after 3 attempts: worker crashed"), e.getMessage());
+	}
+
+	@Test
+	public void should_run_shards_in_worker_processes() throws IOException {
+		var listfile = dir.resolve("artifacts.txt");
+		Files.write(listfile, artifacts.subList(1, 5).stream().map(Path::toString).collect(Collectors.toList()));
+		var output = dir.resolve("links.tsv");
+
+		var err = new ByteArrayOutputStream();
+		var status = Main.run(new String[] { "--shards", "2", "-t", "10", "-t", "8=https://example.com/api/", //
+				"--cache", dir.resolve("cache").toString(), "-o", output.toString(), //
+				artifacts.get(0).toString(), "@" + listfile }, //
+				null, new ByteArrayOutputStream(), new PrintStream(err));
+
+		assertEquals(0, status, err.toString());
+		assertEquals(coordinate(3, 0, local()), Files.readString(output));
+	}
+
+	@Test
+	public void should_send_shards_to_worker_servers() throws Exception {
+		try (var server1 = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+				var server2 = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+			executor.execute(() -> serve(server1));
+			executor.execute(() -> serve(server2));
+			var args = new ArrayList<>(List.of("--connect", //
+					"127.0.0.1:" + server1.getLocalPort() + ",127.0.0.1:" + server2.getLocalPort(), //
+					"--shards", "4", "-t", "10", "-t", "8=https://example.com/api/"));
+			artifacts.forEach(a -> args.add(a.toString()));
+			var out = new ByteArrayOutputStream();
+			var err = new ByteArrayOutputStream();
+
+			var status = Main.run(args.toArray(new String[0]), null, out, new PrintStream(err));
+
+			assertEquals(0, status, err.toString());
+			assertEquals(coordinate(3, 0, local()), out.toString(StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void should_retry_shards_of_unresponsive_worker_servers() throws Exception {
+		try (var hanging = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+				var server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+			// accepts connections but never answers
+			executor.execute(() -> {
+				var connections = new ArrayList<Socket>();
+				try {
+					while (true) {
+						connections.add(hanging.accept());
+					}
+				} catch (IOException e) {
+					connections.forEach(c -> closeQuietly(c));
+				}
+			});
+			executor.execute(() -> serve(server));
+			var workers = List.of(new InetSocketAddress(InetAddress.getLoopbackAddress(), hanging.getLocalPort()),
+					new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+			var runner = ShardCoordinator.sockets(List.of("10", "8=https://example.com/api/"), workers,
+					Duration.ofMillis(500));
+
+			assertEquals(coordinate(3, 0, local()), coordinate(4, 1, runner));
+		}
+	}
+
+	@Test
+	public void should_retry_shards_of_worker_servers_with_invalid_status() throws Exception {
+		try (var garbled = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+				var server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+			executor.execute(() -> {
+				while (true) {
+					try (var socket = garbled.accept();
+							var request = new BufferedReader(
+									new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+						for (var line = request.readLine(); line != null && !line.equals("end");) {
+							line = request.readLine();
+						}
+						socket.getOutputStream().write("ok many\n".getBytes(StandardCharsets.UTF_8));
+					} catch (IOException e) {
+						return;
+					}
+				}
+			});
+			executor.execute(() -> serve(server));
+			var workers = List.of(new InetSocketAddress(InetAddress.getLoopbackAddress(), garbled.getLocalPort()),
+					new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+			var runner = ShardCoordinator.sockets(List.of("10", "8=https://example.com/api/"), workers,
+					Duration.ofSeconds(10));
+
+			assertEquals(coordinate(3, 0, local()), coordinate(4, 1, runner));
+		}
+	}
+
+	private static void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	private void serve(ServerSocket server) {
+		try {
+			ShardWorker.serve(server, dir.resolve("cache"), executor);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private ShardCoordinator.Runner local() {
+		var targets = List.of(JavaDocLink.forVersion("10"),
+				JavaDocLink.forVersion("8").withBaseUrl("https://example.com/api/"));
+		var worker = new ShardWorker(targets, cache, 4);
+		return (shard, attempt, input, output) -> {
+			var paths = new ArrayList<Path>();
+			for (var line : Files.readAllLines(input)) {
+				paths.add(Path.of(line));
+			}
+			worker.render(paths, output);
+		};
+	}
+
+	private String coordinate(int shards, int retries, ShardCoordinator.Runner runner) throws IOException {
+		var workdir = Files.createTempDirectory(dir, "work");
+		var out = new ByteArrayOutputStream();
+		new ShardCoordinator(shards, retries, runner, executor).run(artifacts, workdir, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private Path compile(String pkg, boolean jar) throws IOException {
+		var src = dir.resolve("src").resolve(pkg);
+		Files.createDirectories(src);
+		var file = src.resolve("A.java");
+		Files.writeString(file, "package " + pkg + "; public class A {" //
+				+ " public int f;" //
+				+ " public A() {}" //
+				+ " public void m(int i, String... s) {}" //
+				+ " }");
+		var classes = dir.resolve("classes").resolve(pkg);
+		var log = new StringWriter();
+		var status = ToolProvider.findFirst("javac").orElseThrow().run(new PrintWriter(log), new PrintWriter(log),
+				"--release", "11", "-d", classes.toString(), file.toString());
+		assertEquals(0, status, log.toString());
+		return jar ? TestArtifacts.jar(classes) : classes;
+	}
+
+}
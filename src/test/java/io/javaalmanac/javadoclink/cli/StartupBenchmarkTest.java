@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Measures the time from process start to the first link written by the
+ * command line tool with and without a dynamic class data sharing archive.
+ * Not part of the default build, run with
+ * <code>mvn test -Dgroups=benchmark -DexcludedGroups=none</code>.
+ */
+@Tag("benchmark")
+public class StartupBenchmarkTest {
+
+	private static final int RUNS = 10;
+
+	private static final String RECORD = "method\tjava.base\tjava/lang/String\tindexOf\t(II)I\tfalse\n";
+
+	private static final String EXPECTED = "java.base/java/lang/String.html#indexOf(int,int)";
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void time_to_first_link() throws Exception {
+		// dynamic archives are supported since JDK 13
+		assumeTrue(Runtime.version().feature() >= 13);
+		var jar = jar();
+		var archive = dir.resolve("javadoclink.jsa");
+
+		var training = new ProcessBuilder(java(), "-XX:ArchiveClassesAtExit=" + archive, "-jar", jar.toString(),
+				"--train").inheritIO().start();
+		assertEquals(0, training.waitFor());
+		assertTrue(Files.isRegularFile(archive));
+
+		var baseline = measure(java(), "-Xshare:auto", "-jar", jar.toString(), "-t", "17");
+		var archived = measure(java(), "-XX:SharedArchiveFile=" + archive, "-jar", jar.toString(), "-t", "17");
+
+		System.out.printf("time to first link without archive: %.1f ms%n", baseline / 1e6);
+		System.out.printf("time to first link with archive:    %.1f ms%n", archived / 1e6);
+	}
+
+	/**
+	 * @return median of the time to the first line of output in nanoseconds
+	 */
+	private long measure(String... command) throws Exception {
+		var times = new long[RUNS];
+		for (var i = 0; i < RUNS; i++) {
+			var start = System.nanoTime();
+			var process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+			try (var in = process.getOutputStream()) {
+				in.write(RECORD.getBytes(StandardCharsets.UTF_8));
+			}
+			var reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+			var link = reader.readLine();
+			times[i] = System.nanoTime() - start;
+			assertEquals(EXPECTED, link);
+			assertEquals(0, process.waitFor());
+		}
+		Arrays.sort(times);
+		return times[RUNS / 2];
+	}
+
+	private static String java() {
+		return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+	}
+
+	/**
+	 * Class data sharing only archives classes loaded from JAR files.
+	 */
+	private Path jar() throws Exception {
+		var classes = Path.of(Main.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		var manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, Main.class.getName());
+		var jar = dir.resolve("javadoclink.jar");
+		try (var out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+			for (var file : files(classes)) {
+				out.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+				out.write(Files.readAllBytes(file));
+			}
+		}
+		return jar;
+	}
+
+	private static List<Path> files(Path dir) throws IOException {
+		var files = new ArrayList<Path>();
+		try (var walk = Files.walk(dir)) {
+			walk.filter(Files::isRegularFile).sorted().forEach(files::add);
+		}
+		return files;
+	}
+
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Mountainminds GmbH & Co. KG
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ *******************************************************************************/
+package io.javaalmanac.javadoclink.doclet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.spi.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.javaalmanac.javadoclink.JavaDocElement;
+import io.javaalmanac.javadoclink.LinkManifest;
+
+public class ManifestDocletTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void should_write_links_of_unnamed_module() throws Exception {
+		var src = dir.resolve("src");
+		write(src.resolve("p/A.java"), "package p;" //
+				+ " /** A */ public class A {" //
+				+ "  /** f */ public int f;" //
+				+ "  /** c */ public A(String s) {}" //
+				+ "  /** m */ public void m(int[][] a, String... s) {}" //
+				+ "  /** max */ public <T extends Comparable<T>> T max(java.util.List<T> l) { return null; }" //
+				+ "  /** Inner */ public static class Inner { /** c */ public Inner() {} }" //
+				+ "  /** E */ public enum E { /** X */ X }" //
+				+ "  void internal() {}" //
+				+ " }");
+		var manifest = dir.resolve("api.jdlm");
+
+		var log = javadoc("-d", dir.resolve("api").toString(), "--link-manifest", manifest.toString(),
+				src.resolve("p/A.java").toString());
+
+		var links = LinkManifest.open(manifest);
+		assertEquals("p/package-summary.html", links.packageLink(null, "p"));
+		assertEquals("p/A.html", links.classLink(null, "p/A"));
+		assertEquals("p/A.html#f", links.fieldLink(null, "p/A", "f"));
+		assertEquals("p/A.html#%3Cinit%3E(java.lang.String)",
+				links.methodLink(null, "p/A", "<init>", "(Ljava/lang/String;)V"));
+		assertEquals("p/A.html#m(int%5B%5D%5B%5D,java.lang.String...)",
+				links.methodLink(null, "p/A", "m", "([[I[Ljava/lang/String;)V"));
+		assertEquals("p/A.html#max(java.util.List)",
+				links.methodLink(null, "p/A", "max", "(Ljava/util/List;)Ljava/lang/Comparable;"));
+		assertEquals("p/A.Inner.html#%3Cinit%3E()", links.methodLink(null, "p/A$Inner", "<init>", "()V"));
+		assertEquals("p/A.E.html#X", links.fieldLink(null, "p/A$E", "X"));
+		assertEquals("p/A.E.html#values()",
+				links.link(JavaDocElement.ofMethod(null, "p/A$E", "values", "()[Lp/A$E;", false)));
+		assertNull(links.methodLink(null, "p/A", "internal", "()V"));
+		assertNull(links.classLink(null, "p/B"));
+		assertFalse(log.contains("not found"), log);
+	}
+
+	@Test
+	public void should_write_links_of_named_module() throws Exception {
+		var src = dir.resolve("src");
+		write(src.resolve("m.a/module-info.java"), "/** m.a */ module m.a { exports q; }");
+		write(src.resolve("m.a/q/B.java"), "package q; /** B */ public interface B { /** m */ void m(); }");
+		var manifest = dir.resolve("api.jdlm");
+
+		var log = javadoc("-d", dir.resolve("api").toString(), "--link-manifest", manifest.toString(),
+				"--module-source-path", src.toString(), "--module", "m.a");
+
+		var links = LinkManifest.open(manifest).withBaseUrl("https://example.com/api");
+		assertEquals("https://example.com/api/m.a/module-summary.html", links.moduleLink("m.a"));
+		assertEquals("https://example.com/api/m.a/q/package-summary.html", links.packageLink("m.a", "q"));
+		assertEquals("https://example.com/api/m.a/q/B.html#m()", links.methodLink("m.a", "q/B", "m", "()V"));
+		assertNull(links.classLink(null, "q/B"));
+		assertFalse(log.contains("not found"), log);
+	}
+
+	@Test
+	public void should_use_anchor_found_on_page() {
+		var element = JavaDocElement.ofMethod(null, "p/A", "m", "(I[Ljava/lang/String;)V", false);
+		var anchor = "m(int,java.lang.String%5B%5D)";
+
+		assertEquals(anchor,
+				ManifestDoclet.findAnchor("<section id=\"m(int,java.lang.String[])\">", element, anchor));
+		assertEquals("m-int-java.lang.String:A-",
+				ManifestDoclet.findAnchor("<a name=\"m-int-java.lang.String:A-\">", element, anchor));
+		assertNull(ManifestDoclet.findAnchor("<a id=\"other()\">", element, anchor));
+	}
+
+	@Test
+	public void should_require_manifest_option() throws IOException {
+		var src = dir.resolve("src");
+		write(src.resolve("p/A.java"), "package p; public class A {}");
+		var out = new StringWriter();
+
+		var status = ToolProvider.findFirst("javadoc").orElseThrow().run(new PrintWriter(out), new PrintWriter(out),
+				args("-d", dir.resolve("api").toString(), src.resolve("p/A.java").toString()));
+
+		assertEquals(1, status, out.toString());
+	}
+
+	@Test
+	public void should_reject_other_files() throws IOException {
+		var file = dir.resolve("other.jdlm");
+		Files.write(file, new byte[64]);
+
+		assertThrows(IOException.class, () -> LinkManifest.open(file));
+	}
+
+	private String javadoc(String... args) {
+		var out = new StringWriter();
+		var status = ToolProvider.findFirst("javadoc").orElseThrow().run(new PrintWriter(out), new PrintWriter(out),
+				args(args));
+		assertEquals(0, status, out.toString());
+		return out.toString();
+	}
+
+	private static String[] args(String... args) {
+		var docletpath = LinkManifest.class.getProtectionDomain().getCodeSource().getLocation().getPath();
+		var all = new ArrayList<>(List.of("-quiet", "-docletpath", docletpath, "-doclet",
+				ManifestDoclet.class.getName()));
+		all.addAll(List.of(args));
+		return all.toArray(new String[0]);
+	}
+
+	private static void write(Path file, String content) throws IOException {
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+}